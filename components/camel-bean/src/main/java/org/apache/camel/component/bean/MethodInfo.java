@@ -86,6 +86,8 @@ public class MethodInfo {
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
     private AsyncProcessor dynamicRouter;
+    // created on first invocation, as a bean may have many methods which are never invoked
+    private volatile MethodInvoker invoker;
 
     /**
      * Adapter to invoke the method which has been annotated with the @DynamicRouter
@@ -492,6 +494,17 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (mth == method) {
+            MethodInvoker answer = invoker;
+            if (answer == null) {
+                answer = MethodInvoker.create(method);
+                invoker = answer;
+            }
+            if (answer.canInvoke(pojo, arguments)) {
+                return answer.invoke(pojo, arguments);
+            }
+        }
+        // fallback to use reflection
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
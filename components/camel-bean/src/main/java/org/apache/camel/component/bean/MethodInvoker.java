@@ -0,0 +1,339 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invokes a bean method using a function generated by {@link LambdaMetafactory}, which allows the JIT compiler to
+ * inline the method call, and avoids the overhead of {@link Method#invoke(Object, Object...)}.
+ * <p/>
+ * Methods with more parameters than supported, or which cannot be accessed (such as methods from a class loader that
+ * cannot see this class), cannot be invoked by a generated function, and the arguments must be of the exact parameter
+ * types (no widening of primitive types and no <tt>null</tt> for primitive types), otherwise the method must be invoked
+ * using reflection, see {@link #canInvoke(Object, Object[])}.
+ */
+public final class MethodInvoker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodInvoker.class);
+
+    /**
+     * The maximum number of arguments (including the bean for non-static methods) of the generated functions
+     */
+    static final int MAX_ARGUMENTS = 5;
+
+    // invoker for methods that cannot be invoked by a generated function
+    private static final MethodInvoker NONE = new MethodInvoker(null, null, null);
+
+    private final Class<?> declaringClass;
+    // the parameter types, where primitive types are wrapped
+    private final Class<?>[] types;
+    private final boolean[] primitives;
+    private final Invoker invoker;
+
+    private MethodInvoker(Method method, Class<?>[] types, Invoker invoker) {
+        this.declaringClass = method != null && !Modifier.isStatic(method.getModifiers()) ? method.getDeclaringClass() : null;
+        this.types = types;
+        this.primitives = new boolean[types != null ? types.length : 0];
+        for (int i = 0; i < primitives.length; i++) {
+            primitives[i] = method.getParameterTypes()[i].isPrimitive();
+        }
+        this.invoker = invoker;
+    }
+
+    /**
+     * Creates the invoker for the given method.
+     *
+     * @param  method the method
+     * @return        the invoker, use {@link #canInvoke(Object, Object[])} to check whether the method can be invoked
+     *                with the given arguments
+     */
+    public static MethodInvoker create(Method method) {
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        int arity = method.getParameterCount() + (isStatic ? 0 : 1);
+        if (arity > MAX_ARGUMENTS || method.isVarArgs()) {
+            return NONE;
+        }
+        try {
+            MethodHandles.Lookup lookup = lookup(method);
+            if (lookup == null) {
+                return NONE;
+            }
+            MethodHandle handle = lookup.unreflect(method);
+            boolean isVoid = method.getReturnType() == void.class;
+            Class<?> type = functionType(arity, isVoid);
+            MethodType functionType = MethodType.genericMethodType(arity);
+            MethodType instantiatedType = handle.type().wrap();
+            if (isVoid) {
+                functionType = functionType.changeReturnType(void.class);
+                instantiatedType = instantiatedType.changeReturnType(void.class);
+            }
+            Object function = LambdaMetafactory.metafactory(lookup, "invoke", MethodType.methodType(type),
+                    functionType, handle, instantiatedType).getTarget().invoke();
+            Class<?>[] types = instantiatedType.dropParameterTypes(0, isStatic ? 0 : 1).parameterArray();
+            return new MethodInvoker(method, types, invoker(function, isStatic));
+        } catch (Throwable e) {
+            LOG.debug("Cannot generate function to invoke method: {} due to: {}. The method is invoked using reflection.",
+                    method, e.getMessage(), e);
+            return NONE;
+        }
+    }
+
+    /**
+     * Whether the method can be invoked with the given bean and arguments using the generated function.
+     */
+    public boolean canInvoke(Object pojo, Object[] arguments) {
+        if (invoker == null) {
+            return false;
+        }
+        if (declaringClass != null && !declaringClass.isInstance(pojo)) {
+            return false;
+        }
+        int size = arguments != null ? arguments.length : 0;
+        if (size != types.length) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            Object arg = arguments[i];
+            if (arg == null ? primitives[i] : !types[i].isInstance(arg)) {
+                // null for a primitive type, or a type that needs to be converted
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Invokes the method.
+     *
+     * @throws InvocationTargetException is thrown if the method throws an exception
+     */
+    public Object invoke(Object pojo, Object[] arguments) throws InvocationTargetException {
+        try {
+            return invoker.invoke(pojo, arguments);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * The lookup to use for generating the function, which must be able to access the method, and where the generated
+     * function can access the functional interfaces.
+     */
+    private static MethodHandles.Lookup lookup(Method method) throws IllegalAccessException {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (isVisible(declaringClass.getClassLoader(), MethodInvoker.class)) {
+            try {
+                return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            } catch (IllegalAccessException e) {
+                // the package of the class is not open, such as for classes from the JDK
+            }
+        }
+        // when the method and its types are public, then use the lookup of this class
+        if (isPublic(declaringClass) && Modifier.isPublic(method.getModifiers())
+                && declaringClass.getModule().isExported(declaringClass.getPackageName())
+                && isPublic(method.getReturnType())) {
+            for (Class<?> type : method.getParameterTypes()) {
+                if (!isPublic(type)) {
+                    return null;
+                }
+            }
+            return MethodHandles.lookup();
+        }
+        return null;
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        return type.isPrimitive()
+                || Modifier.isPublic(type.getModifiers()) && isVisible(MethodInvoker.class.getClassLoader(), type);
+    }
+
+    private static boolean isVisible(ClassLoader classLoader, Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, classLoader) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static Class<?> functionType(int arity, boolean isVoid) {
+        switch (arity) {
+            case 0:
+                return isVoid ? V0.class : F0.class;
+            case 1:
+                return isVoid ? V1.class : F1.class;
+            case 2:
+                return isVoid ? V2.class : F2.class;
+            case 3:
+                return isVoid ? V3.class : F3.class;
+            case 4:
+                return isVoid ? V4.class : F4.class;
+            default:
+                return isVoid ? V5.class : F5.class;
+        }
+    }
+
+    private static Invoker invoker(Object function, boolean isStatic) {
+        if (function instanceof F0 f) {
+            return (pojo, args) -> f.invoke();
+        } else if (function instanceof F1 f) {
+            return isStatic ? (pojo, args) -> f.invoke(args[0]) : (pojo, args) -> f.invoke(pojo);
+        } else if (function instanceof F2 f) {
+            return isStatic
+                    ? (pojo, args) -> f.invoke(args[0], args[1])
+                    : (pojo, args) -> f.invoke(pojo, args[0]);
+        } else if (function instanceof F3 f) {
+            return isStatic
+                    ? (pojo, args) -> f.invoke(args[0], args[1], args[2])
+                    : (pojo, args) -> f.invoke(pojo, args[0], args[1]);
+        } else if (function instanceof F4 f) {
+            return isStatic
+                    ? (pojo, args) -> f.invoke(args[0], args[1], args[2], args[3])
+                    : (pojo, args) -> f.invoke(pojo, args[0], args[1], args[2]);
+        } else if (function instanceof F5 f) {
+            return isStatic
+                    ? (pojo, args) -> f.invoke(args[0], args[1], args[2], args[3], args[4])
+                    : (pojo, args) -> f.invoke(pojo, args[0], args[1], args[2], args[3]);
+        } else if (function instanceof V0 f) {
+            return (pojo, args) -> {
+                f.invoke();
+                return null;
+            };
+        } else if (function instanceof V1 f) {
+            return isStatic ? (pojo, args) -> {
+                f.invoke(args[0]);
+                return null;
+            } : (pojo, args) -> {
+                f.invoke(pojo);
+                return null;
+            };
+        } else if (function instanceof V2 f) {
+            return isStatic ? (pojo, args) -> {
+                f.invoke(args[0], args[1]);
+                return null;
+            } : (pojo, args) -> {
+                f.invoke(pojo, args[0]);
+                return null;
+            };
+        } else if (function instanceof V3 f) {
+            return isStatic ? (pojo, args) -> {
+                f.invoke(args[0], args[1], args[2]);
+                return null;
+            } : (pojo, args) -> {
+                f.invoke(pojo, args[0], args[1]);
+                return null;
+            };
+        } else if (function instanceof V4 f) {
+            return isStatic ? (pojo, args) -> {
+                f.invoke(args[0], args[1], args[2], args[3]);
+                return null;
+            } : (pojo, args) -> {
+                f.invoke(pojo, args[0], args[1], args[2]);
+                return null;
+            };
+        } else if (function instanceof V5 f) {
+            return isStatic ? (pojo, args) -> {
+                f.invoke(args[0], args[1], args[2], args[3], args[4]);
+                return null;
+            } : (pojo, args) -> {
+                f.invoke(pojo, args[0], args[1], args[2], args[3]);
+                return null;
+            };
+        }
+        throw new IllegalArgumentException("Unsupported function: " + function);
+    }
+
+    @FunctionalInterface
+    private interface Invoker {
+        Object invoke(Object pojo, Object[] args) throws Throwable;
+    }
+
+    // the functional interfaces for the generated functions, which must be public as the functions are generated
+    // in the package of the bean
+
+    @FunctionalInterface
+    public interface F0 {
+        Object invoke();
+    }
+
+    @FunctionalInterface
+    public interface F1 {
+        Object invoke(Object a);
+    }
+
+    @FunctionalInterface
+    public interface F2 {
+        Object invoke(Object a, Object b);
+    }
+
+    @FunctionalInterface
+    public interface F3 {
+        Object invoke(Object a, Object b, Object c);
+    }
+
+    @FunctionalInterface
+    public interface F4 {
+        Object invoke(Object a, Object b, Object c, Object d);
+    }
+
+    @FunctionalInterface
+    public interface F5 {
+        Object invoke(Object a, Object b, Object c, Object d, Object e);
+    }
+
+    @FunctionalInterface
+    public interface V0 {
+        void invoke();
+    }
+
+    @FunctionalInterface
+    public interface V1 {
+        void invoke(Object a);
+    }
+
+    @FunctionalInterface
+    public interface V2 {
+        void invoke(Object a, Object b);
+    }
+
+    @FunctionalInterface
+    public interface V3 {
+        void invoke(Object a, Object b, Object c);
+    }
+
+    @FunctionalInterface
+    public interface V4 {
+        void invoke(Object a, Object b, Object c, Object d);
+    }
+
+    @FunctionalInterface
+    public interface V5 {
+        void invoke(Object a, Object b, Object c, Object d, Object e);
+    }
+}
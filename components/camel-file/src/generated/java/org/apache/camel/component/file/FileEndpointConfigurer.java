@@ -206,6 +206,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
         case "usefixeddelay":
         case "useFixedDelay": target.setUseFixedDelay(property(camelContext, boolean.class, value)); return true;
+        case "usewatchservice":
+        case "useWatchService": target.setUseWatchService(property(camelContext, boolean.class, value)); return true;
         default: return false;
         }
     }
@@ -396,6 +398,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return java.util.concurrent.TimeUnit.class;
         case "usefixeddelay":
         case "useFixedDelay": return boolean.class;
+        case "usewatchservice":
+        case "useWatchService": return boolean.class;
         default: return null;
         }
     }
@@ -587,6 +591,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return target.getTimeUnit();
         case "usefixeddelay":
         case "useFixedDelay": return target.isUseFixedDelay();
+        case "usewatchservice":
+        case "useWatchService": return target.isUseWatchService();
         default: return null;
         }
     }
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.camel.Exchange;
+
+/**
+ * A list of files which only keeps the first files in sort order, up to the given capacity, so a poll that scans all
+ * files to sort them before limiting uses memory bounded by the limit, instead of by the number of files scanned.
+ * <p/>
+ * The files are kept in a heap where the last file in sort order is on top, so each added file is either discarded
+ * or replaces the last file. The discarded files are handed over to a callback, so they can be released (such as
+ * removed from the in-progress repository). The files are sorted by the <tt>sortBy</tt> exchange comparator, then by
+ * the file <tt>sorter</tt>, and then by the order they were added, which is the same order as sorting all the files.
+ */
+final class BoundedSortedFileList<T> extends AbstractList<GenericFile<T>> {
+
+    private final int capacity;
+    private final Comparator<GenericFile<T>> sorter;
+    private final Comparator<Exchange> sortBy;
+    private final Function<GenericFile<T>, Exchange> exchangeFactory;
+    private final Consumer<GenericFile<T>> discarded;
+    private final Comparator<Entry<T>> order;
+    private final PriorityQueue<Entry<T>> heap;
+    private long sequence;
+    private List<GenericFile<T>> sorted;
+
+    /**
+     * Creates the list.
+     *
+     * @param capacity        the maximum number of files to keep
+     * @param sorter          optional comparator for the files
+     * @param sortBy          optional comparator for the exchanges
+     * @param exchangeFactory to create the exchange used by the <tt>sortBy</tt> comparator
+     * @param discarded       callback for files that are not kept
+     */
+    BoundedSortedFileList(int capacity, Comparator<GenericFile<T>> sorter, Comparator<Exchange> sortBy,
+                          Function<GenericFile<T>, Exchange> exchangeFactory, Consumer<GenericFile<T>> discarded) {
+        this.capacity = capacity;
+        this.sorter = sorter;
+        this.sortBy = sortBy;
+        this.exchangeFactory = exchangeFactory;
+        this.discarded = discarded;
+        this.order = this::compare;
+        this.heap = new PriorityQueue<>(Math.min(capacity, 1024) + 1, order.reversed());
+    }
+
+    @Override
+    public boolean add(GenericFile<T> file) {
+        Entry<T> entry = new Entry<>(file, sortBy != null ? exchangeFactory.apply(file) : null, sequence++);
+        sorted = null;
+        if (heap.size() < capacity) {
+            heap.add(entry);
+        } else if (order.compare(entry, heap.peek()) < 0) {
+            Entry<T> last = heap.poll();
+            heap.add(entry);
+            discarded.accept(last.file);
+        } else {
+            discarded.accept(file);
+        }
+        return true;
+    }
+
+    @Override
+    public GenericFile<T> get(int index) {
+        return sortedFiles().get(index);
+    }
+
+    @Override
+    public int size() {
+        return heap.size();
+    }
+
+    @Override
+    public void clear() {
+        heap.clear();
+        sorted = null;
+    }
+
+    private List<GenericFile<T>> sortedFiles() {
+        if (sorted == null) {
+            List<Entry<T>> entries = new ArrayList<>(heap);
+            entries.sort(order);
+            List<GenericFile<T>> answer = new ArrayList<>(entries.size());
+            for (Entry<T> entry : entries) {
+                answer.add(entry.file);
+            }
+            sorted = answer;
+        }
+        return sorted;
+    }
+
+    private int compare(Entry<T> e1, Entry<T> e2) {
+        int answer = 0;
+        if (sortBy != null) {
+            answer = sortBy.compare(e1.exchange, e2.exchange);
+        }
+        if (answer == 0 && sorter != null) {
+            answer = sorter.compare(e1.file, e2.file);
+        }
+        if (answer == 0) {
+            answer = Long.compare(e1.sequence, e2.sequence);
+        }
+        return answer;
+    }
+
+    private record Entry<T>(GenericFile<T> file, Exchange exchange, long sequence) {
+    }
+}
@@ -19,12 +19,15 @@ package org.apache.camel.component.file;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -34,12 +37,14 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.component.file.consumer.DirectoryEntriesResumeAdapter;
+import org.apache.camel.component.file.consumer.DirectoryWatcher;
 import org.apache.camel.component.file.consumer.FileOffsetResumeAdapter;
 import org.apache.camel.resume.ResumeAdapter;
 import org.apache.camel.resume.ResumeAware;
 import org.apache.camel.resume.ResumeStrategy;
 import org.apache.camel.support.resume.Resumables;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.function.Suppliers;
 import org.slf4j.Logger;
@@ -54,6 +59,9 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     private ResumeStrategy resumeStrategy;
     private final String endpointPath;
     private Set<String> extendedAttributes;
+    // when using watch service then the files that may be picked up, with their depth
+    private final Map<File, Integer> pendingFiles = new LinkedHashMap<>();
+    private DirectoryWatcher watcher;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -81,6 +89,9 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         if (LOG.isTraceEnabled()) {
             LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
         }
+        if (!getEndpoint().isPreSort()) {
+            return pollDirectoryStream(dynamic, directory, fileList, depth);
+        }
         final File[] files = listFiles(directory);
         if (files == null || files.length == 0) {
             return true;
@@ -97,40 +108,66 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         return true;
     }
 
+    /**
+     * Polls the directory by streaming its entries, instead of listing all the entries upfront, so polling can stop
+     * early when the maxMessagesPerPoll limit is hit, without reading the rest of the directory.
+     */
+    private boolean pollDirectoryStream(Exchange dynamic, File directory, List<GenericFile<File>> fileList, int depth) {
+        if (!getEndpoint().isIncludeHiddenDirs() && directory.isHidden()) {
+            return true;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath())) {
+            for (Path path : stream) {
+                File file = new File(directory, path.getFileName().toString());
+                if (processPolledFile(dynamic, fileList, depth, file, null)) {
+                    return false;
+                }
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            LOG.debug("Cannot list files in directory: {} due to: {}", directory.getPath(), e.getMessage());
+        }
+        return true;
+    }
+
     private boolean processPolledFiles(Exchange dynamic, List<GenericFile<File>> fileList, int depth, File[] files) {
         for (File file : files) {
-            // check if we can continue polling in files
-            if (!canPollMoreFiles(fileList)) {
+            if (processPolledFile(dynamic, fileList, depth, file, files)) {
                 return true;
             }
+        }
+        return false;
+    }
 
-            // trace log as Windows/Unix can have different views what the file is
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file, file.isAbsolute(),
-                        file.isDirectory(), file.isFile(),
-                        file.isHidden());
-            }
+    private boolean processPolledFile(
+            Exchange dynamic, List<GenericFile<File>> fileList, int depth, File file, File[] files) {
+        // check if we can continue polling in files
+        if (!canPollMoreFiles(fileList)) {
+            return true;
+        }
 
-            // creates a generic file
-            Supplier<GenericFile<File>> gf = Suppliers.memorize(
-                    () -> asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType()));
+        // trace log as Windows/Unix can have different views what the file is
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file, file.isAbsolute(),
+                    file.isDirectory(), file.isFile(),
+                    file.isHidden());
+        }
 
-            if (resumeStrategy != null) {
-                final ResumeAdapter adapter = setupResumeStrategy(gf.get());
-                if (adapter instanceof DirectoryEntriesResumeAdapter directoryEntriesResumeAdapter) {
-                    LOG.trace("Running the resume process for file {}", file);
-                    if (directoryEntriesResumeAdapter.resume(file)) {
-                        LOG.trace("Skipping file {} because it has been marked previously consumed", file);
-                        continue;
-                    }
-                }
-            }
+        // creates a generic file
+        Supplier<GenericFile<File>> gf = Suppliers.memorize(
+                () -> asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType()));
 
-            if (processEntry(dynamic, fileList, depth, file, gf, files)) {
-                return true;
+        if (resumeStrategy != null) {
+            final ResumeAdapter adapter = setupResumeStrategy(gf.get());
+            if (adapter instanceof DirectoryEntriesResumeAdapter directoryEntriesResumeAdapter) {
+                LOG.trace("Running the resume process for file {}", file);
+                if (directoryEntriesResumeAdapter.resume(file)) {
+                    LOG.trace("Skipping file {} because it has been marked previously consumed", file);
+                    return false;
+                }
             }
         }
-        return false;
+
+        return processEntry(dynamic, fileList, depth, file, gf, files);
     }
 
     private boolean processEntry(
@@ -145,7 +182,7 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         return false;
     }
 
-    private void processFileEntry(
+    private boolean processFileEntry(
             Exchange dynamic,
             List<GenericFile<File>> fileList, int depth, File file, Supplier<GenericFile<File>> gf, File[] files) {
         // Windows can report false to a file on a share so regard it
@@ -167,7 +204,9 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
                 }
                 fileList.add(gf.get());
             }
+            return valid;
         }
+        return false;
     }
 
     private boolean processDirectoryEntry(
@@ -210,9 +249,151 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             return true;
         }
 
+        if (getEndpoint().isUseWatchService()) {
+            return pollWatchedDirectory(dynamic, directory, fileList);
+        }
         return pollDirectory(dynamic, directory, fileList, depth);
     }
 
+    /**
+     * Polls the files from the pending files, which are kept up to date by the file system events, instead of listing
+     * the directories. The directories are only scanned in full the first time, and when events have been lost.
+     */
+    private boolean pollWatchedDirectory(Exchange dynamic, File directory, List<GenericFile<File>> fileList) {
+        try {
+            if (watcher == null) {
+                watcher = new DirectoryWatcher();
+            }
+            boolean drained = watcher.drainEvents((file, depth, deleted) -> onWatchEvent(dynamic, file, depth, deleted));
+            if (!drained) {
+                LOG.debug("Scanning directory: {}", directory);
+                watcher.reset();
+                pendingFiles.clear();
+                scanWatchedDirectory(dynamic, directory, 1);
+                LOG.debug("Scanned directory: {} with {} directories watched and {} files pending", directory,
+                        watcher.size(), pendingFiles.size());
+            }
+        } catch (IOException e) {
+            throw new GenericFileOperationFailedException("Cannot watch directory: " + directory, e);
+        }
+
+        if (pendingFiles.isEmpty()) {
+            return true;
+        }
+        final File[] files = pendingFiles.keySet().toArray(new File[0]);
+        if (getEndpoint().isPreSort()) {
+            Arrays.sort(files, preSortComparator(getEndpoint().getPreSort()));
+        }
+
+        // when using done files or filters then the file may be accepted later, without the file itself being changed
+        final boolean keepRejected = !getEndpoint().isNoop() || getEndpoint().getDoneFileName() != null
+                || getEndpoint().getFilter() != null || getEndpoint().getFilterFile() != null
+                || getEndpoint().getFileName() != null;
+
+        for (File file : files) {
+            if (!canPollMoreFiles(fileList)) {
+                return false;
+            }
+            int depth = pendingFiles.get(file);
+            if (!file.exists() || file.isDirectory()) {
+                // the file has been deleted or moved, and we may not have received the event yet
+                pendingFiles.remove(file);
+                continue;
+            }
+
+            Supplier<GenericFile<File>> gf = Suppliers.memorize(
+                    () -> asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType()));
+
+            if (!isMatchedByName(gf, file.getName(), getRelativeFilePath(endpointPath, null, null, file))) {
+                // the file is not matched by its name (such as include or exclude), so it is only pending
+                // again when it is renamed (or changed)
+                pendingFiles.remove(file);
+                continue;
+            }
+
+            if (resumeStrategy != null) {
+                final ResumeAdapter adapter = setupResumeStrategy(gf.get());
+                if (adapter instanceof DirectoryEntriesResumeAdapter directoryEntriesResumeAdapter
+                        && directoryEntriesResumeAdapter.resume(file)) {
+                    LOG.trace("Skipping file {} because it has been marked previously consumed", file);
+                    pendingFiles.remove(file);
+                    continue;
+                }
+            }
+
+            boolean valid = processFileEntry(dynamic, fileList, depth, file, gf, null);
+            // with noop the file is left as-is, so it is only pending again when it is changed,
+            // otherwise it is pending until it has been moved or deleted, as the file may be rejected
+            // by a done file, read lock or filter which can accept the file later
+            if (getEndpoint().isNoop() && (valid || !keepRejected)) {
+                pendingFiles.remove(file);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The number of files pending to be polled, when using the watch service
+     */
+    int getPendingFilesSize() {
+        return pendingFiles.size();
+    }
+
+    private void onWatchEvent(Exchange dynamic, File file, int depth, boolean deleted) {
+        if (deleted) {
+            pendingFiles.remove(file);
+        } else if (file.isDirectory()) {
+            // a new directory must be watched as well, and may already contain files
+            if (!watcher.isWatched(file) && isWatchedDirectory(dynamic, file, depth)) {
+                try {
+                    scanWatchedDirectory(dynamic, file, depth + 1);
+                } catch (IOException e) {
+                    throw new GenericFileOperationFailedException("Cannot watch directory: " + file, e);
+                }
+            }
+        } else {
+            addPendingFile(file, depth);
+        }
+    }
+
+    private void scanWatchedDirectory(Exchange dynamic, File directory, int depth) throws IOException {
+        if (!getEndpoint().isIncludeHiddenDirs() && directory.isHidden()) {
+            return;
+        }
+        // watch before listing the files, so new files are not missed
+        watcher.register(directory, depth);
+        final File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                if (isWatchedDirectory(dynamic, file, depth)) {
+                    scanWatchedDirectory(dynamic, file, depth + 1);
+                }
+            } else {
+                addPendingFile(file, depth);
+            }
+        }
+    }
+
+    private void addPendingFile(File file, int depth) {
+        if (depth >= endpoint.minDepth) {
+            pendingFiles.put(file, depth);
+        }
+    }
+
+    private boolean isWatchedDirectory(Exchange dynamic, File directory, int depth) {
+        if (endpoint.isRecursive() && depth < endpoint.getMaxDepth()) {
+            Supplier<GenericFile<File>> gf = Suppliers.memorize(
+                    () -> asGenericFile(endpointPath, directory, getEndpoint().getCharset(),
+                            getEndpoint().isProbeContentType()));
+            return isValidFile(dynamic, gf, directory.getName(), directory.getAbsolutePath(),
+                    getRelativeFilePath(endpointPath, null, null, directory), true, null);
+        }
+        return false;
+    }
+
     private File[] listFiles(File directory) {
         if (!getEndpoint().isIncludeHiddenDirs() && directory.isHidden()) {
             return null;
@@ -265,6 +446,10 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
 
     @Override
     protected boolean isMatched(Supplier<GenericFile<File>> file, String doneFileName, File[] files) {
+        if (files == null) {
+            // the files in the directory are not listed when using watch service
+            return new File(doneFileName).exists();
+        }
         String onlyName = FileUtil.stripPath(doneFileName);
         // the done file name must be among the files
         for (File f : files) {
@@ -431,6 +616,14 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         super.doStart();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        IOHelper.close(watcher);
+        watcher = null;
+        pendingFiles.clear();
+    }
+
     private void tryCreateDirectory(File file) throws FileNotFoundException {
         if (getEndpoint().isAutoCreate()) {
             doCreateStartDirectory(file);
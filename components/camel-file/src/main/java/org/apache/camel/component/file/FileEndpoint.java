@@ -81,6 +81,8 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean useWatchService;
     @Deprecated
     @UriParam(label = "producer,advanced", defaultValue = "false")
     private boolean forceWrites;
@@ -403,6 +405,21 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isUseWatchService() {
+        return useWatchService;
+    }
+
+    /**
+     * Whether the consumer should use the file system watch service to detect new and changed files, instead of listing
+     * the directories on every poll. The directories are only scanned in full when the consumer starts, and again if
+     * file system events have been lost. This reduces the cost of polling large directory trees, such as when using
+     * recursive. Files that are not picked up, for example when a read lock could not be acquired, are checked again on
+     * the following polls. When using noop, then a file is only checked again when it has been changed.
+     */
+    public void setUseWatchService(boolean useWatchService) {
+        this.useWatchService = useWatchService;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
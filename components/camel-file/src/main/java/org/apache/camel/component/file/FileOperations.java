@@ -18,7 +18,6 @@ package org.apache.camel.component.file;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -45,6 +44,9 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.spi.BufferPool;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.util.FileRegion;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -284,22 +286,30 @@ public class FileOperations implements GenericFileOperations<File> {
             String charset = endpoint.getCharset();
 
             // we can optimize and use file based if no charset & no checksum must be used,
-            // and the input body is a file
-            // however optimization cannot be applied when content should be
-            // appended to target file
+            // and the input body is a file (or a region of a file)
             File source = null;
+            FileRegion region = null;
             boolean fileBased = false;
-            if (charset == null && endpoint.getFileExist() != GenericFileExist.Append
-                    && endpoint.getChecksumFileAlgorithm() == null) {
-                // if no charset and not in appending mode, then we can try
-                // using file directly (optimized)
+            if (charset == null && endpoint.getChecksumFileAlgorithm() == null) {
+                // if no charset, then we can try using file directly (optimized)
                 final Object body = extractBodyFromExchange(exchange);
                 if (body instanceof File fileBody) {
                     source = fileBody;
                     fileBased = true;
+                } else if (body instanceof FileRegion regionBody) {
+                    region = regionBody;
                 }
             }
 
+            if (region != null) {
+                writeFileByRegion(region, file);
+                // try to keep last modified timestamp if configured to do so
+                keepLastModified(exchange, file);
+                // set permissions if the chmod option was set
+                setPermissions(file);
+                return true;
+            }
+
             if (fileBased) {
                 // okay we know the body is a file based
 
@@ -399,7 +409,8 @@ public class FileOperations implements GenericFileOperations<File> {
 
     private boolean handleFileAsFileSource(Exchange exchange, File file, File source) throws IOException {
         String local = exchange.getIn().getHeader(FileConstants.FILE_LOCAL_WORK_PATH, String.class);
-        if (local != null) {
+        // renaming the local work file would replace the content of the target file, so it cannot be used when appending
+        if (local != null && endpoint.getFileExist() != GenericFileExist.Append) {
             File f = new File(local);
             if (f.exists()) {
                 boolean renamed = writeFileByLocalWorkPath(f, file);
@@ -519,14 +530,13 @@ public class FileOperations implements GenericFileOperations<File> {
         FileChannel channel
                 = exchange.getProperty(asExclusiveReadLockKey(path, Exchange.FILE_LOCK_CHANNEL_FILE), FileChannel.class);
         if (channel != null) {
-            try (FileOutputStream fos = new FileOutputStream(target);
-                 FileChannel out = fos.getChannel()) {
-                LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
-                long size = channel.size();
-                long position = 0;
-                while (position < size) {
-                    position += channel.transferTo(position, size - position, out);
-                }
+            LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
+            writeFileByChannel(channel, 0, channel.size(), target);
+        } else if (endpoint.getFileExist() == GenericFileExist.Append) {
+            // Files.copy cannot append so transfer the file to the end of the target
+            LOG.trace("writeFileByFile using FileChannel to append: {} -> {}", source, target);
+            try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+                writeFileByChannel(in, 0, in.size(), target);
             }
         } else {
             // use regular file copy
@@ -535,11 +545,32 @@ public class FileOperations implements GenericFileOperations<File> {
         }
     }
 
+    private void writeFileByRegion(FileRegion region, File target) throws IOException {
+        LOG.trace("writeFileByRegion using FileChannel: {} -> {}", region, target);
+        try (FileChannel in = FileChannel.open(region.getFile(), StandardOpenOption.READ)) {
+            writeFileByChannel(in, region.getPosition(), region.getCount(), target);
+        }
+    }
+
+    private void writeFileByChannel(FileChannel in, long position, long count, File target) throws IOException {
+        try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
+            // transferTo lets the operating system copy the bytes between the files without
+            // copying them through a buffer in the JVM
+            FileRegion.transferTo(in, position, count, out);
+
+            if (endpoint.getFileExist() == GenericFileExist.Append && endpoint.getAppendChars() != null) {
+                out.write(ByteBuffer.wrap(endpoint.getAppendChars().getBytes()));
+            }
+        }
+    }
+
     private void writeFileByStream(InputStream in, File target) throws IOException {
+        // use a recycled buffer (which can be larger than the configured buffer size)
+        BufferPool bufferPool = PluginHelper.getBufferPool(endpoint.getCamelContext());
+        byte[] buffer = bufferPool.acquire(endpoint.getBufferSize());
         try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
             LOG.debug("Using InputStream to write file: {}", target);
-            int size = endpoint.getBufferSize();
-            byte[] buffer = new byte[size];
+            int size = buffer.length;
             ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
             int bytesRead;
             while ((bytesRead = in.read(buffer)) != -1) {
@@ -558,6 +589,7 @@ public class FileOperations implements GenericFileOperations<File> {
                 buf.clear();
             }
         } finally {
+            bufferPool.release(buffer);
             IOHelper.close(in, target.getName(), LOG);
         }
     }
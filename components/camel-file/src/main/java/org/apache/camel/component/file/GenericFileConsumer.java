@@ -137,7 +137,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         }
 
         // gather list of files to process
-        List<GenericFile<T>> files = new ArrayList<>();
+        List<GenericFile<T>> files = createFileList(dynamic);
         String name = endpoint.getConfiguration().getDirectory();
 
         // time how long it takes to poll
@@ -167,6 +167,11 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
                     maxMessagesPerPoll);
         }
 
+        if (files instanceof BoundedSortedFileList) {
+            // the files are already sorted and limited
+            files = new ArrayList<>(files);
+        }
+
         // sort files using file comparator if provided
         if (endpoint.getSorter() != null) {
             files.sort(endpoint.getSorter());
@@ -308,13 +313,35 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
      * @param files the files
      */
     protected void removeExcessiveInProgressFiles(List<GenericFile<T>> files) {
-        for (GenericFile file : files) {
-            String key = file.getAbsoluteFilePath();
-            endpoint.getInProgressRepository().remove(key);
-            if (endpoint.isIdempotentEager() && endpoint.getIdempotentRepository() != null) {
-                removeExcessiveIdempotentFile(file, null);
-            }
+        for (GenericFile<T> file : files) {
+            removeExcessiveInProgressFile(file, null);
+        }
+    }
+
+    private void removeExcessiveInProgressFile(GenericFile<T> file, Exchange dynamic) {
+        String key = file.getAbsoluteFilePath();
+        endpoint.getInProgressRepository().remove(key);
+        if (endpoint.isIdempotentEager() && endpoint.getIdempotentRepository() != null) {
+            removeExcessiveIdempotentFile(file, dynamic);
+        }
+    }
+
+    /**
+     * Creates the list to gather the files to process.
+     * <p/>
+     * When the limit from maxMessagesPerPoll is not eager, because the files should be sorted before limiting, then
+     * only the first files in sort order are kept, so the memory usage is bounded by the limit, and not by the number
+     * of files scanned.
+     */
+    protected List<GenericFile<T>> createFileList(Exchange dynamic) {
+        if (!eagerLimitMaxMessagesPerPoll && maxMessagesPerPoll > 0 && !endpoint.isShuffle()
+                && (endpoint.getSorter() != null || endpoint.getSortBy() != null)) {
+            return new BoundedSortedFileList<>(
+                    maxMessagesPerPoll, endpoint.getSorter(), endpoint.getSortBy(),
+                    file -> GenericFileHelper.createDummy(endpoint, dynamic, () -> file),
+                    file -> removeExcessiveInProgressFile(file, dynamic));
         }
+        return new ArrayList<>();
     }
 
     /**
@@ -324,8 +351,9 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
      * @return          <tt>true</tt> to continue, <tt>false</tt> to stop due hitting maxMessagesPerPoll limit
      */
     public boolean canPollMoreFiles(List<?> fileList) {
-        // at this point we should not limit if we are not eager
-        if (!eagerLimitMaxMessagesPerPoll) {
+        // at this point we should not limit if we are not eager, and need all the files for sorting or shuffling
+        if (!eagerLimitMaxMessagesPerPoll
+                && (endpoint.getSorter() != null || endpoint.getSortBy() != null || endpoint.isShuffle())) {
             return true;
         }
 
@@ -817,6 +845,28 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         return true;
     }
 
+    /**
+     * Strategy to perform file matching using only the filters which depend on the name of the file, such as include
+     * and exclude, which means a file that is not matched cannot be matched later, unless the file is renamed.
+     *
+     * @param  file             the file
+     * @param  name             the file name
+     * @param  relativeFilePath the relative file name
+     * @return                  <tt>true</tt> if the file is matched, <tt>false</tt> if not
+     */
+    protected boolean isMatchedByName(Supplier<GenericFile<T>> file, String name, Supplier<String> relativeFilePath) {
+        if (!isMatchedHiddenFile(file, name, false)) {
+            return false;
+        }
+        if (name.endsWith(FileComponent.DEFAULT_LOCK_FILE_POSTFIX)) {
+            return false;
+        }
+        if (endpoint.getAntFilter() != null && !endpoint.getAntFilter().accept(false, relativeFilePath.get())) {
+            return false;
+        }
+        return !hasInclusionsOrExclusions(name);
+    }
+
     private boolean hasInclusionsOrExclusions(String name) {
         // exclude take precedence over include
         if (excludePattern != null) {
@@ -225,8 +225,8 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
     @UriParam(label = "consumer,filter", defaultValue = "true", description = "Allows for controlling whether the "
                                                                               + "limit from maxMessagesPerPoll is eager or not. If eager then the limit is during the scanning of files. "
                                                                               + "Where as false would scan all files, and then perform sorting. Setting this option to false allows for "
-                                                                              + "sorting all files first, and then limit the poll. Mind that this requires a higher memory usage as all "
-                                                                              + "file details are in memory to perform the sorting.")
+                                                                              + "sorting all files first, and then limit the poll. Mind that all files are scanned, however only as many "
+                                                                              + "files as the limit are kept in memory to perform the sorting.")
     protected boolean eagerMaxMessagesPerPoll = true;
     @UriParam(label = "consumer,filter", defaultValue = "" + Integer.MAX_VALUE,
               description = "The maximum depth to " + "traverse when recursively processing a directory.")
@@ -1480,8 +1480,8 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
     /**
      * Allows for controlling whether the limit from maxMessagesPerPoll is eager or not. If eager then the limit is
      * during the scanning of files. Where as false would scan all files, and then perform sorting. Setting this option
-     * to false allows for sorting all files first, and then limit the poll. Mind that this requires a higher memory
-     * usage as all file details are in memory to perform the sorting.
+     * to false allows for sorting all files first, and then limit the poll. Mind that all files are scanned, however
+     * only as many files as the limit are kept in memory to perform the sorting.
      */
     public void setEagerMaxMessagesPerPoll(boolean eagerMaxMessagesPerPoll) {
         this.eagerMaxMessagesPerPoll = eagerMaxMessagesPerPoll;
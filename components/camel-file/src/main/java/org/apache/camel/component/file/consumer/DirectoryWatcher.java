@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.consumer;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the directories polled by a file consumer using a {@link WatchService}, so the consumer can learn
+ * about new, changed and deleted files from the file system events, instead of listing the directories on every poll.
+ * <p/>
+ * The events are not delivered in a background thread, but are drained by the consumer when it polls. If the file
+ * system lost events (overflow), or a watched directory could not be watched anymore, then the directories must be
+ * scanned again in full, which is signalled by {@link #isRescanRequired()}.
+ * <p/>
+ * This class is not thread-safe, as it is meant to be used by the polling thread of the consumer.
+ */
+public class DirectoryWatcher implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DirectoryWatcher.class);
+
+    /**
+     * Callback for changes to the entries of the watched directories.
+     */
+    @FunctionalInterface
+    public interface EntryListener {
+
+        /**
+         * A directory entry has been created, modified or deleted.
+         *
+         * @param file    the file or directory
+         * @param depth   the depth of the entry, where entries of the starting directory have depth 1
+         * @param deleted whether the entry was deleted, or otherwise created or modified
+         */
+        void onEntry(File file, int depth, boolean deleted);
+    }
+
+    private final WatchService watchService;
+    private final Map<WatchKey, Integer> depths = new HashMap<>();
+    private final Map<Path, WatchKey> keys = new HashMap<>();
+    private WatchKey startingKey;
+    private boolean rescanRequired = true;
+
+    public DirectoryWatcher() throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+    }
+
+    /**
+     * Whether the directories must be scanned again in full, which is the case before the first scan, and after events
+     * have been lost.
+     */
+    public boolean isRescanRequired() {
+        return rescanRequired;
+    }
+
+    /**
+     * Cancels watching all the directories, to prepare for a full scan of the directories.
+     */
+    public void reset() {
+        for (WatchKey key : depths.keySet()) {
+            key.cancel();
+        }
+        depths.clear();
+        keys.clear();
+        startingKey = null;
+        rescanRequired = false;
+    }
+
+    /**
+     * Starts watching the given directory. The directory should be registered before its entries are listed, so no
+     * entries are missed in between.
+     *
+     * @param directory the directory
+     * @param depth     the depth of the entries in the directory, where entries of the starting directory have depth 1
+     */
+    public void register(File directory, int depth) throws IOException {
+        WatchKey key = directory.toPath().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        depths.put(key, depth);
+        keys.put(directory.toPath(), key);
+        if (depth == 1) {
+            startingKey = key;
+        }
+        LOG.trace("Watching directory: {} at depth: {}", directory, depth);
+    }
+
+    /**
+     * Drains the events received since last time, and calls the listener for each directory entry that changed.
+     *
+     * @param  listener the listener
+     * @return          <tt>true</tt> if the events were drained, <tt>false</tt> if events have been lost and the
+     *                  directories must be scanned again in full
+     */
+    public boolean drainEvents(EntryListener listener) {
+        WatchKey key;
+        while (!rescanRequired && (key = watchService.poll()) != null) {
+            Integer depth = depths.get(key);
+            if (depth == null) {
+                // cancelled by a reset
+                continue;
+            }
+            Path dir = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                WatchEvent.Kind<?> kind = event.kind();
+                if (kind == StandardWatchEventKinds.OVERFLOW) {
+                    LOG.debug("Events lost in directory: {}. The directories will be scanned again.", dir);
+                    rescanRequired = true;
+                    break;
+                }
+                Path name = (Path) event.context();
+                listener.onEntry(dir.resolve(name).toFile(), depth, kind == StandardWatchEventKinds.ENTRY_DELETE);
+            }
+            if (!key.reset()) {
+                // the directory is no longer accessible, such as when it has been deleted
+                depths.remove(key);
+                keys.remove(dir, key);
+                if (key == startingKey) {
+                    LOG.debug("Starting directory: {} can no longer be watched. The directories will be scanned again.",
+                            dir);
+                    rescanRequired = true;
+                }
+            }
+        }
+        return !rescanRequired;
+    }
+
+    /**
+     * Whether the given directory is being watched
+     */
+    public boolean isWatched(File directory) {
+        return keys.containsKey(directory.toPath());
+    }
+
+    /**
+     * Number of directories being watched
+     */
+    public int size() {
+        return depths.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        depths.clear();
+        keys.clear();
+        startingKey = null;
+        rescanRequired = true;
+        watchService.close();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BoundedSortedFileListTest {
+
+    @Test
+    public void testKeepFirstFilesInSortOrder() {
+        List<String> discarded = new ArrayList<>();
+        BoundedSortedFileList<String> list = new BoundedSortedFileList<>(
+                3, Comparator.comparing(GenericFile::getFileName), null, null, f -> discarded.add(f.getFileName()));
+
+        for (String name : List.of("e", "b", "g", "a", "f", "c", "d")) {
+            list.add(file(name));
+        }
+
+        assertEquals(3, list.size());
+        assertEquals(List.of("a", "b", "c"), names(list));
+        assertEquals(List.of("g", "f", "e", "d"), discarded);
+    }
+
+    @Test
+    public void testKeepAddedOrderForEqualFiles() {
+        List<String> discarded = new ArrayList<>();
+        BoundedSortedFileList<String> list = new BoundedSortedFileList<>(
+                2, Comparator.comparing(GenericFile::getFileNameOnly), null, null, f -> discarded.add(f.getFileName()));
+
+        list.add(file("x/b"));
+        list.add(file("y/a"));
+        list.add(file("z/a"));
+        list.add(file("w/a"));
+
+        assertEquals(List.of("y/a", "z/a"), names(list));
+        assertEquals(List.of("x/b", "w/a"), discarded);
+    }
+
+    private static GenericFile<String> file(String name) {
+        GenericFile<String> answer = new GenericFile<>();
+        answer.setFileName(name);
+        answer.setFileNameOnly(name.substring(name.indexOf('/') + 1));
+        answer.setAbsoluteFilePath("/" + name);
+        return answer;
+    }
+
+    private static List<String> names(List<GenericFile<String>> files) {
+        List<String> answer = new ArrayList<>();
+        for (GenericFile<String> file : files) {
+            answer.add(file.getFileName());
+        }
+        return answer;
+    }
+}
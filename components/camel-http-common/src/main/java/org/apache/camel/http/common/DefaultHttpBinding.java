@@ -56,6 +56,7 @@ import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.GZIPHelper;
 import org.apache.camel.support.MessageHelper;
 import org.apache.camel.support.ObjectHelper;
+import org.apache.camel.support.PluginHelper;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
 import org.slf4j.Logger;
@@ -490,6 +491,11 @@ public class DefaultHttpBinding implements HttpBinding {
         return false;
     }
 
+    /**
+     * @deprecated this method is no longer called when writing the response, override
+     *             {@link #copyStream(Exchange, InputStream, OutputStream, int)} instead
+     */
+    @Deprecated(since = "4.23")
     protected int copyStream(InputStream is, OutputStream os, int bufferSize) throws IOException {
         try {
             // copy stream, and must flush on each write as etc Jetty has better performance when
@@ -500,6 +506,26 @@ public class DefaultHttpBinding implements HttpBinding {
         }
     }
 
+    /**
+     * Copies the input stream to the output stream (of the response) using a buffer from the
+     * {@link org.apache.camel.spi.BufferPool}, and closes both streams.
+     *
+     * @param  exchange   the exchange
+     * @param  is         the input stream
+     * @param  os         the output stream
+     * @param  bufferSize the buffer size
+     * @return            the number of bytes copied
+     */
+    protected int copyStream(Exchange exchange, InputStream is, OutputStream os, int bufferSize) throws IOException {
+        try {
+            // copy stream using a recycled buffer, and must flush on each write as etc Jetty has better performance when
+            // flushing after writing to its servlet output stream
+            return PluginHelper.getBufferPool(exchange.getContext()).copy(is, os, bufferSize, true);
+        } finally {
+            IOHelper.close(os, is);
+        }
+    }
+
     protected void doWriteDirectResponse(Message message, HttpServletResponse response, Exchange exchange) throws IOException {
         // if content type is serialized Java object, then serialize and write it to the response
         String contentType = message.getHeader(Exchange.CONTENT_TYPE, String.class);
@@ -536,7 +562,7 @@ public class DefaultHttpBinding implements HttpBinding {
                 CachedOutputStream stream = new CachedOutputStream(exchange);
                 try {
                     // copy directly from input stream to the cached output stream to get the content length
-                    int len = copyStream(is, stream, response.getBufferSize());
+                    int len = copyStream(exchange, is, stream, response.getBufferSize());
                     // we need to setup the length if message is not chucked
                     response.setContentLength(len);
                     OutputStream current = stream.getCurrentStream();
@@ -550,7 +576,7 @@ public class DefaultHttpBinding implements HttpBinding {
                             LOG.debug("Streaming response in non-chunked mode with content-length {} and buffer size: {}", len,
                                     len);
                         }
-                        copyStream(stream.getInputStream(), os, len);
+                        copyStream(exchange, stream.getInputStream(), os, len);
                     }
                 } finally {
                     IOHelper.close(is, os);
@@ -559,7 +585,7 @@ public class DefaultHttpBinding implements HttpBinding {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Streaming response in chunked mode with buffer size {}", response.getBufferSize());
                 }
-                copyStream(is, os, response.getBufferSize());
+                copyStream(exchange, is, os, response.getBufferSize());
             }
         } else {
             // not convertable as a stream so fallback as a String
@@ -606,7 +632,7 @@ public class DefaultHttpBinding implements HttpBinding {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Streaming GZIP response in chunked mode with buffer size {}", response.getBufferSize());
             }
-            copyStream(is, gos, response.getBufferSize());
+            copyStream(exchange, is, gos, response.getBufferSize());
         } else {
             byte[] bytes;
             try {
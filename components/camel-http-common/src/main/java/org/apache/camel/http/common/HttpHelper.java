@@ -37,6 +37,7 @@ import org.apache.camel.RuntimeExchangeException;
 import org.apache.camel.converter.stream.CachedOutputStream;
 import org.apache.camel.support.CamelObjectInputStream;
 import org.apache.camel.support.DeserializationFilterHelper;
+import org.apache.camel.support.PluginHelper;
 import org.apache.camel.support.http.HttpUtil;
 import org.apache.camel.util.CollectionHelper;
 import org.apache.camel.util.IOHelper;
@@ -189,7 +190,7 @@ public final class HttpHelper {
         CachedOutputStream cos = new CachedOutputStream(exchange);
         // do not close IS as it comes from http server such as servlet and the
         // servlet input stream may be used by others besides Camel
-        IOHelper.copy(is, cos);
+        PluginHelper.getBufferPool(exchange.getContext()).copy(is, cos, cos.getStrategyBufferSize());
         return cos.newStreamCache();
     }
 
@@ -85,6 +85,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "httpContext": target.setHttpContext(property(camelContext, org.apache.hc.core5.http.protocol.HttpContext.class, value)); return true;
         case "httpmethod":
         case "httpMethod": target.setHttpMethod(property(camelContext, org.apache.camel.http.common.HttpMethods.class, value)); return true;
+        case "httpversionpolicy":
+        case "httpVersionPolicy": target.setHttpVersionPolicy(property(camelContext, org.apache.hc.core5.http2.HttpVersionPolicy.class, value)); return true;
         case "ignoreresponsebody":
         case "ignoreResponseBody": target.setIgnoreResponseBody(property(camelContext, boolean.class, value)); return true;
         case "lazystartproducer":
@@ -151,6 +153,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sslContextParameters": target.setSslContextParameters(property(camelContext, org.apache.camel.support.jsse.SSLContextParameters.class, value)); return true;
         case "throwexceptiononfailure":
         case "throwExceptionOnFailure": target.setThrowExceptionOnFailure(property(camelContext, boolean.class, value)); return true;
+        case "useasyncclient":
+        case "useAsyncClient": target.setUseAsyncClient(property(camelContext, boolean.class, value)); return true;
         case "usesystemproperties":
         case "useSystemProperties": target.setUseSystemProperties(property(camelContext, boolean.class, value)); return true;
         case "useragent":
@@ -226,6 +230,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "httpContext": return org.apache.hc.core5.http.protocol.HttpContext.class;
         case "httpmethod":
         case "httpMethod": return org.apache.camel.http.common.HttpMethods.class;
+        case "httpversionpolicy":
+        case "httpVersionPolicy": return org.apache.hc.core5.http2.HttpVersionPolicy.class;
         case "ignoreresponsebody":
         case "ignoreResponseBody": return boolean.class;
         case "lazystartproducer":
@@ -292,6 +298,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sslContextParameters": return org.apache.camel.support.jsse.SSLContextParameters.class;
         case "throwexceptiononfailure":
         case "throwExceptionOnFailure": return boolean.class;
+        case "useasyncclient":
+        case "useAsyncClient": return boolean.class;
         case "usesystemproperties":
         case "useSystemProperties": return boolean.class;
         case "useragent":
@@ -368,6 +376,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "httpContext": return target.getHttpContext();
         case "httpmethod":
         case "httpMethod": return target.getHttpMethod();
+        case "httpversionpolicy":
+        case "httpVersionPolicy": return target.getHttpVersionPolicy();
         case "ignoreresponsebody":
         case "ignoreResponseBody": return target.isIgnoreResponseBody();
         case "lazystartproducer":
@@ -434,6 +444,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sslContextParameters": return target.getSslContextParameters();
         case "throwexceptiononfailure":
         case "throwExceptionOnFailure": return target.isThrowExceptionOnFailure();
+        case "useasyncclient":
+        case "useAsyncClient": return target.isUseAsyncClient();
         case "usesystemproperties":
         case "useSystemProperties": return target.isUseSystemProperties();
         case "useragent":
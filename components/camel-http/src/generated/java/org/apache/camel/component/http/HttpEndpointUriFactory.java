@@ -25,7 +25,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> ENDPOINT_IDENTITY_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(68);
+        Set<String> props = new HashSet<>(70);
         props.add("authBearerToken");
         props.add("authDomain");
         props.add("authHost");
@@ -58,6 +58,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("httpContext");
         props.add("httpMethod");
         props.add("httpUri");
+        props.add("httpVersionPolicy");
         props.add("ignoreResponseBody");
         props.add("lazyStartProducer");
         props.add("logHttpActivity");
@@ -91,6 +92,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("skipResponseHeaders");
         props.add("sslContextParameters");
         props.add("throwExceptionOnFailure");
+        props.add("useAsyncClient");
         props.add("useSystemProperties");
         props.add("userAgent");
         props.add("x509HostnameVerifier");
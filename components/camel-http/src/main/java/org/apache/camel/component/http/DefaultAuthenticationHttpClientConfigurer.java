@@ -25,6 +25,7 @@ import org.apache.hc.client5.http.auth.NTCredentials;
 import org.apache.hc.client5.http.auth.StandardAuthScheme;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.auth.BasicSchemeFactory;
 import org.apache.hc.client5.http.impl.auth.BearerSchemeFactory;
 import org.apache.hc.client5.http.impl.auth.DigestSchemeFactory;
@@ -83,4 +84,34 @@ public class DefaultAuthenticationHttpClientConfigurer implements HttpClientConf
                 .getCredentialsProvider(host, null, defaultcreds));
     }
 
+    @Override
+    public void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+        Credentials defaultcreds;
+        if (domain != null) {
+            defaultcreds = new NTCredentials(username, password, host, domain);
+            // NTLM is not included by default so we need to rebuild the registry to include NTLM
+            var autoSchemes = RegistryBuilder.<AuthSchemeFactory> create()
+                    .register(StandardAuthScheme.BASIC, BasicSchemeFactory.INSTANCE)
+                    .register(StandardAuthScheme.DIGEST, DigestSchemeFactory.INSTANCE)
+                    .register(StandardAuthScheme.BEARER, BearerSchemeFactory.INSTANCE)
+                    .register(StandardAuthScheme.NTLM, NTLMSchemeFactory.INSTANCE)
+                    .build();
+
+            // Set NTLM as preferred scheme
+            RequestConfig requestConfig = RequestConfig.custom()
+                    .setTargetPreferredAuthSchemes(List.of(StandardAuthScheme.NTLM))
+                    .build();
+
+            clientBuilder
+                    .setDefaultAuthSchemeRegistry(autoSchemes)
+                    .setDefaultRequestConfig(requestConfig);
+        } else if (bearerToken != null) {
+            defaultcreds = new BearerToken(bearerToken);
+        } else {
+            defaultcreds = new UsernamePasswordCredentials(username, password);
+        }
+        clientBuilder.setDefaultCredentialsProvider(credentialsHelper
+                .getCredentialsProvider(host, null, defaultcreds));
+    }
+
 }
@@ -0,0 +1,660 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StreamCache;
+import org.apache.camel.http.common.HttpHelper;
+import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.support.builder.OutputStreamBuilder;
+import org.apache.camel.util.IOHelper;
+import org.apache.hc.client5.http.auth.AuthScheme;
+import org.apache.hc.client5.http.auth.Credentials;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
+import org.apache.hc.client5.http.impl.auth.BasicAuthCache;
+import org.apache.hc.client5.http.impl.auth.BasicScheme;
+import org.apache.hc.client5.http.impl.auth.BearerScheme;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.FileEntity;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.apache.hc.core5.http.nio.entity.AsyncEntityProducers;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http.nio.support.BasicResponseConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous HTTP producer, which uses the Apache HTTP Client 5.x async client. The calling thread is not blocked
+ * while waiting for the response, and HTTP/2 can be used (according to the httpVersionPolicy of the endpoint), where
+ * concurrent requests to the same host are multiplexed over a single connection.
+ * <p/>
+ * The request and the response are handled in the same way as the {@link HttpProducer}. The I/O threads of the async
+ * client are never blocked: request bodies which are not already in memory (or a file) are written to the stream cache
+ * on the calling thread so they are sent with their Content-Length, and the response body is written to the stream
+ * cache (and the response is processed) by a thread from the thread pool of this producer.
+ */
+public class HttpAsyncProducer extends HttpProducer implements AsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpAsyncProducer.class);
+
+    // the number of bytes the server may send before the response body has been written to the stream cache
+    private static final int WINDOW_SIZE = 64 * 1024;
+
+    private ExecutorService executorService;
+
+    public HttpAsyncProducer(HttpEndpoint endpoint) {
+        super(endpoint);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        // the response is handled by this thread pool, and not by the I/O threads of the async client
+        executorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                .newDefaultThreadPool(this, "HttpAsyncProducer");
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+        super.doStop();
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        PluginHelper.getAsyncProcessorAwaitManager(exchange.getContext()).process(this, exchange);
+    }
+
+    @Override
+    public CompletableFuture<Exchange> processAsync(Exchange exchange) {
+        AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
+        process(exchange, callback);
+        return callback.getFuture();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        try {
+            HttpUriRequest httpRequest = createRequest(exchange);
+            HttpHost httpHost = createHost(httpRequest);
+
+            // use a local context per execution
+            HttpClientContext context = new HttpClientContext(getEndpoint().getHttpContext());
+            if (getEndpoint().getHttpActivityListener() != null) {
+                context.setAttribute(HttpEndpoint.HTTP_ACTIVITY_LISTENER, getEndpoint().getHttpActivityListener());
+                context.setAttribute("org.apache.camel.Exchange", exchange);
+                context.setAttribute("org.apache.hc.core5.http.HttpHost", httpHost);
+            }
+            if (getEndpoint().isSharedAsyncClient()) {
+                configureSharedClientContext(httpRequest, context);
+            }
+            if (getEndpoint().isAuthenticationPreemptive()) {
+                configurePreemptiveAuthentication(context, httpHost);
+            }
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Executing async http {} method: {}", httpRequest.getMethod(), httpRequest.getUri());
+            }
+            BasicRequestProducer requestProducer
+                    = new BasicRequestProducer(httpRequest, createEntityProducer(exchange, httpRequest.getEntity()));
+            BasicResponseConsumer<HttpEntity> responseConsumer
+                    = new BasicResponseConsumer<>(new StreamCachingEntityConsumer(exchange));
+
+            getEndpoint().getHttpAsyncClient().execute(requestProducer, responseConsumer, context,
+                    new FutureCallback<>() {
+                        @Override
+                        public void completed(Message<HttpResponse, HttpEntity> result) {
+                            if (result.getBody() != null) {
+                                // the response body has been cached by a thread from the thread pool
+                                onResponse(exchange, httpRequest, result, callback);
+                            } else {
+                                // without a response body then we are still on the I/O thread of the client
+                                execute(() -> onResponse(exchange, httpRequest, result, callback));
+                            }
+                        }
+
+                        @Override
+                        public void failed(Exception e) {
+                            execute(() -> {
+                                exchange.setException(e);
+                                callback.done(false);
+                            });
+                        }
+
+                        @Override
+                        public void cancelled() {
+                            execute(() -> {
+                                exchange.setException(new IOException("HTTP request cancelled"));
+                                callback.done(false);
+                            });
+                        }
+                    });
+            return false;
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+    }
+
+    private void onResponse(
+            Exchange exchange, HttpUriRequest httpRequest, Message<HttpResponse, HttpEntity> result,
+            AsyncCallback callback) {
+        try {
+            handleResponse(exchange, httpRequest, toClassicResponse(result));
+        } catch (RuntimeCamelException e) {
+            exchange.setException(e.getCause() instanceof Exception ex ? ex : e);
+        } catch (Exception e) {
+            exchange.setException(e);
+        } finally {
+            callback.done(false);
+        }
+    }
+
+    private void execute(Runnable task) {
+        ExecutorService executor = executorService;
+        try {
+            if (executor != null) {
+                executor.execute(task);
+                return;
+            }
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Cannot hand over the response to the thread pool as it is shutting down", e);
+        }
+        task.run();
+    }
+
+    /**
+     * The endpoint uses the async client of the component, so the options of the endpoint are configured on the
+     * request instead of the client.
+     */
+    private void configureSharedClientContext(HttpUriRequest httpRequest, HttpClientContext context) {
+        HttpEndpoint endpoint = getEndpoint();
+        context.setRequestConfig(endpoint.getAsyncRequestConfig());
+        if (endpoint.isBridgeEndpoint()) {
+            // need to use noop cookiestore as we do not want to keep cookies in memory
+            context.setCookieStore(new NoopCookieStore());
+        } else if (endpoint.getCookieStore() != null) {
+            context.setCookieStore(endpoint.getCookieStore());
+        }
+        String userAgent = endpoint.getUserAgent();
+        if (userAgent != null && !httpRequest.containsHeader(HttpHeaders.USER_AGENT)) {
+            httpRequest.setHeader(HttpHeaders.USER_AGENT, userAgent);
+        }
+    }
+
+    private void configurePreemptiveAuthentication(HttpClientContext context, HttpHost httpHost) {
+        HttpEndpoint endpoint = getEndpoint();
+        Credentials credentials = HttpCredentialsHelper.getCredentials(endpoint.getAuthMethod(), endpoint.getAuthUsername(),
+                endpoint.getAuthPassword(), endpoint.getAuthHost(), endpoint.getAuthHost(), endpoint.getAuthBearerToken());
+        if (credentials == null) {
+            return;
+        }
+        AuthScheme authScheme;
+        if ("BEARER".equalsIgnoreCase(endpoint.getAuthMethod())) {
+            authScheme = new BearerScheme();
+        } else {
+            BasicScheme bs = new BasicScheme();
+            bs.initPreemptive(credentials);
+            authScheme = bs;
+        }
+        BasicAuthCache authCache = new BasicAuthCache();
+        authCache.put(httpHost, authScheme);
+        context.setAuthCache(authCache);
+    }
+
+    /**
+     * Creates the producer which writes the request entity to the async client.
+     * <p/>
+     * The producer is called by the I/O threads of the client, which must not block. Entities which are not in memory
+     * or a file (such as input streams) are therefore first written to the stream cache, which also means the request
+     * is sent with its Content-Length instead of chunked.
+     */
+    protected AsyncEntityProducer createEntityProducer(Exchange exchange, HttpEntity entity) throws IOException {
+        if (entity == null) {
+            return null;
+        }
+        if (entity instanceof ByteArrayEntity || entity instanceof StringEntity) {
+            // the content is already in memory
+            String contentType = entity.getContentType();
+            return AsyncEntityProducers.create(EntityUtils.toByteArray(entity),
+                    contentType != null ? ContentType.parse(contentType) : null);
+        }
+        if (entity instanceof FileEntity || entity instanceof CachedEntity) {
+            return new ContentEntityProducer(entity);
+        }
+        if (entity instanceof InputStreamEntity && entity.getContent() instanceof StreamCache cache
+                && cache.length() >= 0) {
+            // the message body is already stream cached
+            return new ContentEntityProducer(
+                    new CachedEntity(cache, entity.getContentType(), entity.getContentEncoding(), false));
+        }
+        OutputStreamBuilder builder = OutputStreamBuilder.withExchange(exchange);
+        try {
+            entity.writeTo(builder);
+        } catch (IOException e) {
+            IOHelper.close(builder);
+            throw e;
+        }
+        return new ContentEntityProducer(
+                new CachedEntity(builder.build(), entity.getContentType(), entity.getContentEncoding(), false));
+    }
+
+    @Override
+    protected Object extractResponseBody(
+            ClassicHttpResponse httpResponse, Exchange exchange, boolean ignoreResponseBody)
+            throws IOException, ClassNotFoundException {
+        String contentType = null;
+        Header header = httpResponse.getFirstHeader("content-type");
+        if (header != null) {
+            contentType = header.getValue();
+        }
+        if (!ignoreResponseBody && httpResponse.getEntity() instanceof CachedEntity entity && !entity.isStreaming()
+                && !HttpConstants.CONTENT_TYPE_JAVA_SERIALIZED_OBJECT.equals(contentType)) {
+            // the response body has already been stream cached by the entity consumer
+            HttpHelper.setCharsetFromContentType(contentType, exchange);
+            return entity.getBody();
+        }
+        return super.extractResponseBody(httpResponse, exchange, ignoreResponseBody);
+    }
+
+    private static BasicClassicHttpResponse toClassicResponse(Message<HttpResponse, HttpEntity> message) {
+        HttpResponse response = message.getHead();
+        BasicClassicHttpResponse answer = new BasicClassicHttpResponse(response.getCode(), response.getReasonPhrase());
+        answer.setVersion(response.getVersion());
+        answer.setHeaders(response.getHeaders());
+        answer.setEntity(message.getBody());
+        return answer;
+    }
+
+    /**
+     * Consumes the response body into the stream cache (or a byte array if stream caching is disabled), so the response
+     * can be read after the connection has been released back to the pool.
+     * <p/>
+     * The data received by the I/O thread of the client is only queued, and written to the stream cache by a thread
+     * from the thread pool of the producer. The server is only allowed to send more data (HTTP/2 flow control, or
+     * reading from the socket with HTTP/1.1) when the queued data has been written.
+     */
+    private final class StreamCachingEntityConsumer implements AsyncEntityConsumer<HttpEntity> {
+
+        private final OutputStreamBuilder builder;
+        private final Lock lock = new ReentrantLock();
+        private final Deque<byte[]> chunks = new ArrayDeque<>();
+        private FutureCallback<HttpEntity> resultCallback;
+        private EntityDetails entityDetails;
+        private CapacityChannel capacityChannel;
+        private boolean draining;
+        private boolean end;
+        private boolean done;
+        private Exception cause;
+        private volatile HttpEntity content;
+
+        StreamCachingEntityConsumer(Exchange exchange) {
+            this.builder = OutputStreamBuilder.withExchange(exchange);
+        }
+
+        @Override
+        public void streamStart(EntityDetails entityDetails, FutureCallback<HttpEntity> resultCallback) {
+            lock.lock();
+            try {
+                this.entityDetails = entityDetails;
+                this.resultCallback = resultCallback;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+            lock.lock();
+            try {
+                if (!chunks.isEmpty()) {
+                    // more data is allowed when the queued data has been written
+                    this.capacityChannel = capacityChannel;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            capacityChannel.update(WINDOW_SIZE);
+        }
+
+        @Override
+        public void consume(ByteBuffer src) throws IOException {
+            byte[] chunk = new byte[src.remaining()];
+            src.get(chunk);
+            lock.lock();
+            try {
+                if (done) {
+                    // the response has failed so the data is discarded
+                    return;
+                }
+                chunks.add(chunk);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            } finally {
+                lock.unlock();
+            }
+            execute(this::drain);
+        }
+
+        @Override
+        public void streamEnd(List<? extends Header> trailers) throws IOException {
+            signal(null);
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            signal(cause);
+        }
+
+        private void signal(Exception cause) {
+            lock.lock();
+            try {
+                if (done || end) {
+                    return;
+                }
+                this.end = true;
+                this.cause = cause;
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            } finally {
+                lock.unlock();
+            }
+            execute(this::drain);
+        }
+
+        private void drain() {
+            while (true) {
+                byte[] chunk;
+                CapacityChannel channel = null;
+                boolean complete = false;
+                lock.lock();
+                try {
+                    chunk = chunks.poll();
+                    if (chunk == null) {
+                        channel = capacityChannel;
+                        capacityChannel = null;
+                        complete = end && !done;
+                        done |= complete;
+                        draining = false;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (chunk == null) {
+                    if (complete) {
+                        complete();
+                    } else if (channel != null) {
+                        grantCapacity(channel);
+                    }
+                    return;
+                }
+                try {
+                    if (cause == null) {
+                        builder.write(chunk);
+                    }
+                } catch (IOException e) {
+                    fail(e);
+                }
+            }
+        }
+
+        private void grantCapacity(CapacityChannel channel) {
+            try {
+                channel.update(WINDOW_SIZE);
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+
+        private void fail(Exception e) {
+            lock.lock();
+            try {
+                if (done) {
+                    return;
+                }
+                done = true;
+                chunks.clear();
+            } finally {
+                lock.unlock();
+            }
+            IOHelper.close(builder);
+            if (resultCallback != null) {
+                resultCallback.failed(e);
+            }
+        }
+
+        private void complete() {
+            if (cause != null) {
+                IOHelper.close(builder);
+                if (resultCallback != null) {
+                    resultCallback.failed(cause);
+                }
+                return;
+            }
+            try {
+                content = new CachedEntity(builder.build(), entityDetails.getContentType(),
+                        entityDetails.getContentEncoding(), entityDetails.isChunked());
+            } catch (IOException e) {
+                IOHelper.close(builder);
+                if (resultCallback != null) {
+                    resultCallback.failed(e);
+                }
+                return;
+            }
+            if (resultCallback != null) {
+                resultCallback.completed(content);
+            }
+        }
+
+        @Override
+        public HttpEntity getContent() {
+            return content;
+        }
+
+        @Override
+        public void releaseResources() {
+            // the cached content is released by the exchange
+        }
+    }
+
+    /**
+     * Writes a repeatable entity with a known length (a file or the stream cache) to the async client, without blocking
+     * the I/O thread of the client.
+     */
+    private static final class ContentEntityProducer implements AsyncEntityProducer {
+
+        private final HttpEntity entity;
+        private final ByteBuffer buffer = ByteBuffer.allocate(IOHelper.DEFAULT_BUFFER_SIZE);
+        private InputStream stream;
+        private boolean eof;
+
+        ContentEntityProducer(HttpEntity entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        @Override
+        public long getContentLength() {
+            return entity.getContentLength();
+        }
+
+        @Override
+        public String getContentType() {
+            return entity.getContentType();
+        }
+
+        @Override
+        public String getContentEncoding() {
+            return entity.getContentEncoding();
+        }
+
+        @Override
+        public boolean isChunked() {
+            return false;
+        }
+
+        @Override
+        public Set<String> getTrailerNames() {
+            return null;
+        }
+
+        @Override
+        public int available() {
+            return eof ? buffer.position() : buffer.capacity();
+        }
+
+        @Override
+        public void produce(DataStreamChannel channel) throws IOException {
+            if (stream == null) {
+                stream = entity.getContent();
+            }
+            if (!eof && buffer.hasRemaining()) {
+                int len = stream.read(buffer.array(), buffer.position(), buffer.remaining());
+                if (len < 0) {
+                    eof = true;
+                } else {
+                    buffer.position(buffer.position() + len);
+                }
+            }
+            buffer.flip();
+            if (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.compact();
+            if (eof && buffer.position() == 0) {
+                channel.endStream();
+                releaseResources();
+            }
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            releaseResources();
+        }
+
+        @Override
+        public void releaseResources() {
+            // the entity is repeatable so it can be produced again (such as when redirected)
+            IOHelper.close(stream);
+            stream = null;
+            eof = false;
+            buffer.clear();
+        }
+    }
+
+    /**
+     * A repeatable entity over a message body or response body which has been stream cached (or is a byte array if
+     * stream caching is disabled).
+     */
+    private static final class CachedEntity extends AbstractHttpEntity {
+
+        private final Object body;
+
+        CachedEntity(Object body, String contentType, String contentEncoding, boolean chunked) {
+            super(contentType, contentEncoding, chunked);
+            this.body = body;
+        }
+
+        Object getBody() {
+            return body;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            if (body instanceof StreamCache cache) {
+                cache.reset();
+                return (InputStream) cache;
+            }
+            return new ByteArrayInputStream((byte[]) body);
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        @Override
+        public long getContentLength() {
+            if (body instanceof StreamCache cache) {
+                return cache.length();
+            }
+            return ((byte[]) body).length;
+        }
+
+        @Override
+        public boolean isStreaming() {
+            // the content is encoded (such as gzip) when content compression is disabled, then the decoded content
+            // is stream cached by the producer
+            return getContentEncoding() != null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            // the cached content is released by the exchange
+        }
+    }
+}
@@ -49,6 +49,7 @@ import org.apache.camel.support.RestProducerFactoryHelper;
 import org.apache.camel.support.http.HttpUtil;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.PropertiesHelper;
@@ -57,18 +58,27 @@ import org.apache.camel.util.URISupport;
 import org.apache.camel.util.UnsafeUriCharactersEncoder;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
 import org.apache.hc.client5.http.cookie.CookieStore;
 import org.apache.hc.client5.http.impl.DefaultRedirectStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
 import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.client5.http.ssl.DefaultHostnameVerifier;
 import org.apache.hc.client5.http.ssl.HostnameVerificationPolicy;
 import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
 import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
 import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
 import org.apache.hc.core5.ssl.SSLContexts;
 import org.apache.hc.core5.util.TimeValue;
@@ -235,6 +245,10 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
               description = "Whether the Content-Type header should automatic include charset for string based content.")
     protected boolean contentTypeCharsetEnabled = true;
 
+    // the asynchronous client shared by the endpoints which use useAsyncClient
+    private AsyncClientConnectionManager asyncClientConnectionManager;
+    private CloseableHttpAsyncClient httpAsyncClient;
+
     public HttpComponent() {
     }
 
@@ -469,10 +483,20 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         String endpointUriString = endpointUri.toString();
 
         LOG.debug("Creating endpoint uri {}", endpointUriString);
+        // the asynchronous client of the component is shared, unless the endpoint configures the connections or the
+        // client itself, then it has its own connection manager, which is created from a copy of the parameters as the
+        // classic connection manager removes the connection parameters it uses
+        AsyncClientConnectionManager asyncConnectionManager = null;
+        if (getParameter(parameters, "useAsyncClient", boolean.class, false)
+                && (configurer != getHttpClientConfigurer() || isAsyncClientConfigured(httpClientParameters))) {
+            asyncConnectionManager = createAsyncConnectionManager(
+                    new HashMap<>(parameters), sslContextParameters, valConnectTimeout, valSoTimeout);
+        }
         final HttpClientConnectionManager localConnectionManager
                 = createConnectionManager(parameters, sslContextParameters, httpConnectionOptions);
         final HttpClientBuilder clientBuilder = createHttpClientBuilder(uri, parameters, httpClientOptions);
         HttpEndpoint endpoint = new HttpEndpoint(endpointUriString, this, clientBuilder, localConnectionManager, configurer);
+        endpoint.setAsyncClientConnectionManager(asyncConnectionManager);
         endpoint.setResponseTimeout(valResponseTimeout.toMilliseconds());
         endpoint.setSoTimeout(valSoTimeout.toMilliseconds());
         endpoint.setConnectTimeout(valConnectTimeout.toMilliseconds());
@@ -537,6 +561,84 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         return endpoint;
     }
 
+    private static boolean isAsyncClientConfigured(Map<String, Object> parameters) {
+        for (String key : new String[] {
+                "sslContextParameters", "x509HostnameVerifier", "hostnameVerificationPolicy", "httpVersionPolicy",
+                "maxTotalConnections", "connectionsPerRoute", "useSystemProperties", "connectTimeout", "soTimeout" }) {
+            if (parameters.containsKey(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the asynchronous client which is shared by the endpoints which use useAsyncClient (and do not configure the
+     * connections or the client themselves), so they share one set of I/O threads and one connection pool. The client
+     * is created from the configuration of this component when the first of these endpoints is started.
+     */
+    protected CloseableHttpAsyncClient getOrCreateHttpAsyncClient() throws GeneralSecurityException, IOException {
+        lock.lock();
+        try {
+            if (httpAsyncClient == null) {
+                SSLContextParameters sslContextParameters = getSslContextParameters();
+                if (sslContextParameters == null) {
+                    sslContextParameters = retrieveGlobalSslContextParameters();
+                }
+                asyncClientConnectionManager = createAsyncConnectionManager(new HashMap<>(), sslContextParameters,
+                        Timeout.ofMilliseconds(connectTimeout), Timeout.ofMilliseconds(soTimeout));
+                httpAsyncClient = createHttpAsyncClient(asyncClientConnectionManager);
+                httpAsyncClient.start();
+            }
+            return httpAsyncClient;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Factory method to create the asynchronous client which is shared by the endpoints. The options of the endpoints
+     * (such as timeouts, redirects, cookies and the user agent) are configured per request.
+     */
+    protected CloseableHttpAsyncClient createHttpAsyncClient(AsyncClientConnectionManager connectionManager) {
+        HttpAsyncClientBuilder builder = HttpAsyncClients.custom();
+        builder.setConnectionManager(connectionManager);
+        // the endpoints without a cookie store should not share cookies
+        builder.setDefaultCookieStore(new NoopCookieStore());
+        if (redirectHandlingDisabled) {
+            builder.disableRedirectHandling();
+        } else {
+            builder.setRedirectStrategy(DefaultRedirectStrategy.INSTANCE);
+        }
+        if (automaticRetriesDisabled) {
+            builder.disableAutomaticRetries();
+        }
+        if (contentCompressionDisabled) {
+            builder.disableContentCompression();
+        }
+        if (cookieManagementDisabled) {
+            builder.disableCookieManagement();
+        }
+        if (authCachingDisabled) {
+            builder.disableAuthCaching();
+        }
+        if (connectionStateDisabled) {
+            builder.disableConnectionState();
+        }
+        if (useSystemProperties) {
+            builder.useSystemProperties();
+        }
+        if (httpClientConfigurer != null) {
+            httpClientConfigurer.configureHttpAsyncClient(builder);
+        }
+        builder.addRequestInterceptorLast(HttpEndpoint.createActivityRequestInterceptor());
+        builder.addResponseInterceptorFirst(HttpEndpoint.createActivityResponseInterceptor());
+
+        LOG.debug("Setup the shared HttpAsyncClientBuilder {}", builder);
+
+        return builder.build();
+    }
+
     protected HttpClientConnectionManager createConnectionManager(
             final Map<String, Object> parameters,
             final SSLContextParameters sslContextParameters, Map<String, Object> httpConnectionOptions)
@@ -619,16 +721,66 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
             HostnameVerifier x509HostnameVerifier, HostnameVerificationPolicy hostnameVerificationPolicy,
             SSLContextParameters sslContextParams, boolean useSystemProperties)
             throws GeneralSecurityException, IOException {
-        SSLContext sslContext = sslContextParams != null
-                ? sslContextParams.createSSLContext(getCamelContext())
-                : (useSystemProperties ? SSLContexts.createSystemDefault() : SSLContexts.createDefault());
         return ClientTlsStrategyBuilder.create()
-                .setSslContext(sslContext)
+                .setSslContext(createSSLContext(sslContextParams, useSystemProperties))
                 .setHostnameVerifier(x509HostnameVerifier)
                 .setHostVerificationPolicy(hostnameVerificationPolicy)
                 .buildClassic();
     }
 
+    private SSLContext createSSLContext(SSLContextParameters sslContextParams, boolean useSystemProperties)
+            throws GeneralSecurityException, IOException {
+        return sslContextParams != null
+                ? sslContextParams.createSSLContext(getCamelContext())
+                : (useSystemProperties ? SSLContexts.createSystemDefault() : SSLContexts.createDefault());
+    }
+
+    protected AsyncClientConnectionManager createAsyncConnectionManager(
+            final Map<String, Object> parameters, final SSLContextParameters sslContextParameters,
+            final Timeout connectTimeout, final Timeout socketTimeout)
+            throws GeneralSecurityException, IOException {
+        final HostnameVerifier resolvedHostnameVerifier
+                = resolveAndRemoveReferenceParameter(parameters, "x509HostnameVerifier", HostnameVerifier.class);
+        final HostnameVerifier hostnameVerifier = Optional.ofNullable(resolvedHostnameVerifier).orElse(x509HostnameVerifier);
+        final HostnameVerificationPolicy resolvedPolicy
+                = getAndRemoveParameter(parameters, "hostnameVerificationPolicy", HostnameVerificationPolicy.class,
+                        hostnameVerificationPolicy);
+        final HttpVersionPolicy versionPolicy
+                = getAndRemoveParameter(parameters, "httpVersionPolicy", HttpVersionPolicy.class, HttpVersionPolicy.NEGOTIATE);
+        final int maxTotalConnections
+                = getAndRemoveParameter(parameters, "maxTotalConnections", int.class, getMaxTotalConnections());
+        final int connectionsPerRoute
+                = getAndRemoveParameter(parameters, "connectionsPerRoute", int.class, getConnectionsPerRoute());
+        final boolean sysProp = getParameter(parameters, "useSystemProperties", boolean.class, useSystemProperties);
+
+        final TlsStrategy tlsStrategy = ClientTlsStrategyBuilder.create()
+                .setSslContext(createSSLContext(sslContextParameters, sysProp))
+                .setHostnameVerifier(hostnameVerifier)
+                .setHostVerificationPolicy(resolvedPolicy)
+                .buildAsync();
+        ConnectionConfig connConfig = ConnectionConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(socketTimeout)
+                .setTimeToLive(TimeValue.ofMilliseconds(getConnectionTimeToLive()))
+                .build();
+        PoolingAsyncClientConnectionManagerBuilder builder = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setTlsStrategy(tlsStrategy)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setDefaultConnectionConfig(connConfig)
+                .setDefaultTlsConfig(TlsConfig.custom().setVersionPolicy(versionPolicy).build());
+        if (maxTotalConnections > 0) {
+            builder.setMaxConnTotal(maxTotalConnections);
+        }
+        if (connectionsPerRoute > 0) {
+            builder.setMaxConnPerRoute(connectionsPerRoute);
+        }
+
+        PoolingAsyncClientConnectionManager answer = builder.build();
+        LOG.debug("Created AsyncClientConnectionManager {}", answer);
+
+        return answer;
+    }
+
     protected HttpClientConnectionManager createConnectionManager(
             TlsSocketStrategy tlsStrategy,
             int maxTotalConnections, int connectionsPerRoute, SocketConfig defaultSocketConfig) {
@@ -742,6 +894,13 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         this.httpClientConfigurer = httpClientConfigurer;
     }
 
+    /**
+     * The connection manager of the asynchronous client which is shared by the endpoints (if created).
+     */
+    public AsyncClientConnectionManager getAsyncClientConnectionManager() {
+        return asyncClientConnectionManager;
+    }
+
     public HttpClientConnectionManager getClientConnectionManager() {
         return clientConnectionManager;
     }
@@ -1184,6 +1343,13 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
             clientConnectionManager.close();
             clientConnectionManager = null;
         }
+        // shutdown the shared asynchronous client, which also closes its connection manager
+        if (httpAsyncClient != null) {
+            LOG.info("Shutting down HttpAsyncClient: {}", httpAsyncClient);
+            IOHelper.close(httpAsyncClient);
+            httpAsyncClient = null;
+            asyncClientConnectionManager = null;
+        }
         ServiceHelper.stopService(httpActivityListener);
 
         super.doStop();
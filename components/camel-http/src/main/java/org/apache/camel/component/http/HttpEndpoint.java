@@ -49,8 +49,12 @@ import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.cookie.BasicCookieStore;
 import org.apache.hc.client5.http.cookie.CookieStore;
 import org.apache.hc.client5.http.impl.DefaultRedirectStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
 import org.apache.hc.client5.http.ssl.HostnameVerificationPolicy;
 import org.apache.hc.core5.http.EntityDetails;
 import org.apache.hc.core5.http.HttpEntity;
@@ -61,8 +65,10 @@ import org.apache.hc.core5.http.HttpRequestInterceptor;
 import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.HttpResponseInterceptor;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
 import org.apache.hc.core5.pool.ConnPoolControl;
 import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -79,6 +85,9 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
 
     private static final Logger LOG = LoggerFactory.getLogger(HttpEndpoint.class);
 
+    // the activity listener of the endpoint, when the asynchronous client is shared by the endpoints of the component
+    static final String HTTP_ACTIVITY_LISTENER = "org.apache.camel.component.http.HttpActivityListener";
+
     private int lineNumber;
     private String location;
 
@@ -198,6 +207,22 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
     @UriParam(label = "producer,advanced", defaultValue = "true",
               description = "Whether the Content-Type header should automatic include charset for string based content.")
     private boolean contentTypeCharsetEnabled = true;
+    @UriParam(label = "producer,advanced",
+              description = "Whether the producer should use the asynchronous Apache HTTP Client 5.x instead of the classic"
+                            + " blocking client. The asynchronous client does not block the calling thread while waiting"
+                            + " for the response, and supports HTTP/2 (see httpVersionPolicy)."
+                            + " OAuth2 authentication is not supported with the asynchronous client.")
+    private boolean useAsyncClient;
+    @UriParam(label = "producer,advanced", defaultValue = "NEGOTIATE", enums = "NEGOTIATE,FORCE_HTTP_1,FORCE_HTTP_2",
+              description = "The HTTP protocol version policy to use when useAsyncClient is enabled."
+                            + " NEGOTIATE (default) uses TLS ALPN to negotiate HTTP/2 with secure servers, and falls back to HTTP/1.1."
+                            + " FORCE_HTTP_1 always uses HTTP/1.1. FORCE_HTTP_2 always uses HTTP/2, where requests to the same"
+                            + " host are multiplexed over a single connection.")
+    private HttpVersionPolicy httpVersionPolicy = HttpVersionPolicy.NEGOTIATE;
+    private AsyncClientConnectionManager asyncClientConnectionManager;
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private boolean sharedAsyncClient;
+    private RequestConfig asyncRequestConfig;
 
     public HttpEndpoint() {
     }
@@ -228,6 +253,9 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
 
     @Override
     public Producer createProducer() throws Exception {
+        if (useAsyncClient) {
+            return new HttpAsyncProducer(this);
+        }
         return new HttpProducer(this);
     }
 
@@ -267,6 +295,30 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
         }
     }
 
+    /**
+     * The asynchronous client used by the producer when {@link #isUseAsyncClient()} is enabled, which is created when
+     * this endpoint is started.
+     */
+    public CloseableHttpAsyncClient getHttpAsyncClient() {
+        return httpAsyncClient;
+    }
+
+    /**
+     * Whether the asynchronous client (and its I/O threads and connection pool) is shared with the other endpoints of
+     * the component, which is the case when this endpoint does not configure the connections or the client itself.
+     */
+    public boolean isSharedAsyncClient() {
+        return sharedAsyncClient;
+    }
+
+    /**
+     * The request configuration (timeouts and redirects) of this endpoint, to use per request with the shared
+     * asynchronous client.
+     */
+    RequestConfig getAsyncRequestConfig() {
+        return asyncRequestConfig;
+    }
+
     /**
      * Factory method to create a new {@link HttpClient} instance
      * <p/>
@@ -362,6 +414,135 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
         return clientBuilder.build();
     }
 
+    /**
+     * Factory method to create a new {@link CloseableHttpAsyncClient} instance, which is used by the producer when
+     * {@link #isUseAsyncClient()} is enabled and this endpoint configures the connections or the client itself
+     * (otherwise the client of the component is shared).
+     * <p/>
+     * Producers should use the {@link #getHttpAsyncClient()} method instead.
+     */
+    protected CloseableHttpAsyncClient createHttpAsyncClient() {
+        ObjectHelper.notNull(asyncClientConnectionManager, "asyncClientConnectionManager");
+
+        HttpAsyncClientBuilder builder = HttpAsyncClients.custom();
+        builder.setConnectionManager(asyncClientConnectionManager);
+        if (isBridgeEndpoint()) {
+            // need to use noop cookiestore as we do not want to keep cookies in memory
+            builder.setDefaultCookieStore(new NoopCookieStore());
+        } else {
+            builder.setDefaultCookieStore(cookieStore);
+        }
+        builder.setDefaultRequestConfig(createAsyncRequestConfig(false));
+
+        HttpComponent component = getComponent();
+        if (component != null) {
+            if (component.isRedirectHandlingDisabled() || !isFollowRedirects()) {
+                builder.disableRedirectHandling();
+            }
+            if (component.isAutomaticRetriesDisabled()) {
+                builder.disableAutomaticRetries();
+            }
+            if (component.isContentCompressionDisabled()) {
+                builder.disableContentCompression();
+            }
+            if (component.isCookieManagementDisabled()) {
+                builder.disableCookieManagement();
+            }
+            if (component.isAuthCachingDisabled()) {
+                builder.disableAuthCaching();
+            }
+            if (component.isConnectionStateDisabled()) {
+                builder.disableConnectionState();
+            }
+        } else if (!isFollowRedirects()) {
+            builder.disableRedirectHandling();
+        }
+        if (isFollowRedirects()) {
+            builder.setRedirectStrategy(DefaultRedirectStrategy.INSTANCE);
+        }
+
+        if (useSystemProperties) {
+            builder.useSystemProperties();
+        }
+        String userAgent = getUserAgent();
+        if (userAgent != null) {
+            builder.setUserAgent(userAgent);
+        }
+
+        HttpClientConfigurer configurer = getHttpClientConfigurer();
+        if (configurer != null) {
+            configurer.configureHttpAsyncClient(builder);
+        }
+
+        if (httpActivityListener != null) {
+            builder.addRequestInterceptorLast(createActivityRequestInterceptor());
+            builder.addResponseInterceptorFirst(createActivityResponseInterceptor());
+        }
+
+        LOG.debug("Setup the HttpAsyncClientBuilder {}", builder);
+
+        return builder.build();
+    }
+
+    private RequestConfig createAsyncRequestConfig(boolean redirects) {
+        RequestConfig.Builder requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout));
+        if (responseTimeout > 0) {
+            requestConfig.setResponseTimeout(Timeout.ofMilliseconds(responseTimeout));
+        }
+        if (redirects) {
+            requestConfig.setRedirectsEnabled(isFollowRedirects());
+        }
+        return requestConfig.build();
+    }
+
+    /**
+     * The activity listener is looked up from the context of the request, as the asynchronous client can be shared by
+     * the endpoints of the component.
+     */
+    static HttpRequestInterceptor createActivityRequestInterceptor() {
+        return new HttpRequestInterceptor() {
+            @Override
+            public void process(HttpRequest request, EntityDetails entity, HttpContext context)
+                    throws HttpException, IOException {
+                HttpActivityListener listener = (HttpActivityListener) context.getAttribute(HTTP_ACTIVITY_LISTENER);
+                if (listener == null) {
+                    return;
+                }
+                Exchange exchange = (Exchange) context.getAttribute("org.apache.camel.Exchange");
+                HttpHost host = (HttpHost) context.getAttribute("org.apache.hc.core5.http.HttpHost");
+                context.setAttribute("org.apache.camel.util.StopWatch", new StopWatch());
+                listener.onRequestSubmitted(this, exchange, host, request, toHttpEntity(entity));
+            }
+        };
+    }
+
+    static HttpResponseInterceptor createActivityResponseInterceptor() {
+        return new HttpResponseInterceptor() {
+            @Override
+            public void process(HttpResponse response, EntityDetails entity, HttpContext context)
+                    throws HttpException, IOException {
+                HttpActivityListener listener = (HttpActivityListener) context.getAttribute(HTTP_ACTIVITY_LISTENER);
+                if (listener == null) {
+                    return;
+                }
+                long elapsed = -1;
+                StopWatch watch = (StopWatch) context.removeAttribute("org.apache.camel.util.StopWatch");
+                if (watch != null) {
+                    elapsed = watch.taken();
+                }
+                Exchange exchange = (Exchange) context.getAttribute("org.apache.camel.Exchange");
+                HttpHost host = (HttpHost) context.getAttribute("org.apache.hc.core5.http.HttpHost");
+                listener.onResponseReceived(this, exchange, host, response, toHttpEntity(entity), elapsed);
+            }
+        };
+    }
+
+    private static HttpEntity toHttpEntity(EntityDetails entity) {
+        // the asynchronous client only provides the entity details (and not the entity)
+        return entity instanceof HttpEntity he ? he : null;
+    }
+
     @Override
     public HttpComponent getComponent() {
         return (HttpComponent) super.getComponent();
@@ -375,6 +556,20 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
         }
         CamelContextAware.trySetCamelContext(httpActivityListener, getCamelContext());
         ServiceHelper.startService(httpActivityListener, httpClientConfigurer);
+        if (useAsyncClient) {
+            HttpComponent component = getComponent();
+            if (asyncClientConnectionManager == null && component != null
+                    && (httpClientConfigurer == null || httpClientConfigurer == component.getHttpClientConfigurer())) {
+                // share the client (and its I/O threads and connection pool) of the component
+                httpAsyncClient = component.getOrCreateHttpAsyncClient();
+                asyncClientConnectionManager = component.getAsyncClientConnectionManager();
+                asyncRequestConfig = createAsyncRequestConfig(!component.isRedirectHandlingDisabled());
+                sharedAsyncClient = true;
+            } else {
+                httpAsyncClient = createHttpAsyncClient();
+                httpAsyncClient.start();
+            }
+        }
     }
 
     @Override
@@ -386,6 +581,20 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
         if (httpClient instanceof Closeable closeable) {
             IOHelper.close(closeable);
         }
+        if (sharedAsyncClient) {
+            // the shared client is closed by the component
+            httpAsyncClient = null;
+            asyncClientConnectionManager = null;
+            asyncRequestConfig = null;
+            sharedAsyncClient = false;
+        }
+        if (httpAsyncClient != null) {
+            IOHelper.close(httpAsyncClient);
+            httpAsyncClient = null;
+        }
+        if (asyncClientConnectionManager != null) {
+            IOHelper.close(asyncClientConnectionManager);
+        }
         ServiceHelper.stopService(httpActivityListener, httpClientConfigurer);
         super.doStop();
     }
@@ -809,12 +1018,44 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
         this.contentTypeCharsetEnabled = contentTypeCharsetEnabled;
     }
 
+    public boolean isUseAsyncClient() {
+        return useAsyncClient;
+    }
+
+    /**
+     * Whether the producer should use the asynchronous Apache HTTP Client 5.x instead of the classic blocking client.
+     * The asynchronous client does not block the calling thread while waiting for the response, and supports HTTP/2.
+     */
+    public void setUseAsyncClient(boolean useAsyncClient) {
+        this.useAsyncClient = useAsyncClient;
+    }
+
+    public HttpVersionPolicy getHttpVersionPolicy() {
+        return httpVersionPolicy;
+    }
+
+    /**
+     * The HTTP protocol version policy to use when useAsyncClient is enabled. NEGOTIATE (default) uses TLS ALPN to
+     * negotiate HTTP/2 with secure servers. FORCE_HTTP_1 always uses HTTP/1.1, and FORCE_HTTP_2 always uses HTTP/2.
+     */
+    public void setHttpVersionPolicy(HttpVersionPolicy httpVersionPolicy) {
+        this.httpVersionPolicy = httpVersionPolicy;
+    }
+
+    public AsyncClientConnectionManager getAsyncClientConnectionManager() {
+        return asyncClientConnectionManager;
+    }
+
+    /**
+     * The connection manager used by the asynchronous client when useAsyncClient is enabled.
+     */
+    public void setAsyncClientConnectionManager(AsyncClientConnectionManager asyncClientConnectionManager) {
+        this.asyncClientConnectionManager = asyncClientConnectionManager;
+    }
+
     @ManagedAttribute(description = "Maximum number of allowed persistent connections")
     public int getClientConnectionsPoolStatsMax() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl<?> connPoolControl) {
-            pool = connPoolControl;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -826,10 +1067,7 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
 
     @ManagedAttribute(description = "Number of available idle persistent connections")
     public int getClientConnectionsPoolStatsAvailable() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl<?> connPoolControl) {
-            pool = connPoolControl;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -841,10 +1079,7 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
 
     @ManagedAttribute(description = "Number of persistent connections tracked by the connection manager currently being used to execute requests")
     public int getClientConnectionsPoolStatsLeased() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl<?> connPoolControl) {
-            pool = connPoolControl;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -857,10 +1092,7 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
     @ManagedAttribute(description = "Number of connection requests being blocked awaiting a free connection."
                                     + " This can happen only if there are more worker threads contending for fewer connections.")
     public int getClientConnectionsPoolStatsPending() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl<?> connPoolControl) {
-            pool = connPoolControl;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -870,4 +1102,13 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
         return -1;
     }
 
+    private ConnPoolControl<?> getConnPoolControl() {
+        // the asynchronous client has its own connection manager
+        Object manager = useAsyncClient ? asyncClientConnectionManager : clientConnectionManager;
+        if (manager instanceof ConnPoolControl<?> connPoolControl) {
+            return connPoolControl;
+        }
+        return null;
+    }
+
 }
@@ -54,6 +54,7 @@ import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.GZIPHelper;
 import org.apache.camel.support.MessageHelper;
 import org.apache.camel.support.ObjectHelper;
+import org.apache.camel.support.PluginHelper;
 import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.support.builder.OutputStreamBuilder;
 import org.apache.camel.support.http.HttpUtil;
@@ -152,6 +153,34 @@ public class HttpProducer extends DefaultProducer implements LineNumberAware {
 
     @Override
     public void process(Exchange exchange) throws Exception {
+        HttpUriRequest httpRequest = createRequest(exchange);
+        HttpHost httpHost = createHost(httpRequest);
+
+        // lets store the result in the output message.
+        try {
+            executeMethod(exchange,
+                    httpHost, httpRequest,
+                    httpResponse -> {
+                        handleResponse(exchange, httpRequest, httpResponse);
+                        return null;
+                    });
+        } catch (RuntimeCamelException e) {
+            if (e.getCause() instanceof Exception ex) {
+                // Rethrow the embedded exception to simulate the same behavior as with version 4
+                throw ex;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Creates the request to send to the remote server, with the HTTP headers and cookies from the exchange.
+     *
+     * @param  exchange  the exchange
+     * @return           the request
+     * @throws Exception is thrown if error creating the request
+     */
+    protected HttpUriRequest createRequest(Exchange exchange) throws Exception {
         boolean cookies = !getEndpoint().getComponent().isCookieManagementDisabled();
         if (cookies && getEndpoint().isClearExpiredCookies() && !getEndpoint().isBridgeEndpoint()) {
             // create the cookies before the invocation
@@ -171,7 +200,6 @@ public class HttpProducer extends DefaultProducer implements LineNumberAware {
         }
 
         HttpUriRequest httpRequest = createMethod(exchange);
-        HttpHost httpHost = createHost(httpRequest);
 
         Message in = exchange.getIn();
         String httpProtocolVersion = null;
@@ -246,94 +274,92 @@ public class HttpProducer extends DefaultProducer implements LineNumberAware {
         if (getEndpoint().isConnectionClose()) {
             httpRequest.addHeader("Connection", HeaderElements.CLOSE);
         }
+        return httpRequest;
+    }
 
-        // lets store the result in the output message.
+    /**
+     * Handles the response from the remote server, by populating the exchange with the response, or with an
+     * {@link HttpOperationFailedException} if the response code is not OK (when throwExceptionOnFailure is enabled).
+     *
+     * @param  exchange      the exchange
+     * @param  httpRequest   the request that was sent
+     * @param  httpResponse  the response
+     * @throws IOException   is thrown if error reading the response
+     * @throws HttpException is thrown if the response is invalid
+     */
+    protected void handleResponse(Exchange exchange, HttpUriRequest httpRequest, ClassicHttpResponse httpResponse)
+            throws IOException, HttpException {
+        HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
         try {
-            executeMethod(exchange,
-                    httpHost, httpRequest,
-                    httpResponse -> {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getUri());
+            }
+            int responseCode = httpResponse.getCode();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Http responseCode: {}", responseCode);
+            }
+            // httpclient 5.6+ auto-decompresses but no longer removes the stale
+            // Content-Encoding, Content-Length, and Content-MD5 headers.
+            // Strip them here to restore the 5.5.2 invariant for all downstream code.
+            removeStaleCompressionHeaders(httpResponse);
+            if (!throwException) {
+                // if we do not use failed exception then populate response for all response codes
+                populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
+            } else {
+                boolean ok;
+                if (minOkRange > 0) {
+                    ok = responseCode >= minOkRange && responseCode <= maxOkRange;
+                } else {
+                    ok = HttpHelper.isStatusCodeOk(responseCode, getEndpoint().getOkStatusCodeRange());
+                }
+                if (ok) {
+                    // only populate response for OK response
+                    populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
+                } else {
+                    // also store response code when throwing exception
+                    populateResponseCode(exchange.getMessage(), httpResponse, responseCode);
+
+                    // operation failed so populate exception to throw
+                    throw populateHttpOperationFailedException(exchange, httpRequest, httpResponse, responseCode);
+                }
+            }
+        } catch (IOException | HttpException | RuntimeCamelException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeCamelException(e);
+        } finally {
+            if (httpResponse != null && getEndpoint().isDisableStreamCache()) {
+                // close the stream at the end of the exchange to ensure it gets eventually closed later
+                exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+                    @Override
+                    public void onDone(Exchange exchange1) {
                         try {
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getUri());
-                            }
-                            int responseCode = httpResponse.getCode();
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Http responseCode: {}", responseCode);
-                            }
-                            // httpclient 5.6+ auto-decompresses but no longer removes the stale
-                            // Content-Encoding, Content-Length, and Content-MD5 headers.
-                            // Strip them here to restore the 5.5.2 invariant for all downstream code.
-                            removeStaleCompressionHeaders(httpResponse);
-                            if (!throwException) {
-                                // if we do not use failed exception then populate response for all response codes
-                                HttpProducer.this.populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
-                            } else {
-                                boolean ok;
-                                if (minOkRange > 0) {
-                                    ok = responseCode >= minOkRange && responseCode <= maxOkRange;
-                                } else {
-                                    ok = HttpHelper.isStatusCodeOk(responseCode,
-                                            HttpProducer.this.getEndpoint().getOkStatusCodeRange());
-                                }
-                                if (ok) {
-                                    // only populate response for OK response
-                                    HttpProducer.this.populateResponse(exchange, httpRequest, httpResponse, strategy,
-                                            responseCode);
-                                } else {
-                                    // also store response code when throwing exception
-                                    populateResponseCode(exchange.getMessage(), httpResponse, responseCode);
-
-                                    // operation failed so populate exception to throw
-                                    throw HttpProducer.this.populateHttpOperationFailedException(exchange, httpRequest,
-                                            httpResponse, responseCode);
-                                }
-                            }
-                        } catch (IOException | HttpException | RuntimeCamelException e) {
-                            throw e;
+                            EntityUtils.consume(httpResponse.getEntity());
                         } catch (Exception e) {
-                            throw new RuntimeCamelException(e);
+                            // ignore
                         } finally {
-                            if (httpResponse != null && HttpProducer.this.getEndpoint().isDisableStreamCache()) {
-                                // close the stream at the end of the exchange to ensure it gets eventually closed later
-                                exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
-                                    @Override
-                                    public void onDone(Exchange exchange1) {
-                                        try {
-                                            EntityUtils.consume(httpResponse.getEntity());
-                                        } catch (Exception e) {
-                                            // ignore
-                                        } finally {
-                                            try {
-                                                EntityUtils.consume(httpRequest.getEntity());
-                                            } catch (Exception e) {
-                                                // ignore
-                                            }
-                                        }
-                                    }
-                                });
-                            } else if (httpResponse != null) {
-                                // close the stream now
-                                try {
-                                    EntityUtils.consume(httpResponse.getEntity());
-                                } catch (Exception e) {
-                                    // ignore
-                                } finally {
-                                    try {
-                                        EntityUtils.consume(httpRequest.getEntity());
-                                    } catch (Exception e) {
-                                        // ignore
-                                    }
-                                }
+                            try {
+                                EntityUtils.consume(httpRequest.getEntity());
+                            } catch (Exception e) {
+                                // ignore
                             }
                         }
-                        return null;
-                    });
-        } catch (RuntimeCamelException e) {
-            if (e.getCause() instanceof Exception ex) {
-                // Rethrow the embedded exception to simulate the same behavior as with version 4
-                throw ex;
+                    }
+                });
+            } else if (httpResponse != null) {
+                // close the stream now
+                try {
+                    EntityUtils.consume(httpResponse.getEntity());
+                } catch (Exception e) {
+                    // ignore
+                } finally {
+                    try {
+                        EntityUtils.consume(httpRequest.getEntity());
+                    } catch (Exception e) {
+                        // ignore
+                    }
+                }
             }
-            throw e;
         }
     }
 
@@ -616,7 +642,7 @@ public class HttpProducer extends DefaultProducer implements LineNumberAware {
         // As httpclient is using a AutoCloseInputStream, it will be closed when the connection is closed
         // we need to cache the stream for it.
         OutputStreamBuilder osb = OutputStreamBuilder.withExchange(exchange);
-        IOHelper.copy(is, osb);
+        PluginHelper.getBufferPool(exchange.getContext()).copy(is, osb, IOHelper.DEFAULT_BUFFER_SIZE);
         return osb.build();
     }
 
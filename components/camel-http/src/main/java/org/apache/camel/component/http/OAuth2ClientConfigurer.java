@@ -32,6 +32,7 @@ import org.apache.camel.util.json.JsonObject;
 import org.apache.camel.util.json.Jsoner;
 import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.EntityDetails;
@@ -102,6 +103,13 @@ public class OAuth2ClientConfigurer extends ServiceSupport implements HttpClient
         });
     }
 
+    @Override
+    public void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+        // the access token is requested using a blocking http client from within the request interceptor,
+        // which must not be done on the I/O threads of the asynchronous client (this fails the endpoint when started)
+        throw new IllegalArgumentException("OAuth2 authentication cannot be used together with useAsyncClient=true");
+    }
+
     private JsonObject getAccessTokenResponse(HttpClient httpClient) throws IOException {
         String bodyStr = "grant_type=client_credentials";
         if (scope != null) {
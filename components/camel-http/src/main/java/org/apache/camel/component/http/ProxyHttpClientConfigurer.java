@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 import org.apache.hc.client5.http.auth.Credentials;
 import org.apache.hc.client5.http.auth.NTCredentials;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.core5.http.HttpHost;
 
@@ -89,4 +90,25 @@ public class ProxyHttpClientConfigurer implements HttpClientConfigurer {
                     .getCredentialsProvider(host, port, defaultcreds));
         }
     }
+
+    @Override
+    public void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+        HttpHost proxy = new HttpHost(scheme, host, port);
+        if (nonProxyHosts.isEmpty()) {
+            clientBuilder.setProxy(proxy);
+        } else {
+            clientBuilder.setRoutePlanner(new CamelProxyRoutePlanner(proxy, nonProxyHosts));
+        }
+
+        if (username != null && password != null) {
+            Credentials defaultcreds;
+            if (domain != null) {
+                defaultcreds = new NTCredentials(username, password, ntHost, domain);
+            } else {
+                defaultcreds = new UsernamePasswordCredentials(username, password);
+            }
+            clientBuilder.setDefaultCredentialsProvider(credentialsHelper
+                    .getCredentialsProvider(host, port, defaultcreds));
+        }
+    }
 }
@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.http.base.HttpOperationFailedException;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.impl.bootstrap.HttpServer;
+import org.apache.hc.core5.http.impl.bootstrap.ServerBootstrap;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.nio.AsyncRequestConsumer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.StringAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit6.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpAsyncProducerTest extends BaseHttpTest {
+
+    private static final int LARGE_SIZE = 1024 * 1024;
+
+    private HttpServer localServer;
+    private HttpAsyncServer h2Server;
+
+    private String endpointUrl;
+    private String h2EndpointUrl;
+
+    @Override
+    public void setupResources() throws Exception {
+        localServer = ServerBootstrap.bootstrap()
+                .setCanonicalHostName("localhost").setHttpProcessor(getBasicHttpProcessor())
+                .setConnectionReuseStrategy(getConnectionReuseStrategy()).setResponseFactory(getHttpResponseFactory())
+                .setSslContext(getSSLContext())
+                .register("/echo", (request, response, context) -> {
+                    String body = EntityUtils.toString(request.getEntity(), StandardCharsets.UTF_8);
+                    response.setEntity(new StringEntity("Bye " + body, StandardCharsets.UTF_8));
+                    response.setCode(HttpStatus.SC_OK);
+                })
+                .register("/fail", (request, response, context) -> {
+                    response.setEntity(new StringEntity("Not found", StandardCharsets.UTF_8));
+                    response.setCode(HttpStatus.SC_NOT_FOUND);
+                })
+                .register("/length", (request, response, context) -> {
+                    EntityUtils.consume(request.getEntity());
+                    String length = request.containsHeader("Transfer-Encoding")
+                            ? "chunked" : request.getFirstHeader("Content-Length").getValue();
+                    response.setEntity(new StringEntity(length, StandardCharsets.UTF_8));
+                    response.setCode(HttpStatus.SC_OK);
+                })
+                .register("/large", (request, response, context) -> {
+                    response.setEntity(new StringEntity("x".repeat(LARGE_SIZE), StandardCharsets.UTF_8));
+                    response.setCode(HttpStatus.SC_OK);
+                }).create();
+        localServer.start();
+
+        endpointUrl = "http://localhost:" + localServer.getLocalPort();
+
+        // HTTP/2 (without TLS) server which returns the protocol version of the request
+        h2Server = H2ServerBootstrap.bootstrap()
+                .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_2)
+                .register("/version", new AsyncServerRequestHandler<Message<HttpRequest, String>>() {
+                    @Override
+                    public AsyncRequestConsumer<Message<HttpRequest, String>> prepare(
+                            HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+                        return new BasicRequestConsumer<>(new StringAsyncEntityConsumer());
+                    }
+
+                    @Override
+                    public void handle(
+                            Message<HttpRequest, String> message, ResponseTrigger responseTrigger, HttpContext context)
+                            throws HttpException, IOException {
+                        String version = message.getHead().getVersion().format();
+                        responseTrigger.submitResponse(new BasicResponseProducer(HttpStatus.SC_OK, version), context);
+                    }
+                }).create();
+        h2Server.start();
+        ListenerEndpoint listener = h2Server.listen(new InetSocketAddress(0), URIScheme.HTTP).get();
+        h2EndpointUrl = "http://localhost:" + ((InetSocketAddress) listener.getAddress()).getPort();
+    }
+
+    @Override
+    public void cleanupResources() throws Exception {
+        if (localServer != null) {
+            localServer.stop();
+        }
+        if (h2Server != null) {
+            h2Server.close(CloseMode.GRACEFUL);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:echo")
+                        .to(endpointUrl + "/echo?useAsyncClient=true")
+                        .process(e -> e.getMessage().setHeader("thread", Thread.currentThread().getName()));
+            }
+        };
+    }
+
+    @Test
+    public void testAsyncProducer() {
+        HttpEndpoint endpoint = context.getEndpoint(endpointUrl + "/echo?useAsyncClient=true", HttpEndpoint.class);
+        assertTrue(endpoint.isUseAsyncClient());
+        assertNotNull(endpoint.getAsyncClientConnectionManager());
+        // the endpoints of the component share the same client
+        assertTrue(endpoint.isSharedAsyncClient());
+        HttpEndpoint other = context.getEndpoint(endpointUrl + "/fail?useAsyncClient=true", HttpEndpoint.class);
+        assertSame(endpoint.getHttpAsyncClient(), other.getHttpAsyncClient());
+        assertSame(endpoint.getComponent().getAsyncClientConnectionManager(), other.getAsyncClientConnectionManager());
+
+        Exchange out = template.request(endpoint, exchange -> exchange.getIn().setBody("World"));
+
+        assertNotNull(out);
+        assertFalse(out.isFailed(), "Should not fail");
+        assertEquals(200, out.getMessage().getHeader(HttpConstants.HTTP_RESPONSE_CODE));
+        assertEquals("Bye World", out.getMessage().getBody(String.class));
+    }
+
+    @Test
+    public void testAsyncProducerStreamingBody() {
+        Exchange out = template.request(endpointUrl + "/echo?useAsyncClient=true",
+                exchange -> exchange.getIn().setBody(new ByteArrayInputStream("Camel".getBytes(StandardCharsets.UTF_8))));
+
+        assertNotNull(out);
+        assertFalse(out.isFailed(), "Should not fail");
+        assertEquals("Bye Camel", out.getMessage().getBody(String.class));
+    }
+
+    @Test
+    public void testAsyncProducerFailure() {
+        Exchange out = template.request(endpointUrl + "/fail?useAsyncClient=true",
+                exchange -> exchange.getIn().setBody("World"));
+
+        assertNotNull(out);
+        assertTrue(out.isFailed(), "Should fail");
+        HttpOperationFailedException cause = assertIsInstanceOf(HttpOperationFailedException.class, out.getException());
+        assertEquals(404, cause.getStatusCode());
+        assertEquals("Not found", cause.getResponseBody());
+    }
+
+    @Test
+    public void testAsyncProducerOwnClient() {
+        String uri = endpointUrl + "/echo?useAsyncClient=true&connectionsPerRoute=5";
+        HttpEndpoint endpoint = context.getEndpoint(uri, HttpEndpoint.class);
+        assertFalse(endpoint.isSharedAsyncClient());
+        assertNotSame(endpoint.getComponent().getAsyncClientConnectionManager(),
+                endpoint.getAsyncClientConnectionManager());
+
+        Exchange out = template.request(endpoint, exchange -> exchange.getIn().setBody("World"));
+
+        assertFalse(out.isFailed(), "Should not fail");
+        assertEquals("Bye World", out.getMessage().getBody(String.class));
+    }
+
+    @Test
+    public void testAsyncProducerStreamingBodyContentLength() {
+        // the streaming body is not sent chunked, but with its length
+        byte[] data = "Camel".getBytes(StandardCharsets.UTF_8);
+        Exchange out = template.request(endpointUrl + "/length?useAsyncClient=true",
+                exchange -> exchange.getIn().setBody(new ByteArrayInputStream(data)));
+
+        assertFalse(out.isFailed(), "Should not fail");
+        assertEquals("5", out.getMessage().getBody(String.class));
+    }
+
+    @Test
+    public void testAsyncProducerLargeRequest() {
+        byte[] data = "x".repeat(LARGE_SIZE).getBytes(StandardCharsets.UTF_8);
+        Exchange out = template.request(endpointUrl + "/length?useAsyncClient=true",
+                exchange -> exchange.getIn().setBody(new ByteArrayInputStream(data)));
+
+        assertFalse(out.isFailed(), "Should not fail");
+        assertEquals(String.valueOf(LARGE_SIZE), out.getMessage().getBody(String.class));
+    }
+
+    @Test
+    public void testAsyncProducerLargeResponse() {
+        Exchange out = template.request(endpointUrl + "/large?useAsyncClient=true", exchange -> {
+        });
+
+        assertFalse(out.isFailed(), "Should not fail");
+        // the stream cache of the response is used as the message body as-is
+        assertInstanceOf(StreamCache.class, out.getMessage().getBody());
+        assertEquals(LARGE_SIZE, out.getMessage().getBody(String.class).length());
+    }
+
+    @Test
+    public void testAsyncProducerConcurrent() {
+        List<CompletableFuture<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String body = "World " + i;
+            futures.add(template.asyncSend("direct:echo", exchange -> exchange.getIn().setBody(body)));
+        }
+        for (int i = 0; i < 50; i++) {
+            Exchange out = futures.get(i).join();
+            assertFalse(out.isFailed(), "Should not fail");
+            assertEquals("Bye World " + i, out.getMessage().getBody(String.class));
+            // the response is handled by the thread pool of the producer, and not by the I/O threads of the client
+            assertTrue(out.getMessage().getHeader("thread", String.class).contains("HttpAsyncProducer"));
+        }
+
+        HttpEndpoint endpoint = context.getEndpoint(endpointUrl + "/echo?useAsyncClient=true", HttpEndpoint.class);
+        assertEquals(200, endpoint.getClientConnectionsPoolStatsMax());
+        assertTrue(endpoint.getClientConnectionsPoolStatsAvailable() > 0);
+        assertEquals(0, endpoint.getClientConnectionsPoolStatsLeased());
+        assertEquals(0, endpoint.getClientConnectionsPoolStatsPending());
+    }
+
+    @Test
+    public void testAsyncProducerHttp2() {
+        String uri = h2EndpointUrl + "/version?useAsyncClient=true&httpVersionPolicy=FORCE_HTTP_2";
+        List<CompletableFuture<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(template.asyncSend(uri, exchange -> exchange.getIn().setBody("Hello")));
+        }
+        for (CompletableFuture<Exchange> future : futures) {
+            Exchange out = future.join();
+            assertFalse(out.isFailed(), "Should not fail");
+            assertEquals("HTTP/2.0", out.getMessage().getBody(String.class));
+        }
+
+        HttpEndpoint endpoint = context.getEndpoint(uri, HttpEndpoint.class);
+        assertEquals(0, endpoint.getClientConnectionsPoolStatsLeased());
+    }
+
+    @Test
+    public void testAsyncProducerOAuth2NotSupported() {
+        String uri = endpointUrl + "/echo?useAsyncClient=true&oauth2ClientId=id&oauth2ClientSecret=secret"
+                     + "&oauth2TokenEndpoint=" + endpointUrl + "/token";
+        Exception e = assertThrows(Exception.class, () -> context.getEndpoint(uri));
+        assertNotNull(ObjectHelper.getException(IllegalArgumentException.class, e));
+    }
+
+}
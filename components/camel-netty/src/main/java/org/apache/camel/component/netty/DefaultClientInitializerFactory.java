@@ -27,6 +27,7 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelPipeline;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.component.netty.handlers.ClientChannelHandler;
@@ -60,6 +61,8 @@ public class DefaultClientInitializerFactory extends ClientInitializerFactory {
             LOG.debug("Client SSL handler configured and added to the ChannelPipeline: {}", sslHandler);
             addToPipeline("ssl", channelPipeline, sslHandler);
             addToPipeline("sslHandshakeFailure", channelPipeline, SslHandshakeFailureHandler.INSTANCE);
+            // writes file regions in chunks, as they cannot be sent with sendfile over SSL
+            addToPipeline("chunkedWriter", channelPipeline, new ChunkedWriteHandler());
         }
 
         List<ChannelHandler> decoders = producer.getConfiguration().getDecodersAsList();
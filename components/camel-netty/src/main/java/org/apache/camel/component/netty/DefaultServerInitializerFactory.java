@@ -26,6 +26,7 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelPipeline;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.util.concurrent.EventExecutorGroup;
 import org.apache.camel.CamelContext;
 import org.apache.camel.RuntimeCamelException;
@@ -64,6 +65,8 @@ public class DefaultServerInitializerFactory extends ServerInitializerFactory {
             LOG.debug("Server SSL handler configured and added as an interceptor against the ChannelPipeline: {}", sslHandler);
             addToPipeline("ssl", channelPipeline, sslHandler);
             addToPipeline("sslHandshakeFailure", channelPipeline, SslHandshakeFailureHandler.INSTANCE);
+            // writes file regions in chunks, as they cannot be sent with sendfile over SSL
+            addToPipeline("chunkedWriter", channelPipeline, new ChunkedWriteHandler());
         }
 
         List<ChannelHandler> encoders = consumer.getConfiguration().getEncodersAsList();
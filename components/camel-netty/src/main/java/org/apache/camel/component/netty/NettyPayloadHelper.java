@@ -16,12 +16,21 @@
  */
 package org.apache.camel.component.netty;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.AddressedEnvelope;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.stream.ChunkedNioFile;
 import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.util.FileRegion;
+import org.apache.camel.util.IOHelper;
 
 /**
  * Helper to get and set the correct payload when transferring data using camel-netty. Always use this helper instead of
@@ -32,6 +41,11 @@ import org.apache.camel.support.DefaultExchangeHolder;
  */
 public final class NettyPayloadHelper {
 
+    // the chunk size used when writing a file region over SSL
+    private static final int CHUNK_SIZE = 8192;
+    // the maximum payload of a UDP datagram
+    private static final int MAX_DATAGRAM_SIZE = 65507;
+
     private NettyPayloadHelper() {
         //Helper class
     }
@@ -46,7 +60,7 @@ public final class NettyPayloadHelper {
                 return exchange.getIn().getBody(ByteBuf.class);
             } else {
                 // normal transfer using the body only
-                return exchange.getIn().getBody();
+                return toFileRegion(endpoint, exchange.getIn().getBody());
             }
         }
     }
@@ -57,7 +71,48 @@ public final class NettyPayloadHelper {
             return DefaultExchangeHolder.marshal(exchange);
         } else {
             // normal transfer using the body only
-            return exchange.getOut().getBody();
+            return toFileRegion(endpoint, exchange.getOut().getBody());
+        }
+    }
+
+    /**
+     * A {@link FileRegion} body is written as a netty {@link DefaultFileRegion}, which lets the operating system send
+     * the file directly to the socket (sendfile). This is only possible with plain TCP, as SSL must encrypt the bytes,
+     * so with SSL the region is written in chunks by the chunked write handler in the pipeline. With UDP the
+     * region must fit in a single datagram, and is read into a buffer.
+     */
+    private static Object toFileRegion(NettyEndpoint endpoint, Object body) {
+        if (!(body instanceof FileRegion region) || endpoint.getConfiguration().isTextline()) {
+            return body;
+        }
+        try {
+            if (endpoint.getConfiguration().isTcp()) {
+                if (!endpoint.getConfiguration().isSsl()) {
+                    return new DefaultFileRegion(region.getFile().toFile(), region.getPosition(), region.getCount());
+                }
+                FileChannel channel = FileChannel.open(region.getFile(), StandardOpenOption.READ);
+                try {
+                    long length = Math.min(region.getCount(), Math.max(0, channel.size() - region.getPosition()));
+                    // the channel is closed by the chunked write handler when the file has been written
+                    return new ChunkedNioFile(channel, region.getPosition(), length, CHUNK_SIZE);
+                } catch (IOException | RuntimeException e) {
+                    IOHelper.close(channel);
+                    throw e;
+                }
+            }
+            try (FileChannel channel = FileChannel.open(region.getFile(), StandardOpenOption.READ)) {
+                long length = Math.min(region.getCount(), Math.max(0, channel.size() - region.getPosition()));
+                if (length > MAX_DATAGRAM_SIZE) {
+                    throw new IllegalArgumentException(
+                            "Cannot send " + region + " of " + length + " bytes as a UDP datagram, which is limited to "
+                                                       + MAX_DATAGRAM_SIZE + " bytes");
+                }
+                ByteBuf buf = Unpooled.buffer((int) length);
+                buf.writeBytes(channel, region.getPosition(), (int) length);
+                return buf;
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
         }
     }
 
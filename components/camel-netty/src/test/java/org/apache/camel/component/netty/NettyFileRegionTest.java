@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.camel.BindToRegistry;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.AvailablePortFinder;
+import org.apache.camel.util.FileRegion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class NettyFileRegionTest extends BaseNettyTest {
+
+    @RegisterExtension
+    protected AvailablePortFinder.Port udpPort = AvailablePortFinder.find();
+
+    @RegisterExtension
+    protected AvailablePortFinder.Port sslPort = AvailablePortFinder.find();
+
+    @TempDir
+    Path tempDir;
+
+    @BindToRegistry("ksf")
+    public File loadKeystoreKsf() {
+        return new File("src/test/resources/keystore.jks");
+    }
+
+    @BindToRegistry("tsf")
+    public File loadKeystoreTsf() {
+        return new File("src/test/resources/keystore.jks");
+    }
+
+    @Test
+    public void testSendFileRegionTcp() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:tcp");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:tcp", FileRegion.of(Path.of("src/test/data/message1.txt")));
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testSendPartialFileRegionTcp() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:tcp");
+        mock.expectedBodiesReceived("World");
+
+        template.sendBody("direct:tcp", FileRegion.of(Path.of("src/test/data/message1.txt"), 6, 5));
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testSendFileRegionUdp() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:udp");
+        mock.expectedBodiesReceived("World");
+
+        // udp cannot use sendfile so the region is read into a buffer
+        template.sendBody("direct:udp", FileRegion.of(Path.of("src/test/data/message1.txt"), 6, 5));
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testSendFileRegionUdpTooLarge() throws Exception {
+        Path file = tempDir.resolve("large.dat");
+        Files.write(file, new byte[70000]);
+
+        // the region does not fit in a single datagram
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.sendBody("direct:udp", FileRegion.of(file)));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+
+    @Test
+    public void testSendFileRegionSsl() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:ssl");
+        mock.expectedBodiesReceived("World");
+
+        // ssl cannot use sendfile so the region is written in chunks
+        template.sendBody("direct:ssl", FileRegion.of(Path.of("src/test/data/message1.txt"), 6, 5));
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("netty:tcp://localhost:{{port}}?sync=false&allowDefaultCodec=false")
+                        .convertBodyTo(String.class)
+                        .to("mock:tcp");
+
+                from("direct:tcp")
+                        .to("netty:tcp://localhost:{{port}}?sync=false&allowDefaultCodec=false");
+
+                from("netty:udp://localhost:" + udpPort.getPort() + "?sync=false&allowDefaultCodec=false")
+                        .convertBodyTo(String.class)
+                        .to("mock:udp");
+
+                from("direct:udp")
+                        .to("netty:udp://localhost:" + udpPort.getPort() + "?sync=false&allowDefaultCodec=false");
+
+                from("netty:tcp://localhost:" + sslPort.getPort()
+                     + "?sync=false&allowDefaultCodec=false&ssl=true&passphrase=changeit"
+                     + "&keyStoreResource=#ksf&trustStoreResource=#tsf")
+                        .convertBodyTo(String.class)
+                        .to("mock:ssl");
+
+                from("direct:ssl")
+                        .to("netty:tcp://localhost:" + sslPort.getPort()
+                            + "?sync=false&allowDefaultCodec=false&ssl=true&passphrase=changeit"
+                            + "&keyStoreResource=#ksf&trustStoreResource=#tsf");
+            }
+        };
+    }
+
+}
@@ -44,6 +44,7 @@ import org.apache.camel.support.ExceptionHelper;
 import org.apache.camel.support.MessageHelper;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.http.HttpUtil;
+import org.apache.camel.util.FileRegion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -196,6 +197,8 @@ public final class VertxPlatformHttpSupport {
                 promise.complete();
             } else if (body instanceof ByteBuffer bb) {
                 writeResponseAs(promise, ctx, bb);
+            } else if (body instanceof FileRegion region) {
+                writeResponseAs(promise, ctx, region);
             } else {
                 writeResponseAsFallback(promise, camelExchange, body, ctx);
             }
@@ -232,6 +235,12 @@ public final class VertxPlatformHttpSupport {
         promise.complete();
     }
 
+    private static void writeResponseAs(Promise<Void> promise, RoutingContext ctx, FileRegion region) {
+        // let vertx send the file, which uses sendfile to copy the file directly to the socket when possible
+        ctx.response().sendFile(region.getFile().toString(), region.getPosition(), region.getCount())
+                .onComplete(promise);
+    }
+
     private static void writeResponseAs(Promise<Void> promise, RoutingContext ctx, InputStream is) {
         HttpServerResponse response = ctx.response();
         Vertx vertx = ctx.vertx();
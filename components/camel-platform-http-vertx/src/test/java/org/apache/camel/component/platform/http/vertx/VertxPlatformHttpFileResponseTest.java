@@ -17,9 +17,11 @@
 package org.apache.camel.component.platform.http.vertx;
 
 import java.io.File;
+import java.nio.file.Path;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.util.FileRegion;
 import org.junit.jupiter.api.Test;
 
 import static io.restassured.RestAssured.given;
@@ -81,4 +83,56 @@ public class VertxPlatformHttpFileResponseTest {
         }
     }
 
+    @Test
+    void testFileRegionResponse() throws Exception {
+        final CamelContext context = VertxPlatformHttpEngineTest.createCamelContext();
+
+        try {
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("platform-http:/file")
+                            .process(e -> e.getMessage()
+                                    .setBody(FileRegion.of(Path.of("src/test/resources/dummy.txt"))));
+                }
+            });
+
+            VertxPlatformHttpEngineTest.startCamelContext(context);
+
+            given()
+                    .get("/file")
+                    .then()
+                    .statusCode(200)
+                    .body(is("Hello World from this file"));
+        } finally {
+            context.stop();
+        }
+    }
+
+    @Test
+    void testPartialFileRegionResponse() throws Exception {
+        final CamelContext context = VertxPlatformHttpEngineTest.createCamelContext();
+
+        try {
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("platform-http:/file")
+                            .process(e -> e.getMessage()
+                                    .setBody(FileRegion.of(Path.of("src/test/resources/dummy.txt"), 6, 5)));
+                }
+            });
+
+            VertxPlatformHttpEngineTest.startCamelContext(context);
+
+            given()
+                    .get("/file")
+                    .then()
+                    .statusCode(200)
+                    .body(is("World"));
+        } finally {
+            context.stop();
+        }
+    }
+
 }
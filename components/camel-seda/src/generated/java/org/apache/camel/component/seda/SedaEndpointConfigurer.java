@@ -49,6 +49,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "multipleConsumers": target.setMultipleConsumers(property(camelContext, boolean.class, value)); return true;
         case "offertimeout":
         case "offerTimeout": target.setOfferTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
+        case "pollbatchsize":
+        case "pollBatchSize": target.setPollBatchSize(property(camelContext, int.class, value)); return true;
         case "polltimeout":
         case "pollTimeout": target.setPollTimeout(property(camelContext, int.class, value)); return true;
         case "purgewhenstopping":
@@ -93,6 +95,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "multipleConsumers": return boolean.class;
         case "offertimeout":
         case "offerTimeout": return long.class;
+        case "pollbatchsize":
+        case "pollBatchSize": return int.class;
         case "polltimeout":
         case "pollTimeout": return int.class;
         case "purgewhenstopping":
@@ -138,6 +142,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "multipleConsumers": return target.isMultipleConsumers();
         case "offertimeout":
         case "offerTimeout": return target.getOfferTimeout();
+        case "pollbatchsize":
+        case "pollBatchSize": return target.getPollBatchSize();
         case "polltimeout":
         case "pollTimeout": return target.getPollTimeout();
         case "purgewhenstopping":
@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A lock-free {@link BlockingQueue} that supports multiple producers and consumers.
+ * <p/>
+ * The elements are kept in a {@link ConcurrentLinkedQueue} and the capacity is enforced by an atomic counter, so
+ * producers and consumers never take a lock. Consumers waiting for elements either park (and are unparked by the
+ * producers) or spin, depending on the {@link WaitStrategy}. Producers waiting for capacity (when the queue is full)
+ * back off by parking for a short time.
+ */
+public class LockFreeBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    /**
+     * How consumers wait for elements when the queue is empty
+     */
+    public enum WaitStrategy {
+        /**
+         * The consumer parks, and is unparked by the producer when an element is added (low cpu usage)
+         */
+        Park,
+        /**
+         * The consumer busy spins (and yields), which reduces the latency at the expense of cpu usage
+         */
+        Spin
+    }
+
+    private static final int SPINS = 100;
+    private static final long FULL_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final Queue<E> queue = new ConcurrentLinkedQueue<>();
+    private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger count = new AtomicInteger();
+    private final int capacity;
+    private final WaitStrategy waitStrategy;
+
+    public LockFreeBlockingQueue() {
+        this(Integer.MAX_VALUE, WaitStrategy.Park);
+    }
+
+    public LockFreeBlockingQueue(int capacity, WaitStrategy waitStrategy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, was: " + capacity);
+        }
+        this.capacity = capacity;
+        this.waitStrategy = Objects.requireNonNull(waitStrategy, "waitStrategy");
+    }
+
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        // reserve capacity before adding the element
+        int c;
+        do {
+            c = count.get();
+            if (c >= capacity) {
+                return false;
+            }
+        } while (!count.compareAndSet(c, c + 1));
+
+        queue.offer(e);
+        signalWaiter();
+        return true;
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        while (!offer(e)) {
+            backoffWhenFull();
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        final long deadline = System.nanoTime() + nanos;
+        while (!offer(e)) {
+            if (nanos <= 0) {
+                return false;
+            }
+            backoffWhenFull();
+            nanos = deadline - System.nanoTime();
+        }
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        E e = queue.poll();
+        if (e != null) {
+            count.decrementAndGet();
+        }
+        return e;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E e;
+        while ((e = poll(Long.MAX_VALUE, TimeUnit.NANOSECONDS)) == null) {
+            // continue waiting
+        }
+        return e;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E e = poll();
+        if (e != null) {
+            return e;
+        }
+
+        long nanos = unit.toNanos(timeout);
+        final long deadline = System.nanoTime() + nanos;
+        final Thread current = Thread.currentThread();
+        int spins = 0;
+        while (true) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (nanos <= 0) {
+                return null;
+            }
+            if (waitStrategy == WaitStrategy.Spin) {
+                if (++spins < SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            } else {
+                // register as waiter before checking the queue again, so we do not miss a wakeup
+                waiters.offer(current);
+                e = poll();
+                if (e == null) {
+                    LockSupport.parkNanos(this, nanos);
+                    e = poll();
+                }
+                waiters.remove(current);
+                if (e != null && !queue.isEmpty()) {
+                    // we may have consumed a wakeup meant for another element, so pass it on
+                    signalWaiter();
+                }
+                if (e != null) {
+                    return e;
+                }
+                nanos = deadline - System.nanoTime();
+                continue;
+            }
+            e = poll();
+            if (e != null) {
+                return e;
+            }
+            nanos = deadline - System.nanoTime();
+        }
+    }
+
+    @Override
+    public E peek() {
+        return queue.peek();
+    }
+
+    @Override
+    public int size() {
+        return Math.max(0, count.get());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity == Integer.MAX_VALUE ? Integer.MAX_VALUE : Math.max(0, capacity - count.get());
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o != null && queue.remove(o)) {
+            count.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null) {
+            // noop
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        int n = 0;
+        while (n < maxElements) {
+            E e = poll();
+            if (e == null) {
+                break;
+            }
+            c.add(e);
+            n++;
+        }
+        return n;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        final Iterator<E> it = queue.iterator();
+        return new Iterator<>() {
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                if (!it.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                last = it.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                LockFreeBlockingQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    private void signalWaiter() {
+        if (!waiters.isEmpty()) {
+            Thread waiter = waiters.poll();
+            if (waiter != null) {
+                LockSupport.unpark(waiter);
+            }
+        }
+    }
+
+    private static void backoffWhenFull() throws InterruptedException {
+        LockSupport.parkNanos(FULL_BACKOFF_NANOS);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+/**
+ * Implementation of {@link BlockingQueueFactory} producing {@link LockFreeBlockingQueue}, which avoids the lock handoff
+ * between producers and consumers of the {@link java.util.concurrent.LinkedBlockingQueue}.
+ */
+public class LockFreeBlockingQueueFactory<E> implements BlockingQueueFactory<E> {
+
+    /**
+     * How consumers wait for elements when the queue is empty
+     */
+    private LockFreeBlockingQueue.WaitStrategy waitStrategy = LockFreeBlockingQueue.WaitStrategy.Park;
+
+    /**
+     * @return How consumers wait for elements when the queue is empty
+     */
+    public LockFreeBlockingQueue.WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * @param waitStrategy How consumers wait for elements when the queue is empty
+     */
+    public void setWaitStrategy(LockFreeBlockingQueue.WaitStrategy waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+
+    @Override
+    public LockFreeBlockingQueue<E> create() {
+        return new LockFreeBlockingQueue<>(Integer.MAX_VALUE, waitStrategy);
+    }
+
+    @Override
+    public LockFreeBlockingQueue<E> create(int capacity) {
+        return new LockFreeBlockingQueue<>(capacity, waitStrategy);
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -49,21 +50,31 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private static final Logger LOG = LoggerFactory.getLogger(SedaConsumer.class);
 
     private final AtomicInteger taskCount = new AtomicInteger();
+    private final AtomicInteger batchCount = new AtomicInteger();
     protected volatile CountDownLatch latch;
     private volatile boolean shutdownPending;
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     protected final int pollTimeout;
+    protected final int pollBatchSize;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.pollBatchSize = endpoint.getPollBatchSize();
     }
 
     protected int getPollTimeout() {
         return pollTimeout;
     }
 
+    /**
+     * The maximum number of exchanges to take from the queue per poll
+     */
+    protected int getPollBatchSize() {
+        return pollBatchSize;
+    }
+
     protected boolean isShutdownPending() {
         return shutdownPending;
     }
@@ -91,7 +102,8 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         if (getEndpoint().isPurgeWhenStopping()) {
             getEndpoint().purgeQueue();
         }
-        return getEndpoint().getQueue().size();
+        // include the exchanges taken from the queue in a batch, which are not yet processed
+        return getEndpoint().getQueue().size() + batchCount.get();
     }
 
     @Override
@@ -155,6 +167,8 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
 
     protected void doRun() {
         BlockingQueue<Exchange> queue = getEndpoint().getQueue();
+        int batchSize = getPollBatchSize();
+        List<Exchange> batch = batchSize > 1 ? new ArrayList<>(batchSize - 1) : null;
         // loop while we are allowed, or if we are stopping loop until the queue is empty
         while (queue != null && isRunAllowed()) {
 
@@ -211,6 +225,11 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                     } catch (Exception e) {
                         getExceptionHandler().handleException("Error processing exchange", exchange, e);
                     }
+                    if (batch != null) {
+                        // take the next exchanges that are ready (if any) without waiting,
+                        // to process them in this wakeup
+                        processPolledBatch(queue, batch, batchSize - 1);
+                    }
                 } else {
                     // hook for subclasses to cleanup after empty poll (e.g., release permits)
                     afterPollEmpty();
@@ -234,6 +253,51 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    private void processPolledBatch(BlockingQueue<Exchange> queue, List<Exchange> batch, int max) {
+        int size = queue.drainTo(batch, max);
+        if (size == 0) {
+            return;
+        }
+        batchCount.addAndGet(size);
+        LOG.trace("Drained {} exchanges from queue {}", size, ObjectHelper.getIdentityHashCode(queue));
+        int i = 0;
+        try {
+            for (; i < size; i++) {
+                // stop processing the batch as soon as we are suspending or stopping (as we do when polling)
+                if (isSuspending() || isSuspended() || isStopping() || isStopped()) {
+                    break;
+                }
+                Exchange exchange = batch.get(i);
+                batchCount.decrementAndGet();
+                try {
+                    processPolledExchange(exchange);
+                } catch (Exception e) {
+                    getExceptionHandler().handleException("Error processing exchange", exchange, e);
+                }
+            }
+        } finally {
+            for (; i < size; i++) {
+                returnToQueue(queue, batch.get(i));
+                batchCount.decrementAndGet();
+            }
+            batch.clear();
+        }
+    }
+
+    private void returnToQueue(BlockingQueue<Exchange> queue, Exchange exchange) {
+        // the exchange was not processed, so put it back on the queue (at the tail) to be processed
+        // when the consumer is resumed or started again
+        if (!queue.offer(exchange)) {
+            // the queue is full, so we must process the exchange to not lose it
+            LOG.debug("Cannot return exchange {} to the full queue so processing it", exchange.getExchangeId());
+            try {
+                processPolledExchange(exchange);
+            } catch (Exception e) {
+                getExceptionHandler().handleException("Error processing exchange", exchange, e);
+            }
+        }
+    }
+
     /**
      * Hook called before polling the queue. Subclasses can override to acquire resources (e.g., permits).
      *
@@ -101,6 +101,11 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
               description = "The timeout (in milliseconds) used when polling. When a timeout occurs, the consumer can check whether it is"
                             + " allowed to continue running. Setting a lower value allows the consumer to react more quickly upon shutdown.")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer,advanced", defaultValue = "1",
+              description = "The maximum number of messages to take from the queue per poll, which are then processed one by one by the"
+                            + " same consumer thread. Taking more messages per poll reduces the overhead of waking up the consumer for"
+                            + " every message under high load. This option is not in use when virtualThreadPerTask is enabled.")
+    private int pollBatchSize = 1;
     @UriParam(label = "consumer,advanced",
               description = "If enabled, spawns a new virtual thread for each message instead of using a fixed pool of consumer threads. "
                             + "This model is optimized for virtual threads (JDK 21+) and I/O-bound workloads where creating threads is cheap. "
@@ -538,6 +543,20 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.pollTimeout = pollTimeout;
     }
 
+    @ManagedAttribute
+    public int getPollBatchSize() {
+        return pollBatchSize;
+    }
+
+    /**
+     * The maximum number of messages to take from the queue per poll, which are then processed one by one by the same
+     * consumer thread. Taking more messages per poll reduces the overhead of waking up the consumer for every message
+     * under high load. This option is not in use when virtualThreadPerTask is enabled.
+     */
+    public void setPollBatchSize(int pollBatchSize) {
+        this.pollBatchSize = pollBatchSize;
+    }
+
     @ManagedAttribute
     public boolean isVirtualThreadPerTask() {
         return virtualThreadPerTask;
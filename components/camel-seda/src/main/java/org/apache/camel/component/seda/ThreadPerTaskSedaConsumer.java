@@ -25,6 +25,9 @@ import java.util.concurrent.atomic.LongAdder;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.VirtualThreadPerTaskExecutorService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,14 +38,15 @@ import org.slf4j.LoggerFactory;
  * This consumer model is optimized for virtual threads (JDK 21+) where creating threads is very cheap, but it also
  * works with platform threads. The key differences from {@link SedaConsumer} are:
  * <ul>
- * <li>Uses a cached thread pool instead of a fixed pool</li>
+ * <li>Uses a thread per task executor instead of a fixed pool</li>
  * <li>A single coordinator thread polls the queue</li>
  * <li>Each message is processed in its own task/thread</li>
  * <li>The concurrentConsumers setting becomes a concurrency limit (0 = unlimited)</li>
  * </ul>
  * <p>
- * When virtual threads are enabled via {@code camel.threads.virtual.enabled=true}, the cached thread pool will use
- * {@code Executors.newThreadPerTaskExecutor()}, providing optimal scaling for I/O-bound workloads.
+ * On JDK 21+ each task runs in its own virtual thread (regardless of {@code camel.threads.virtual.enabled}), providing
+ * optimal scaling for I/O-bound workloads, and virtual threads pinned to their carrier thread are detected. On JDK 17
+ * a cached thread pool with platform threads is used.
  */
 public class ThreadPerTaskSedaConsumer extends SedaConsumer {
 
@@ -83,9 +87,17 @@ public class ThreadPerTaskSedaConsumer extends SedaConsumer {
 
     @Override
     protected void setupTasks() {
-        // Create task executor - uses virtual threads when enabled
-        taskExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
-                .newCachedThreadPool(this, getEndpoint().getEndpointUri() + "-task");
+        // Create task executor - uses a virtual thread per task (the concurrency is limited by this consumer)
+        ExecutorServiceManager manager = getEndpoint().getCamelContext().getExecutorServiceManager();
+        ThreadPoolProfile profile = new ThreadPoolProfile(getEndpoint().getEndpointUri() + "-task");
+        profile.setVirtualThreadPerTask(true);
+        profile.setMaxConcurrentTasks(0);
+        taskExecutor = manager.newThreadPool(this, getEndpoint().getEndpointUri() + "-task", profile);
+        if (!(taskExecutor instanceof VirtualThreadPerTaskExecutorService)) {
+            // virtual threads not supported so use a cached thread pool
+            manager.shutdownNow(taskExecutor);
+            taskExecutor = manager.newCachedThreadPool(this, getEndpoint().getEndpointUri() + "-task");
+        }
 
         // Create concurrency limiter if max is specified and > 0
         if (maxConcurrentTasks > 0) {
@@ -109,6 +121,12 @@ public class ThreadPerTaskSedaConsumer extends SedaConsumer {
         }
     }
 
+    @Override
+    protected int getPollBatchSize() {
+        // each exchange is dispatched to its own task, which is limited by permits acquired per poll
+        return 1;
+    }
+
     @Override
     protected boolean beforePoll() throws InterruptedException {
         // Acquire permit if using concurrency limiter (blocks if at limit)
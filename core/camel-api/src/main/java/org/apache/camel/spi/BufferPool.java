@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.camel.util.IOHelper;
+
+/**
+ * A context level pool of byte buffers, which are recycled for copying streams (such as when caching streams, writing
+ * files and HTTP responses) instead of allocating a new buffer for every copy.
+ * <p/>
+ * The pool is thread-safe and keeps the buffers in size classes (power of two), so a buffer acquired from the pool can
+ * be larger than the requested size. Buffers that are larger than the biggest size class are not pooled. A buffer must
+ * be released back to the pool when no longer in use, and must not be used after it has been released. The content of
+ * the buffers are not cleared when recycled.
+ * <p/>
+ * Buffers that are never released can be detected by enabling leak detection (which is enabled by default when using
+ * the <tt>dev</tt> profile), which logs a WARN with the stacktrace where the leaked buffer was acquired.
+ *
+ * @since 4.23
+ */
+public interface BufferPool {
+
+    /**
+     * Acquires a buffer from the pool
+     *
+     * @param  size the minimum size of the buffer
+     * @return      the buffer, which can be larger than the requested size
+     */
+    byte[] acquire(int size);
+
+    /**
+     * Releases the buffer back to the pool, so it can be reused.
+     *
+     * @param buffer the buffer that was acquired from this pool
+     */
+    void release(byte[] buffer);
+
+    /**
+     * Copies the data from the input stream to the output stream using a buffer from this pool.
+     *
+     * @param  input       the input stream
+     * @param  output      the output stream
+     * @param  bufferSize  the preferred size of the buffer used for the copies
+     * @return             the number of bytes copied
+     * @throws IOException for I/O errors
+     */
+    default int copy(InputStream input, OutputStream output, int bufferSize) throws IOException {
+        return copy(input, output, bufferSize, false);
+    }
+
+    /**
+     * Copies the data from the input stream to the output stream using a buffer from this pool.
+     *
+     * @param  input            the input stream
+     * @param  output           the output stream
+     * @param  bufferSize       the preferred size of the buffer used for the copies
+     * @param  flushOnEachWrite whether to flush the data everytime that data is written to the output stream
+     * @return                  the number of bytes copied
+     * @throws IOException      for I/O errors
+     */
+    default int copy(InputStream input, OutputStream output, int bufferSize, boolean flushOnEachWrite)
+            throws IOException {
+        byte[] buffer = acquire(IOHelper.getCopyBufferSize(input, bufferSize));
+        try {
+            return IOHelper.copy(input, output, buffer, flushOnEachWrite, -1);
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * Whether leak detection is enabled, which tracks the acquired buffers and logs a WARN for buffers that are garbage
+     * collected without being released back to the pool.
+     */
+    boolean isLeakDetection();
+
+    /**
+     * Whether leak detection is enabled, which tracks the acquired buffers and logs a WARN for buffers that are garbage
+     * collected without being released back to the pool.
+     * <p/>
+     * This is enabled by default when using the <tt>dev</tt> profile.
+     */
+    void setLeakDetection(boolean leakDetection);
+
+    /**
+     * Number of times a buffer was acquired from the pool (reused)
+     */
+    long getHitCounter();
+
+    /**
+     * Number of times a new buffer had to be allocated because no buffer was available in the pool
+     */
+    long getMissCounter();
+
+    /**
+     * Number of buffers detected as leaked (never released back to the pool). Is only counted when leak detection is
+     * enabled.
+     */
+    long getLeakCounter();
+
+    /**
+     * The percentage (0-100) of acquired buffers that was reused from the pool
+     */
+    default double getHitRate() {
+        long hits = getHitCounter();
+        long total = hits + getMissCounter();
+        return total > 0 ? hits * 100d / total : 0;
+    }
+
+    /**
+     * Resets the statistics
+     */
+    void resetStatistics();
+
+}
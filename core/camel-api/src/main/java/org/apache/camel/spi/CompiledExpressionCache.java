@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import java.util.Map;
+
+import org.apache.camel.StaticService;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A context level cache for compiled (parsed) expressions and predicates, that languages can share instead of each
+ * keeping their own caches.
+ * <p/>
+ * The cache is bounded by {@link #getMaximumCacheSize()} and keeps the entries that are used the most frequent, so
+ * expressions created over and over again at runtime, such as by dynamic routing with toD and recipient list, are not
+ * re-compiled. The entries are grouped by a namespace (such as the language name) to avoid clashes between languages.
+ *
+ * @since 4.23
+ */
+public interface CompiledExpressionCache extends StaticService {
+
+    /**
+     * Gets the cached compiled expression
+     *
+     * @param  namespace the namespace such as the language name
+     * @param  key       the key such as the expression text
+     * @return           the cached value, or <tt>null</tt> if not in the cache
+     */
+    @Nullable
+    Object get(String namespace, String key);
+
+    /**
+     * Adds the compiled expression to the cache
+     *
+     * @param namespace the namespace such as the language name
+     * @param key       the key such as the expression text
+     * @param value     the compiled expression
+     */
+    void put(String namespace, String key, Object value);
+
+    /**
+     * Removes the compiled expression from the cache
+     *
+     * @param  namespace the namespace such as the language name
+     * @param  key       the key such as the expression text
+     * @return           the removed value, or <tt>null</tt> if not in the cache
+     */
+    @Nullable
+    Object remove(String namespace, String key);
+
+    /**
+     * A {@link Map} view of the entries in the cache for the given namespace, which can be used by languages that
+     * parses using a map as cache.
+     *
+     * @param  namespace the namespace such as the language name
+     * @return           the map view
+     */
+    <V> Map<String, V> asMap(String namespace);
+
+    /**
+     * Number of entries in the cache
+     */
+    int size();
+
+    /**
+     * Clears the cache
+     */
+    void clear();
+
+    /**
+     * Clears the entries in the cache for the given namespace
+     *
+     * @param namespace the namespace such as the language name
+     */
+    void clear(String namespace);
+
+    /**
+     * The maximum number of entries in the cache. A value of zero or negative disables the cache.
+     */
+    int getMaximumCacheSize();
+
+    /**
+     * The maximum number of entries in the cache. A value of zero or negative disables the cache.
+     */
+    void setMaximumCacheSize(int maximumCacheSize);
+
+    /**
+     * Whether the cache is enabled
+     */
+    default boolean isEnabled() {
+        return getMaximumCacheSize() > 0;
+    }
+
+    /**
+     * Number of cache hits
+     */
+    long getHits();
+
+    /**
+     * Number of cache misses
+     */
+    long getMisses();
+
+    /**
+     * Number of entries evicted from the cache
+     */
+    long getEvicted();
+
+    /**
+     * Resets the cache statistics
+     */
+    void resetStatistics();
+
+}
@@ -308,6 +308,24 @@ public interface ManagementAgent extends Service {
      */
     Boolean getLoadStatisticsEnabled();
 
+    /**
+     * Sets whether allocation statistics is enabled, which records the number of bytes allocated and the cpu time spent
+     * by the current thread while each processor is processing a message. This requires the JVM to support thread
+     * allocation and cpu time measurement, and the statistics level to be Default or Extended.
+     * <p/>
+     * The default value is <tt>false</tt>
+     *
+     * @param flag <tt>true</tt> to enable allocation statistics
+     */
+    void setAllocationStatisticsEnabled(Boolean flag);
+
+    /**
+     * Gets whether allocation statistics is enabled
+     *
+     * @return <tt>true</tt> if enabled
+     */
+    Boolean getAllocationStatisticsEnabled();
+
     /**
      * Sets whether endpoint runtime statistics is enabled (gathers runtime usage of each incoming and outgoing
      * endpoints).
@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 
 import org.apache.camel.Exchange;
@@ -83,6 +84,29 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the counter for number of spool buffers which was reused from the direct buffer pool, when
+         * {@link SpoolMode#Direct} is in use.
+         */
+        long getSpoolBufferPoolHitCounter();
+
+        /**
+         * Gets the counter for number of spool buffers which was allocated as new direct buffers, when
+         * {@link SpoolMode#Direct} is in use.
+         */
+        long getSpoolBufferPoolMissCounter();
+
+        /**
+         * Gets the counter for number of spool buffers which was allocated on the heap, because the direct buffer pool
+         * was exhausted, when {@link SpoolMode#Direct} is in use.
+         */
+        long getSpoolBufferPoolExhaustedCounter();
+
+        /**
+         * Gets the number of spool buffers currently in use, when {@link SpoolMode#Direct} is in use.
+         */
+        long getSpoolBufferPoolInUse();
+
         /**
          * Reset the counters
          */
@@ -109,6 +133,23 @@ public interface StreamCachingStrategy extends StaticService {
         Max
     }
 
+    /**
+     * Used for selecting how stream caches are spooled to disk.
+     */
+    enum SpoolMode {
+        /**
+         * Spools to disk using ordinary stream I/O with heap buffers.
+         */
+        Stream,
+        /**
+         * Spools to disk through pooled direct (off-heap) {@link ByteBuffer}s, and reads the spooled files back as
+         * memory-mapped files. On Windows the spooled files are read back using stream I/O, as a file cannot be deleted
+         * while it is memory-mapped. On other platforms, the disk space of a deleted spool file is only freed when its
+         * mapping has been garbage collected.
+         */
+        Direct
+    }
+
     /**
      * Rule for determine if stream caching should be spooled to disk or kept in-memory.
      */
@@ -262,6 +303,44 @@ public interface StreamCachingStrategy extends StaticService {
     @Nullable
     String getSpoolCipher();
 
+    /**
+     * Sets how stream caches are spooled to disk.
+     * <p/>
+     * With {@link SpoolMode#Direct} the spool files are written through pooled direct (off-heap) buffers, and read
+     * back as memory-mapped files, so large payloads do not inflate the heap. This mode is not in use when a spool
+     * cipher has been configured.
+     * <p/>
+     * The default mode is {@link SpoolMode#Stream}.
+     */
+    void setSpoolMode(SpoolMode spoolMode);
+
+    SpoolMode getSpoolMode();
+
+    /**
+     * Sets the maximum number of direct buffers (of {@link #getBufferSize()} bytes) to keep in the pool, when
+     * {@link SpoolMode#Direct} is in use. When the pool is exhausted, then heap buffers are used instead.
+     * <p/>
+     * The default size is 32.
+     */
+    void setSpoolDirectBufferPoolSize(int spoolDirectBufferPoolSize);
+
+    int getSpoolDirectBufferPoolSize();
+
+    /**
+     * Acquires a buffer for spooling to disk, when {@link SpoolMode#Direct} is in use. The buffer must be given back
+     * using {@link #releaseSpoolBuffer(ByteBuffer)} when no longer in use.
+     */
+    default ByteBuffer acquireSpoolBuffer() {
+        return ByteBuffer.allocateDirect(getBufferSize());
+    }
+
+    /**
+     * Gives back a buffer which has been acquired using {@link #acquireSpoolBuffer()}.
+     */
+    default void releaseSpoolBuffer(ByteBuffer buffer) {
+        // noop
+    }
+
     /**
      * Whether to remove the temporary directory when stopping.
      * <p/>
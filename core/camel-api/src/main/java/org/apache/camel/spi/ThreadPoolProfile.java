@@ -57,6 +57,8 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
     private @Nullable Integer maxQueueSize;
     private @Nullable Boolean allowCoreThreadTimeOut;
     private @Nullable ThreadPoolRejectedPolicy rejectedPolicy;
+    private @Nullable Boolean virtualThreadPerTask;
+    private @Nullable Integer maxConcurrentTasks;
 
     /**
      * Creates a new thread pool profile, with no id set.
@@ -251,6 +253,48 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    /**
+     * Gets whether to run each task in its own virtual thread (requires JDK 21+) instead of using a pool of threads.
+     *
+     * @return whether to use a virtual thread per task
+     */
+    public @Nullable Boolean getVirtualThreadPerTask() {
+        return virtualThreadPerTask;
+    }
+
+    /**
+     * Sets whether to run each task in its own virtual thread (requires JDK 21+) instead of using a pool of threads.
+     * <p/>
+     * In this mode the pool size and queue size options are not in use, and the number of tasks running concurrently
+     * is limited by {@link #setMaxConcurrentTasks(Integer)} instead. When the limit is reached then the
+     * {@link #setRejectedPolicy(ThreadPoolRejectedPolicy)} is used, where the caller waits (at most the keep alive time)
+     * for a running task to complete. On JDK 17 then a thread pool is used as usual.
+     *
+     * @param virtualThreadPerTask <tt>true</tt> to use a virtual thread per task
+     */
+    public void setVirtualThreadPerTask(@Nullable Boolean virtualThreadPerTask) {
+        this.virtualThreadPerTask = virtualThreadPerTask;
+    }
+
+    /**
+     * Gets the maximum number of tasks running concurrently, when using virtual thread per task.
+     *
+     * @return the maximum number of concurrent tasks, 0 or negative is unlimited
+     */
+    public @Nullable Integer getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    /**
+     * Sets the maximum number of tasks running concurrently, when using virtual thread per task. Use 0 or a negative
+     * value for unlimited, which is the default.
+     *
+     * @param maxConcurrentTasks the maximum number of concurrent tasks
+     */
+    public void setMaxConcurrentTasks(@Nullable Integer maxConcurrentTasks) {
+        this.maxConcurrentTasks = maxConcurrentTasks;
+    }
+
     /**
      * Overwrites each attribute that is null with the attribute from defaultProfile
      *
@@ -281,11 +325,18 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         if (rejectedPolicy == null) {
             rejectedPolicy = defaultProfile.getRejectedPolicy();
         }
+        if (virtualThreadPerTask == null) {
+            virtualThreadPerTask = defaultProfile.getVirtualThreadPerTask();
+        }
+        if (maxConcurrentTasks == null) {
+            maxConcurrentTasks = defaultProfile.getMaxConcurrentTasks();
+        }
     }
 
     public boolean isEmpty() {
         return poolSize == null && maxPoolSize == null && keepAliveTime == null && timeUnit == null
-                && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null;
+                && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null
+                && virtualThreadPerTask == null && maxConcurrentTasks == null;
     }
 
     @Override
@@ -301,7 +352,8 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
     public String toString() {
         return "ThreadPoolProfile[" + id + " (" + defaultProfile + ") size:" + poolSize + "-" + maxPoolSize
                + ", keepAlive:" + keepAliveTime + " " + timeUnit + ", maxQueue:" + maxQueueSize
-               + ", allowCoreThreadTimeOut:" + allowCoreThreadTimeOut + ", rejectedPolicy:" + rejectedPolicy + "]";
+               + ", allowCoreThreadTimeOut:" + allowCoreThreadTimeOut + ", rejectedPolicy:" + rejectedPolicy
+               + ", virtualThreadPerTask:" + virtualThreadPerTask + ", maxConcurrentTasks:" + maxConcurrentTasks + "]";
     }
 
 }
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.spi;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
@@ -89,6 +91,51 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
         default void computeIfEnabled(LongSupplier supplier, LongConsumer consumer) {
             consumer.accept(supplier.getAsLong());
         }
+
+        /**
+         * Statistics per pair of types which has been attempted to be converted.
+         * <p/>
+         * The number of pairs is bounded, so pairs are not recorded when the limit is reached.
+         */
+        default Collection<ConversionStatistic> getConversionStatistics() {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Utilization statistics of converting from one type to another type.
+     */
+    interface ConversionStatistic {
+
+        /**
+         * The type to convert from
+         */
+        Class<?> getFrom();
+
+        /**
+         * The type to convert to
+         */
+        Class<?> getTo();
+
+        /**
+         * Number of successful conversions
+         */
+        long getHitCounter();
+
+        /**
+         * Number of attempts which cannot be converted as no suitable type converter exists
+         */
+        long getMissCounter();
+
+        /**
+         * Number of attempts where the fallback type converters was used
+         */
+        long getFallbackCounter();
+
+        /**
+         * Total time in nanos spent in the fallback type converters
+         */
+        long getFallbackTime();
     }
 
     /**
@@ -28,6 +28,8 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
@@ -52,6 +54,7 @@ import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 import org.apache.camel.util.concurrent.ThreadHelper;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.apache.camel.util.concurrent.VirtualThreadPerTaskExecutorService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,6 +73,10 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     private long shutdownAwaitTermination = 10000;
     private String defaultThreadPoolProfileId = "defaultThreadPoolProfile";
     private final ThreadPoolProfile defaultProfile;
+    private boolean virtualThreadPinnedDetection;
+    private long virtualThreadPinnedThreshold = 20;
+    private final Lock virtualThreadPinnedMonitorLock = new ReentrantLock();
+    private volatile VirtualThreadPinnedMonitor virtualThreadPinnedMonitor;
 
     public BaseExecutorServiceManager(CamelContext camelContext) {
         this.camelContext = camelContext;
@@ -160,6 +167,36 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         this.shutdownAwaitTermination = shutdownAwaitTermination;
     }
 
+    /**
+     * Whether to detect virtual threads that are pinned to their carrier thread, for thread pools that use virtual
+     * thread per task. This is disabled by default, as it uses the JDK Flight Recorder.
+     */
+    public boolean isVirtualThreadPinnedDetection() {
+        return virtualThreadPinnedDetection;
+    }
+
+    /**
+     * Whether to detect virtual threads that are pinned to their carrier thread, for thread pools that use virtual
+     * thread per task. This is disabled by default, as it uses the JDK Flight Recorder.
+     */
+    public void setVirtualThreadPinnedDetection(boolean virtualThreadPinnedDetection) {
+        this.virtualThreadPinnedDetection = virtualThreadPinnedDetection;
+    }
+
+    /**
+     * The minimum time (in millis) a virtual thread must be pinned before it is detected. The default is 20 millis.
+     */
+    public long getVirtualThreadPinnedThreshold() {
+        return virtualThreadPinnedThreshold;
+    }
+
+    /**
+     * The minimum time (in millis) a virtual thread must be pinned before it is detected. The default is 20 millis.
+     */
+    public void setVirtualThreadPinnedThreshold(long virtualThreadPinnedThreshold) {
+        this.virtualThreadPinnedThreshold = virtualThreadPinnedThreshold;
+    }
+
     @Override
     public String resolveThreadName(String name) {
         return ThreadHelper.resolveThreadName(threadNamePattern, name);
@@ -200,8 +237,12 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(source, sanitizedName, true);
+        boolean virtual = profile.getVirtualThreadPerTask() != null && profile.getVirtualThreadPerTask();
+        ThreadFactory threadFactory = createThreadFactory(source, sanitizedName, true, virtual);
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
+        if (executorService instanceof VirtualThreadPerTaskExecutorService vte && virtualThreadPinnedDetection) {
+            getOrCreateVirtualThreadPinnedMonitor().addExecutorService(vte);
+        }
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
             LOG.debug("Created new ThreadPool for source: {} with name: {}. -> {}", source, sanitizedName, executorService);
@@ -379,6 +420,10 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
             }
         }
 
+        if (executorService instanceof VirtualThreadPerTaskExecutorService vte && virtualThreadPinnedMonitor != null) {
+            virtualThreadPinnedMonitor.removeExecutorService(vte);
+        }
+
         // remove reference as its shutdown (do not remove if fail-safe)
         if (!failSafe) {
             executorServices.remove(executorService);
@@ -539,10 +584,30 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
             }
         }
 
-        ServiceHelper.stopAndShutdownServices(threadPoolFactory);
+        ServiceHelper.stopAndShutdownServices(threadPoolFactory, virtualThreadPinnedMonitor);
+        virtualThreadPinnedMonitor = null;
         threadFactoryListeners.clear();
     }
 
+    private VirtualThreadPinnedMonitor getOrCreateVirtualThreadPinnedMonitor() {
+        VirtualThreadPinnedMonitor answer = virtualThreadPinnedMonitor;
+        if (answer == null) {
+            virtualThreadPinnedMonitorLock.lock();
+            try {
+                answer = virtualThreadPinnedMonitor;
+                if (answer == null) {
+                    answer = new VirtualThreadPinnedMonitor();
+                    answer.setThreshold(virtualThreadPinnedThreshold);
+                    ServiceHelper.startService(answer);
+                    virtualThreadPinnedMonitor = answer;
+                }
+            } finally {
+                virtualThreadPinnedMonitorLock.unlock();
+            }
+        }
+        return answer;
+    }
+
     /**
      * Invoked when a new thread pool is created. This implementation will invoke the
      * {@link LifecycleStrategy#onThreadPoolAdd(org.apache.camel.CamelContext, java.util.concurrent.ThreadPoolExecutor, String, String, String, String)
@@ -611,7 +676,20 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     }
 
     protected ThreadFactory createThreadFactory(Object source, String name, boolean daemon) {
-        ThreadFactory factory = new CamelThreadFactory(threadNamePattern, name, daemon);
+        return createThreadFactory(source, name, daemon, false);
+    }
+
+    /**
+     * Creates the thread factory
+     *
+     * @param  source  the source to use the thread factory
+     * @param  name    the name
+     * @param  daemon  whether to create daemon threads
+     * @param  virtual whether to always create virtual threads
+     * @return         the thread factory
+     */
+    protected ThreadFactory createThreadFactory(Object source, String name, boolean daemon, boolean virtual) {
+        ThreadFactory factory = new CamelThreadFactory(threadNamePattern, name, daemon, virtual);
         for (ThreadFactoryListener listener : threadFactoryListeners) {
             factory = listener.onNewThreadFactory(source, factory);
         }
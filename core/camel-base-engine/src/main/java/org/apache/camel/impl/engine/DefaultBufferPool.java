@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.BufferPool;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link BufferPool} which keeps the buffers in size classes of power of two, from 512 bytes up to 256kb, where
+ * each size class is a lock-free queue bounded by {@link #getMaximumPoolSize()}.
+ * <p/>
+ * When leak detection is enabled, then the acquired buffers are tracked using weak references, so buffers that are
+ * garbage collected without being released can be reported (which is costly and is intended for development).
+ */
+@ManagedResource(description = "Managed BufferPool")
+public class DefaultBufferPool extends ServiceSupport implements BufferPool, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultBufferPool.class);
+
+    private static final int MIN_SHIFT = 9;
+    private static final int MAX_SHIFT = 18;
+
+    private final SizeClass[] sizeClasses = new SizeClass[MAX_SHIFT - MIN_SHIFT + 1];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder leaks = new LongAdder();
+    private final ReferenceQueue<byte[]> leakQueue = new ReferenceQueue<>();
+    private final Map<byte[], LeakTracker> trackedBuffers = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Set<LeakTracker> trackers = ConcurrentHashMap.newKeySet();
+    private CamelContext camelContext;
+    private int maximumPoolSize = 32;
+    private Boolean leakDetection;
+
+    public DefaultBufferPool() {
+        for (int i = 0; i < sizeClasses.length; i++) {
+            sizeClasses[i] = new SizeClass(1 << (MIN_SHIFT + i));
+        }
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ManagedAttribute(description = "Maximum number of buffers to keep in the pool per size class")
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    /**
+     * Maximum number of buffers to keep in the pool per size class. Default is 32.
+     */
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether leak detection is enabled")
+    public boolean isLeakDetection() {
+        return leakDetection != null && leakDetection;
+    }
+
+    @Override
+    public void setLeakDetection(boolean leakDetection) {
+        this.leakDetection = leakDetection;
+    }
+
+    @Override
+    public byte[] acquire(int size) {
+        if (isLeakDetection()) {
+            reportLeaks();
+        }
+
+        SizeClass sc = sizeClassFor(size);
+        byte[] answer = sc != null ? sc.buffers.poll() : null;
+        if (answer != null) {
+            sc.pooled.decrementAndGet();
+            hits.increment();
+        } else {
+            misses.increment();
+            answer = new byte[sc != null ? sc.size : size];
+        }
+
+        if (isLeakDetection() && sc != null) {
+            LeakTracker tracker = new LeakTracker(answer, leakQueue);
+            trackers.add(tracker);
+            trackedBuffers.put(answer, tracker);
+        }
+        return answer;
+    }
+
+    @Override
+    public void release(byte[] buffer) {
+        if (buffer == null) {
+            return;
+        }
+
+        if (isLeakDetection()) {
+            LeakTracker tracker = trackedBuffers.remove(buffer);
+            if (tracker != null) {
+                tracker.clear();
+                trackers.remove(tracker);
+            }
+        }
+
+        SizeClass sc = sizeClassFor(buffer.length);
+        // only pool the buffers that is exactly a size class
+        if (sc != null && sc.size == buffer.length) {
+            if (sc.pooled.incrementAndGet() <= maximumPoolSize) {
+                sc.buffers.offer(buffer);
+            } else {
+                sc.pooled.decrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    @ManagedAttribute(description = "Number of times a buffer was reused from the pool")
+    public long getHitCounter() {
+        return hits.longValue();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Number of times a new buffer was allocated")
+    public long getMissCounter() {
+        return misses.longValue();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Number of buffers detected as leaked (only when leak detection is enabled)")
+    public long getLeakCounter() {
+        return leaks.longValue();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Percentage of acquired buffers reused from the pool")
+    public double getHitRate() {
+        return BufferPool.super.getHitRate();
+    }
+
+    @ManagedAttribute(description = "Number of buffers currently in the pool")
+    public int getSize() {
+        int answer = 0;
+        for (SizeClass sc : sizeClasses) {
+            answer += sc.buffers.size();
+        }
+        return answer;
+    }
+
+    @Override
+    @ManagedOperation(description = "Resets the statistics")
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        leaks.reset();
+    }
+
+    /**
+     * Clears the buffers in the pool
+     */
+    @ManagedOperation(description = "Clears the buffers in the pool")
+    public void clear() {
+        for (SizeClass sc : sizeClasses) {
+            sc.buffers.clear();
+            sc.pooled.set(0);
+        }
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        if (leakDetection == null && camelContext != null) {
+            // leak detection is enabled by default in development mode
+            leakDetection = "dev".equals(camelContext.getCamelContextExtension().getProfile());
+        }
+        if (isLeakDetection()) {
+            LOG.info("BufferPool leak detection is enabled");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (isLeakDetection()) {
+            reportLeaks();
+        }
+        clear();
+        trackedBuffers.clear();
+        trackers.clear();
+    }
+
+    protected void reportLeaks() {
+        LeakTracker tracker;
+        while ((tracker = (LeakTracker) leakQueue.poll()) != null) {
+            if (trackers.remove(tracker)) {
+                leaks.increment();
+                LOG.warn("Buffer of size: {} was not released back to the BufferPool before it was garbage collected."
+                         + " The buffer was acquired at:",
+                        tracker.size, tracker.acquiredAt);
+            }
+        }
+    }
+
+    private SizeClass sizeClassFor(int size) {
+        if (size > sizeClasses[sizeClasses.length - 1].size) {
+            return null;
+        }
+        int shift = size <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(size - 1);
+        return sizeClasses[Math.max(shift, MIN_SHIFT) - MIN_SHIFT];
+    }
+
+    private static final class SizeClass {
+        private final int size;
+        private final Queue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pooled = new AtomicInteger();
+
+        private SizeClass(int size) {
+            this.size = size;
+        }
+    }
+
+    private static final class LeakTracker extends WeakReference<byte[]> {
+        private final int size;
+        private final Throwable acquiredAt;
+
+        private LeakTracker(byte[] buffer, ReferenceQueue<byte[]> queue) {
+            super(buffer, queue);
+            this.size = buffer.length;
+            this.acquiredAt = new Throwable("Buffer acquired");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultBufferPool";
+    }
+}
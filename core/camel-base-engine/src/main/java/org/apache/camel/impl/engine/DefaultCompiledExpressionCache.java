@@ -0,0 +1,568 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.spi.CompiledExpressionCache;
+import org.apache.camel.support.CamelContextHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link CompiledExpressionCache} which uses a frequency aware eviction policy (similar to W-TinyLFU).
+ * <p/>
+ * New entries are added to a small admission window (1% of the cache), and when they are moved out of the window they
+ * must compete with the eviction victim of the main region, where the entry that has been used the most frequent is
+ * kept. The usage frequency is tracked by a small count-min sketch which is aged over time, so a burst of one-off
+ * expressions (such as dynamic uris) does not evict the expressions that are used all the time. The main region is
+ * segmented into probation and protected, where entries accessed again are promoted to protected (using second chance
+ * instead of re-ordering on every read, so reads are lock-free).
+ * <p/>
+ * If no maximum cache size has been configured, then the size is based on the {@link CamelContext} global option
+ * {@link org.apache.camel.Exchange#MAXIMUM_SIMPLE_CACHE_SIZE}.
+ */
+public class DefaultCompiledExpressionCache extends ServiceSupport implements CompiledExpressionCache, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultCompiledExpressionCache.class);
+
+    private final Map<CacheKey, Node> data = new ConcurrentHashMap<>();
+    private final Lock lock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final NodeList window = new NodeList();
+    private final NodeList probation = new NodeList();
+    private final NodeList protect = new NodeList();
+    private final FrequencySketch sketch = new FrequencySketch();
+    private CamelContext camelContext;
+    private volatile int maximumCacheSize = -1;
+    private int maximumWindowSize;
+    private int maximumProtectedSize;
+
+    public DefaultCompiledExpressionCache() {
+    }
+
+    public DefaultCompiledExpressionCache(int maximumCacheSize) {
+        setMaximumCacheSize(maximumCacheSize);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public int getMaximumCacheSize() {
+        return maximumCacheSize;
+    }
+
+    @Override
+    public void setMaximumCacheSize(int maximumCacheSize) {
+        lock.lock();
+        try {
+            this.maximumCacheSize = maximumCacheSize;
+            this.maximumWindowSize = Math.max(1, maximumCacheSize / 100);
+            this.maximumProtectedSize = (int) ((maximumCacheSize - maximumWindowSize) * 0.8d);
+            sketch.ensureCapacity(maximumCacheSize);
+            if (maximumCacheSize <= 0) {
+                clearNodes();
+            } else {
+                evictExcess();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Object get(String namespace, String key) {
+        Node node = data.get(new CacheKey(namespace, key));
+        if (node == null) {
+            misses.increment();
+            if (maximumCacheSize > 0) {
+                sketch.increment(CacheKey.hash(namespace, key));
+            }
+            return null;
+        }
+        hits.increment();
+        sketch.increment(node.key.hash);
+        if (!node.accessed) {
+            node.accessed = true;
+        }
+        return node.value;
+    }
+
+    @Override
+    public void put(String namespace, String key, Object value) {
+        doPut(new CacheKey(namespace, key), value);
+    }
+
+    @Override
+    public Object remove(String namespace, String key) {
+        CacheKey ck = new CacheKey(namespace, key);
+        if (!data.containsKey(ck)) {
+            return null;
+        }
+        lock.lock();
+        try {
+            Node node = data.remove(ck);
+            if (node != null) {
+                node.list.remove(node);
+                return node.value;
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> Map<String, V> asMap(String namespace) {
+        return (Map<String, V>) new NamespaceMap(namespace);
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            clearNodes();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear(String namespace) {
+        lock.lock();
+        try {
+            data.values().removeIf(node -> {
+                if (node.key.namespace.equals(namespace)) {
+                    node.list.remove(node);
+                    return true;
+                }
+                return false;
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    @Override
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        if (maximumCacheSize < 0) {
+            int size = camelContext != null ? CamelContextHelper.getMaximumSimpleCacheSize(camelContext) : 1000;
+            setMaximumCacheSize(size);
+        }
+        LOG.debug("Compiled expression cache size: {}", maximumCacheSize);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Clearing compiled expression cache[size={}, hits={}, misses={}, evicted={}]",
+                    size(), getHits(), getMisses(), getEvicted());
+        }
+        clear();
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledExpressionCache[size=" + size() + ", capacity=" + maximumCacheSize + "]";
+    }
+
+    private Object doPut(CacheKey key, Object value) {
+        if (maximumCacheSize <= 0) {
+            return null;
+        }
+        lock.lock();
+        try {
+            Node node = data.get(key);
+            if (node != null) {
+                Object old = node.value;
+                node.value = value;
+                node.accessed = true;
+                return old;
+            }
+            node = new Node(key, value);
+            data.put(key, node);
+            window.addLast(node);
+            while (window.size > maximumWindowSize) {
+                Node candidate = window.removeFirst();
+                probation.addLast(candidate);
+                if (data.size() > maximumCacheSize) {
+                    evictFromMain(candidate);
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The candidate (which just left the window) competes with the victim from the main region, and the entry with
+     * the lowest frequency is evicted.
+     */
+    private void evictFromMain(Node candidate) {
+        Node victim = findVictim(candidate);
+        if (victim == null) {
+            evict(candidate);
+        } else if (sketch.frequency(candidate.key.hash) > sketch.frequency(victim.key.hash)) {
+            evict(victim);
+        } else {
+            evict(candidate);
+        }
+    }
+
+    private Node findVictim(Node candidate) {
+        // use second chance where accessed entries in probation are promoted to protected
+        int budget = data.size();
+        Node node = probation.first();
+        while (node != null && budget-- > 0) {
+            if (node == candidate) {
+                node = node.next;
+            } else if (!node.accessed) {
+                return node;
+            } else {
+                node.accessed = false;
+                probation.remove(node);
+                protect.addLast(node);
+                demoteProtected();
+                node = probation.first();
+            }
+        }
+        node = probation.first();
+        return node != candidate ? node : candidate.next;
+    }
+
+    private void demoteProtected() {
+        // use second chance where accessed entries in protected are kept
+        int budget = protect.size;
+        while (protect.size > maximumProtectedSize) {
+            Node node = protect.removeFirst();
+            if (node.accessed && budget-- > 0) {
+                node.accessed = false;
+                protect.addLast(node);
+            } else {
+                node.accessed = false;
+                probation.addFirst(node);
+            }
+        }
+    }
+
+    private void evictExcess() {
+        while (data.size() > maximumCacheSize) {
+            Node node = probation.first();
+            if (node == null) {
+                node = protect.first();
+            }
+            if (node == null) {
+                node = window.first();
+            }
+            if (node == null) {
+                break;
+            }
+            evict(node);
+        }
+        while (window.size > maximumWindowSize) {
+            probation.addLast(window.removeFirst());
+        }
+        demoteProtected();
+    }
+
+    private void evict(Node node) {
+        node.list.remove(node);
+        data.remove(node.key);
+        evicted.increment();
+    }
+
+    private void clearNodes() {
+        data.clear();
+        window.clear();
+        probation.clear();
+        protect.clear();
+    }
+
+    private record CacheKey(String namespace, String key, int hash) {
+
+        CacheKey(String namespace, String key) {
+            this(namespace, key, hash(namespace, key));
+        }
+
+        static int hash(String namespace, String key) {
+            return 31 * namespace.hashCode() + key.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CacheKey other && hash == other.hash && key.equals(other.key)
+                    && namespace.equals(other.namespace);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Node {
+        private final CacheKey key;
+        private volatile Object value;
+        private volatile boolean accessed;
+        private NodeList list;
+        private Node prev;
+        private Node next;
+
+        Node(CacheKey key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Access ordered doubly linked list of nodes (guarded by the lock)
+     */
+    private static final class NodeList {
+        private Node head;
+        private Node tail;
+        private int size;
+
+        Node first() {
+            return head;
+        }
+
+        void addFirst(Node node) {
+            node.list = this;
+            node.prev = null;
+            node.next = head;
+            if (head == null) {
+                tail = node;
+            } else {
+                head.prev = node;
+            }
+            head = node;
+            size++;
+        }
+
+        void addLast(Node node) {
+            node.list = this;
+            node.next = null;
+            node.prev = tail;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        Node removeFirst() {
+            Node node = head;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        void remove(Node node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.list = null;
+            size--;
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+
+    /**
+     * A count-min sketch with 4-bit counters (depth 4) to estimate the usage frequency of the entries. The counters
+     * are halved when the number of samples reaches 10 times the cache size, to let the frequencies age over time.
+     * <p/>
+     * The sketch is updated without locking, as it is only an estimate, where a lost update is acceptable.
+     */
+    static final class FrequencySketch {
+        private static final long[] SEEDS = {
+                0x97cb3127L, 0xab3da4a3L, 0x3c2d2a1fL, 0x8b9e32c1L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private long[] table = new long[16];
+        private int sampleSize = 160;
+        private int size;
+
+        void ensureCapacity(int maximumSize) {
+            int n = Math.max(16, Integer.highestOneBit(Math.max(1, maximumSize) - 1) << 1);
+            if (table.length != n) {
+                table = new long[n];
+                size = 0;
+            }
+            sampleSize = Math.max(1, maximumSize) * 10;
+        }
+
+        void increment(int hash) {
+            long[] t = table;
+            int mask = t.length - 1;
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int h = spread(hash, i);
+                int index = h & mask;
+                int offset = ((h >>> 24) & 15) << 2;
+                long bit = 0xfL << offset;
+                long value = t[index];
+                if ((value & bit) != bit) {
+                    t[index] = value + (1L << offset);
+                    added = true;
+                }
+            }
+            if (added && ++size >= sampleSize) {
+                reset(t);
+            }
+        }
+
+        int frequency(int hash) {
+            long[] t = table;
+            int mask = t.length - 1;
+            int answer = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int h = spread(hash, i);
+                int offset = ((h >>> 24) & 15) << 2;
+                int count = (int) ((t[h & mask] >>> offset) & 0xfL);
+                answer = Math.min(answer, count);
+            }
+            return answer;
+        }
+
+        private void reset(long[] t) {
+            for (int i = 0; i < t.length; i++) {
+                t[i] = (t[i] >>> 1) & RESET_MASK;
+            }
+            size = size / 2;
+        }
+
+        private static int spread(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h;
+        }
+    }
+
+    /**
+     * {@link Map} view for a namespace in the cache
+     */
+    private final class NamespaceMap extends AbstractMap<String, Object> {
+        private final String namespace;
+
+        NamespaceMap(String namespace) {
+            this.namespace = namespace;
+        }
+
+        @Override
+        public Object get(Object key) {
+            return key instanceof String s ? DefaultCompiledExpressionCache.this.get(namespace, s) : null;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            return doPut(new CacheKey(namespace, key), value);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return key instanceof String s ? DefaultCompiledExpressionCache.this.remove(namespace, s) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String s && data.containsKey(new CacheKey(namespace, s));
+        }
+
+        @Override
+        public void clear() {
+            DefaultCompiledExpressionCache.this.clear(namespace);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            Map<String, Object> answer = new LinkedHashMap<>();
+            for (Node node : data.values()) {
+                if (node.key.namespace.equals(namespace)) {
+                    answer.put(node.key.key, node.value);
+                }
+            }
+            return Collections.unmodifiableMap(answer).entrySet();
+        }
+    }
+}
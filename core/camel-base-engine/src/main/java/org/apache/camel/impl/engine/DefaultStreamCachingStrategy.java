@@ -19,11 +19,15 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -40,6 +44,7 @@ import org.apache.camel.support.TempDirHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,6 +73,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private volatile int spoolUsedHeapMemoryThreshold;
     private SpoolUsedHeapMemoryLimit spoolUsedHeapMemoryLimit;
     private String spoolCipher;
+    private SpoolMode spoolMode = SpoolMode.Stream;
+    private int spoolDirectBufferPoolSize = 32;
+    private final Queue<ByteBuffer> spoolBuffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger spoolBuffersAllocated = new AtomicInteger();
     private volatile int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
     private boolean removeSpoolDirectoryWhenStopping = true;
     private final UtilizationStatistics statistics = new UtilizationStatistics();
@@ -187,6 +196,58 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.spoolCipher = spoolCipher;
     }
 
+    @Override
+    public SpoolMode getSpoolMode() {
+        return spoolMode;
+    }
+
+    @Override
+    public void setSpoolMode(SpoolMode spoolMode) {
+        this.spoolMode = spoolMode;
+    }
+
+    @Override
+    public int getSpoolDirectBufferPoolSize() {
+        return spoolDirectBufferPoolSize;
+    }
+
+    @Override
+    public void setSpoolDirectBufferPoolSize(int spoolDirectBufferPoolSize) {
+        this.spoolDirectBufferPoolSize = spoolDirectBufferPoolSize;
+    }
+
+    @Override
+    public ByteBuffer acquireSpoolBuffer() {
+        statistics.spoolBufferInUse.incrementAndGet();
+        ByteBuffer answer = spoolBuffers.poll();
+        if (answer != null) {
+            statistics.spoolBufferHitCounter.incrementAndGet();
+            return answer;
+        }
+        if (spoolBuffersAllocated.incrementAndGet() <= spoolDirectBufferPoolSize) {
+            statistics.spoolBufferMissCounter.incrementAndGet();
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+        // the pool is exhausted so fallback to use a heap buffer
+        spoolBuffersAllocated.decrementAndGet();
+        statistics.spoolBufferExhaustedCounter.incrementAndGet();
+        return ByteBuffer.allocate(bufferSize);
+    }
+
+    @Override
+    public void releaseSpoolBuffer(ByteBuffer buffer) {
+        statistics.spoolBufferInUse.decrementAndGet();
+        if (buffer.isDirect()) {
+            if (buffer.capacity() == bufferSize) {
+                buffer.clear();
+                spoolBuffers.offer(buffer);
+            } else {
+                // the buffer size has been changed so let the buffer be garbage collected
+                spoolBuffersAllocated.decrementAndGet();
+            }
+        }
+    }
+
     @Override
     public int getBufferSize() {
         return bufferSize;
@@ -401,6 +462,14 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
         }
 
+        if (spoolDirectBufferPoolSize < 0) {
+            throw new IllegalArgumentException(
+                    "SpoolDirectBufferPoolSize must not be negative, was: " + spoolDirectBufferPoolSize);
+        }
+        if (spoolMode == SpoolMode.Direct && ObjectHelper.isNotEmpty(spoolCipher)) {
+            LOG.warn("SpoolMode Direct is not in use when a SpoolCipher is configured. Spooling uses SpoolMode Stream.");
+        }
+
         if (spoolUsedHeapMemoryThreshold > 99) {
             throw new IllegalArgumentException(
                     "SpoolHeapMemoryWatermarkThreshold must not be higher than 99, was: " + spoolUsedHeapMemoryThreshold);
@@ -474,6 +543,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+        spoolBuffers.clear();
+        spoolBuffersAllocated.set(0);
     }
 
     private boolean isSpoolRemovable() {
@@ -486,6 +557,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + "spoolDirectoryEnabled=" + spoolEnabled
                + ", spoolDirectory=" + spoolDirectory
                + ", spoolCipher=" + spoolCipher
+               + ", spoolMode=" + spoolMode
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
                + ", bufferSize=" + bufferSize
@@ -568,6 +640,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         private final AtomicLong spoolCounter = new AtomicLong();
         private final AtomicLong spoolSize = new AtomicLong();
         private final AtomicLong spoolAverageSize = new AtomicLong();
+        // the spool buffer pool is always counted as its cheap and the buffers in use should be accurate
+        private final AtomicLong spoolBufferHitCounter = new AtomicLong();
+        private final AtomicLong spoolBufferMissCounter = new AtomicLong();
+        private final AtomicLong spoolBufferExhaustedCounter = new AtomicLong();
+        private final AtomicLong spoolBufferInUse = new AtomicLong();
 
         void updateMemory(long size) {
             lock.lock();
@@ -617,6 +694,26 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize.get();
         }
 
+        @Override
+        public long getSpoolBufferPoolHitCounter() {
+            return spoolBufferHitCounter.get();
+        }
+
+        @Override
+        public long getSpoolBufferPoolMissCounter() {
+            return spoolBufferMissCounter.get();
+        }
+
+        @Override
+        public long getSpoolBufferPoolExhaustedCounter() {
+            return spoolBufferExhaustedCounter.get();
+        }
+
+        @Override
+        public long getSpoolBufferPoolInUse() {
+            return spoolBufferInUse.get();
+        }
+
         @Override
         public void reset() {
             lock.lock();
@@ -627,6 +724,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                 spoolCounter.set(0);
                 spoolSize.set(0);
                 spoolAverageSize.set(0);
+                spoolBufferHitCounter.set(0);
+                spoolBufferMissCounter.set(0);
+                spoolBufferExhaustedCounter.set(0);
             } finally {
                 lock.unlock();
             }
@@ -645,8 +745,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         @Override
         public String toString() {
             return String.format(
-                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s"
+                    + ", spoolBufferPoolHitCounter=%s, spoolBufferPoolMissCounter=%s, spoolBufferPoolExhaustedCounter=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    spoolBufferHitCounter, spoolBufferMissCounter, spoolBufferExhaustedCounter);
         }
     }
 
@@ -0,0 +1,676 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * A case insensitive map for message headers, which interns well-known header names into integer slots.
+ * <p/>
+ * Well-known header names (such as the {@link org.apache.camel.Exchange} constants and the header constants of the
+ * components in use) are registered once in a global table, where each name is assigned a fixed slot and a
+ * precomputed case insensitive hash. Using one of these names as key (which is the common case as the constants are
+ * used) does not need to lowercase or compare the key, but only compares the slot. Other keys are hashed case
+ * insensitive in the same manner as {@link org.apache.camel.util.CaseInsensitiveMap}.
+ * <p/>
+ * The entries are stored in insertion order in compact parallel arrays, which are scanned linearly for small maps, and
+ * indexed by an open-addressing table when the map grows larger. A copy created by {@link #IndexedHeadersMap(Map)}
+ * shares the arrays with the source map until either of the maps is changed (copy-on-write).
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public class IndexedHeadersMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final @Serial long serialVersionUID = 6185296312467123541L;
+
+    private static final int INITIAL_CAPACITY = 8;
+    // maps up to this number of entries are scanned linearly, larger maps are indexed
+    private static final int LINEAR_SCAN_LIMIT = 8;
+    private static final String[] EMPTY_KEYS = new String[0];
+    private static final Object[] EMPTY_VALUES = new Object[0];
+    private static final int[] EMPTY_INTS = new int[0];
+
+    private static final Lock LOCK = new ReentrantLock();
+    private static volatile KnownKeys known = new KnownKeys(EMPTY_KEYS);
+
+    private transient String[] keys;
+    private transient Object[] values;
+    private transient int[] hashes;
+    private transient int[] slots;
+    // open-addressing (linear probing) table of entry positions (+1) by hash, only used for larger maps
+    private transient int[] index;
+    private transient int used;
+    private transient int size;
+    // whether the arrays are shared with another map and must be copied before changing
+    private transient boolean shared;
+
+    public IndexedHeadersMap() {
+        this.keys = EMPTY_KEYS;
+        this.values = EMPTY_VALUES;
+        this.hashes = EMPTY_INTS;
+        this.slots = EMPTY_INTS;
+    }
+
+    public IndexedHeadersMap(Map<? extends String, ?> map) {
+        if (map instanceof IndexedHeadersMap other) {
+            // share the arrays until either map is changed
+            this.keys = other.keys;
+            this.values = other.values;
+            this.hashes = other.hashes;
+            this.slots = other.slots;
+            this.index = other.index;
+            this.used = other.used;
+            this.size = other.size;
+            this.shared = true;
+            other.shared = true;
+        } else {
+            int capacity = Math.max(INITIAL_CAPACITY, map.size());
+            this.keys = new String[capacity];
+            this.values = new Object[capacity];
+            this.hashes = new int[capacity];
+            this.slots = new int[capacity];
+            putAll(map);
+        }
+    }
+
+    /**
+     * Registers well-known header names, which are interned into slots. Names already registered (case insensitive)
+     * are ignored.
+     * <p/>
+     * This is intended to be called during startup, as each call rebuilds the global table of names. Maps created
+     * before the names were registered continue to work, but do not benefit from the interning for entries that were
+     * added before.
+     */
+    public static void registerKnownKeys(Collection<String> names) {
+        LOCK.lock();
+        try {
+            KnownKeys current = known;
+            String[] add = new String[names.size()];
+            int count = 0;
+            for (String name : names) {
+                if (name != null && !name.isEmpty() && current.slotOf(name) < 0 && !containsIgnoreCase(add, count, name)) {
+                    add[count++] = name;
+                }
+            }
+            if (count > 0) {
+                String[] all = Arrays.copyOf(current.names, current.names.length + count);
+                System.arraycopy(add, 0, all, current.names.length, count);
+                known = new KnownKeys(all);
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Whether the given name is registered as a well-known header name (case insensitive).
+     */
+    public static boolean isKnownKey(String name) {
+        return known.slotOf(name) >= 0;
+    }
+
+    private static boolean containsIgnoreCase(String[] names, int count, String name) {
+        for (int i = 0; i < count; i++) {
+            if (names[i].equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static int caseInsensitiveHash(String key) {
+        int h = 0;
+        for (int i = 0, len = key.length(); i < len; i++) {
+            char c = key.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c += 32; // fast ASCII upper-to-lower
+            } else if (c >= 128) {
+                // full Unicode two-step fold for non-ASCII
+                c = Character.toLowerCase(Character.toUpperCase(c));
+            }
+            h = 31 * h + c;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int cap) {
+        int n = Integer.highestOneBit(Math.max(cap, 2) - 1) << 1;
+        return Math.max(16, n);
+    }
+
+    // Lookup
+    // -------------------------------------------------------------------------
+
+    private int indexOf(Object o) {
+        if (!(o instanceof String key) || size == 0) {
+            return -1;
+        }
+        KnownKeys kk = known;
+        int slot = kk.exactSlotOf(key);
+        int hash;
+        if (slot >= 0) {
+            hash = kk.hashes[slot];
+        } else {
+            hash = caseInsensitiveHash(key);
+            slot = kk.foldedSlotOf(key, hash);
+        }
+        return find(key, hash, slot);
+    }
+
+    private int find(String key, int hash, int slot) {
+        if (index != null) {
+            int mask = index.length - 1;
+            for (int i = hash & mask;; i = (i + 1) & mask) {
+                int e = index[i];
+                if (e == 0) {
+                    return -1;
+                }
+                if (matches(e - 1, key, hash, slot)) {
+                    return e - 1;
+                }
+            }
+        }
+        for (int i = 0; i < used; i++) {
+            if (matches(i, key, hash, slot)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matches(int i, String key, int hash, int slot) {
+        if (hashes[i] != hash) {
+            return false;
+        }
+        String k = keys[i];
+        if (k == null) {
+            // removed entry (only when scanning)
+            return false;
+        }
+        if (slot >= 0 && slots[i] == slot) {
+            return true;
+        }
+        return k == key || k.equalsIgnoreCase(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = indexOf(key);
+        return i >= 0 ? values[i] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != null && Objects.equals(value, values[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Changes
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Object put(String key, Object value) {
+        KnownKeys kk = known;
+        int slot = kk.exactSlotOf(key);
+        int hash;
+        if (slot >= 0) {
+            hash = kk.hashes[slot];
+        } else {
+            hash = caseInsensitiveHash(key);
+            slot = kk.foldedSlotOf(key, hash);
+        }
+
+        int i = size > 0 ? find(key, hash, slot) : -1;
+        if (i >= 0) {
+            ensureWritable();
+            Object old = values[i];
+            values[i] = value;
+            return old;
+        }
+
+        ensureWritable();
+        if (used == keys.length) {
+            grow();
+        }
+        int e = used++;
+        // store the canonical name for well-known keys
+        keys[e] = slot >= 0 ? kk.names[slot] : key;
+        values[e] = value;
+        hashes[e] = hash;
+        slots[e] = slot;
+        size++;
+        if (index != null) {
+            if (used * 2 > index.length) {
+                rebuildIndex();
+            } else {
+                addToIndex(index, e, hash);
+            }
+        } else if (used > LINEAR_SCAN_LIMIT) {
+            rebuildIndex();
+        }
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        ensureWritable();
+        return removeAt(i);
+    }
+
+    @Override
+    public void clear() {
+        if (used == 0) {
+            return;
+        }
+        if (shared) {
+            // no need to copy the arrays just to clear them
+            keys = EMPTY_KEYS;
+            values = EMPTY_VALUES;
+            hashes = EMPTY_INTS;
+            slots = EMPTY_INTS;
+            shared = false;
+        } else {
+            Arrays.fill(keys, 0, used, null);
+            Arrays.fill(values, 0, used, null);
+        }
+        index = null;
+        used = 0;
+        size = 0;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        for (Entry<? extends String, ?> entry : m.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != null) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private Object removeAt(int i) {
+        Object old = values[i];
+        if (index != null) {
+            removeFromIndex(i);
+        }
+        keys[i] = null;
+        values[i] = null;
+        size--;
+        if (size == 0) {
+            used = 0;
+            index = null;
+        } else if (i == used - 1) {
+            used--;
+        }
+        return old;
+    }
+
+    private void removeFromIndex(int e) {
+        int mask = index.length - 1;
+        int i = hashes[e] & mask;
+        while (index[i] != e + 1) {
+            i = (i + 1) & mask;
+        }
+        // shift back the following entries of the probe sequence, so no tombstones are needed
+        for (int j = (i + 1) & mask; index[j] != 0; j = (j + 1) & mask) {
+            int home = hashes[index[j] - 1] & mask;
+            if (j > i ? (home <= i || home > j) : (home <= i && home > j)) {
+                index[i] = index[j];
+                i = j;
+            }
+        }
+        index[i] = 0;
+    }
+
+    private void ensureWritable() {
+        if (shared) {
+            keys = keys.clone();
+            values = values.clone();
+            hashes = hashes.clone();
+            slots = slots.clone();
+            if (index != null) {
+                index = index.clone();
+            }
+            shared = false;
+        }
+    }
+
+    private void grow() {
+        // compact the removed entries (in place if enough room), and double the capacity if still more than half full
+        int capacity = keys.length == 0
+                ? INITIAL_CAPACITY : size >= keys.length / 2 ? keys.length * 2 : keys.length;
+        boolean inPlace = capacity == keys.length;
+        String[] newKeys = inPlace ? keys : new String[capacity];
+        Object[] newValues = inPlace ? values : new Object[capacity];
+        int[] newHashes = inPlace ? hashes : new int[capacity];
+        int[] newSlots = inPlace ? slots : new int[capacity];
+        int n = 0;
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != null) {
+                newKeys[n] = keys[i];
+                newValues[n] = values[i];
+                newHashes[n] = hashes[i];
+                newSlots[n] = slots[i];
+                n++;
+            }
+        }
+        if (inPlace) {
+            Arrays.fill(keys, n, used, null);
+            Arrays.fill(values, n, used, null);
+        }
+        keys = newKeys;
+        values = newValues;
+        hashes = newHashes;
+        slots = newSlots;
+        used = n;
+        if (index != null) {
+            rebuildIndex();
+        }
+    }
+
+    private void rebuildIndex() {
+        int length = tableSizeFor(keys.length * 2);
+        int[] table;
+        if (index != null && index.length == length) {
+            table = index;
+            Arrays.fill(table, 0);
+        } else {
+            table = new int[length];
+        }
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != null) {
+                addToIndex(table, i, hashes[i]);
+            }
+        }
+        index = table;
+    }
+
+    private static void addToIndex(int[] table, int e, int hash) {
+        int mask = table.length - 1;
+        int i = hash & mask;
+        while (table[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        table[i] = e + 1;
+    }
+
+    // Views
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new EntrySet();
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Entry<?, ?> e)) {
+                return false;
+            }
+            int i = indexOf(e.getKey());
+            return i >= 0 && Objects.equals(values[i], e.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!(o instanceof Entry<?, ?> e)) {
+                return false;
+            }
+            int i = indexOf(e.getKey());
+            if (i >= 0 && Objects.equals(values[i], e.getValue())) {
+                ensureWritable();
+                removeAt(i);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void clear() {
+            IndexedHeadersMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int cursor;
+        private int lastReturned = -1;
+
+        EntryIterator() {
+            cursor = advance(0);
+        }
+
+        private int advance(int from) {
+            for (int i = from; i < used; i++) {
+                if (keys[i] != null) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor != -1;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (cursor == -1) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor;
+            cursor = advance(cursor + 1);
+            return new MapEntry(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            ensureWritable();
+            removeAt(lastReturned);
+            lastReturned = -1;
+        }
+    }
+
+    private final class MapEntry implements Entry<String, Object> {
+        private final int index;
+
+        MapEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return keys[index];
+        }
+
+        @Override
+        public Object getValue() {
+            return values[index];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            ensureWritable();
+            Object old = values[index];
+            values[index] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry<?, ?> e)) {
+                return false;
+            }
+            return keys[index].equals(e.getKey()) && Objects.equals(values[index], e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return keys[index].hashCode() ^ Objects.hashCode(values[index]);
+        }
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != null) {
+                out.writeObject(keys[i]);
+                out.writeObject(values[i]);
+            }
+        }
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        int capacity = Math.max(INITIAL_CAPACITY, count);
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        slots = new int[capacity];
+        for (int i = 0; i < count; i++) {
+            String key = (String) in.readObject();
+            Object value = in.readObject();
+            put(key, value);
+        }
+    }
+
+    /**
+     * Immutable table of the well-known header names, which is replaced as a whole when more names are registered.
+     */
+    private static final class KnownKeys {
+
+        private final String[] names;
+        // case insensitive hash per slot
+        private final int[] hashes;
+        // open-addressing tables of slots (+1) by exact and case insensitive hash
+        private final int[] exact;
+        private final int[] folded;
+
+        KnownKeys(String[] names) {
+            this.names = names;
+            this.hashes = new int[names.length];
+            this.exact = new int[tableSizeFor(names.length * 2)];
+            this.folded = new int[exact.length];
+            for (int slot = 0; slot < names.length; slot++) {
+                hashes[slot] = caseInsensitiveHash(names[slot]);
+                addToIndex(exact, slot, names[slot].hashCode());
+                addToIndex(folded, slot, hashes[slot]);
+            }
+        }
+
+        /**
+         * Slot of the name (exact case first, then case insensitive), or -1 if not a well-known name.
+         */
+        int slotOf(String name) {
+            int slot = exactSlotOf(name);
+            return slot >= 0 ? slot : foldedSlotOf(name, caseInsensitiveHash(name));
+        }
+
+        int exactSlotOf(String name) {
+            // the hash code of the string is cached, which makes this lookup cheap
+            int hash = name.hashCode();
+            int mask = exact.length - 1;
+            for (int i = hash & mask;; i = (i + 1) & mask) {
+                int s = exact[i];
+                if (s == 0) {
+                    return -1;
+                }
+                String n = names[s - 1];
+                if (n == name || n.hashCode() == hash && n.equals(name)) {
+                    return s - 1;
+                }
+            }
+        }
+
+        int foldedSlotOf(String name, int hash) {
+            int mask = folded.length - 1;
+            for (int i = hash & mask;; i = (i + 1) & mask) {
+                int s = folded[i];
+                if (s == 0) {
+                    return -1;
+                }
+                if (hashes[s - 1] == hash && names[s - 1].equalsIgnoreCase(name)) {
+                    return s - 1;
+                }
+            }
+        }
+    }
+}
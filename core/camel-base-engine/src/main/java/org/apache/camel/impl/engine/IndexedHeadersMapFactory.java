@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Endpoint;
+import org.apache.camel.ExchangeConstantProvider;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.apache.camel.spi.UriEndpoint;
+import org.apache.camel.support.LifecycleStrategySupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link HeadersMapFactory} which uses the {@link IndexedHeadersMap}, where well-known header names are interned into
+ * integer slots, and copies of the map are copy-on-write.
+ * <p/>
+ * The {@link org.apache.camel.Exchange} constants are registered as well-known header names, and when used with a
+ * {@link CamelContext} then the header constants (from {@link UriEndpoint#headersClass()}) of the endpoints in use are
+ * registered as well. This implementation is case insensitive.
+ */
+public class IndexedHeadersMapFactory implements HeadersMapFactory, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndexedHeadersMapFactory.class);
+
+    static {
+        IndexedHeadersMap.registerKnownKeys(ExchangeConstantProvider.values());
+    }
+
+    private final Set<Class<?>> scanned = ConcurrentHashMap.newKeySet();
+    private CamelContext camelContext;
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        if (this.camelContext == null && camelContext != null) {
+            // register header constants from the endpoints as they are added
+            camelContext.addLifecycleStrategy(new LifecycleStrategySupport() {
+                @Override
+                public void onEndpointAdd(Endpoint endpoint) {
+                    registerHeaders(endpoint);
+                }
+            });
+            for (Endpoint endpoint : camelContext.getEndpoints()) {
+                registerHeaders(endpoint);
+            }
+        }
+        this.camelContext = camelContext;
+    }
+
+    /**
+     * Registers the header constants of the given endpoint as well-known header names.
+     */
+    protected void registerHeaders(Endpoint endpoint) {
+        UriEndpoint ann = endpoint.getClass().getAnnotation(UriEndpoint.class);
+        if (ann == null) {
+            return;
+        }
+        Class<?> headersClass = ann.headersClass();
+        if (headersClass == void.class || headersClass.isEnum() || !scanned.add(headersClass)) {
+            return;
+        }
+        List<String> names = new ArrayList<>();
+        for (Field field : headersClass.getFields()) {
+            int mod = field.getModifiers();
+            if (Modifier.isStatic(mod) && Modifier.isFinal(mod) && field.getType() == String.class) {
+                try {
+                    names.add((String) field.get(null));
+                } catch (Exception e) {
+                    // ignore
+                }
+            }
+        }
+        LOG.debug("Registering {} well-known header names from: {}", names.size(), headersClass.getName());
+        IndexedHeadersMap.registerKnownKeys(names);
+    }
+
+    @Override
+    public Map<String, Object> newMap() {
+        return new IndexedHeadersMap();
+    }
+
+    @Override
+    public Map<String, Object> newMap(Map<String, Object> map) {
+        return new IndexedHeadersMap(map);
+    }
+
+    @Override
+    public boolean isInstanceOf(Map<String, Object> map) {
+        return map instanceof IndexedHeadersMap;
+    }
+
+    @Override
+    public boolean isCaseInsensitive() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "indexed-headers-map";
+    }
+}
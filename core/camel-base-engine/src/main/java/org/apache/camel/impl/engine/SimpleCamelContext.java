@@ -40,11 +40,13 @@ import org.apache.camel.spi.BackOffTimerFactory;
 import org.apache.camel.spi.BeanIntrospection;
 import org.apache.camel.spi.BeanProcessorFactory;
 import org.apache.camel.spi.BeanProxyFactory;
+import org.apache.camel.spi.BufferPool;
 import org.apache.camel.spi.CamelBeanPostProcessor;
 import org.apache.camel.spi.CamelContextNameStrategy;
 import org.apache.camel.spi.CamelDependencyInjectionAnnotationFactory;
 import org.apache.camel.spi.ClassResolver;
 import org.apache.camel.spi.CliConnectorFactory;
+import org.apache.camel.spi.CompiledExpressionCache;
 import org.apache.camel.spi.ComponentNameResolver;
 import org.apache.camel.spi.ComponentResolver;
 import org.apache.camel.spi.ConfigurerResolver;
@@ -288,6 +290,16 @@ public class SimpleCamelContext extends AbstractCamelContext {
         return new DefaultPeriodTaskScheduler();
     }
 
+    @Override
+    protected CompiledExpressionCache createCompiledExpressionCache() {
+        return new DefaultCompiledExpressionCache();
+    }
+
+    @Override
+    protected BufferPool createBufferPool() {
+        return new DefaultBufferPool();
+    }
+
     @Override
     protected FactoryFinderResolver createFactoryFinderResolver() {
         return new DefaultFactoryFinderResolver();
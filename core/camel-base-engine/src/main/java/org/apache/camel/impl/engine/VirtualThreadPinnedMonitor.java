@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.VirtualThreadPerTaskExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Detects virtual threads that are pinned to their carrier thread while running tasks from a
+ * {@link VirtualThreadPerTaskExecutorService}, such as when blocking inside a {@code synchronized} block.
+ * <p/>
+ * The detection uses the JDK Flight Recorder {@code jdk.VirtualThreadPinned} event, and the pinned events are
+ * attributed to the executor service that ran the task, which keeps the pinned statistics. As the events are delivered
+ * in batches, after the task may be done, the executor services remember the threads of their most recent tasks. A WARN is logged the first
+ * time a task is pinned at a given location, to help finding the code that should be changed to not block while
+ * pinned. If the JDK Flight Recorder is not available then pinning is not detected.
+ */
+public class VirtualThreadPinnedMonitor extends ServiceSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPinnedMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_REPORTED = 100;
+
+    private final List<VirtualThreadPerTaskExecutorService> executorServices = new CopyOnWriteArrayList<>();
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+    private long threshold = 20;
+    private RecordingStream stream;
+
+    /**
+     * The minimum time (in millis) a virtual thread must be pinned before it is detected.
+     */
+    public long getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * The minimum time (in millis) a virtual thread must be pinned before it is detected.
+     */
+    public void setThreshold(long threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Adds the executor service to detect pinned virtual threads for
+     */
+    public void addExecutorService(VirtualThreadPerTaskExecutorService executorService) {
+        executorService.setTrackThreads(true);
+        executorServices.add(executorService);
+    }
+
+    /**
+     * Removes the executor service
+     */
+    public void removeExecutorService(VirtualThreadPerTaskExecutorService executorService) {
+        executorServices.remove(executorService);
+    }
+
+    /**
+     * Whether pinned virtual threads are being detected (the JDK Flight Recorder is available)
+     */
+    public boolean isDetecting() {
+        return stream != null;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        try {
+            RecordingStream rs = new RecordingStream();
+            rs.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(threshold)).withStackTrace();
+            rs.onEvent(PINNED_EVENT, this::onPinnedEvent);
+            rs.setReuse(true);
+            rs.startAsync();
+            stream = rs;
+            LOG.debug("Detecting virtual threads pinned longer than {} millis", threshold);
+        } catch (Exception | Error e) {
+            LOG.debug("Cannot detect pinned virtual threads due to JDK Flight Recorder not available: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+        reported.clear();
+    }
+
+    protected void onPinnedEvent(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        if (thread == null) {
+            return;
+        }
+        long id = thread.getJavaThreadId();
+        for (VirtualThreadPerTaskExecutorService executorService : executorServices) {
+            if (executorService.hasRunTask(id)) {
+                long nanos = event.getDuration().toNanos();
+                executorService.onPinned(id, nanos);
+                String location = pinnedLocation(event.getStackTrace());
+                if (reported.size() < MAX_REPORTED && reported.add(executorService.getName() + location)) {
+                    LOG.warn("Virtual thread: {} running task from: {} was pinned to its carrier thread for {} millis at: {}",
+                            thread.getJavaName(), executorService.getName(), Duration.ofNanos(nanos).toMillis(),
+                            location);
+                }
+                return;
+            }
+        }
+    }
+
+    private static String pinnedLocation(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        // skip the JDK frames, as we want to know which code caused the pinning
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame()) {
+                String type = frame.getMethod().getType().getName();
+                if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                    return type + "." + frame.getMethod().getName() + "(line:" + frame.getLineNumber() + ")";
+                }
+            }
+        }
+        return "unknown";
+    }
+}
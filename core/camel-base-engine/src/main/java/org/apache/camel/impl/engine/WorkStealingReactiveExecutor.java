@@ -0,0 +1,415 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.ContextValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} which uses work-stealing deques, so tasks queued on a busy thread can be picked up by idle
+ * threads.
+ * <p/>
+ * The {@link DefaultReactiveExecutor} keeps all the tasks queued by a thread in a thread-local queue, which only that
+ * thread will ever execute. This implementation behaves the same as long as the queue is short, so the continuation of
+ * an exchange (such as the next step in a pipeline) stays on the thread that routes the exchange. Only when a thread
+ * busy running reactive work has built up a backlog of at least {@link #getStealThreshold()} queued tasks, and a worker
+ * thread is idle, then further tasks scheduled (fairly) via {@link #schedule(Runnable)} are queued in a concurrent
+ * deque which the idle worker threads steal tasks from. This allows bursty asynchronous routes to use all the cores
+ * instead of piling up on the thread that happened to receive the callback.
+ * <p/>
+ * The thread that queued the tasks keeps executing them as well, so routing never depends on the worker threads
+ * being available (they may be blocked by the tasks they have stolen). Tasks scheduled via
+ * {@link #scheduleMain(Runnable)}, {@link #scheduleSync(Runnable)} and {@link #scheduleQueue(Runnable)} are never
+ * stolen, and neither are tasks scheduled while executing from the queue (which is used for transacted routes), to
+ * keep them on the same thread.
+ */
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+public class WorkStealingReactiveExecutor extends ServiceSupport
+        implements ReactiveExecutor, StaticService, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    private CamelContext camelContext;
+    private int parallelism;
+    private int stealThreshold = 16;
+    private volatile ExecutorService stealers;
+    // number of worker threads waiting for tasks to steal
+    private final AtomicInteger idleStealers = new AtomicInteger();
+    // workers which have tasks that can be stolen
+    private final BlockingQueue<Worker> victims = new LinkedBlockingQueue<>();
+
+    // use for statistics so we have insights at runtime
+    private boolean statisticsEnabled;
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    private final LongAdder runningWorkers = new LongAdder();
+    private final LongAdder pendingTasks = new LongAdder();
+    private final LongAdder stolenTasks = new LongAdder();
+
+    private final ContextValue<Worker> workers = ContextValue.newThreadLocal("CamelReactiveWorker", () -> {
+        int number = createdWorkers.incrementAndGet();
+        return new Worker(number, WorkStealingReactiveExecutor.this);
+    });
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ManagedAttribute(description = "Number of worker threads stealing tasks from busy threads")
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Number of worker threads stealing tasks from busy threads. The default is the number of available processors.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @ManagedAttribute(description = "Number of tasks queued on a busy thread before tasks can be stolen")
+    public int getStealThreshold() {
+        return stealThreshold;
+    }
+
+    /**
+     * Number of tasks queued on a busy thread, before further tasks can be stolen by idle worker threads. The default
+     * is 16.
+     */
+    public void setStealThreshold(int stealThreshold) {
+        this.stealThreshold = stealThreshold;
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        workers.get().schedule(runnable, false, false, false);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        workers.get().schedule(runnable, true, true, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        workers.get().schedule(runnable, false, true, true);
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        workers.get().scheduleQueue(runnable);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        return runningWorkers.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        return pendingTasks.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of tasks stolen from busy threads")
+    public long getStolenTasks() {
+        return stolenTasks.longValue();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(camelContext, "camelContext", this);
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+        stealers = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "ReactiveExecutor", parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            stealers.execute(this::steal);
+        }
+        LOG.debug("Started WorkStealingReactiveExecutor with parallelism: {}", parallelism);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (stealers != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(stealers);
+            stealers = null;
+        }
+        victims.clear();
+        if (LOG.isDebugEnabled() && statisticsEnabled) {
+            LOG.debug("Stopping WorkStealingReactiveExecutor"
+                      + " [createdWorkers: {}, runningWorkers: {}, pendingTasks: {}, stolenTasks: {}]",
+                    getCreatedWorkers(), getRunningWorkers(), getPendingTasks(), getStolenTasks());
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        workers.remove();
+    }
+
+    @Override
+    public String toString() {
+        return "work-stealing";
+    }
+
+    /**
+     * The loop of the worker threads, which steal tasks from busy threads when they are idle.
+     */
+    private void steal() {
+        ExecutorService pool = stealers;
+        // the thread pool may be shutdown by the executor service manager before this is stopped
+        while (isRunAllowed() && pool != null && !pool.isShutdown()) {
+            Worker victim;
+            idleStealers.incrementAndGet();
+            try {
+                victim = victims.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                idleStealers.decrementAndGet();
+            }
+            if (victim == null) {
+                continue;
+            }
+            victim.advertised.set(false);
+            Runnable task = victim.stealable.pollFirst();
+            if (task == null) {
+                // the victim has executed the tasks itself
+                continue;
+            }
+            // let another worker thread steal the remainder
+            victim.advertise();
+            if (statisticsEnabled) {
+                stolenTasks.increment();
+            }
+            // run the task as if it was scheduled on this thread, so any tasks it schedules can be stolen as well
+            workers.get().schedule(task, false, false, false);
+        }
+    }
+
+    private static class Worker {
+
+        private final int number;
+        private final WorkStealingReactiveExecutor executor;
+        private volatile Deque<Runnable> queue = new ArrayDeque<>();
+        private volatile Deque<Deque<Runnable>> back;
+        private volatile boolean running;
+        // tasks that can be executed by this worker, or be stolen by other threads
+        private final Deque<Runnable> stealable = new ConcurrentLinkedDeque<>();
+        private final AtomicBoolean advertised = new AtomicBoolean();
+        // when executing tasks from the queue (transacted routes) then the tasks must stay on this thread
+        private int local;
+
+        public Worker(int number, WorkStealingReactiveExecutor executor) {
+            this.number = number;
+            this.executor = executor;
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            if (main) {
+                executeMainFlow();
+            }
+            incrementPendingTasks();
+            if (running && !first && !main && !sync && local == 0 && isStealable()) {
+                // this thread is busy with a backlog of tasks, so let an idle thread steal the task
+                stealable.addLast(runnable);
+                advertise();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing stealable reactive work: {}", runnable);
+                }
+                return;
+            }
+            if (first) {
+                queue.addFirst(runnable);
+            } else {
+                queue.addLast(runnable);
+            }
+            tryExecuteReactiveWork(runnable, sync);
+        }
+
+        private boolean isStealable() {
+            return executor.stealers != null && queue.size() >= executor.stealThreshold
+                    && executor.idleStealers.get() > 0;
+        }
+
+        void scheduleQueue(Runnable runnable) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("ScheduleQueue: {}", runnable);
+            }
+            queue.add(runnable);
+            incrementPendingTasks();
+        }
+
+        void advertise() {
+            if (!stealable.isEmpty() && advertised.compareAndSet(false, true)) {
+                executor.victims.offer(this);
+            }
+        }
+
+        private void executeMainFlow() {
+            if (!queue.isEmpty()) {
+                if (back == null) {
+                    back = new ArrayDeque<>();
+                }
+                back.push(queue);
+                queue = new ArrayDeque<>();
+            }
+        }
+
+        private void tryExecuteReactiveWork(Runnable runnable, boolean sync) {
+            if (!running || sync) {
+                running = true;
+                incrementRunningWorkers();
+                try {
+                    executeReactiveWork();
+                } finally {
+                    running = false;
+                    decrementRunningWorkers();
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing reactive work: {}", runnable);
+                }
+            }
+        }
+
+        private void executeReactiveWork() {
+            for (;;) {
+                Runnable polled = queue.pollFirst();
+                if (polled == null) {
+                    // execute the tasks which have not been stolen
+                    polled = stealable.pollFirst();
+                }
+                if (polled == null) {
+                    if (back != null && !back.isEmpty()) {
+                        queue = back.pollFirst();
+                        continue;
+                    } else {
+                        break;
+                    }
+                }
+                doRun(polled);
+            }
+        }
+
+        private void doRun(Runnable polled) {
+            try {
+                decrementPendingTasks();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} running: {}", number, polled);
+                }
+                polled.run();
+            } catch (Exception t) {
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.",
+                        t.getMessage(), t);
+            }
+        }
+
+        private void decrementRunningWorkers() {
+            if (executor.statisticsEnabled) {
+                executor.runningWorkers.decrement();
+            }
+        }
+
+        private void incrementRunningWorkers() {
+            if (executor.statisticsEnabled) {
+                executor.runningWorkers.increment();
+            }
+        }
+
+        private void incrementPendingTasks() {
+            if (executor.statisticsEnabled) {
+                executor.pendingTasks.increment();
+            }
+        }
+
+        private void decrementPendingTasks() {
+            if (executor.statisticsEnabled) {
+                executor.pendingTasks.decrement();
+            }
+        }
+
+        boolean executeFromQueue() {
+            Runnable polled = queue != null ? queue.pollFirst() : null;
+            if (polled == null) {
+                polled = stealable.pollFirst();
+            }
+            if (polled == null) {
+                return false;
+            }
+            local++;
+            try {
+                doRun(polled);
+            } finally {
+                local--;
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -41,7 +41,7 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
 
     @Override
     public int size() {
-        return 129;
+        return 131;
     }
 
     @Override
@@ -171,6 +171,9 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
             if (value instanceof java.io.ByteArrayOutputStream) {
                 return org.apache.camel.converter.IOConverter.toInputStream((java.io.ByteArrayOutputStream) value);
             }
+            if (value instanceof org.apache.camel.util.FileRegion) {
+                return org.apache.camel.converter.IOConverter.toInputStream((org.apache.camel.util.FileRegion) value);
+            }
         } else if (to == java.io.OutputStream.class) {
             if (value instanceof java.io.File) {
                 return org.apache.camel.converter.IOConverter.toOutputStream((java.io.File) value);
@@ -519,6 +522,10 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
             if (value instanceof java.lang.String) {
                 return org.apache.camel.converter.ResourceConverter.toResource((java.lang.String) value, camelContext);
             }
+        } else if (to == org.apache.camel.util.FileRegion.class) {
+            if (value instanceof java.io.File) {
+                return org.apache.camel.converter.IOConverter.toFileRegion((java.io.File) value);
+            }
         }
         return null;
     }
@@ -557,6 +564,7 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
         registry.addConverter(new TypeConvertible<>(java.io.Reader.class, java.io.InputStream.class), this);
         registry.addConverter(new TypeConvertible<>(byte[].class, java.io.InputStream.class), this);
         registry.addConverter(new TypeConvertible<>(java.io.ByteArrayOutputStream.class, java.io.InputStream.class), this);
+        registry.addConverter(new TypeConvertible<>(org.apache.camel.util.FileRegion.class, java.io.InputStream.class), this);
         registry.addConverter(new TypeConvertible<>(java.io.File.class, java.io.OutputStream.class), this);
         registry.addConverter(new TypeConvertible<>(java.nio.file.Path.class, java.io.OutputStream.class), this);
         registry.addConverter(new TypeConvertible<>(org.apache.camel.spi.Resource.class, java.io.Reader.class), this);
@@ -653,6 +661,7 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
         registry.addConverter(new TypeConvertible<>(org.apache.camel.Expression.class, org.apache.camel.Processor.class), this);
         registry.addConverter(new TypeConvertible<>(org.apache.camel.Predicate.class, org.apache.camel.Processor.class), this);
         registry.addConverter(new TypeConvertible<>(java.lang.String.class, org.apache.camel.spi.Resource.class), this);
+        registry.addConverter(new TypeConvertible<>(java.io.File.class, org.apache.camel.util.FileRegion.class), this);
     }
 
     public TypeConverter lookup(Class<?> to, Class<?> from) {
@@ -764,6 +773,9 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
             if (from == java.io.ByteArrayOutputStream.class) {
                 return this;
             }
+            if (from == org.apache.camel.util.FileRegion.class) {
+                return this;
+            }
         } else if (to == java.io.OutputStream.class) {
             if (from == java.io.File.class) {
                 return this;
@@ -1087,6 +1099,10 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
             if (from == java.lang.String.class) {
                 return this;
             }
+        } else if (to == org.apache.camel.util.FileRegion.class) {
+            if (from == java.io.File.class) {
+                return this;
+            }
         }
         return null;
     }
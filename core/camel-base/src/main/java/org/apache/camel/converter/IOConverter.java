@@ -45,6 +45,7 @@ import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.InputStreamIterator;
+import org.apache.camel.util.FileRegion;
 import org.apache.camel.util.IOHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -320,4 +321,14 @@ public final class IOConverter {
         return Charset.forName(name);
     }
 
+    @Converter(order = 44)
+    public static InputStream toInputStream(FileRegion region) throws IOException {
+        return region.newInputStream();
+    }
+
+    @Converter(order = 45)
+    public static FileRegion toFileRegion(File file) throws IOException {
+        return FileRegion.of(file);
+    }
+
 }
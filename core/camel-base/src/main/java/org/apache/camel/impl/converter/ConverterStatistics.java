@@ -55,11 +55,26 @@ interface ConverterStatistics extends TypeConverterRegistry.Statistics {
      */
     void incrementAttempt();
 
+    /**
+     * Increment the count of conversions of the given pair of types that hit the cache
+     */
+    void incrementHit(Class<?> from, Class<?> to);
+
+    /**
+     * Increment the count of conversions of the given pair of types that missed the cache
+     */
+    void incrementMiss(Class<?> from, Class<?> to);
+
+    /**
+     * Record the time spent in the fallback converters when converting the given pair of types
+     */
+    void recordFallback(Class<?> from, Class<?> to, long nanos);
+
     /**
      * Log the statistics from the converters
      *
-     * @param converters    the converters cache instance
-     * @param missConverter the type that represents a type conversion miss
+     * @param converters the converters cache instance
+     * @param misses     the number of cached missed conversions
      */
-    void logMappingStatisticsMessage(Map<TypeConvertible<?, ?>, TypeConverter> converters, TypeConverter missConverter);
+    void logMappingStatisticsMessage(Map<TypeConvertible<?, ?>, TypeConverter> converters, int misses);
 }
@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
@@ -40,7 +41,6 @@ import org.apache.camel.spi.Injector;
 import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.spi.TypeConvertible;
 import org.apache.camel.support.MessageHelper;
-import org.apache.camel.support.TypeConverterSupport;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -50,12 +50,10 @@ import static org.apache.camel.impl.converter.TypeResolverHelper.tryAssignableFr
 
 public abstract class CoreTypeConverterRegistry extends ServiceSupport implements TypeConverter, TypeConverterRegistry {
 
-    protected static final TypeConverter MISS_CONVERTER = new TypeConverterSupport() {
-        @Override
-        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
-            return (T) MISS_VALUE;
-        }
-    };
+    /**
+     * The default maximum number of pairs of types which are known to have no suitable type converter
+     */
+    public static final int DEFAULT_NEGATIVE_CACHE_SIZE = 1000;
 
     private static final Logger LOG = LoggerFactory.getLogger(CoreTypeConverterRegistry.class);
 
@@ -73,6 +71,10 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     // space for others added during runtime
     private final Map<TypeConvertible<?, ?>, TypeConverter> converters = new ConcurrentHashMap<>(256);
 
+    // the pairs of types which are known to have no suitable type converter
+    private final Set<TypeConvertible<?, ?>> negativeCache = ConcurrentHashMap.newKeySet();
+    private int negativeCacheSize = DEFAULT_NEGATIVE_CACHE_SIZE;
+
     protected CoreTypeConverterRegistry(boolean statisticsEnabled) {
         if (statisticsEnabled) {
             statistics = new TypeConverterStatistics();
@@ -299,12 +301,18 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             if (!tryConvert) {
                 // Could not find suitable conversion
                 statistics.incrementMiss();
+                if (value != null && statistics.isStatisticsEnabled()) {
+                    statistics.incrementMiss(value.getClass(), type);
+                }
             }
 
             return null;
         } else {
             if (!tryConvert) {
                 statistics.incrementHit();
+                if (value != null && statistics.isStatisticsEnabled() && !type.isInstance(value)) {
+                    statistics.incrementHit(value.getClass(), type);
+                }
             }
             return answer;
         }
@@ -387,13 +395,25 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         final Class<?> aClass = type.isPrimitive() ? ObjectHelper.convertPrimitiveTypeToWrapperType(type) : type;
         final TypeConvertible<?, ?> typeConvertible = new TypeConvertible<>(value.getClass(), aClass);
 
+        // we know there is no suitable type converter, so avoid trying again
+        if (negativeCache.contains(typeConvertible)) {
+            return TypeConverter.MISS_VALUE;
+        }
+
         final Object ret = tryCachedConverters(type, exchange, value, typeConvertible);
         if (ret != null) {
             return ret;
         }
 
         // fallback converters
-        final Object fallBackRet = tryFallback(type, exchange, value, tryConvert, typeConvertible);
+        final Object fallBackRet;
+        if (statistics.isStatisticsEnabled()) {
+            long start = System.nanoTime();
+            fallBackRet = tryFallback(type, exchange, value, tryConvert, typeConvertible);
+            statistics.recordFallback(value.getClass(), type, System.nanoTime() - start);
+        } else {
+            fallBackRet = tryFallback(type, exchange, value, tryConvert, typeConvertible);
+        }
         if (fallBackRet != null) {
             return fallBackRet;
         }
@@ -411,8 +431,9 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             return objConverter.convertTo(type, exchange, value);
         }
 
-        if (!tryConvert) {
-            converters.put(typeConvertible, MISS_CONVERTER);
+        // only remember the miss when not trying, as a type converter may be able to convert other values of the same type
+        if (!tryConvert && negativeCache.size() < negativeCacheSize) {
+            negativeCache.add(typeConvertible);
         }
 
         // Could not find suitable conversion, so return Void to indicate not found
@@ -488,6 +509,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     @Override
     public void addConverter(TypeConvertible<?, ?> typeConvertible, TypeConverter typeConverter) {
         converters.put(typeConvertible, typeConverter);
+        invalidateNegativeCache();
     }
 
     @Override
@@ -505,12 +527,6 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     private void addOrReplaceTypeConverter(TypeConverter typeConverter, TypeConvertible<?, ?> typeConvertible) {
         TypeConverter converter = converters.get(typeConvertible);
 
-        if (converter == MISS_CONVERTER) {
-            // we have previously attempted to convert but missed, so add this converter
-            converters.put(typeConvertible, typeConverter);
-            return;
-        }
-
         // only override it if its different
         // as race conditions can lead to many threads trying to promote the same fallback converter
         if (typeConverter != converter) {
@@ -525,10 +541,18 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
             if (add) {
                 converters.put(typeConvertible, typeConverter);
+                // the new converter may be able to convert pairs of types which we have previously missed
+                invalidateNegativeCache();
             }
         }
     }
 
+    private void invalidateNegativeCache() {
+        if (!negativeCache.isEmpty()) {
+            negativeCache.clear();
+        }
+    }
+
     private boolean onTypeConverterExists(
             TypeConverter typeConverter, TypeConvertible<?, ?> typeConvertible, TypeConverter converter) {
         if (typeConverterExists == TypeConverterExists.Override) {
@@ -563,6 +587,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
         fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        invalidateNegativeCache();
     }
 
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
@@ -628,13 +653,29 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
     @Override
     public Map<TypeConvertible<?, ?>, TypeConverter> listTypeConverters() {
-        Map<TypeConvertible<?, ?>, TypeConverter> answer = new LinkedHashMap<>();
-        for (var e : converters.entrySet()) {
-            if (e.getValue() != MISS_CONVERTER) {
-                answer.put(e.getKey(), e.getValue());
-            }
-        }
-        return Collections.unmodifiableMap(answer);
+        return Collections.unmodifiableMap(new LinkedHashMap<>(converters));
+    }
+
+    /**
+     * The number of pairs of types which are known to have no suitable type converter
+     */
+    public int getNegativeCacheSize() {
+        return negativeCache.size();
+    }
+
+    public int getMaximumNegativeCacheSize() {
+        return negativeCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of pairs of types to remember which has no suitable type converter, to avoid looking for
+     * a type converter again when converting the same pair of types. The pairs are forgotten when type converters are
+     * added. Use 0 to turn this off.
+     * <p/>
+     * The default is 1000.
+     */
+    public void setMaximumNegativeCacheSize(int negativeCacheSize) {
+        this.negativeCacheSize = negativeCacheSize;
     }
 
     public LoggingLevel getTypeConverterExistsLoggingLevel() {
@@ -664,7 +705,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         super.doStop();
 
         // log utilization statistics when stopping, including mappings
-        statistics.logMappingStatisticsMessage(converters, MISS_CONVERTER);
+        statistics.logMappingStatisticsMessage(converters, negativeCache.size());
 
         statistics.reset();
     }
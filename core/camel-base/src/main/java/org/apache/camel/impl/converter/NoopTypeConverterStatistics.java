@@ -84,7 +84,22 @@ final class NoopTypeConverterStatistics implements ConverterStatistics {
     }
 
     @Override
-    public void logMappingStatisticsMessage(Map<TypeConvertible<?, ?>, TypeConverter> converters, TypeConverter missConverter) {
+    public void incrementHit(Class<?> from, Class<?> to) {
+        // NO-OP
+    }
+
+    @Override
+    public void incrementMiss(Class<?> from, Class<?> to) {
+        // NO-OP
+    }
+
+    @Override
+    public void recordFallback(Class<?> from, Class<?> to, long nanos) {
+        // NO-OP
+    }
+
+    @Override
+    public void logMappingStatisticsMessage(Map<TypeConvertible<?, ?>, TypeConverter> converters, int misses) {
         // NO-OP
     }
 }
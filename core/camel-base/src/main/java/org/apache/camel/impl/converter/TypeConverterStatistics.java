@@ -17,11 +17,14 @@
 
 package org.apache.camel.impl.converter;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.TypeConverter;
+import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.spi.TypeConvertible;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,11 +35,16 @@ import org.slf4j.LoggerFactory;
 final class TypeConverterStatistics implements ConverterStatistics {
     private static final Logger LOG = LoggerFactory.getLogger(TypeConverterStatistics.class);
 
+    // the maximum number of pairs of types to keep statistics for
+    private static final int MAX_STATISTICS = 1000;
+
     private final LongAdder noopCounter = new LongAdder();
     private final LongAdder attemptCounter = new LongAdder();
     private final LongAdder missCounter = new LongAdder();
     private final LongAdder hitCounter = new LongAdder();
     private final LongAdder failedCounter = new LongAdder();
+    // the statistics per pair of types
+    private final Map<TypeConvertible<?, ?>, Statistic> statistics = new ConcurrentHashMap<>();
 
     @Override
     public long getNoopCounter() {
@@ -100,34 +108,97 @@ final class TypeConverterStatistics implements ConverterStatistics {
         hitCounter.reset();
         missCounter.reset();
         failedCounter.reset();
+        statistics.clear();
     }
 
-    /**
-     * Compute the total number of cached missed conversions
-     *
-     * @param  converters    the converters cache instance
-     * @param  missConverter the type that represents a type conversion miss
-     * @return               The number of cached missed conversions as an AtomicInteger instance
-     */
-    private static AtomicInteger computeCachedMisses(
-            Map<TypeConvertible<?, ?>, TypeConverter> converters, TypeConverter missConverter) {
-        AtomicInteger misses = new AtomicInteger();
+    @Override
+    public void incrementHit(Class<?> from, Class<?> to) {
+        Statistic stat = statistic(from, to);
+        if (stat != null) {
+            stat.hitCounter.increment();
+        }
+    }
 
-        converters.forEach((k, v) -> {
-            if (v == missConverter) {
-                misses.incrementAndGet();
-            }
-        });
-        return misses;
+    @Override
+    public void incrementMiss(Class<?> from, Class<?> to) {
+        Statistic stat = statistic(from, to);
+        if (stat != null) {
+            stat.missCounter.increment();
+        }
     }
 
     @Override
-    public void logMappingStatisticsMessage(Map<TypeConvertible<?, ?>, TypeConverter> converters, TypeConverter missConverter) {
-        final AtomicInteger misses = computeCachedMisses(converters, missConverter);
+    public void recordFallback(Class<?> from, Class<?> to, long nanos) {
+        Statistic stat = statistic(from, to);
+        if (stat != null) {
+            stat.fallbackCounter.increment();
+            stat.fallbackTime.add(nanos);
+        }
+    }
 
+    @Override
+    public Collection<TypeConverterRegistry.ConversionStatistic> getConversionStatistics() {
+        return Collections.unmodifiableCollection(statistics.values());
+    }
+
+    private Statistic statistic(Class<?> from, Class<?> to) {
+        TypeConvertible<?, ?> key = new TypeConvertible<>(from, to);
+        Statistic answer = statistics.get(key);
+        if (answer == null && statistics.size() < MAX_STATISTICS) {
+            answer = statistics.computeIfAbsent(key, k -> new Statistic(from, to));
+        }
+        return answer;
+    }
+
+    @Override
+    public void logMappingStatisticsMessage(Map<TypeConvertible<?, ?>, TypeConverter> converters, int misses) {
         LOG.info(
                 "TypeConverterStatistics utilization[noop={}, attempts={}, hits={}, misses={}, failures={}] mappings[total={}, misses={}]",
-                getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(), converters.size(),
-                misses);
+                getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(),
+                converters.size() + misses, misses);
+    }
+
+    private static final class Statistic implements TypeConverterRegistry.ConversionStatistic {
+        private final Class<?> from;
+        private final Class<?> to;
+        private final LongAdder hitCounter = new LongAdder();
+        private final LongAdder missCounter = new LongAdder();
+        private final LongAdder fallbackCounter = new LongAdder();
+        private final LongAdder fallbackTime = new LongAdder();
+
+        private Statistic(Class<?> from, Class<?> to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Class<?> getFrom() {
+            return from;
+        }
+
+        @Override
+        public Class<?> getTo() {
+            return to;
+        }
+
+        @Override
+        public long getHitCounter() {
+            return hitCounter.longValue();
+        }
+
+        @Override
+        public long getMissCounter() {
+            return missCounter.longValue();
+        }
+
+        @Override
+        public long getFallbackCounter() {
+            return fallbackCounter.longValue();
+        }
+
+        @Override
+        public long getFallbackTime() {
+            return fallbackTime.longValue();
+        }
     }
 }
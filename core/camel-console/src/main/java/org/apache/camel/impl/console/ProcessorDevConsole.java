@@ -168,6 +168,16 @@ public class ProcessorDevConsole extends AbstractDevConsole {
                 sb.append(
                         String.format("%n        Delta Time: %s", TimeUtils.printDuration(mp.getDeltaProcessingTime(), true)));
             }
+            if (mp.getMeanAllocatedBytes() >= 0) {
+                sb.append(String.format("%n        Mean Allocated: %s bytes", mp.getMeanAllocatedBytes()));
+                sb.append(String.format("%n        Max Allocated: %s bytes", mp.getMaxAllocatedBytes()));
+                sb.append(String.format("%n        Last Allocated: %s bytes", mp.getLastAllocatedBytes()));
+            }
+            if (mp.getMeanCpuTime() >= 0) {
+                sb.append(String.format("%n        Mean Cpu Time: %s ns", mp.getMeanCpuTime()));
+                sb.append(String.format("%n        Max Cpu Time: %s ns", mp.getMaxCpuTime()));
+                sb.append(String.format("%n        Last Cpu Time: %s ns", mp.getLastCpuTime()));
+            }
             Date last = mp.getLastExchangeCompletedTimestamp();
             if (last != null) {
                 String ago = TimeUtils.printSince(last.getTime());
@@ -352,6 +362,18 @@ public class ProcessorDevConsole extends AbstractDevConsole {
             stats.put("lastProcessingTime", mp.getLastProcessingTime());
             stats.put("deltaProcessingTime", mp.getDeltaProcessingTime());
         }
+        if (mp.getMeanAllocatedBytes() >= 0) {
+            stats.put("meanAllocatedBytes", mp.getMeanAllocatedBytes());
+            stats.put("maxAllocatedBytes", mp.getMaxAllocatedBytes());
+            stats.put("lastAllocatedBytes", mp.getLastAllocatedBytes());
+            stats.put("totalAllocatedBytes", mp.getTotalAllocatedBytes());
+        }
+        if (mp.getMeanCpuTime() >= 0) {
+            stats.put("meanCpuTime", mp.getMeanCpuTime());
+            stats.put("maxCpuTime", mp.getMaxCpuTime());
+            stats.put("lastCpuTime", mp.getLastCpuTime());
+            stats.put("totalCpuTime", mp.getTotalCpuTime());
+        }
         Date last = mp.getLastExchangeCreatedTimestamp();
         if (last != null) {
             stats.put("lastCreatedExchangeTimestamp", last.getTime());
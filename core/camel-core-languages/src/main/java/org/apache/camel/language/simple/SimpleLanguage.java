@@ -23,12 +23,11 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Predicate;
 import org.apache.camel.StaticService;
+import org.apache.camel.spi.CompiledExpressionCache;
 import org.apache.camel.spi.annotations.Language;
-import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.ExpressionAdapter;
-import org.apache.camel.support.LRUCache;
-import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.LanguageSupport;
+import org.apache.camel.support.PluginHelper;
 import org.apache.camel.support.PredicateToExpressionAdapter;
 import org.apache.camel.support.ScriptHelper;
 import org.apache.camel.support.builder.ExpressionBuilder;
@@ -50,8 +49,14 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     // a special prefix to avoid cache clash
     private static final String CACHE_KEY_PREFIX = "@SIMPLE@";
 
+    /**
+     * The default number of evaluations of a predicate before the predicate is compiled
+     */
+    public static final int DEFAULT_COMPILE_THRESHOLD = 1000;
+
     boolean allowEscape = true;
     boolean skipFileFunctions;
+    private int compileThreshold = DEFAULT_COMPILE_THRESHOLD;
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
@@ -74,11 +79,13 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     public void init() {
         // setup cache which requires CamelContext to be set first
         if (cacheExpression == null && cachePredicate == null && getCamelContext() != null) {
-            int maxSize = CamelContextHelper.getMaximumSimpleCacheSize(getCamelContext());
-            if (maxSize > 0) {
-                cacheExpression = LRUCacheFactory.newLRUCache(16, maxSize, false);
-                cachePredicate = LRUCacheFactory.newLRUCache(16, maxSize, false);
-                LOG.debug("Simple language predicate/expression cache size: {}", maxSize);
+            // use the shared context level cache for compiled expressions
+            CompiledExpressionCache cache = PluginHelper.getCompiledExpressionCache(getCamelContext());
+            if (cache != null && cache.isEnabled()) {
+                String namespace = cacheNamespace();
+                cacheExpression = cache.asMap(namespace);
+                cachePredicate = cache.asMap(namespace + ":predicate");
+                LOG.debug("Simple language predicate/expression cache size: {}", cache.getMaximumCacheSize());
             } else {
                 LOG.debug("Simple language disabled predicate/expression cache");
             }
@@ -94,20 +101,37 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
     @Override
     public void stop() {
-        if (cachePredicate instanceof LRUCache<String, Predicate> cache) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Clearing simple language predicate cache[size={}, hits={}, misses={}, evicted={}]",
-                        cache.size(), cache.getHits(), cache.getMisses(), cache.getEvicted());
-            }
-            cachePredicate.clear();
+        // noop as the caches are views of the shared context level cache, which is cleared when it is stopped
+    }
+
+    public int getCompileThreshold() {
+        return compileThreshold;
+    }
+
+    /**
+     * Number of evaluations of a predicate before the predicate is compiled into a tree of specialized predicates,
+     * which avoids the overhead of evaluating the operators as interpreted expressions. Use 0 or negative to turn
+     * compilation off.
+     * <p/>
+     * The default is 1000.
+     */
+    public void setCompileThreshold(int compileThreshold) {
+        this.compileThreshold = compileThreshold;
+    }
+
+    /**
+     * The namespace to use in the shared {@link CompiledExpressionCache}, which must be unique per parser settings as
+     * the same expression may be parsed differently.
+     */
+    private String cacheNamespace() {
+        String answer = "simple";
+        if (!allowEscape) {
+            answer += ":noescape";
         }
-        if (cacheExpression instanceof LRUCache<String, Expression> cache) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Clearing simple language expression cache[size={}, hits={}, misses={}, evicted={}]",
-                        cache.size(), cache.getHits(), cache.getMisses(), cache.getEvicted());
-            }
-            cacheExpression.clear();
+        if (skipFileFunctions) {
+            answer += ":nofile";
         }
+        return answer;
     }
 
     @Override
@@ -134,6 +158,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
             // using the expression cache here with the predicate parser is okay
             SimplePredicateParser parser
                     = new SimplePredicateParser(getCamelContext(), expression, allowEscape, skipFileFunctions, cacheExpression);
+            parser.setCompileThreshold(compileThreshold);
             answer = parser.parsePredicate();
 
             if (cachePredicate != null && answer != null) {
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.language.simple.ast.BinaryExpression;
+import org.apache.camel.language.simple.ast.LiteralNode;
+import org.apache.camel.language.simple.ast.LogicalExpression;
+import org.apache.camel.language.simple.ast.SimpleFunctionStart;
+import org.apache.camel.language.simple.ast.SimpleNode;
+import org.apache.camel.language.simple.types.LogicalOperatorType;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.support.ExpressionToPredicateAdapter;
+import org.apache.camel.support.builder.PredicateBuilder;
+
+/**
+ * Compiles the AST of a simple predicate into a tree of specialized predicates.
+ * <p/>
+ * The interpreted predicate evaluates each logical and binary operator as an {@link Expression}, which creates new
+ * predicates per evaluation and converts the boolean result to the requested type and back again. The compiled
+ * predicate evaluates the logical operators directly (with short-circuit), the binary operators directly as
+ * predicates, and headers with a constant name without evaluating the header name. The functions, literals and
+ * operators which are not compiled, are evaluated as interpreted.
+ */
+public final class SimplePredicateCompiler {
+
+    private SimplePredicateCompiler() {
+    }
+
+    /**
+     * Compiles the nodes of the predicate.
+     *
+     * @param  camelContext the camel context
+     * @param  expression   the predicate text
+     * @param  nodes        the parsed nodes of the predicate
+     * @return              the compiled predicate
+     */
+    public static Predicate compile(CamelContext camelContext, String expression, List<SimpleNode> nodes) {
+        List<Predicate> predicates = new ArrayList<>(nodes.size());
+        for (SimpleNode node : nodes) {
+            Predicate predicate = compilePredicate(camelContext, expression, node);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (predicates.isEmpty()) {
+            return PredicateBuilder.constant(false);
+        } else if (predicates.size() == 1) {
+            return predicates.get(0);
+        } else {
+            return PredicateBuilder.and(predicates);
+        }
+    }
+
+    private static Predicate compilePredicate(CamelContext camelContext, String expression, SimpleNode node) {
+        if (node instanceof LogicalExpression logical) {
+            Predicate left = compilePredicate(camelContext, expression, logical.getLeft());
+            Predicate right = compilePredicate(camelContext, expression, logical.getRight());
+            if (logical.getOperator() == LogicalOperatorType.AND) {
+                return new Predicate() {
+                    @Override
+                    public boolean matches(Exchange exchange) {
+                        return left.matches(exchange) && right.matches(exchange);
+                    }
+
+                    @Override
+                    public String toString() {
+                        return logical.toString();
+                    }
+                };
+            } else {
+                return new Predicate() {
+                    @Override
+                    public boolean matches(Exchange exchange) {
+                        return left.matches(exchange) || right.matches(exchange);
+                    }
+
+                    @Override
+                    public String toString() {
+                        return logical.toString();
+                    }
+                };
+            }
+        } else if (node instanceof BinaryExpression binary) {
+            Expression left = compileExpression(camelContext, expression, binary.getLeft());
+            Expression right = compileExpression(camelContext, expression, binary.getRight());
+            Predicate answer = binary.createPredicate(left, right);
+            if (answer != null) {
+                return answer;
+            }
+        }
+        Expression exp = node.createExpression(camelContext, expression);
+        return exp != null ? ExpressionToPredicateAdapter.toPredicate(exp) : null;
+    }
+
+    private static Expression compileExpression(CamelContext camelContext, String expression, SimpleNode node) {
+        String header = constantHeaderName(node);
+        if (header != null) {
+            return new ExpressionAdapter() {
+                @Override
+                public Object evaluate(Exchange exchange) {
+                    Object answer = exchange.getIn().getHeader(header);
+                    if (answer == null) {
+                        // fall back on a property
+                        answer = exchange.getProperty(header);
+                    }
+                    return answer;
+                }
+
+                @Override
+                public String toString() {
+                    return "header(" + header + ")";
+                }
+            };
+        }
+        return node.createExpression(camelContext, expression);
+    }
+
+    /**
+     * The header name when the node is a header function with a constant name such as <tt>${header.foo}</tt>,
+     * otherwise <tt>null</tt>
+     */
+    private static String constantHeaderName(SimpleNode node) {
+        if (!(node instanceof SimpleFunctionStart function) || function.getBlock().getChildren().size() != 1
+                || !(function.getBlock().getChildren().get(0) instanceof LiteralNode literal)) {
+            return null;
+        }
+        String text = literal.getText();
+        if (text.startsWith("headers.")) {
+            text = text.substring(8);
+        } else if (text.startsWith("header.")) {
+            text = text.substring(7);
+        } else {
+            return null;
+        }
+        if (text.isEmpty()) {
+            return null;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (!Character.isLetterOrDigit(ch) && ch != '_' && ch != '-') {
+                return null;
+            }
+        }
+        return text;
+    }
+}
@@ -70,6 +70,7 @@ public class SimplePredicateParser extends BaseSimpleParser {
     // use caches to avoid re-parsing the same expressions over and over again
     private final Map<String, Expression> cacheExpression;
     private boolean skipFileFunctions;
+    private int compileThreshold;
 
     public SimplePredicateParser(CamelContext camelContext, String expression,
                                  boolean allowEscape,
@@ -85,6 +86,18 @@ public class SimplePredicateParser extends BaseSimpleParser {
         this.skipFileFunctions = skipFileFunctions;
     }
 
+    public int getCompileThreshold() {
+        return compileThreshold;
+    }
+
+    /**
+     * Number of evaluations of the parsed predicate before the predicate is compiled, see
+     * {@link SimplePredicateCompiler}. Use 0 or negative to not compile the predicate.
+     */
+    public void setCompileThreshold(int compileThreshold) {
+        this.compileThreshold = compileThreshold;
+    }
+
     public Predicate parsePredicate() {
         try {
             Expression init = null;
@@ -116,6 +129,8 @@ public class SimplePredicateParser extends BaseSimpleParser {
             // include init block in expression
             if (init != null) {
                 pre = PredicateBuilder.and(PredicateBuilder.alwaysTrue(init), pre);
+            } else if (compileThreshold > 0 && !nodes.isEmpty()) {
+                pre = new SimpleTieredPredicate(pre, camelContext, expression, new ArrayList<>(nodes), compileThreshold);
             }
             return pre;
         } catch (SimpleParserException e) {
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Predicate;
+import org.apache.camel.language.simple.ast.SimpleNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A simple predicate which is interpreted until it has been evaluated a number of times, and then is compiled using
+ * {@link SimplePredicateCompiler}, so only the predicates in use are compiled.
+ */
+final class SimpleTieredPredicate implements Predicate {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SimpleTieredPredicate.class);
+
+    private final Predicate interpreted;
+    private final CamelContext camelContext;
+    private final String expression;
+    private final int compileThreshold;
+    private List<SimpleNode> nodes;
+    // the counter is not thread-safe, as it does not matter if the predicate is compiled a bit later
+    private int evaluations;
+    private volatile Predicate compiled;
+
+    SimpleTieredPredicate(Predicate interpreted, CamelContext camelContext, String expression, List<SimpleNode> nodes,
+                          int compileThreshold) {
+        this.interpreted = interpreted;
+        this.camelContext = camelContext;
+        this.expression = expression;
+        this.nodes = nodes;
+        this.compileThreshold = compileThreshold;
+    }
+
+    @Override
+    public void init(CamelContext context) {
+        interpreted.init(context);
+    }
+
+    @Override
+    public boolean matches(Exchange exchange) {
+        Predicate answer = compiled;
+        if (answer == null) {
+            answer = interpreted;
+            if (++evaluations == compileThreshold) {
+                compile();
+            }
+        }
+        return answer.matches(exchange);
+    }
+
+    /**
+     * Whether the predicate has been compiled
+     */
+    boolean isCompiled() {
+        return compiled != null && compiled != interpreted;
+    }
+
+    private synchronized void compile() {
+        if (compiled != null) {
+            return;
+        }
+        Predicate answer;
+        try {
+            answer = SimplePredicateCompiler.compile(camelContext, expression, nodes);
+            LOG.debug("Compiled simple predicate: {} after {} evaluations", expression, compileThreshold);
+        } catch (Exception e) {
+            // keep using the interpreted predicate
+            LOG.debug("Cannot compile simple predicate: {} due to: {}. The predicate is interpreted.", expression,
+                    e.getMessage(), e);
+            answer = interpreted;
+        }
+        // the nodes are no longer needed
+        nodes = null;
+        compiled = answer;
+    }
+
+    @Override
+    public String toString() {
+        return interpreted.toString();
+    }
+}
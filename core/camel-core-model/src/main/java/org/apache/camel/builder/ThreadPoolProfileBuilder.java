@@ -97,6 +97,20 @@ public class ThreadPoolProfileBuilder {
         return this;
     }
 
+    public ThreadPoolProfileBuilder virtualThreadPerTask(Boolean virtualThreadPerTask) {
+        if (virtualThreadPerTask != null) {
+            profile.setVirtualThreadPerTask(virtualThreadPerTask);
+        }
+        return this;
+    }
+
+    public ThreadPoolProfileBuilder maxConcurrentTasks(Integer maxConcurrentTasks) {
+        if (maxConcurrentTasks != null) {
+            profile.setMaxConcurrentTasks(maxConcurrentTasks);
+        }
+        return this;
+    }
+
     /**
      * Builds the thread pool profile
      *
@@ -115,6 +115,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
                             + " This preserves transaction context for repositories that require single-thread transactional guarantees.")
     private String optimisticLockingSyncRetry;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer",
+              description = "Number of lock stripes used to guard the aggregation of correlation keys."
+                            + " By default a single lock is used, which means only one exchange is aggregated at any time."
+                            + " Setting a value higher than 1 allows exchanges with different correlation keys to be aggregated in parallel,"
+                            + " while exchanges with the same correlation key are still aggregated one at a time."
+                            + " Cannot be used together with optimisticLocking, completionFromBatchConsumer or completionOnNewCorrelationGroup.")
+    private String lockStripes;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService",
               description = "Reference to a custom thread pool to use for parallel processing"
                             + " and sending out aggregated exchanges.")
@@ -237,6 +245,7 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.parallelProcessing = source.parallelProcessing;
         this.optimisticLocking = source.optimisticLocking;
         this.optimisticLockingSyncRetry = source.optimisticLockingSyncRetry;
+        this.lockStripes = source.lockStripes;
         this.executorService = source.executorService;
         this.timeoutCheckerExecutorService = source.timeoutCheckerExecutorService;
         this.aggregateController = source.aggregateController;
@@ -515,6 +524,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLockingSyncRetry = optimisticLockingSyncRetry;
     }
 
+    public String getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(String lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -1052,6 +1069,40 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Number of lock stripes used to guard the aggregation of correlation keys. By default a single lock is used, which
+     * means only one exchange is aggregated at any time. Setting a value higher than 1 allows exchanges with different
+     * correlation keys to be aggregated in parallel, while exchanges with the same correlation key are still aggregated
+     * one at a time.
+     * <p/>
+     * Cannot be used together with optimistic locking, completion from batch consumer or completion on new correlation
+     * group.
+     *
+     * @param  lockStripes the number of lock stripes, must be a positive number
+     * @return             builder
+     */
+    public AggregateDefinition lockStripes(int lockStripes) {
+        setLockStripes(Integer.toString(lockStripes));
+        return this;
+    }
+
+    /**
+     * Number of lock stripes used to guard the aggregation of correlation keys. By default a single lock is used, which
+     * means only one exchange is aggregated at any time. Setting a value higher than 1 allows exchanges with different
+     * correlation keys to be aggregated in parallel, while exchanges with the same correlation key are still aggregated
+     * one at a time.
+     * <p/>
+     * Cannot be used together with optimistic locking, completion from batch consumer or completion on new correlation
+     * group.
+     *
+     * @param  lockStripes the number of lock stripes, must be a positive number
+     * @return             builder
+     */
+    public AggregateDefinition lockStripes(String lockStripes) {
+        setLockStripes(lockStripes);
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
@@ -80,6 +80,12 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
                             + " even if parallel processing is enabled.")
     private String synchronous;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer",
+              description = "Sets the maximum number of multicast messages which can be in-flight at the same time, when using parallel processing."
+                            + " When the limit is reached then no more multicast messages are sent until some of the in-flight"
+                            + " multicast messages have completed. By default there is no limit.")
+    private String maxInflight;
+    @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean",
               description = "If enabled then Camel will process replies out-of-order, in the order they come back."
                             + " If disabled, Camel will process replies in the same order as defined by the multicast.")
@@ -126,6 +132,7 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         this.parallelAggregate = source.parallelAggregate;
         this.parallelProcessing = source.parallelProcessing;
         this.synchronous = source.synchronous;
+        this.maxInflight = source.maxInflight;
         this.streaming = source.streaming;
         this.stopOnException = source.stopOnException;
         this.timeout = source.timeout;
@@ -319,6 +326,31 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         return this;
     }
 
+    /**
+     * Sets the maximum number of multicast messages which can be in-flight at the same time, when using parallel
+     * processing. When the limit is reached then no more multicast messages are sent until some of the in-flight
+     * multicast messages have completed.
+     *
+     * @param  maxInflight the maximum number of in-flight multicast messages
+     * @return             the builder
+     */
+    public MulticastDefinition maxInflight(int maxInflight) {
+        return maxInflight(Integer.toString(maxInflight));
+    }
+
+    /**
+     * Sets the maximum number of multicast messages which can be in-flight at the same time, when using parallel
+     * processing. When the limit is reached then no more multicast messages are sent until some of the in-flight
+     * multicast messages have completed.
+     *
+     * @param  maxInflight the maximum number of in-flight multicast messages
+     * @return             the builder
+     */
+    public MulticastDefinition maxInflight(String maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
     /**
      * If enabled then the aggregate method on AggregationStrategy can be called concurrently. Notice that this would
      * require the implementation of AggregationStrategy to be implemented as thread-safe. By default this is false
@@ -534,6 +566,14 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         this.synchronous = synchronous;
     }
 
+    public String getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(String maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     public String getStreaming() {
         return streaming;
     }
@@ -86,6 +86,13 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
                             + " even if parallel processing is enabled.")
     private String synchronous;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer",
+              description = "Sets the maximum number of split messages which can be in-flight at the same time, when using parallel processing."
+                            + " When the limit is reached then no more split messages are created until some of the in-flight"
+                            + " split messages have completed. This applies backpressure to the source which allows splitting"
+                            + " huge messages in parallel using a bounded amount of memory. By default there is no limit.")
+    private String maxInflight;
+    @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean",
               description = "When enabled then the splitter splits the original message on-demand,"
                             + " and each split message is processed one by one. This reduces memory usage"
@@ -152,6 +159,7 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.parallelAggregate = source.parallelAggregate;
         this.parallelProcessing = source.parallelProcessing;
         this.synchronous = source.synchronous;
+        this.maxInflight = source.maxInflight;
         this.streaming = source.streaming;
         this.stopOnException = source.stopOnException;
         this.timeout = source.timeout;
@@ -410,6 +418,35 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of split messages which can be in-flight at the same time, when using parallel
+     * processing. When the limit is reached then no more split messages are created (ie reading from the source is
+     * suspended) until some of the in-flight split messages have completed.
+     * <p/>
+     * This can be used with streaming mode to split huge messages in parallel using a bounded amount of memory.
+     *
+     * @param  maxInflight the maximum number of in-flight split messages
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(int maxInflight) {
+        return maxInflight(Integer.toString(maxInflight));
+    }
+
+    /**
+     * Sets the maximum number of split messages which can be in-flight at the same time, when using parallel
+     * processing. When the limit is reached then no more split messages are created (ie reading from the source is
+     * suspended) until some of the in-flight split messages have completed.
+     * <p/>
+     * This can be used with streaming mode to split huge messages in parallel using a bounded amount of memory.
+     *
+     * @param  maxInflight the maximum number of in-flight split messages
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(String maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
     /**
      * When in streaming mode, then the splitter splits the original message on-demand, and each split message is
      * processed one by one. This reduces memory usage as the splitter do not split all the messages first, but then we
@@ -831,6 +868,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.synchronous = synchronous;
     }
 
+    public String getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(String maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     public String getStreaming() {
         return streaming;
     }
@@ -87,6 +87,14 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
     @Metadata(label = "advanced", javaType = "java.lang.Boolean", defaultValue = "true",
               description = "Whether to use the caller thread as fallback when a task is rejected being added to the thread pool (when its full). This is only used as fallback if no rejectedPolicy has been configured, or the thread pool has no configured rejection handler.")
     private String callerRunsWhenRejected;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean",
+              description = "Whether to run each task in its own virtual thread (requires JDK 21+) instead of using a thread pool. The pool and queue size options are not in use, and the number of concurrent tasks is limited by maxConcurrentTasks instead.")
+    private String virtualThreadPerTask;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer",
+              description = "Sets the maximum number of tasks running concurrently when using virtual thread per task. Use 0 or a negative value for unlimited, which is the default.")
+    private String maxConcurrentTasks;
 
     public ThreadsDefinition() {
         this.threadName = "Threads";
@@ -105,6 +113,8 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
         this.threadName = source.threadName;
         this.rejectedPolicy = source.rejectedPolicy;
         this.callerRunsWhenRejected = source.callerRunsWhenRejected;
+        this.virtualThreadPerTask = source.virtualThreadPerTask;
+        this.maxConcurrentTasks = source.maxConcurrentTasks;
     }
 
     @Override
@@ -340,6 +350,54 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
         return this;
     }
 
+    /**
+     * Whether to run each task in its own virtual thread (requires JDK 21+) instead of using a thread pool. The pool
+     * and queue size options are not in use, and the number of concurrent tasks is limited by
+     * {@link #maxConcurrentTasks(int)} instead.
+     *
+     * @param  virtualThreadPerTask <tt>true</tt> to use a virtual thread per task
+     * @return                      the builder
+     */
+    public ThreadsDefinition virtualThreadPerTask(boolean virtualThreadPerTask) {
+        return virtualThreadPerTask(Boolean.toString(virtualThreadPerTask));
+    }
+
+    /**
+     * Whether to run each task in its own virtual thread (requires JDK 21+) instead of using a thread pool. The pool
+     * and queue size options are not in use, and the number of concurrent tasks is limited by
+     * {@link #maxConcurrentTasks(int)} instead.
+     *
+     * @param  virtualThreadPerTask <tt>true</tt> to use a virtual thread per task
+     * @return                      the builder
+     */
+    public ThreadsDefinition virtualThreadPerTask(String virtualThreadPerTask) {
+        setVirtualThreadPerTask(virtualThreadPerTask);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of tasks running concurrently when using virtual thread per task. Use 0 or a negative
+     * value for unlimited, which is the default.
+     *
+     * @param  maxConcurrentTasks the maximum number of concurrent tasks
+     * @return                    the builder
+     */
+    public ThreadsDefinition maxConcurrentTasks(int maxConcurrentTasks) {
+        return maxConcurrentTasks(Integer.toString(maxConcurrentTasks));
+    }
+
+    /**
+     * Sets the maximum number of tasks running concurrently when using virtual thread per task. Use 0 or a negative
+     * value for unlimited, which is the default.
+     *
+     * @param  maxConcurrentTasks the maximum number of concurrent tasks
+     * @return                    the builder
+     */
+    public ThreadsDefinition maxConcurrentTasks(String maxConcurrentTasks) {
+        setMaxConcurrentTasks(maxConcurrentTasks);
+        return this;
+    }
+
     @Override
     public ExecutorService getExecutorServiceBean() {
         return executorServiceBean;
@@ -422,6 +480,22 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
         this.allowCoreThreadTimeOut = allowCoreThreadTimeOut;
     }
 
+    public String getVirtualThreadPerTask() {
+        return virtualThreadPerTask;
+    }
+
+    public void setVirtualThreadPerTask(String virtualThreadPerTask) {
+        this.virtualThreadPerTask = virtualThreadPerTask;
+    }
+
+    public String getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    public void setMaxConcurrentTasks(String maxConcurrentTasks) {
+        this.maxConcurrentTasks = maxConcurrentTasks;
+    }
+
     public String getExecutorService() {
         return executorService;
     }
@@ -47,8 +47,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
 
     @XmlAttribute
     @Metadata(javaType = "org.apache.camel.model.ThrottlingMode", defaultValue = "TotalRequests",
-              enums = "TotalRequests,ConcurrentRequests",
-              description = "Sets the throttling mode. TotalRequests limits the total number of requests within a time period. ConcurrentRequests uses a leaky-bucket algorithm to limit the number of concurrent requests being processed at the same time.")
+              enums = "TotalRequests,ConcurrentRequests,AdaptiveConcurrentRequests",
+              description = "Sets the throttling mode. TotalRequests limits the total number of requests within a time period. ConcurrentRequests uses a leaky-bucket algorithm to limit the number of concurrent requests being processed at the same time. AdaptiveConcurrentRequests limits the number of concurrent requests as well, but adjusts the limit at runtime based on the observed latency and errors, where the expression sets the upper bound of the limit.")
     private String mode;
     @XmlElement(name = "correlationExpression")
     @Metadata(description = "The correlation expression to use for throttle grouping. Exchanges with the same correlation key are throttled together.")
@@ -123,6 +123,11 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    public ThrottleDefinition adaptiveConcurrentRequestsMode() {
+        this.mode = ThrottlingMode.AdaptiveConcurrentRequests.name();
+        return this;
+    }
+
     @Override
     public String toString() {
         return "Throttle[" + description() + "]";
@@ -131,6 +136,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     protected String description() {
         if (mode.equals(ThrottlingMode.TotalRequests.name())) {
             return getExpression() + " request per " + getTimePeriodMillis() + " millis";
+        } else if (mode.equals(ThrottlingMode.AdaptiveConcurrentRequests.name())) {
+            return getExpression() + " maximum adaptive concurrent requests";
         } else {
             return getExpression() + " maximum concurrent requests";
         }
@@ -327,8 +334,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     /**
      * Sets the throttling mode to one of the available modes enumerated in ThrottlingMode
      *
-     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests' or
-     *              `ConcurrentRequests`
+     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests',
+     *              `ConcurrentRequests` or `AdaptiveConcurrentRequests`
      * @see         ThrottlingMode
      * @return      the builder
      */
@@ -340,8 +347,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     /**
      * Sets the throttling mode to one of the available modes enumerated in ThrottlingMode
      *
-     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests' or
-     *              `ConcurrentRequests`
+     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests',
+     *              `ConcurrentRequests` or `AdaptiveConcurrentRequests`
      * @see         ThrottlingMode
      * @return      the builder
      */
@@ -363,7 +370,7 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     }
 
     @Override
-    @Metadata(description = "The expression to set the maximum request count (for TotalRequests mode) or the maximum number of concurrent requests (for ConcurrentRequests mode).")
+    @Metadata(description = "The expression to set the maximum request count (for TotalRequests mode) or the maximum number of concurrent requests (for ConcurrentRequests and AdaptiveConcurrentRequests mode).")
     public void setExpression(ExpressionDefinition expression) {
         // override to include javadoc what the expression is used for
         super.setExpression(expression);
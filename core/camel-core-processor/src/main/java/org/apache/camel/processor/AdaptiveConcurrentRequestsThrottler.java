@@ -0,0 +1,484 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.spi.Synchronization;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A <a href="http://camel.apache.org/throttler.html">Throttler</a> that limits the number of message exchanges which
+ * can be sent to a processor concurrently, where the limit is adjusted at runtime based on the observed latency and
+ * errors of the processing.
+ * <p/>
+ * The limit is estimated using a gradient algorithm (similar to the gradient2 limit from Netflix concurrency-limits).
+ * The round trip time of each exchange (from acquiring the permit until the exchange is completed) is compared with a
+ * long term exponential moving average of the round trip time. When the latency increases (queueing builds up
+ * downstream) the limit is decreased, and when the latency is stable the limit is increased. A failed exchange
+ * decreases the limit as well. The limit is never lower than 1 and never higher than the maximum concurrent requests
+ * that the expression evaluates to.
+ *
+ * This throttle implementation is thread-safe and is therefore safe to be used by multiple concurrent threads in a
+ * single route.
+ */
+public class AdaptiveConcurrentRequestsThrottler extends AbstractThrottler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveConcurrentRequestsThrottler.class);
+
+    private static final long CLEAN_PERIOD = 1000L * 10;
+    private static final int INITIAL_LIMIT = 20;
+    private static final int MIN_LIMIT = 1;
+    private static final int LONG_WINDOW = 600;
+    private static final int WARMUP_WINDOW = 10;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int QUEUE_SIZE = 4;
+
+    private final Map<String, ThrottlingState> states = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrentRequestsThrottler(final CamelContext camelContext, final Expression maxRequestsExpression,
+                                               final ScheduledExecutorService asyncExecutor,
+                                               final boolean shutdownAsyncExecutor,
+                                               final boolean rejectExecution, Expression correlation) {
+        super(asyncExecutor, shutdownAsyncExecutor, camelContext, rejectExecution, correlation, maxRequestsExpression);
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        long queuedStart = 0;
+        if (LOG.isTraceEnabled()) {
+            queuedStart = exchange.getProperty(PROPERTY_EXCHANGE_QUEUED_TIMESTAMP, 0L, Long.class);
+            exchange.removeProperty(PROPERTY_EXCHANGE_QUEUED_TIMESTAMP);
+        }
+        State state = exchange.getProperty(PROPERTY_EXCHANGE_STATE, State.SYNC, State.class);
+        exchange.removeProperty(PROPERTY_EXCHANGE_STATE);
+        boolean doneSync = state == State.SYNC || state == State.ASYNC_REJECTED;
+
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            return doProcess(exchange, callback, state, queuedStart, doneSync);
+
+        } catch (final InterruptedException e) {
+            return handleInterrupt(exchange, callback, e, doneSync);
+        } catch (final Exception t) {
+            return handleException(exchange, callback, t, doneSync);
+        }
+    }
+
+    private boolean doProcess(Exchange exchange, AsyncCallback callback, State state, long queuedStart, boolean doneSync)
+            throws Exception {
+        String key = DEFAULT_KEY;
+        if (correlationExpression != null) {
+            key = correlationExpression.evaluate(exchange, String.class);
+        }
+        ThrottlingState throttlingState = states.computeIfAbsent(key, ThrottlingState::new);
+        throttlingState.calculateAndSetMaxConcurrentRequestsExpression(exchange);
+
+        if (!throttlingState.tryAcquire(exchange)) {
+            if (isRejectExecution()) {
+                throw new ThrottlerRejectedExecutionException(
+                        "Exceeded the adaptive throttle limit of " + throttlingState.getLimit());
+            } else {
+                // delegate to async pool
+                if (isAsyncDelayed() && !exchange.isTransacted() && state == State.SYNC) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug(
+                                "Throttle limit exceeded but AsyncDelayed enabled, so queueing for async processing, exchangeId: {}",
+                                exchange.getExchangeId());
+                    }
+                    return processAsynchronously(exchange, callback);
+                }
+
+                doThrottle(exchange, throttlingState, state, queuedStart);
+            }
+        } else {
+            // permit acquired
+            if (state == State.ASYNC) {
+                if (LOG.isTraceEnabled()) {
+                    long queuedTime = Duration.ofNanos(System.nanoTime() - queuedStart).toMillis();
+                    LOG.trace("Queued for {}ms, No throttling applied (throttle cleared while queued), for exchangeId: {}",
+                            queuedTime, exchange.getExchangeId());
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                }
+            }
+        }
+
+        callback.done(doneSync);
+        return doneSync;
+    }
+
+    private static void doThrottle(Exchange exchange, ThrottlingState throttlingState, State state, long queuedStart)
+            throws InterruptedException {
+        // block waiting for a permit
+        long start = 0;
+        long elapsed = 0;
+        if (LOG.isTraceEnabled()) {
+            start = System.nanoTime();
+        }
+        throttlingState.acquire(exchange);
+        if (LOG.isTraceEnabled()) {
+            elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        }
+        if (state == State.ASYNC) {
+            if (LOG.isTraceEnabled()) {
+                long queuedTime = Duration.ofNanos(start - queuedStart).toMillis();
+                LOG.trace("Queued for {}ms, Throttled for {}ms, exchangeId: {}", queuedTime, elapsed,
+                        exchange.getExchangeId());
+            }
+        } else {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Throttled for {}ms, exchangeId: {}", elapsed, exchange.getExchangeId());
+            }
+        }
+    }
+
+    /**
+     * Delegate blocking to an asyncExecutor. Except if the executor rejects the submission and
+     * isCallerRunsWhenRejected() is enabled, then this method will delegate back to process(), but not before changing
+     * the exchange state to stop any recursion.
+     */
+    protected boolean processAsynchronously(final Exchange exchange, final AsyncCallback callback) {
+        try {
+            if (LOG.isTraceEnabled()) {
+                exchange.setProperty(PROPERTY_EXCHANGE_QUEUED_TIMESTAMP, System.nanoTime());
+            }
+            exchange.setProperty(PROPERTY_EXCHANGE_STATE, State.ASYNC);
+            asyncExecutor.submit(() -> process(exchange, callback));
+            return false;
+        } catch (final RejectedExecutionException e) {
+            if (isCallerRunsWhenRejected()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}",
+                            exchange.getExchangeId());
+                }
+                exchange.setProperty(PROPERTY_EXCHANGE_STATE, State.ASYNC_REJECTED);
+                return process(exchange, callback);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (isAsyncDelayed()) {
+            ObjectHelper.notNull(asyncExecutor, "executorService", this);
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        if (shutdownAsyncExecutor && asyncExecutor != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(asyncExecutor);
+        }
+        states.clear();
+        super.doShutdown();
+    }
+
+    protected class ThrottlingState {
+        private final String key;
+        private final Lock lock = new ReentrantLock(true);
+        private final Condition available = lock.newCondition();
+        private final AtomicReference<ScheduledFuture<?>> cleanFuture = new AtomicReference<>();
+        private volatile int maxLimit;
+        private volatile double estimatedLimit;
+        private volatile int inflight;
+        private volatile int queued;
+        private volatile long lastRtt;
+        private volatile double longRtt;
+        private int samples;
+
+        ThrottlingState(String key) {
+            this.key = key;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public int getLimit() {
+            return (int) estimatedLimit;
+        }
+
+        public int getInflight() {
+            return inflight;
+        }
+
+        public int getQueued() {
+            return queued;
+        }
+
+        public long getLastRtt() {
+            return lastRtt;
+        }
+
+        public long getLongRtt() {
+            return (long) longRtt;
+        }
+
+        public void clean() {
+            lock.lock();
+            try {
+                // only remove idle states, as an exchange may be slow to complete
+                if (inflight == 0 && queued == 0) {
+                    states.remove(key);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public boolean tryAcquire(Exchange exchange) {
+            lock.lock();
+            try {
+                // do not barge in front of exchanges that are already waiting
+                if (queued > 0 || inflight >= getLimit()) {
+                    return false;
+                }
+                inflight++;
+            } finally {
+                lock.unlock();
+            }
+            addSynchronization(exchange);
+            return true;
+        }
+
+        public void acquire(Exchange exchange) throws InterruptedException {
+            lock.lockInterruptibly();
+            try {
+                queued++;
+                try {
+                    while (inflight >= getLimit()) {
+                        available.await();
+                    }
+                } finally {
+                    queued--;
+                }
+                inflight++;
+            } finally {
+                lock.unlock();
+            }
+            addSynchronization(exchange);
+        }
+
+        private void addSynchronization(final Exchange exchange) {
+            final long start = System.nanoTime();
+            exchange.getExchangeExtension().addOnCompletion(new Synchronization() {
+                @Override
+                public void onComplete(Exchange exchange) {
+                    release(exchange, System.nanoTime() - start, false);
+                }
+
+                @Override
+                public void onFailure(Exchange exchange) {
+                    release(exchange, System.nanoTime() - start, true);
+                }
+            });
+        }
+
+        /**
+         * Returns a permit and updates the estimated limit from the round trip time of the exchange.
+         */
+        public void release(final Exchange exchange, long rtt, boolean failed) {
+            lock.lock();
+            try {
+                int current = inflight;
+                inflight = current - 1;
+                updateLimit(rtt, current, failed);
+                if (inflight < getLimit()) {
+                    available.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+            try {
+                ScheduledFuture<?> next = asyncExecutor.schedule(this::clean, CLEAN_PERIOD, TimeUnit.MILLISECONDS);
+                ScheduledFuture<?> prev = cleanFuture.getAndSet(next);
+                if (prev != null) {
+                    prev.cancel(false);
+                }
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Permit released, for exchangeId: {}", exchange.getExchangeId());
+                }
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Throttle cleaning rejected", e);
+            }
+        }
+
+        /**
+         * Estimates the new limit (must be called while holding the lock).
+         */
+        private void updateLimit(long rtt, int inflightAtSample, boolean failed) {
+            double oldLimit = estimatedLimit;
+            double newLimit;
+            if (failed) {
+                // back off on errors
+                newLimit = oldLimit * BACKOFF_RATIO;
+            } else {
+                if (rtt <= 0) {
+                    rtt = 1;
+                }
+                lastRtt = rtt;
+                double shortRtt = rtt;
+                samples++;
+                if (samples <= WARMUP_WINDOW) {
+                    longRtt = longRtt + (shortRtt - longRtt) / samples;
+                } else {
+                    longRtt = longRtt + (shortRtt - longRtt) * (2.0 / (LONG_WINDOW + 1));
+                }
+                // the long rtt recovers faster when the latency has dropped significantly
+                if (longRtt / shortRtt > 2) {
+                    longRtt = longRtt * 0.95;
+                }
+                // do not grow the limit if the limit is not being used
+                if (inflightAtSample < oldLimit / 2) {
+                    return;
+                }
+                double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+                newLimit = oldLimit * gradient + QUEUE_SIZE;
+                newLimit = oldLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+            }
+            newLimit = Math.max(MIN_LIMIT, Math.min(maxLimit, newLimit));
+            if ((int) newLimit != (int) oldLimit && LOG.isDebugEnabled()) {
+                LOG.debug("Adaptive throttle limit changed from {} to {} (rtt: {}ns, long rtt: {}ns, failed: {})",
+                        (int) oldLimit, (int) newLimit, rtt, (long) longRtt, failed);
+            }
+            estimatedLimit = newLimit;
+        }
+
+        /**
+         * Evaluates the maxConcurrentRequestsExpression and adjusts the upper bound of the limit.
+         */
+        public void calculateAndSetMaxConcurrentRequestsExpression(final Exchange exchange) throws Exception {
+            Integer newMax = getMaximumRequestsExpression().evaluate(exchange, Integer.class);
+
+            if (newMax != null && newMax < 0) {
+                throw new IllegalStateException(
+                        "The maximumConcurrentRequests must be a positive number, was: " + newMax);
+            }
+
+            if (newMax == null && maxLimit == 0) {
+                throw new RuntimeExchangeException(
+                        "The maxConcurrentRequestsExpression was evaluated as null: " + getMaximumRequestsExpression(),
+                        exchange);
+            }
+
+            if (newMax != null && newMax != maxLimit) {
+                lock.lock();
+                try {
+                    if (maxLimit == 0) {
+                        estimatedLimit = Math.min(newMax, INITIAL_LIMIT);
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Initial adaptive throttle limit set to {} (max {}), triggered by ExchangeId: {}",
+                                    (int) estimatedLimit, newMax, exchange.getExchangeId());
+                        }
+                    } else {
+                        estimatedLimit = Math.min(estimatedLimit, newMax);
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Adaptive throttle maximum changed from {} to {}, triggered by ExchangeId: {}",
+                                    maxLimit, newMax, exchange.getExchangeId());
+                        }
+                    }
+                    maxLimit = newMax;
+                    available.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getMode() {
+        return "AdaptiveConcurrentRequests";
+    }
+
+    /**
+     * Gets the current (adaptive) limit of concurrent requests. If it is grouped throttling applied with
+     * correlationExpression then the max within the group will return
+     */
+    @Override
+    public int getCurrentMaximumRequests() {
+        return states.values().stream().mapToInt(ThrottlingState::getLimit).max().orElse(0);
+    }
+
+    /**
+     * Gets the number of exchanges currently being processed (across all groups)
+     */
+    public int getCurrentInflightRequests() {
+        return states.values().stream().mapToInt(ThrottlingState::getInflight).sum();
+    }
+
+    /**
+     * Gets the number of exchanges currently blocked waiting for a permit (across all groups)
+     */
+    public int getQueuedRequests() {
+        return states.values().stream().mapToInt(ThrottlingState::getQueued).sum();
+    }
+
+    /**
+     * Gets the last measured round trip time in millis. If it is grouped throttling applied with correlationExpression
+     * then the max within the group will return
+     */
+    public long getLastRoundTripTime() {
+        long max = states.values().stream().mapToLong(ThrottlingState::getLastRtt).max().orElse(0);
+        return TimeUnit.NANOSECONDS.toMillis(max);
+    }
+
+    /**
+     * Gets the long term average round trip time in millis, which the adaptive limit is estimated from. If it is
+     * grouped throttling applied with correlationExpression then the max within the group will return
+     */
+    public long getAverageRoundTripTime() {
+        long max = states.values().stream().mapToLong(ThrottlingState::getLongRtt).max().orElse(0);
+        return TimeUnit.NANOSECONDS.toMillis(max);
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "throttle[" + getMaximumRequestsExpression() + "]";
+    }
+
+    @Override
+    public String toString() {
+        return getId();
+    }
+}
@@ -18,7 +18,9 @@ package org.apache.camel.processor;
 
 import java.io.Closeable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +54,7 @@ import org.apache.camel.Route;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.StreamCache;
 import org.apache.camel.Traceable;
+import org.apache.camel.processor.aggregate.AssociativeAggregationStrategy;
 import org.apache.camel.processor.aggregate.ShareUnitOfWorkAggregationStrategy;
 import org.apache.camel.processor.aggregate.UseOriginalAggregationStrategy;
 import org.apache.camel.processor.errorhandler.ErrorHandlerSupport;
@@ -178,6 +181,7 @@ public class MulticastProcessor extends BaseProcessorSupport
     private final AggregationStrategy aggregationStrategy;
     private final boolean parallelProcessing;
     private boolean synchronous;
+    private int maxInflight;
     private final boolean streaming;
     private final boolean parallelAggregate;
     private final boolean stopOnException;
@@ -300,6 +304,19 @@ public class MulticastProcessor extends BaseProcessorSupport
         this.synchronous = synchronous;
     }
 
+    public int getMaxInflight() {
+        return maxInflight;
+    }
+
+    /**
+     * Sets the maximum number of sub-exchanges which can be in-flight at the same time, when using parallel processing.
+     * When the limit is reached, then no more sub-exchanges are created (ie reading from the iterator) until some of the
+     * in-flight sub-exchanges have completed.
+     */
+    public void setMaxInflight(int maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     @Override
     protected void doBuild() throws Exception {
         if (processorExchangeFactory != null) {
@@ -442,6 +459,12 @@ public class MulticastProcessor extends BaseProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicInteger nbInflight = new AtomicInteger();
+        final AtomicBoolean suspended = new AtomicBoolean();
+        final AssociativeAggregationStrategy associativeStrategy;
+        final Map<Integer, PartialResult> partialsByStart;
+        final Map<Integer, PartialResult> partialsByEnd;
+        final AtomicInteger nbReduced = new AtomicInteger();
         @Deprecated(since = "4.19.0")
         final Map<String, String> mdc;
         final ScheduledFuture<?> timeoutTask;
@@ -467,6 +490,19 @@ public class MulticastProcessor extends BaseProcessorSupport
             } else {
                 this.mdc = null;
             }
+            // aggregate as a tree when the sub-exchanges are processed in parallel (not in use with timeout,
+            // as the timeout aggregates the sub-exchanges that have completed so far)
+            AssociativeAggregationStrategy associative
+                    = isParallelProcessing() && timeout <= 0 ? asAssociative(getAggregationStrategy(original)) : null;
+            if (associative != null) {
+                this.associativeStrategy = associative;
+                this.partialsByStart = new ConcurrentHashMap<>();
+                this.partialsByEnd = new ConcurrentHashMap<>();
+            } else {
+                this.associativeStrategy = null;
+                this.partialsByStart = null;
+                this.partialsByEnd = null;
+            }
             if (capacity > 0) {
                 this.completion
                         = new AsyncCompletionService<>(transacted ? txScheduler : scheduler, !isStreaming(), lock, capacity);
@@ -508,6 +544,110 @@ public class MulticastProcessor extends BaseProcessorSupport
             }
         }
 
+        /**
+         * Aggregates the sub-exchange as a tree using the {@link AssociativeAggregationStrategy}. The partial result of
+         * the sub-exchange is combined with the partial results of its neighbours (by index) which have completed, by
+         * the thread processing the sub-exchange and without holding the lock. When all sub-exchanges have completed,
+         * then the remaining partial results are combined in order.
+         */
+        protected void reduce(Exchange exchange, int index) {
+            try {
+                ExchangeHelper.prepareAggregation(null, exchange);
+                PartialResult partial
+                        = new PartialResult(index, index + 1, associativeStrategy.aggregate(null, exchange, original));
+                while (partial != null) {
+                    PartialResult neighbour = claimNeighbour(partial);
+                    if (neighbour != null) {
+                        partial = combine(partial, neighbour);
+                        continue;
+                    }
+                    // publish the partial result so it can be combined by other threads
+                    partialsByStart.put(partial.start, partial);
+                    partialsByEnd.put(partial.end, partial);
+                    partial.release();
+                    // a neighbour may have been published concurrently, so check again
+                    neighbour = claimNeighbour(partial);
+                    if (neighbour == null) {
+                        partial = null;
+                    } else if (partial.claim()) {
+                        unpublish(partial);
+                        partial = combine(partial, neighbour);
+                    } else {
+                        // another thread has claimed our partial result and will combine it
+                        neighbour.release();
+                        partial = null;
+                    }
+                }
+                if (nbReduced.incrementAndGet() == nbExchangeSent.get() && allSent.get()) {
+                    List<PartialResult> remainder = new ArrayList<>(partialsByStart.values());
+                    remainder.sort(Comparator.comparingInt(PartialResult::getStart));
+                    Exchange answer = null;
+                    for (PartialResult part : remainder) {
+                        answer = answer != null ? doCombine(answer, part.exchange) : part.exchange;
+                    }
+                    result.set(answer);
+                    doDone(answer, true);
+                }
+            } catch (Exception e) {
+                original.setException(e);
+                // and do the done work
+                doDone(null, false);
+            }
+        }
+
+        private PartialResult claimNeighbour(PartialResult partial) {
+            PartialResult answer = partialsByEnd.get(partial.start);
+            if (answer != null && answer.claim()) {
+                return answer;
+            }
+            answer = partialsByStart.get(partial.end);
+            if (answer != null && answer.claim()) {
+                return answer;
+            }
+            return null;
+        }
+
+        private PartialResult combine(PartialResult partial, PartialResult neighbour) {
+            unpublish(neighbour);
+            if (neighbour.end == partial.start) {
+                return new PartialResult(neighbour.start, partial.end, doCombine(neighbour.exchange, partial.exchange));
+            } else {
+                return new PartialResult(partial.start, neighbour.end, doCombine(partial.exchange, neighbour.exchange));
+            }
+        }
+
+        private Exchange doCombine(Exchange left, Exchange right) {
+            ExchangeHelper.prepareAggregation(left, right);
+            return associativeStrategy.combine(left, right);
+        }
+
+        private void unpublish(PartialResult partial) {
+            partialsByStart.remove(partial.start, partial);
+            partialsByEnd.remove(partial.end, partial);
+        }
+
+        /**
+         * Whether to suspend sending more sub-exchanges, because the maximum number of in-flight sub-exchanges has been
+         * reached. The task is then resumed by {@link #onSubExchangeDone()} when a sub-exchange completes.
+         */
+        protected boolean suspendSending() {
+            if (maxInflight <= 0 || nbInflight.get() < maxInflight) {
+                return false;
+            }
+            suspended.set(true);
+            // a sub-exchange may have completed before we were suspended, so check again
+            return nbInflight.get() >= maxInflight || !suspended.compareAndSet(true, false);
+        }
+
+        /**
+         * Signals that a sub-exchange has completed, which resumes sending sub-exchanges if the task was suspended.
+         */
+        protected void onSubExchangeDone() {
+            if (maxInflight > 0 && nbInflight.decrementAndGet() < maxInflight && suspended.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
         protected void timeout() {
             // use lock() instead of tryLock() because timeout is a one-shot scheduled task
             // if tryLock fails (lock held by aggregate), the timeout would be silently lost
@@ -573,6 +713,36 @@ public class MulticastProcessor extends BaseProcessorSupport
         }
     }
 
+    /**
+     * A partial result of the sub-exchanges in the index range from start (inclusive) to end (exclusive), when
+     * aggregating as a tree. The partial result is owned by the thread that has claimed it.
+     */
+    private static final class PartialResult {
+
+        private final int start;
+        private final int end;
+        private final Exchange exchange;
+        private final AtomicBoolean claimed = new AtomicBoolean(true);
+
+        PartialResult(int start, int end, Exchange exchange) {
+            this.start = start;
+            this.end = end;
+            this.exchange = exchange;
+        }
+
+        int getStart() {
+            return start;
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        void release() {
+            claimed.set(false);
+        }
+    }
+
     /**
      * Sub task processed reactive via the {@link ReactiveExecutor}.
      */
@@ -607,6 +777,9 @@ public class MulticastProcessor extends BaseProcessorSupport
                 if (!hasNext) {
                     allSent.set(true);
                 }
+                if (maxInflight > 0 && isParallelProcessing()) {
+                    nbInflight.incrementAndGet();
+                }
 
                 completion.submit(exchangeResult -> {
                     // compute time taken if sending to another endpoint
@@ -638,14 +811,21 @@ public class MulticastProcessor extends BaseProcessorSupport
                             return;
                         }
 
-                        exchangeResult.accept(exchange);
+                        if (associativeStrategy != null) {
+                            // aggregate as a tree using this thread
+                            reduce(exchange, index);
+                        } else {
+                            exchangeResult.accept(exchange);
 
-                        // aggregate exchanges if any
-                        aggregate();
+                            // aggregate exchanges if any
+                            aggregate();
+                        }
 
                         // next step
                         if (hasNext && !isParallelProcessing()) {
                             schedule(this);
+                        } else if (isParallelProcessing()) {
+                            onSubExchangeDone();
                         }
                     };
 
@@ -663,8 +843,9 @@ public class MulticastProcessor extends BaseProcessorSupport
                         async.process(exchange, taskCallback);
                     }
                 });
-                // after submitting this pair then move on to the next pair (if in parallel mode)
-                if (hasNext && isParallelProcessing()) {
+                // after submitting this pair then move on to the next pair (if in parallel mode),
+                // unless there are too many sub-exchanges in-flight
+                if (hasNext && isParallelProcessing() && !suspendSending()) {
                     schedule(this);
                 }
             } catch (Exception e) {
@@ -1258,6 +1439,19 @@ public class MulticastProcessor extends BaseProcessorSupport
         }
     }
 
+    /**
+     * Gets the strategy as {@link AssociativeAggregationStrategy}, when the class of the strategy implements it
+     * directly. A subclass of an associative strategy may aggregate the exchanges differently, so it must implement the
+     * interface again to be associative.
+     */
+    private static AssociativeAggregationStrategy asAssociative(AggregationStrategy strategy) {
+        if (strategy instanceof AssociativeAggregationStrategy associative
+                && Arrays.asList(strategy.getClass().getInterfaces()).contains(AssociativeAggregationStrategy.class)) {
+            return associative;
+        }
+        return null;
+    }
+
     protected AggregationStrategy getAggregationStrategy(Exchange exchange) {
         AggregationStrategy answer = null;
 
@@ -96,6 +96,24 @@ public abstract class AbstractListAggregationStrategy<V> implements AggregationS
         return oldExchange != null ? oldExchange : newExchange;
     }
 
+    /**
+     * Combines two partial results, by adding the values grouped on the right exchange to the list of the left exchange.
+     *
+     * @param  left  the partial result of the preceding exchanges
+     * @param  right the partial result of the following exchanges
+     * @return       the left exchange holding the values of both partial results
+     * @see          AssociativeAggregationStrategy
+     */
+    @SuppressWarnings("unchecked")
+    public Exchange combine(Exchange left, Exchange right) {
+        List<V> list = getList(left);
+        List<V> other = right.getProperty(ExchangePropertyKey.GROUPED_EXCHANGE, List.class);
+        if (other != null) {
+            list.addAll(other);
+        }
+        return left;
+    }
+
     @SuppressWarnings("unchecked")
     private List<V> getList(Exchange exchange) {
         List<V> list = exchange.getProperty(ExchangePropertyKey.GROUPED_EXCHANGE, List.class);
@@ -101,6 +101,7 @@ public class AggregateProcessor extends BaseProcessorSupport
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
     private volatile Lock lock;
+    private volatile Lock[] stripedLocks;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -235,6 +236,7 @@ public class AggregateProcessor extends BaseProcessorSupport
     private boolean parallelProcessing;
     private boolean optimisticLocking;
     private boolean optimisticLockingSyncRetry;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -447,13 +449,16 @@ public class AggregateProcessor extends BaseProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        // when using lock stripes then other groups cannot be completed while holding the lock for this key
+        AtomicBoolean completeAllGroups = stripedLocks != null ? new AtomicBoolean() : null;
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, completeAllGroups);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -462,6 +467,10 @@ public class AggregateProcessor extends BaseProcessorSupport
             aggregated.forEach(agg -> onSubmitCompletion(key, agg));
         }
 
+        if (completeAllGroups != null && completeAllGroups.get()) {
+            forceCompletionOfAllGroups();
+        }
+
         // check for the special header to force completion of all groups (inclusive of the message)
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
@@ -515,11 +524,15 @@ public class AggregateProcessor extends BaseProcessorSupport
      *
      * @param  key                                     the correlation key
      * @param  newExchange                             the exchange
+     * @param  completeAllGroups                       when using lock stripes, flag to set if all groups should be
+     *                                                 completed after the lock has been released, otherwise
+     *                                                 <tt>null</tt>
      * @return                                         the aggregated exchange(s) which is complete, or <tt>null</tt> if
      *                                                 not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, AtomicBoolean completeAllGroups)
+            throws CamelExchangeException {
         LOG.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -619,7 +632,11 @@ public class AggregateProcessor extends BaseProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (completeAllGroups != null) {
+                completeAllGroups.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -1170,6 +1187,19 @@ public class AggregateProcessor extends BaseProcessorSupport
         this.optimisticLockingSyncRetry = optimisticLockingSyncRetry;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Number of lock stripes used to guard the aggregation of correlation keys. A value higher than 1 allows exchanges
+     * with different correlation keys to be aggregated in parallel, while exchanges with the same correlation key are
+     * still aggregated one at a time. The value is rounded up to the nearest power of two.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1330,8 +1360,7 @@ public class AggregateProcessor extends BaseProcessorSupport
     private final class AggregationTimeoutMap extends DefaultTimeoutMap<String, String> {
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
-            // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            super(executor, requestMapPollTimeMillis);
             addListener(this::onEviction);
         }
 
@@ -1339,6 +1368,11 @@ public class AggregateProcessor extends BaseProcessorSupport
         protected void purge() {
             // wait for lock to be created
             if (lock != null) {
+                if (stripedLocks != null) {
+                    // each evicted correlation key is guarded by its own lock stripe
+                    super.purge();
+                    return;
+                }
                 // must acquire the shared aggregation lock to be able to purge
                 lock.lock();
                 try {
@@ -1361,6 +1395,22 @@ public class AggregateProcessor extends BaseProcessorSupport
                 return;
             }
 
+            Lock keyLock = getLock(key);
+            keyLock.lock();
+            try {
+                doEviction(key, exchangeId);
+            } finally {
+                keyLock.unlock();
+            }
+        }
+
+        private void doEviction(String key, String exchangeId) {
+            if (stripedLocks != null && containsKey(key)) {
+                // a new exchange was aggregated for this key after the entry expired, which has tracked a new timeout
+                log.trace("Correlation key: {} has been updated since its completion timeout was triggered.", key);
+                return;
+            }
+
             // get the aggregated exchange
             boolean evictionStolen = false;
             Exchange answer = aggregationRepository.get(camelContext, key);
@@ -1412,34 +1462,20 @@ public class AggregateProcessor extends BaseProcessorSupport
 
                 if (keys != null && !keys.isEmpty()) {
                     // must acquire the shared aggregation lock to be able to trigger interval completion
-                    lock.lock();
+                    Lock groupsLock = getAllGroupsLock();
+                    groupsLock.lock();
                     try {
                         for (String key : keys) {
-                            boolean stolenInterval = false;
-                            Exchange exchange = aggregationRepository.get(camelContext, key);
-                            if (exchange == null) {
-                                stolenInterval = true;
-                            } else {
-                                LOG.trace("Completion interval triggered for correlation key: {}", key);
-                                // indicate it was completed by interval
-                                exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
-                                try {
-                                    Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                                    if (answer != null) {
-                                        onSubmitCompletion(key, answer);
-                                    }
-                                } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
-                                    stolenInterval = true;
-                                }
-                            }
-                            if (optimisticLocking && stolenInterval) {
-                                LOG.debug(
-                                        "Another Camel instance has already processed this interval aggregation for exchange with correlation id: {}",
-                                        key);
+                            Lock keyLock = getLock(key);
+                            keyLock.lock();
+                            try {
+                                doIntervalCompletion(key);
+                            } finally {
+                                keyLock.unlock();
                             }
                         }
                     } finally {
-                        lock.unlock();
+                        groupsLock.unlock();
                     }
                 }
             } catch (Exception e) {
@@ -1448,6 +1484,31 @@ public class AggregateProcessor extends BaseProcessorSupport
 
             LOG.trace("Completion interval task complete");
         }
+
+        private void doIntervalCompletion(String key) {
+            boolean stolenInterval = false;
+            Exchange exchange = aggregationRepository.get(camelContext, key);
+            if (exchange == null) {
+                stolenInterval = true;
+            } else {
+                LOG.trace("Completion interval triggered for correlation key: {}", key);
+                // indicate it was completed by interval
+                exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
+                try {
+                    Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                    if (answer != null) {
+                        onSubmitCompletion(key, answer);
+                    }
+                } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                    stolenInterval = true;
+                }
+            }
+            if (optimisticLocking && stolenInterval) {
+                LOG.debug(
+                        "Another Camel instance has already processed this interval aggregation for exchange with correlation id: {}",
+                        key);
+            }
+        }
     }
 
     /**
@@ -1483,7 +1544,20 @@ public class AggregateProcessor extends BaseProcessorSupport
                         LOG.info("We are shutting down so stop recovering");
                         return;
                     }
-                    lock.lock();
+                    Exchange exchange = null;
+                    Lock recoverLock = lock;
+                    if (stripedLocks != null) {
+                        // the exchange must be recovered while holding the lock stripe of its correlation key
+                        // (as the aggregation of the key does), so load the exchange first to know its key
+                        exchange = recoverable.recover(camelContext, exchangeId);
+                        String key = exchange != null
+                                ? exchange.getProperty(ExchangePropertyKey.AGGREGATED_CORRELATION_KEY, String.class)
+                                : null;
+                        if (key != null) {
+                            recoverLock = getLock(key);
+                        }
+                    }
+                    recoverLock.lock();
                     try {
                         // consider in progress if it was in progress before we did the scan, or currently after we did the scan
                         // its safer to consider it in progress than risk duplicates due both in progress + recovered
@@ -1495,7 +1569,9 @@ public class AggregateProcessor extends BaseProcessorSupport
                             }
                         } else {
                             LOG.debug("Loading aggregated exchange with id: {} to be recovered.", exchangeId);
-                            Exchange exchange = recoverable.recover(camelContext, exchangeId);
+                            if (exchange == null) {
+                                exchange = recoverable.recover(camelContext, exchangeId);
+                            }
                             if (exchange != null) {
                                 // get the correlation key
                                 String key = exchange.getProperty(ExchangePropertyKey.AGGREGATED_CORRELATION_KEY, String.class);
@@ -1560,7 +1636,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                             }
                         }
                     } finally {
-                        lock.unlock();
+                        recoverLock.unlock();
                     }
                 }
             } catch (Exception e) {
@@ -1629,6 +1705,16 @@ public class AggregateProcessor extends BaseProcessorSupport
             LOG.info("Optimistic locking is enabled");
         }
 
+        if (lockStripes > 1) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException("Lock stripes cannot be used together with optimistic locking");
+            }
+            if (isCompletionFromBatchConsumer() || isCompletionOnNewCorrelationGroup()) {
+                throw new IllegalArgumentException(
+                        "Lock stripes cannot be used together with completionFromBatchConsumer or completionOnNewCorrelationGroup");
+            }
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1712,11 +1798,44 @@ public class AggregateProcessor extends BaseProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (lockStripes > 1) {
+            // use a power of two number of stripes so the stripe can be selected using a bit mask
+            int size = Integer.highestOneBit(lockStripes - 1) << 1;
+            Lock[] locks = new Lock[size];
+            for (int i = 0; i < size; i++) {
+                locks[i] = new ReentrantLock();
+            }
+            LOG.info("Using {} lock stripes to aggregate correlation keys in parallel", size);
+            // must be set before the lock as the lock signals the locks are ready
+            stripedLocks = locks;
+            lock = new ReentrantLock();
         } else {
             lock = new ReentrantLock();
         }
     }
 
+    /**
+     * Gets the lock that guards the aggregation of the given correlation key.
+     */
+    private Lock getLock(String key) {
+        Lock[] locks = stripedLocks;
+        if (locks == null) {
+            return lock;
+        }
+        // spread the hash code as the number of stripes is a power of two
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return locks[hash & (locks.length - 1)];
+    }
+
+    /**
+     * Gets the lock to hold while completing all the groups. When using lock stripes each correlation key is guarded
+     * by its own stripe only, and no shared lock is held.
+     */
+    private Lock getAllGroupsLock() {
+        return stripedLocks != null ? NoLock.INSTANCE : lock;
+    }
+
     @Override
     protected void doStop() throws Exception {
         // note: we cannot do doForceCompletionOnStop from this doStop method
@@ -1825,7 +1944,8 @@ public class AggregateProcessor extends BaseProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1839,7 +1959,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                 }
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1867,23 +1987,30 @@ public class AggregateProcessor extends BaseProcessorSupport
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            Lock groupsLock = getAllGroupsLock();
+            groupsLock.lock();
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force completion triggered for correlation key: {}", key);
-                        // indicate it was completed by a force completion request
-                        exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
-                        Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                        if (answer != null) {
-                            onSubmitCompletion(key, answer);
+                    Lock keyLock = getLock(key);
+                    keyLock.lock();
+                    try {
+                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        if (exchange != null) {
+                            LOG.trace("Force completion triggered for correlation key: {}", key);
+                            // indicate it was completed by a force completion request
+                            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
+                            Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                            if (answer != null) {
+                                onSubmitCompletion(key, answer);
+                            }
                         }
+                    } finally {
+                        keyLock.unlock();
                     }
                 }
             } finally {
-                lock.unlock();
+                groupsLock.unlock();
             }
         }
         LOG.trace("Completed force completion of all groups task");
@@ -1898,7 +2025,8 @@ public class AggregateProcessor extends BaseProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1908,7 +2036,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force discarded of group {}", key);
 
@@ -1936,19 +2064,26 @@ public class AggregateProcessor extends BaseProcessorSupport
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            Lock groupsLock = getAllGroupsLock();
+            groupsLock.lock();
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force discarded triggered for correlation key: {}", key);
-                        // force discarding by setting aggregate failed as true
-                        onCompletion(key, exchange, exchange, false, true);
+                    Lock keyLock = getLock(key);
+                    keyLock.lock();
+                    try {
+                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        if (exchange != null) {
+                            LOG.trace("Force discarded triggered for correlation key: {}", key);
+                            // force discarding by setting aggregate failed as true
+                            onCompletion(key, exchange, exchange, false, true);
+                        }
+                    } finally {
+                        keyLock.unlock();
                     }
                 }
             } finally {
-                lock.unlock();
+                groupsLock.unlock();
             }
         }
         LOG.trace("Completed force discarding of all groups task");
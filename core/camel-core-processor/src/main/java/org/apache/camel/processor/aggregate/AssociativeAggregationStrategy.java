@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.Exchange;
+
+/**
+ * An {@link AggregationStrategy} which is associative, which means the exchanges can be aggregated in any grouping,
+ * as long as their order is kept.
+ * <p/>
+ * When parallel processing is enabled, then the multicast and splitter EIPs use this to aggregate the sub-exchanges as
+ * a tree. Each sub-exchange is turned into a partial result by calling {@code aggregate(null, exchange)}, and partial
+ * results of neighbouring sub-exchanges are combined pairwise by the threads that process the sub-exchanges, instead of
+ * a single thread aggregating all the sub-exchanges one by one while holding a lock.
+ * <p/>
+ * This is not in use when a timeout is configured, or when the aggregation strategy is wrapped (such as when sharing
+ * the unit of work). This interface must be implemented directly by the class of the aggregation strategy, so a
+ * subclass of an associative strategy, which may aggregate the exchanges differently, is not associative unless it
+ * implements this interface again.
+ */
+public interface AssociativeAggregationStrategy extends AggregationStrategy {
+
+    /**
+     * Combines two partial results. The outcome must be the same as if all the exchanges of the left and then the right
+     * partial result had been aggregated one by one.
+     *
+     * @param  left  the partial result of the preceding exchanges
+     * @param  right the partial result of the following exchanges
+     * @return       the combined partial result
+     */
+    Exchange combine(Exchange left, Exchange right);
+
+}
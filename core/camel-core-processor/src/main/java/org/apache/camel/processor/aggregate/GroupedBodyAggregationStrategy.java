@@ -35,7 +35,8 @@ import org.apache.camel.spi.Metadata;
                         + " Splitter to batch messages.",
           annotations = { "interfaceName=org.apache.camel.AggregationStrategy" })
 @Configurer(metadataOnly = true)
-public class GroupedBodyAggregationStrategy extends AbstractListAggregationStrategy<Object> {
+public class GroupedBodyAggregationStrategy extends AbstractListAggregationStrategy<Object>
+        implements AssociativeAggregationStrategy {
 
     @Override
     public Object getValue(Exchange exchange) {
@@ -36,7 +36,8 @@ import org.apache.camel.support.DefaultExchange;
                         + " Splitter to batch messages.",
           annotations = { "interfaceName=org.apache.camel.AggregationStrategy" })
 @Configurer(metadataOnly = true)
-public class GroupedExchangeAggregationStrategy extends AbstractListAggregationStrategy<Exchange> {
+public class GroupedExchangeAggregationStrategy extends AbstractListAggregationStrategy<Exchange>
+        implements AssociativeAggregationStrategy {
 
     @Override
     public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
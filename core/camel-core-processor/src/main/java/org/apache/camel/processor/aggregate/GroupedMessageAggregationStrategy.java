@@ -37,7 +37,8 @@ import org.apache.camel.support.DefaultExchange;
                         + " Splitter to batch messages.",
           annotations = { "interfaceName=org.apache.camel.AggregationStrategy" })
 @Configurer(metadataOnly = true)
-public class GroupedMessageAggregationStrategy extends AbstractListAggregationStrategy<Message> {
+public class GroupedMessageAggregationStrategy extends AbstractListAggregationStrategy<Message>
+        implements AssociativeAggregationStrategy {
 
     @Override
     public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
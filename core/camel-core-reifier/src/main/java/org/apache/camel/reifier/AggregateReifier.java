@@ -120,6 +120,10 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
                 shutdownTimeoutThreadPool = true;
             }
         }
+        if (timeoutThreadPool == null) {
+            // use the shared timer if enabled, otherwise the aggregator creates its own thread pool when needed
+            timeoutThreadPool = getSharedTimer();
+        }
         answer.setTimeoutCheckerExecutorService(timeoutThreadPool);
         answer.setShutdownTimeoutCheckerExecutorService(shutdownTimeoutThreadPool);
 
@@ -139,6 +143,10 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
         if (optimisticLockingSyncRetry != null) {
             answer.setOptimisticLockingSyncRetry(optimisticLockingSyncRetry);
         }
+        Integer lockStripes = parseInt(definition.getLockStripes());
+        if (lockStripes != null) {
+            answer.setLockStripes(lockStripes);
+        }
         if (definition.getCompletionPredicate() != null) {
             Predicate predicate = createPredicate(definition.getCompletionPredicate());
             answer.setCompletionPredicate(predicate);
@@ -37,7 +37,7 @@ public class DelayReifier extends ExpressionReifier<DelayDefinition> {
         Expression delay = createAbsoluteTimeDelayExpression();
 
         boolean async = parseBoolean(definition.getAsyncDelayed(), true);
-        boolean shutdownThreadPool = willCreateNewThreadPool(definition, async);
+        boolean shutdownThreadPool = willCreateNewScheduledThreadPool(definition, async);
         ScheduledExecutorService threadPool = getConfiguredScheduledExecutorService("Delay", definition, async);
 
         Delayer answer = new Delayer(camelContext, childProcessor, delay, threadPool, shutdownThreadPool);
@@ -131,6 +131,7 @@ import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.EndpointHelper;
 import org.apache.camel.support.PluginHelper;
 import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.HashedWheelScheduledExecutorService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -381,6 +382,36 @@ public abstract class ProcessorReifier<T extends ProcessorDefinition<?>> extends
         return false;
     }
 
+    /**
+     * Whether a new scheduled thread pool will be created / enlisted.
+     * <p/>
+     * This is the same as {@link #willCreateNewThreadPool(ExecutorServiceAwareDefinition, boolean)}, except that the
+     * shared timer is used (instead of creating a new thread pool) if enabled.
+     *
+     * @param  definition the node definition which may leverage executor service.
+     * @param  useDefault whether to fallback and use a default thread pool, if no explicit configured
+     * @return            <tt>true</tt> if a new thread pool will be created, <tt>false</tt> if not
+     * @see               #getSharedTimer()
+     */
+    public boolean willCreateNewScheduledThreadPool(ExecutorServiceAwareDefinition<?> definition, boolean useDefault) {
+        if (useDefault && definition.getExecutorServiceBean() == null && definition.getExecutorServiceRef() == null
+                && getSharedTimer() != null) {
+            return false;
+        }
+        return willCreateNewThreadPool(definition, useDefault);
+    }
+
+    /**
+     * Gets the shared timer to use for scheduling delayed tasks, which is the shared thread pool of the error handlers,
+     * if this is a {@link HashedWheelScheduledExecutorService}.
+     *
+     * @return the shared timer, or <tt>null</tt> if no hashed wheel timer is in use
+     */
+    protected ScheduledExecutorService getSharedTimer() {
+        ScheduledExecutorService answer = PluginHelper.getErrorHandlerExecutorService(camelContext);
+        return answer instanceof HashedWheelScheduledExecutorService ? answer : null;
+    }
+
     /**
      * Will look up and get the configured {@link ExecutorService} from the given definition.
      * <p/>
@@ -477,6 +508,10 @@ public abstract class ProcessorReifier<T extends ProcessorDefinition<?>> extends
             }
             return answer;
         } else if (useDefault) {
+            ScheduledExecutorService timer = getSharedTimer();
+            if (timer != null) {
+                return timer;
+            }
             return manager.newDefaultScheduledThreadPool(definition, name);
         }
 
@@ -78,6 +78,11 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         }
         answer.setSynchronous(isSynchronous);
         answer.setDisabled(isDisabled(camelContext, definition));
+        int maxInflight = parseInt(definition.getMaxInflight(), 0);
+        if (maxInflight < 0) {
+            throw new IllegalArgumentException("maxInflight must not be negative, but was: " + maxInflight);
+        }
+        answer.setMaxInflight(maxInflight);
 
         int group = parseInt(definition.getGroup(), 0);
         if (group < 0) {
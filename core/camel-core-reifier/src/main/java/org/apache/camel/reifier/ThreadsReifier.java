@@ -68,6 +68,10 @@ public class ThreadsReifier extends ProcessorReifier<ThreadsDefinition> {
             profile.setRejectedPolicy(policy);
             profile.setAllowCoreThreadTimeOut(definition.getAllowCoreThreadTimeOut() != null
                     ? parseBoolean(definition.getAllowCoreThreadTimeOut(), false) : null);
+            profile.setVirtualThreadPerTask(definition.getVirtualThreadPerTask() != null
+                    ? parseBoolean(definition.getVirtualThreadPerTask(), false) : null);
+            profile.setMaxConcurrentTasks(
+                    definition.getMaxConcurrentTasks() != null ? parseInt(definition.getMaxConcurrentTasks()) : null);
 
             ExecutorServiceManager manager = camelContext.getExecutorServiceManager();
             threadPool = manager.newThreadPool(definition, name, profile);
@@ -98,6 +102,14 @@ public class ThreadsReifier extends ProcessorReifier<ThreadsDefinition> {
                 throw new IllegalArgumentException(
                         "AllowCoreThreadTimeOut and executorService options cannot be used together.");
             }
+            if (definition.getVirtualThreadPerTask() != null) {
+                throw new IllegalArgumentException(
+                        "VirtualThreadPerTask and executorService options cannot be used together.");
+            }
+            if (definition.getMaxConcurrentTasks() != null) {
+                throw new IllegalArgumentException(
+                        "MaxConcurrentTasks and executorService options cannot be used together.");
+            }
         }
 
         ThreadsProcessor answer = new ThreadsProcessor(camelContext, threadPool, shutdownThreadPool, policy);
@@ -24,6 +24,7 @@ import org.apache.camel.Route;
 import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.ThrottleDefinition;
 import org.apache.camel.model.ThrottlingMode;
+import org.apache.camel.processor.AdaptiveConcurrentRequestsThrottler;
 import org.apache.camel.processor.ConcurrentRequestsThrottler;
 import org.apache.camel.processor.TotalRequestsThrottler;
 
@@ -36,7 +37,7 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
     @Override
     public Processor createProcessor() throws Exception {
         boolean async = parseBoolean(definition.getAsyncDelayed(), false);
-        boolean shutdownThreadPool = willCreateNewThreadPool(definition, true);
+        boolean shutdownThreadPool = willCreateNewScheduledThreadPool(definition, true);
         ScheduledExecutorService threadPool = getConfiguredScheduledExecutorService("Throttle", definition, true);
 
         Expression correlation = null;
@@ -51,7 +52,16 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
             throw new IllegalArgumentException("MaxRequestsPerPeriod expression must be provided on " + this);
         }
 
-        if (ThrottlingMode.toMode(parseString(definition.getMode())) == ThrottlingMode.ConcurrentRequests) {
+        ThrottlingMode mode = ThrottlingMode.toMode(parseString(definition.getMode()));
+        if (mode == ThrottlingMode.AdaptiveConcurrentRequests) {
+            AdaptiveConcurrentRequestsThrottler answer = new AdaptiveConcurrentRequestsThrottler(
+                    camelContext, maxRequestsExpression, threadPool, shutdownThreadPool, reject, correlation);
+            answer.setDisabled(isDisabled(camelContext, definition));
+            answer.setAsyncDelayed(async);
+            // should be true by default
+            answer.setCallerRunsWhenRejected(parseBoolean(definition.getCallerRunsWhenRejected(), true));
+            return answer;
+        } else if (mode == ThrottlingMode.ConcurrentRequests) {
             ConcurrentRequestsThrottler answer = new ConcurrentRequestsThrottler(
                     camelContext, maxRequestsExpression, threadPool, shutdownThreadPool, reject, correlation);
             answer.setDisabled(isDisabled(camelContext, definition));
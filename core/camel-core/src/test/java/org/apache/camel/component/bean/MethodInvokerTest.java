@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MethodInvokerTest {
+
+    private final MyBean bean = new MyBean();
+
+    @Test
+    public void testInvoke() throws Exception {
+        MethodInvoker invoker = MethodInvoker.create(method("hello", String.class));
+        assertTrue(invoker.canInvoke(bean, new Object[] { "World" }));
+        assertEquals("Hello World", invoker.invoke(bean, new Object[] { "World" }));
+        assertTrue(invoker.canInvoke(bean, new Object[] { null }));
+        assertEquals("Hello null", invoker.invoke(bean, new Object[] { null }));
+
+        // wrong bean or arguments must use reflection
+        assertFalse(invoker.canInvoke("foo", new Object[] { "World" }));
+        assertFalse(invoker.canInvoke(bean, new Object[] { 123 }));
+        assertFalse(invoker.canInvoke(bean, new Object[0]));
+    }
+
+    @Test
+    public void testInvokePrimitives() throws Exception {
+        MethodInvoker invoker = MethodInvoker.create(method("add", int.class, long.class));
+        assertEquals(5L, invoker.invoke(bean, new Object[] { 2, 3L }));
+        // null or widening of primitives must use reflection
+        assertFalse(invoker.canInvoke(bean, new Object[] { null, 3L }));
+        assertFalse(invoker.canInvoke(bean, new Object[] { 2, 3 }));
+    }
+
+    @Test
+    public void testInvokeVoid() throws Exception {
+        MethodInvoker invoker = MethodInvoker.create(method("touch"));
+        assertTrue(invoker.canInvoke(bean, null));
+        assertNull(invoker.invoke(bean, null));
+        assertEquals(1, bean.touched);
+    }
+
+    @Test
+    public void testInvokeStatic() throws Exception {
+        MethodInvoker invoker = MethodInvoker.create(method("upper", String.class, String.class, String.class, String.class));
+        Object[] args = { "a", "b", "c", "d" };
+        assertTrue(invoker.canInvoke(null, args));
+        assertEquals("ABCD", invoker.invoke(null, args));
+    }
+
+    @Test
+    public void testInvokeJdkMethod() throws Exception {
+        MethodInvoker invoker = MethodInvoker.create(String.class.getMethod("concat", String.class));
+        assertTrue(invoker.canInvoke("foo", new Object[] { "bar" }));
+        assertEquals("foobar", invoker.invoke("foo", new Object[] { "bar" }));
+    }
+
+    @Test
+    public void testInvokeException() throws Exception {
+        MethodInvoker invoker = MethodInvoker.create(method("fail", String.class));
+        InvocationTargetException e
+                = assertThrows(InvocationTargetException.class, () -> invoker.invoke(bean, new Object[] { "Damn" }));
+        assertInstanceOf(IllegalStateException.class, e.getTargetException());
+        assertEquals("Damn", e.getTargetException().getMessage());
+    }
+
+    @Test
+    public void testTooManyParameters() throws Exception {
+        MethodInvoker invoker
+                = MethodInvoker.create(method("many", String.class, String.class, String.class, String.class, String.class));
+        assertFalse(invoker.canInvoke(bean, new Object[] { "a", "b", "c", "d", "e" }));
+    }
+
+    @Test
+    public void testMethodInfoInvoke() throws Exception {
+        MethodInfo info = new BeanInfo(new DefaultCamelContext(), MyBean.class)
+                .getMethodInfo(method("hello", String.class));
+        assertSame(MyBean.class, info.getMethod().getDeclaringClass());
+        assertEquals("Hello Camel", info.invoke(info.getMethod(), bean, new Object[] { "Camel" }, null));
+        // a long is converted by reflection
+        MethodInfo add = new BeanInfo(new DefaultCamelContext(), MyBean.class)
+                .getMethodInfo(method("add", int.class, long.class));
+        assertEquals(5L, add.invoke(add.getMethod(), bean, new Object[] { 2, 3 }, null));
+    }
+
+    private static Method method(String name, Class<?>... types) throws NoSuchMethodException {
+        return MyBean.class.getMethod(name, types);
+    }
+
+    public static class MyBean {
+
+        int touched;
+
+        public String hello(String name) {
+            return "Hello " + name;
+        }
+
+        public long add(int a, long b) {
+            return a + b;
+        }
+
+        public void touch() {
+            touched++;
+        }
+
+        public static String upper(String a, String b, String c, String d) {
+            return (a + b + c + d).toUpperCase();
+        }
+
+        public String fail(String message) {
+            throw new IllegalStateException(message);
+        }
+
+        public String many(String a, String b, String c, String d, String e) {
+            return a + b + c + d + e;
+        }
+    }
+}
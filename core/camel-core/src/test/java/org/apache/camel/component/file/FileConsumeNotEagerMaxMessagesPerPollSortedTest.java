@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Unit test for max messages per poll, where only the first files in sort order are kept while scanning
+ */
+public class FileConsumeNotEagerMaxMessagesPerPollSortedTest extends ContextTestSupport {
+
+    @Test
+    public void testMaxMessagesPerPollSorted() throws Exception {
+        for (char c = 'a'; c <= 'g'; c++) {
+            template.sendBodyAndHeader(fileUri(), "" + c, Exchange.FILE_NAME, c + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("g", "f", "e", "d", "c", "b", "a");
+        mock.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(3);
+        mock.message(3).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(3);
+        mock.message(6).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(1);
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        // the files which were not kept while scanning should not be left in progress
+        FileEndpoint endpoint = context.getEndpoint(fileUri(), FileEndpoint.class);
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            for (char c = 'a'; c <= 'g'; c++) {
+                assertFalse(endpoint.getInProgressRepository().contains(testFile(c + ".txt").toFile().getAbsolutePath()));
+            }
+        });
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from(fileUri("?initialDelay=0&delay=10&maxMessagesPerPoll=3&eagerMaxMessagesPerPoll=false"
+                             + "&sortBy=reverse:file:name"))
+                        .routeId("foo").autoStartup(false).convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
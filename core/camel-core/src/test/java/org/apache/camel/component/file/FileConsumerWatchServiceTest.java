@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FileConsumerWatchServiceTest extends ContextTestSupport {
+
+    @Test
+    public void testWatchServiceRecursive() throws Exception {
+        template.sendBodyAndHeader(fileUri("recursive"), "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("recursive/foo"), "b", Exchange.FILE_NAME, "b.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:recursive");
+        mock.expectedBodiesReceivedInAnyOrder("a", "b");
+
+        context.getRouteController().startRoute("recursive");
+
+        mock.assertIsSatisfied();
+
+        // files in new sub directories should be picked up as well
+        mock.reset();
+        mock.expectedBodiesReceivedInAnyOrder("c", "d");
+
+        template.sendBodyAndHeader(fileUri("recursive"), "c", Exchange.FILE_NAME, "c.txt");
+        template.sendBodyAndHeader(fileUri("recursive/bar/baz"), "d", Exchange.FILE_NAME, "d.txt");
+
+        mock.assertIsSatisfied();
+
+        // the files should be moved to the .camel folder which is not polled
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertFileExists(testFile("recursive/.camel/a.txt"));
+            assertFileExists(testFile("recursive/bar/baz/.camel/d.txt"));
+        });
+    }
+
+    @Test
+    public void testWatchServiceNoop() throws Exception {
+        template.sendBodyAndHeader(fileUri("noop"), "a", Exchange.FILE_NAME, "a.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:noop");
+        mock.expectedBodiesReceived("a");
+
+        context.getRouteController().startRoute("noop");
+
+        mock.assertIsSatisfied();
+
+        // only the new file should be picked up
+        mock.reset();
+        mock.expectedBodiesReceived("b");
+
+        template.sendBodyAndHeader(fileUri("noop"), "b", Exchange.FILE_NAME, "b.txt");
+
+        mock.assertIsSatisfied();
+        assertFileExists(testFile("noop/a.txt"));
+        assertFileExists(testFile("noop/b.txt"));
+    }
+
+    @Test
+    public void testWatchServiceDoneFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:done");
+        mock.expectedBodiesReceived("Hello World");
+        mock.setAssertPeriod(50);
+
+        context.getRouteController().startRoute("done");
+
+        template.sendBodyAndHeader(fileUri("done"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUri("done"), "", Exchange.FILE_NAME, "hello.ready");
+
+        mock.assertIsSatisfied();
+        Awaitility.await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertFileNotExists(testFile("done/hello.ready")));
+    }
+
+    @Test
+    public void testWatchServiceInclude() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:include");
+        mock.expectedBodiesReceived("Hello World");
+
+        context.getRouteController().startRoute("include");
+
+        template.sendBodyAndHeader(fileUri("include"), "Bye World", Exchange.FILE_NAME, "bye.dat");
+        template.sendBodyAndHeader(fileUri("include"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        mock.assertIsSatisfied();
+
+        // the file not included should not be pending, as it can never be included
+        FileConsumer consumer = (FileConsumer) context.getRoute("include").getConsumer();
+        Awaitility.await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertEquals(0, consumer.getPendingFilesSize()));
+        assertFileExists(testFile("include/bye.dat"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from(fileUri("recursive?initialDelay=0&delay=10&recursive=true&useWatchService=true"))
+                        .routeId("recursive").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:recursive");
+
+                from(fileUri("noop?initialDelay=0&delay=10&noop=true&useWatchService=true"))
+                        .routeId("noop").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:noop");
+
+                from(fileUri("done?initialDelay=0&delay=10&doneFileName=${file:name.noext}.ready&useWatchService=true"))
+                        .routeId("done").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:done");
+
+                from(fileUri("include?initialDelay=0&delay=10&include=.*\\.txt&useWatchService=true"))
+                        .routeId("include").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:include");
+            }
+        };
+    }
+}
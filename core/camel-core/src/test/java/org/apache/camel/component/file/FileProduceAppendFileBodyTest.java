@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.util.FileRegion;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit test to verify appending files, and regions of files, to the target file.
+ */
+public class FileProduceAppendFileBodyTest extends ContextTestSupport {
+    private static final String TEST_FILE_NAME = "hello" + UUID.randomUUID() + ".txt";
+
+    @Test
+    public void testAppendFiles() throws Exception {
+        Path hello = Files.writeString(testFile("hello.txt"), "Hello");
+        Path world = Files.writeString(testFile("world.txt"), "Big World");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+        mock.expectedFileExists(testFile(TEST_FILE_NAME), "Hello\nWorld\nHello\n");
+
+        template.sendBody("direct:start", hello.toFile());
+        template.sendBody("direct:start", FileRegion.of(world, 4, 5));
+        template.sendBody("direct:start", new File(hello.toString()));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testRegionConvertedToInputStream() throws Exception {
+        Path world = Files.writeString(testFile("world.txt"), "Big World");
+
+        InputStream is = context.getTypeConverter().convertTo(InputStream.class, FileRegion.of(world, 4, 5));
+        assertEquals("World", context.getTypeConverter().convertTo(String.class, is));
+
+        FileRegion region = context.getTypeConverter().convertTo(FileRegion.class, world.toFile());
+        assertEquals(FileRegion.of(world, 0, 9), region);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").setHeader(Exchange.FILE_NAME, constant(TEST_FILE_NAME))
+                        .to(fileUri("?fileExist=Append&appendChars=\\n"), "mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class SedaPollBatchSizeTest extends ContextTestSupport {
+
+    private static final String LOCK_FREE_URI
+            = "seda:bar?queueFactory=#lockFreeQueueFactory&size=50&blockWhenFull=true"
+              + "&concurrentConsumers=4&pollBatchSize=5";
+    private static final String SPIN_URI
+            = "seda:spin?queueFactory=#spinQueueFactory&size=50&blockWhenFull=true"
+              + "&concurrentConsumers=2&pollBatchSize=5";
+
+    private final CountingQueue countingQueue = new CountingQueue();
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private final CountDownLatch unblock = new CountDownLatch(1);
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRegistry().bind("lockFreeQueueFactory", new LockFreeBlockingQueueFactory<>());
+        LockFreeBlockingQueueFactory<Exchange> spinQueueFactory = new LockFreeBlockingQueueFactory<>();
+        spinQueueFactory.setWaitStrategy(LockFreeBlockingQueue.WaitStrategy.Spin);
+        context.getRegistry().bind("spinQueueFactory", spinQueueFactory);
+        context.getRegistry().bind("countingQueue", countingQueue);
+        return context;
+    }
+
+    @Test
+    public void testPollBatchSize() throws Exception {
+        SedaEndpoint endpoint = context.getEndpoint("seda:foo?pollBatchSize=10", SedaEndpoint.class);
+        assertEquals(10, endpoint.getPollBatchSize());
+
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            bodies.add("Message " + i);
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:foo");
+        mock.expectedBodiesReceived(bodies);
+
+        for (String body : bodies) {
+            template.sendBody("seda:foo", body);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testPollBatchSizeLockFreeQueue() throws Exception {
+        SedaEndpoint endpoint = context.getEndpoint(LOCK_FREE_URI, SedaEndpoint.class);
+        assertIsInstanceOf(LockFreeBlockingQueue.class, endpoint.getQueue());
+        assertTrue(endpoint.isBlockWhenFull());
+
+        MockEndpoint mock = getMockEndpoint("mock:bar");
+        mock.expectedMessageCount(200);
+
+        // send to the same uri as the consumer so the producer blocks (LockFreeBlockingQueue.put)
+        // when the queue is full
+        for (int i = 0; i < 200; i++) {
+            template.sendBody(LOCK_FREE_URI, "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testPollBatchSizeTakesManyPerWakeup() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:counted");
+        mock.expectedMessageCount(10);
+
+        // queue the messages before the consumer is started
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("seda:counted?queue=#countingQueue", "Message " + i);
+        }
+        assertEquals(10, countingQueue.size());
+        context.getRouteController().startRoute("counted");
+
+        assertMockEndpointsSatisfied();
+        // the consumer wakes up for the first message, and takes the others in a batch
+        assertEquals(1, countingQueue.polled.get());
+        assertEquals(9, countingQueue.drained.get());
+    }
+
+    @Test
+    public void testPollBatchSizeSpinWaitStrategy() throws Exception {
+        SedaEndpoint endpoint = context.getEndpoint(SPIN_URI, SedaEndpoint.class);
+        LockFreeBlockingQueue<Exchange> queue = assertIsInstanceOf(LockFreeBlockingQueue.class, endpoint.getQueue());
+        assertEquals(LockFreeBlockingQueue.WaitStrategy.Spin, queue.getWaitStrategy());
+
+        MockEndpoint mock = getMockEndpoint("mock:spin");
+        mock.expectedMessageCount(200);
+
+        for (int i = 0; i < 200; i++) {
+            template.sendBody(SPIN_URI, "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testPollBatchSizeSuspend() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:suspend");
+        mock.expectedMessageCount(2);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("seda:suspend", "Message " + i);
+        }
+        context.getRouteController().startRoute("suspend");
+        SedaConsumer consumer = (SedaConsumer) context.getRoute("suspend").getConsumer();
+
+        // the second message is the first of the batch, so the other 8 messages are taken from the queue
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        assertEquals(0, consumer.getEndpoint().getQueue().size());
+        assertEquals(8, consumer.getPendingExchangesSize());
+
+        // the remaining messages of the batch are put back on the queue when suspended
+        consumer.suspend();
+        unblock.countDown();
+        assertMockEndpointsSatisfied();
+        await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertEquals(8, consumer.getEndpoint().getQueue().size()));
+        assertEquals(8, consumer.getPendingExchangesSize());
+        assertEquals(2, mock.getReceivedCounter());
+
+        mock.reset();
+        mock.expectedMessageCount(8);
+        consumer.resume();
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testLockFreeQueue() throws Exception {
+        LockFreeBlockingQueue<String> queue = new LockFreeBlockingQueue<>(2, LockFreeBlockingQueue.WaitStrategy.Park);
+        assertEquals(2, queue.remainingCapacity());
+        queue.put("A");
+        queue.put("B");
+        assertFalse(queue.offer("C"));
+        assertFalse(queue.offer("C", 10, TimeUnit.MILLISECONDS));
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, queue.drainTo(drained, 5));
+        assertEquals(List.of("A", "B"), drained);
+        assertEquals(0, queue.size());
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:foo?pollBatchSize=10").to("mock:foo");
+
+                from(LOCK_FREE_URI).to("mock:bar");
+
+                from(SPIN_URI).to("mock:spin");
+
+                from("seda:counted?queue=#countingQueue&pollBatchSize=10").routeId("counted").autoStartup(false)
+                        .to("mock:counted");
+
+                from("seda:suspend?pollBatchSize=10").routeId("suspend").autoStartup(false)
+                        .process(exchange -> {
+                            if ("Message 1".equals(exchange.getMessage().getBody())) {
+                                blocked.countDown();
+                                if (!unblock.await(5, TimeUnit.SECONDS)) {
+                                    fail("Not unblocked");
+                                }
+                            }
+                        })
+                        .to("mock:suspend");
+            }
+        };
+    }
+
+    private static class CountingQueue extends LinkedBlockingQueue<Exchange> {
+        private final AtomicInteger polled = new AtomicInteger();
+        private final AtomicInteger drained = new AtomicInteger();
+
+        @Override
+        public Exchange poll(long timeout, TimeUnit unit) throws InterruptedException {
+            Exchange answer = super.poll(timeout, unit);
+            if (answer != null) {
+                polled.incrementAndGet();
+            }
+            return answer;
+        }
+
+        @Override
+        public int drainTo(Collection<? super Exchange> c, int maxElements) {
+            int answer = super.drainTo(c, maxElements);
+            drained.addAndGet(answer);
+            return answer;
+        }
+    }
+}
@@ -32,11 +32,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
  */
 public class SedaQueueFactoryTest extends ContextTestSupport {
     private final ArrayBlockingQueueFactory<Exchange> arrayQueueFactory = new ArrayBlockingQueueFactory<>();
+    private final LockFreeBlockingQueueFactory<Exchange> lockFreeQueueFactory = new LockFreeBlockingQueueFactory<>();
 
     @Override
     protected CamelContext createCamelContext() throws Exception {
         CamelContext context = super.createCamelContext();
         context.getRegistry().bind("arrayQueueFactory", arrayQueueFactory);
+        context.getRegistry().bind("lockFreeQueueFactory", lockFreeQueueFactory);
         return context;
     }
 
@@ -60,6 +62,19 @@ public class SedaQueueFactoryTest extends ContextTestSupport {
         assertEquals(100, blockingQueue.remainingCapacity(), "remainingCapacity - custom");
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testLockFreeBlockingQueueFactoryAndSize() {
+        SedaEndpoint endpoint
+                = resolveMandatoryEndpoint("seda:lockFreeQueue100?queueFactory=#lockFreeQueueFactory&size=100",
+                        SedaEndpoint.class);
+
+        BlockingQueue<Exchange> queue = endpoint.getQueue();
+        LockFreeBlockingQueue<Exchange> blockingQueue = assertIsInstanceOf(LockFreeBlockingQueue.class, queue);
+        assertEquals(100, blockingQueue.remainingCapacity(), "remainingCapacity - custom");
+        assertEquals(LockFreeBlockingQueue.WaitStrategy.Park, blockingQueue.getWaitStrategy());
+    }
+
     @Test
     public void testDefaultBlockingQueueFactory() {
         SedaEndpoint endpoint = resolveMandatoryEndpoint("seda:linkedQueue", SedaEndpoint.class);
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.IOHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class CachedOutputStreamDirectSpoolTest extends ContextTestSupport {
+
+    private static final String TEST_STRING = "This is a test string which is larger than the buffer size"
+                                              + " of the stream caching strategy, so it is written through the direct buffer"
+                                              + " several times before it is all spooled to the temporary file.";
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory().toFile());
+        context.getStreamCachingStrategy().setSpoolEnabled(true);
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        context.getStreamCachingStrategy().setBufferSize(32);
+        context.getStreamCachingStrategy().setSpoolMode(StreamCachingStrategy.SpoolMode.Direct);
+        context.getStreamCachingStrategy().setSpoolDirectBufferPoolSize(1);
+        return context;
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private Exchange createExchange() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getExchangeExtension().setUnitOfWork(new DefaultUnitOfWork(exchange));
+        return exchange;
+    }
+
+    @Test
+    public void testSpoolAndReadMapped() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics stats = context.getStreamCachingStrategy().getStatistics();
+
+        Exchange exchange = createExchange();
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        String[] files = testDirectory().toFile().list();
+        assertNotNull(files);
+        assertEquals(1, files.length, "we should have a temp file");
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(FileInputStreamCache.class, cache);
+        assertFalse(cache.inMemory());
+        assertEquals(TEST_STRING.length(), cache.length());
+        assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, cache));
+
+        // read again
+        cache.reset();
+        assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, cache));
+        assertEquals(1, stats.getSpoolBufferPoolInUse());
+
+        exchange.getUnitOfWork().done(exchange);
+        IOHelper.close(cos);
+
+        files = testDirectory().toFile().list();
+        assertNotNull(files);
+        assertEquals(0, files.length, "the temp file should be deleted");
+        assertEquals(0, stats.getSpoolBufferPoolInUse());
+        assertEquals(1, stats.getSpoolBufferPoolMissCounter());
+    }
+
+    @Test
+    public void testBufferPool() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics stats = context.getStreamCachingStrategy().getStatistics();
+
+        Exchange exchange = createExchange();
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        // the pool size is 1, so the 2nd buffer in use is on the heap
+        Exchange exchange2 = createExchange();
+        CachedOutputStream cos2 = new CachedOutputStream(exchange2);
+        cos2.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(2, stats.getSpoolBufferPoolInUse());
+        assertEquals(1, stats.getSpoolBufferPoolMissCounter());
+        assertEquals(1, stats.getSpoolBufferPoolExhaustedCounter());
+
+        try (InputStream is = cos2.getInputStream()) {
+            assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, is));
+        }
+        exchange.getUnitOfWork().done(exchange);
+        exchange2.getUnitOfWork().done(exchange2);
+        assertEquals(0, stats.getSpoolBufferPoolInUse());
+
+        // the direct buffer is reused
+        Exchange exchange3 = createExchange();
+        CachedOutputStream cos3 = new CachedOutputStream(exchange3);
+        cos3.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        assertEquals(1, stats.getSpoolBufferPoolHitCounter());
+        exchange3.getUnitOfWork().done(exchange3);
+
+        File dir = testDirectory().toFile();
+        assertEquals(0, dir.list().length, "the temp files should be deleted");
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.file.FileConstants;
+import org.apache.camel.impl.engine.IndexedHeadersMap;
+import org.apache.camel.impl.engine.IndexedHeadersMapFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexedHeadersMapFactoryRouteTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getCamelContextExtension().setHeadersMapFactory(new IndexedHeadersMapFactory());
+        return context;
+    }
+
+    @Test
+    public void testIndexedHeaders() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(3);
+        getMockEndpoint("mock:result").expectedHeaderReceived("FOO", 123);
+        getMockEndpoint("mock:result").expectedHeaderReceived("bar", "yes");
+        getMockEndpoint("mock:result").expectedHeaderReceived(Exchange.FILE_NAME, "hello.txt");
+        getMockEndpoint("mock:result").expectedHeaderReceived("beer", "Carlsberg");
+
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("foo", 123);
+        headers.put("Bar", "yes");
+        headers.put("CamelFileName", "hello.txt");
+
+        template.sendBodyAndHeaders("direct:start", "A,B,C", headers);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testComponentHeadersRegistered() {
+        // the file endpoint is in use, so its header constants are well-known
+        context.getEndpoint("file:target/data/indexed");
+        assertTrue(IndexedHeadersMap.isKnownKey(FileConstants.FILE_RELATIVE_PATH));
+        assertTrue(IndexedHeadersMap.isKnownKey("camelfilerelativepath"));
+
+        Map<String, Object> map = context.getCamelContextExtension().getHeadersMapFactory().newMap();
+        map.put(FileConstants.FILE_RELATIVE_PATH, "hello.txt");
+        assertEquals("hello.txt", map.get("camelfilerelativepath"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split(body().tokenize(","))
+                            .setHeader("beer", constant("Carlsberg"))
+                            .to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.engine.IndexedHeadersMap;
+import org.apache.camel.impl.engine.IndexedHeadersMapFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedHeadersMapFactoryTest {
+
+    private final IndexedHeadersMapFactory factory = new IndexedHeadersMapFactory();
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = factory.newMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+    }
+
+    @Test
+    public void testKnownKeys() {
+        Map<String, Object> map = factory.newMap();
+        map.put(Exchange.FILE_NAME, "hello.txt");
+        map.put("content-type", "text/plain");
+
+        assertEquals("hello.txt", map.get(Exchange.FILE_NAME));
+        assertEquals("hello.txt", map.get("camelfilename"));
+        assertEquals("text/plain", map.get(Exchange.CONTENT_TYPE));
+        assertEquals("text/plain", map.get("CONTENT-TYPE"));
+
+        // the canonical name of the well-known key is stored
+        assertTrue(map.containsKey(Exchange.CONTENT_TYPE));
+        assertEquals(List.of(Exchange.FILE_NAME, Exchange.CONTENT_TYPE), new ArrayList<>(map.keySet()));
+
+        assertEquals("text/plain", map.remove("Content-Type"));
+        assertNull(map.get(Exchange.CONTENT_TYPE));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testRegisterKnownKeysLater() {
+        Map<String, Object> map = factory.newMap();
+        map.put("myLateHeader", 123);
+
+        IndexedHeadersMap.registerKnownKeys(List.of("MyLateHeader"));
+
+        // existing entry must still be found using the now known key
+        assertEquals(123, map.get("MyLateHeader"));
+        assertEquals(123, map.put("MYLATEHEADER", 456));
+        assertEquals(1, map.size());
+        assertEquals(456, map.get("myLateHeader"));
+    }
+
+    @Test
+    public void testManyHeaders() {
+        Map<String, Object> map = factory.newMap();
+        for (int i = 0; i < 200; i++) {
+            map.put("header" + i, i);
+        }
+        assertEquals(200, map.size());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, map.get("HEADER" + i));
+        }
+        for (int i = 0; i < 200; i += 2) {
+            assertEquals(i, map.remove("header" + i));
+        }
+        assertEquals(100, map.size());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i % 2 == 0 ? null : i, map.get("header" + i));
+        }
+        // keeps insertion order
+        Iterator<String> it = map.keySet().iterator();
+        for (int i = 1; i < 200; i += 2) {
+            assertEquals("header" + i, it.next());
+        }
+        assertFalse(it.hasNext());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("header1"));
+    }
+
+    @Test
+    public void testRandomOperations() {
+        Map<String, Object> map = factory.newMap();
+        Map<String, Object> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int n = 0; n < 20000; n++) {
+            String key = random.nextBoolean() ? "Header" + random.nextInt(40) : Exchange.FILE_NAME;
+            if (random.nextBoolean()) {
+                key = key.toUpperCase(Locale.ENGLISH);
+            }
+            int op = random.nextInt(10);
+            if (op < 5) {
+                assertEquals(expected.put(key.toLowerCase(Locale.ENGLISH), n), map.put(key, n));
+            } else if (op < 9) {
+                assertEquals(expected.remove(key.toLowerCase(Locale.ENGLISH)), map.remove(key));
+            } else {
+                map = factory.newMap(map);
+            }
+            assertEquals(expected.size(), map.size());
+            assertEquals(expected.get(key.toLowerCase(Locale.ENGLISH)), map.get(key));
+        }
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            assertEquals(expected.get(entry.getKey().toLowerCase(Locale.ENGLISH)), entry.getValue());
+        }
+    }
+
+    @Test
+    public void testNullValue() {
+        Map<String, Object> map = factory.newMap();
+        map.put("foo", null);
+        assertTrue(map.containsKey("FOO"));
+        assertNull(map.get("foo"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testConstructFromOther() {
+        Map<String, Object> other = new HashMap<>();
+        other.put("Foo", "cheese");
+        other.put("bar", 123);
+
+        Map<String, Object> map = factory.newMap(other);
+
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals(123, map.get("BaR"));
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        Map<String, Object> source = factory.newMap();
+        source.put("foo", "cheese");
+        source.put(Exchange.FILE_NAME, "hello.txt");
+
+        Map<String, Object> copy = factory.newMap(source);
+        assertEquals(source, copy);
+
+        copy.put("foo", "beer");
+        copy.put("bar", 123);
+        assertEquals("cheese", source.get("foo"));
+        assertNull(source.get("bar"));
+        assertEquals("beer", copy.get("foo"));
+
+        source.remove(Exchange.FILE_NAME);
+        assertEquals("hello.txt", copy.get(Exchange.FILE_NAME));
+
+        Map<String, Object> copy2 = factory.newMap(copy);
+        copy2.entrySet().iterator().next().setValue("wine");
+        assertEquals("beer", copy.get("foo"));
+        assertEquals("wine", copy2.get("foo"));
+
+        Map<String, Object> copy3 = factory.newMap(copy);
+        copy3.clear();
+        assertEquals(3, copy.size());
+        assertTrue(copy3.isEmpty());
+    }
+
+    @Test
+    public void testSerialize() throws Exception {
+        Map<String, Object> map = factory.newMap();
+        map.put("foo", "cheese");
+        map.put(Exchange.FILE_NAME, "hello.txt");
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+            out.writeObject(map);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> copy = (Map<String, Object>) in.readObject();
+            assertEquals("cheese", copy.get("FOO"));
+            assertEquals("hello.txt", copy.get(Exchange.FILE_NAME));
+        }
+    }
+
+    @Test
+    public void testIsInstance() {
+        Map<String, Object> map = factory.newMap();
+        Map<String, Object> other = factory.newMap(map);
+
+        assertTrue(factory.isInstanceOf(map));
+        assertTrue(factory.isInstanceOf(other));
+        assertFalse(factory.isInstanceOf(new HashMap<>()));
+        assertTrue(factory.isCaseInsensitive());
+    }
+
+}
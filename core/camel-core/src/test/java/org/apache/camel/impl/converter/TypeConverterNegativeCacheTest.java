@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Random;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class TypeConverterNegativeCacheTest extends ContextTestSupport {
+
+    private final Random random = new Random();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = new DefaultCamelContext(false);
+        context.setTypeConverterStatisticsEnabled(true);
+        return context;
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testNegativeCache() {
+        CoreTypeConverterRegistry registry = (CoreTypeConverterRegistry) context.getTypeConverterRegistry();
+        int before = registry.getNegativeCacheSize();
+
+        assertNull(context.getTypeConverter().convertTo(Random.class, "foo"));
+        assertEquals(before + 1, registry.getNegativeCacheSize());
+        assertNull(context.getTypeConverter().convertTo(Random.class, "bar"));
+        assertEquals(before + 1, registry.getNegativeCacheSize());
+
+        // adding a type converter should forget the misses
+        registry.addTypeConverter(Random.class, String.class, new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                return type.cast(random);
+            }
+        });
+        assertEquals(0, registry.getNegativeCacheSize());
+        assertSame(random, context.getTypeConverter().convertTo(Random.class, "foo"));
+    }
+
+    @Test
+    public void testNegativeCacheDisabled() {
+        CoreTypeConverterRegistry registry = (CoreTypeConverterRegistry) context.getTypeConverterRegistry();
+        registry.setMaximumNegativeCacheSize(0);
+
+        assertNull(context.getTypeConverter().convertTo(Random.class, "foo"));
+        assertEquals(0, registry.getNegativeCacheSize());
+    }
+
+    @Test
+    public void testConversionStatistics() {
+        TypeConverterRegistry.Statistics statistics = context.getTypeConverterRegistry().getStatistics();
+        statistics.reset();
+
+        assertNotNull(context.getTypeConverter().convertTo(InputStream.class, "foo"));
+        assertNotNull(context.getTypeConverter().convertTo(InputStream.class, "bar"));
+        assertNull(context.getTypeConverter().convertTo(Random.class, "foo"));
+
+        Collection<TypeConverterRegistry.ConversionStatistic> stats = statistics.getConversionStatistics();
+        TypeConverterRegistry.ConversionStatistic hit = find(stats, String.class, InputStream.class);
+        assertNotNull(hit);
+        assertEquals(2, hit.getHitCounter());
+        assertEquals(0, hit.getMissCounter());
+
+        TypeConverterRegistry.ConversionStatistic miss = find(stats, String.class, Random.class);
+        assertNotNull(miss);
+        assertEquals(0, miss.getHitCounter());
+        assertEquals(1, miss.getMissCounter());
+        assertEquals(1, miss.getFallbackCounter());
+
+        statistics.reset();
+        assertEquals(0, statistics.getConversionStatistics().size());
+    }
+
+    private static TypeConverterRegistry.ConversionStatistic find(
+            Collection<TypeConverterRegistry.ConversionStatistic> stats, Class<?> from, Class<?> to) {
+        for (TypeConverterRegistry.ConversionStatistic stat : stats) {
+            if (stat.getFrom() == from && stat.getTo() == to) {
+                return stat;
+            }
+        }
+        return null;
+    }
+}
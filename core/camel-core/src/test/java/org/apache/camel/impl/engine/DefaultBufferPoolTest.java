@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.spi.BufferPool;
+import org.apache.camel.support.PluginHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DefaultBufferPoolTest extends ContextTestSupport {
+
+    @Test
+    public void testSizeClasses() {
+        DefaultBufferPool pool = new DefaultBufferPool();
+
+        assertEquals(512, pool.acquire(1).length);
+        assertEquals(512, pool.acquire(512).length);
+        assertEquals(1024, pool.acquire(513).length);
+        assertEquals(4096, pool.acquire(4096).length);
+        assertEquals(262144, pool.acquire(200000).length);
+        // too big to be pooled
+        assertEquals(300000, pool.acquire(300000).length);
+    }
+
+    @Test
+    public void testRecycle() {
+        DefaultBufferPool pool = new DefaultBufferPool();
+
+        byte[] buf = pool.acquire(4096);
+        assertEquals(0, pool.getHitCounter());
+        assertEquals(1, pool.getMissCounter());
+        pool.release(buf);
+        assertEquals(1, pool.getSize());
+
+        assertSame(buf, pool.acquire(3000));
+        assertEquals(1, pool.getHitCounter());
+        assertEquals(50d, pool.getHitRate());
+        assertEquals(0, pool.getSize());
+
+        // buffers that is not a size class is not pooled
+        pool.release(new byte[1000]);
+        pool.release(new byte[300000]);
+        assertEquals(0, pool.getSize());
+
+        pool.resetStatistics();
+        assertEquals(0, pool.getHitCounter());
+        assertEquals(0, pool.getMissCounter());
+    }
+
+    @Test
+    public void testBounded() {
+        DefaultBufferPool pool = new DefaultBufferPool();
+        pool.setMaximumPoolSize(2);
+
+        byte[] a = pool.acquire(1024);
+        byte[] b = pool.acquire(1024);
+        byte[] c = pool.acquire(1024);
+        assertNotSame(a, b);
+        pool.release(a);
+        pool.release(b);
+        pool.release(c);
+        assertEquals(2, pool.getSize());
+
+        pool.clear();
+        assertEquals(0, pool.getSize());
+    }
+
+    @Test
+    public void testLeakDetection() throws Exception {
+        DefaultBufferPool pool = new DefaultBufferPool();
+        pool.setLeakDetection(true);
+        pool.start();
+
+        pool.release(pool.acquire(1024));
+        for (int i = 0; i < 10; i++) {
+            pool.acquire(2048);
+        }
+
+        // the leaked buffers are reported when they are garbage collected
+        for (int i = 0; i < 50 && pool.getLeakCounter() < 10; i++) {
+            System.gc();
+            Thread.sleep(20);
+            pool.acquire(1024);
+            pool.release(pool.acquire(1024));
+        }
+        assertTrue(pool.getLeakCounter() > 0);
+        assertTrue(pool.getLeakCounter() <= 10);
+
+        pool.stop();
+    }
+
+    @Test
+    public void testCopy() throws Exception {
+        BufferPool pool = PluginHelper.getBufferPool(context);
+        assertFalse(pool.isLeakDetection());
+
+        byte[] data = new byte[10000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        for (int i = 0; i < 5; i++) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            assertEquals(data.length, pool.copy(new ByteArrayInputStream(data), bos, 4096));
+            assertArrayEquals(data, bos.toByteArray());
+        }
+        assertEquals(4, pool.getHitCounter());
+        assertEquals(1, pool.getMissCounter());
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Map;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Expression;
+import org.apache.camel.spi.CompiledExpressionCache;
+import org.apache.camel.support.PluginHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DefaultCompiledExpressionCacheTest extends ContextTestSupport {
+
+    @Test
+    public void testGetPut() {
+        DefaultCompiledExpressionCache cache = new DefaultCompiledExpressionCache(10);
+
+        assertNull(cache.get("simple", "${body}"));
+        cache.put("simple", "${body}", "a");
+        cache.put("jsonpath", "${body}", "b");
+        assertEquals("a", cache.get("simple", "${body}"));
+        assertEquals("b", cache.get("jsonpath", "${body}"));
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        assertEquals("a", cache.remove("simple", "${body}"));
+        assertNull(cache.get("simple", "${body}"));
+        assertEquals(1, cache.size());
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void testNamespaceMap() {
+        DefaultCompiledExpressionCache cache = new DefaultCompiledExpressionCache(10);
+        Map<String, Object> foo = cache.asMap("foo");
+        Map<String, Object> bar = cache.asMap("bar");
+
+        foo.put("a", 1);
+        foo.put("b", 2);
+        bar.put("a", 3);
+        assertEquals(1, foo.get("a"));
+        assertEquals(3, bar.get("a"));
+        assertEquals(2, foo.size());
+        assertEquals(1, bar.size());
+        assertTrue(foo.containsKey("b"));
+
+        foo.clear();
+        assertEquals(0, foo.size());
+        assertEquals(1, bar.size());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testBounded() {
+        DefaultCompiledExpressionCache cache = new DefaultCompiledExpressionCache(100);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put("simple", "key" + i, i);
+        }
+        assertEquals(100, cache.size());
+        assertEquals(900, cache.getEvicted());
+
+        cache.setMaximumCacheSize(10);
+        assertEquals(10, cache.size());
+        assertEquals(990, cache.getEvicted());
+    }
+
+    @Test
+    public void testFrequentlyUsedNotEvicted() {
+        DefaultCompiledExpressionCache cache = new DefaultCompiledExpressionCache(100);
+
+        for (int i = 0; i < 50; i++) {
+            cache.put("simple", "hot" + i, i);
+        }
+        for (int n = 0; n < 5; n++) {
+            for (int i = 0; i < 50; i++) {
+                assertNotNull(cache.get("simple", "hot" + i));
+            }
+        }
+
+        // a burst of one-off expressions such as from dynamic uris
+        for (int i = 0; i < 10000; i++) {
+            String key = "cold" + i;
+            if (cache.get("simple", key) == null) {
+                cache.put("simple", key, i);
+            }
+        }
+
+        assertEquals(100, cache.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, cache.get("simple", "hot" + i), "hot" + i + " should be in the cache");
+        }
+    }
+
+    @Test
+    public void testDisabled() {
+        DefaultCompiledExpressionCache cache = new DefaultCompiledExpressionCache(0);
+
+        cache.put("simple", "${body}", "a");
+        assertNull(cache.get("simple", "${body}"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testSharedBySimpleLanguage() {
+        CompiledExpressionCache cache = PluginHelper.getCompiledExpressionCache(context);
+        assertNotNull(cache);
+        assertEquals(1000, cache.getMaximumCacheSize());
+
+        Expression exp1 = context.resolveLanguage("simple").createExpression("Hello ${body}");
+        Expression exp2 = context.resolveLanguage("simple").createExpression("Hello ${body}");
+        assertSame(exp1, exp2);
+        assertTrue(cache.getHits() > 0);
+
+        // predicates and file language are cached separately
+        assertNotNull(context.resolveLanguage("simple").createPredicate("${body} == 'Hello'"));
+        assertNotNull(context.resolveLanguage("file").createExpression("Hello ${body}"));
+        assertEquals(1, cache.asMap("simple").keySet().stream().filter(k -> k.endsWith("Hello ${body}")).count());
+        assertEquals(1, cache.asMap("simple:predicate").size());
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+        executor.setParallelism(4);
+        executor.setStealThreshold(4);
+        executor.setStatisticsEnabled(true);
+        context.getCamelContextExtension().setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testRouting() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(100);
+        getMockEndpoint("mock:a").expectedMessageCount(100);
+        getMockEndpoint("mock:b").expectedMessageCount(100);
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("seda:start", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testScheduleWhenBusyIsStolen() throws Exception {
+        ReactiveExecutor executor = context.getCamelContextExtension().getReactiveExecutor();
+        WorkStealingReactiveExecutor wsre = assertInstanceOf(WorkStealingReactiveExecutor.class, executor);
+
+        Thread caller = Thread.currentThread();
+        List<Thread> queued = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(10);
+
+        executor.scheduleMain(() -> {
+            // the first tasks are queued on this thread until it has a backlog
+            for (int i = 0; i < 4; i++) {
+                executor.schedule(() -> queued.add(Thread.currentThread()));
+            }
+            // this thread is now busy so the tasks can only be executed when stolen by the worker threads
+            for (int i = 0; i < 10; i++) {
+                executor.schedule(() -> {
+                    threads.add(Thread.currentThread());
+                    latch.countDown();
+                });
+            }
+            try {
+                latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertEquals(List.of(caller, caller, caller, caller), queued);
+        assertEquals(10, threads.size());
+        assertTrue(wsre.getStolenTasks() > 0);
+        for (Thread thread : threads) {
+            if (thread != caller) {
+                assertTrue(thread.getName().contains("ReactiveExecutor"), thread.getName());
+            }
+        }
+    }
+
+    @Test
+    public void testScheduleWhenBusyWithoutBacklogIsNotStolen() {
+        ReactiveExecutor executor = context.getCamelContextExtension().getReactiveExecutor();
+        WorkStealingReactiveExecutor wsre = assertInstanceOf(WorkStealingReactiveExecutor.class, executor);
+
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        executor.scheduleMain(() -> {
+            // such as the next step in a pipeline, which must continue on this thread
+            executor.schedule(() -> threads.add(Thread.currentThread()));
+        });
+
+        assertEquals(List.of(Thread.currentThread()), threads);
+        assertEquals(0, wsre.getStolenTasks());
+    }
+
+    @Test
+    public void testScheduleWhenIdleRunsOnCurrentThread() {
+        ReactiveExecutor executor = context.getCamelContextExtension().getReactiveExecutor();
+
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        executor.schedule(() -> threads.add(Thread.currentThread()));
+
+        assertEquals(List.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void testExecuteFromQueueStaysOnCurrentThread() {
+        ReactiveExecutor executor = context.getCamelContextExtension().getReactiveExecutor();
+
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        executor.scheduleQueue(() -> {
+            threads.add(Thread.currentThread());
+            // such as transacted routes which must continue on the same thread
+            executor.schedule(() -> threads.add(Thread.currentThread()));
+        });
+        while (executor.executeFromQueue()) {
+            // noop
+        }
+
+        assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), threads);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:start?concurrentConsumers=4")
+                        .multicast().to("mock:a", "direct:b").end()
+                        .delay(1).asyncDelayed()
+                        .to("mock:result");
+
+                from("direct:b")
+                        .delay(1).asyncDelayed()
+                        .to("mock:b");
+            }
+        };
+    }
+}
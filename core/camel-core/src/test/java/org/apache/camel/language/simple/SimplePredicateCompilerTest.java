@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.camel.ExchangeTestSupport;
+import org.apache.camel.Predicate;
+import org.apache.camel.language.simple.ast.SimpleNode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SimplePredicateCompilerTest extends ExchangeTestSupport {
+
+    private static final String[] PREDICATES = {
+            "${header.foo} > 5 && ${body} contains 'y'",
+            "${header.foo} > 5 || ${body} contains 'y'",
+            "${headers.foo} == 10 && ${body} !contains 'z'",
+            "${header.foo} <= ${header.bar}",
+            "${header.foo} != null",
+            "${header.baz} == null",
+            "${exchangeProperty.prop} == 'abc' && ${body} startsWith 'x'",
+            "${body} endsWith 'y' || ${header.foo} range '1..5'",
+            "${header.foo} in '5,10,15' && ${body} regex '^x.*'",
+            "${body} is 'java.lang.String'",
+            "${header.foo} > 5 && ${body.length} == 3 && ${header.bar} =~ 'ABC'",
+            "${header.bar}",
+            "true"
+    };
+
+    @Test
+    public void testCompiledMatchesInterpreted() {
+        Object[][] values = {
+                { 10, "abc", "xyz", "abc" },
+                { 3, "abc", "xyz", null },
+                { "10", 10, "xzy", "abc" },
+                { null, null, "abcz", null },
+                { 15, "true", "xy", "abc" } };
+
+        for (String text : PREDICATES) {
+            Predicate interpreted = new SimplePredicateParser(context, text, true, null).parsePredicate();
+            List<SimpleNode> nodes = new SimplePredicateParser(context, text, true, null).parseTokens();
+            Predicate compiled = SimplePredicateCompiler.compile(context, text, nodes);
+
+            for (Object[] value : values) {
+                exchange.getIn().setHeader("foo", value[0]);
+                exchange.getIn().setHeader("bar", value[1]);
+                exchange.getIn().setBody(value[2]);
+                exchange.setProperty("prop", value[3]);
+                assertEquals(interpreted.matches(exchange), compiled.matches(exchange),
+                        "Predicate " + text + " with values " + Arrays.asList(value));
+            }
+        }
+    }
+
+    @Test
+    public void testHeaderFallbackOnProperty() {
+        String text = "${header.foo} == 123";
+        Predicate compiled = SimplePredicateCompiler.compile(context, text,
+                new SimplePredicateParser(context, text, true, null).parseTokens());
+
+        exchange.getIn().removeHeader("foo");
+        assertFalse(compiled.matches(exchange));
+        exchange.setProperty("foo", 123);
+        assertTrue(compiled.matches(exchange));
+        exchange.getIn().setHeader("foo", 456);
+        assertFalse(compiled.matches(exchange));
+    }
+
+    @Test
+    public void testCompileAfterThreshold() {
+        SimplePredicateParser parser = new SimplePredicateParser(context, "${header.foo} > 5 && ${body} contains 'y'", true, null);
+        parser.setCompileThreshold(3);
+        Predicate predicate = parser.parsePredicate();
+        SimpleTieredPredicate tiered = assertInstanceOf(SimpleTieredPredicate.class, predicate);
+        assertEquals("${header.foo} > 5 && ${body} contains y", predicate.toString().replace("'", ""));
+
+        exchange.getIn().setHeader("foo", 10);
+        exchange.getIn().setBody("xyz");
+        assertTrue(predicate.matches(exchange));
+        assertTrue(predicate.matches(exchange));
+        assertFalse(tiered.isCompiled());
+        assertTrue(predicate.matches(exchange));
+        assertTrue(tiered.isCompiled());
+
+        assertTrue(predicate.matches(exchange));
+        exchange.getIn().setHeader("foo", 4);
+        assertFalse(predicate.matches(exchange));
+    }
+
+    @Test
+    public void testSimpleLanguageCompileThreshold() {
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        assertEquals(SimpleLanguage.DEFAULT_COMPILE_THRESHOLD, simple.getCompileThreshold());
+
+        Predicate predicate = simple.createPredicate("${header.foo} == 'bar'");
+        assertInstanceOf(SimpleTieredPredicate.class, predicate);
+
+        exchange.getIn().setHeader("foo", "bar");
+        for (int i = 0; i < SimpleLanguage.DEFAULT_COMPILE_THRESHOLD + 10; i++) {
+            assertTrue(predicate.matches(exchange));
+        }
+        assertTrue(((SimpleTieredPredicate) predicate).isCompiled());
+    }
+}
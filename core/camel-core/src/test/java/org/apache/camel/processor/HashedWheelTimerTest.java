@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.apache.camel.util.concurrent.HashedWheelScheduledExecutorService;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HashedWheelTimerTest extends ContextTestSupport {
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private HashedWheelScheduledExecutorService timer;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        ExtendedCamelContext ecc = context.getCamelContextExtension();
+        ScheduledExecutorService old = PluginHelper.getErrorHandlerExecutorService(ecc);
+        timer = new HashedWheelScheduledExecutorService(
+                new CamelThreadFactory("#name#", "HashedWheelTimer", true), null, 10, TimeUnit.MILLISECONDS, 64);
+        ecc.addContextPlugin(ScheduledExecutorService.class, timer);
+        context.getExecutorServiceManager().shutdownNow(old);
+        return context;
+    }
+
+    @Test
+    public void testDelayer() throws Exception {
+        getMockEndpoint("mock:delay").expectedMessageCount(1);
+        getMockEndpoint("mock:delay").setResultMinimumWaitTime(150);
+
+        template.sendBody("direct:delay", "Hello World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testRedelivery() throws Exception {
+        getMockEndpoint("mock:redelivery").expectedBodiesReceived("Bye World");
+
+        template.sendBody("direct:redelivery", "Hello World");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(3, counter.get());
+    }
+
+    @Test
+    public void testAggregateCompletionTimeout() throws Exception {
+        getMockEndpoint("mock:aggregate").expectedBodiesReceived("A+B");
+
+        template.sendBodyAndHeader("direct:aggregate", "A", "id", 1);
+        template.sendBodyAndHeader("direct:aggregate", "B", "id", 1);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testShutdownWithContext() {
+        context.stop();
+        assertTrue(timer.isShutdown());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:delay").delay(200).asyncDelayed().to("mock:delay");
+
+                from("direct:redelivery")
+                        .errorHandler(defaultErrorHandler().maximumRedeliveries(5).redeliveryDelay(20))
+                        .process(e -> {
+                            if (counter.incrementAndGet() < 3) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                            e.getMessage().setBody("Bye World");
+                        })
+                        .to("mock:redelivery");
+
+                from("direct:aggregate")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).completionTimeout(100)
+                        .to("mock:aggregate");
+            }
+        };
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.aggregate.AssociativeAggregationStrategy;
+import org.apache.camel.processor.aggregate.GroupedBodyAggregationStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitParallelAssociativeAggregateTest extends ContextTestSupport {
+
+    private static final int SIZE = 1000;
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(10);
+    private final ConcatAggregationStrategy concat = new ConcatAggregationStrategy();
+    private final MyGroupedBodyAggregationStrategy subclass = new MyGroupedBodyAggregationStrategy();
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testGroupedBody() throws Exception {
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            numbers.add(i);
+        }
+
+        Object out = template.requestBody("direct:grouped", numbers);
+        assertEquals(numbers, out);
+    }
+
+    @Test
+    public void testGroupedBodyStreaming() throws Exception {
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            numbers.add(i);
+        }
+
+        Object out = template.requestBody("direct:streaming", numbers);
+        assertEquals(numbers, out);
+    }
+
+    @Test
+    public void testCombine() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        List<String> letters = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            String letter = String.valueOf((char) ('a' + i % 26));
+            letters.add(letter);
+            sb.append(letter);
+        }
+
+        Object out = template.requestBody("direct:concat", letters);
+        assertEquals(sb.toString(), out);
+        assertTrue(concat.combined.get() > 0, "Should combine partial results");
+    }
+
+    @Test
+    public void testSubclassIsNotAssociative() throws Exception {
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            numbers.add(i);
+        }
+
+        Object out = template.requestBody("direct:subclass", numbers);
+        assertEquals(numbers, out);
+        // the subclass does not implement the interface itself, so the partial results are not combined
+        assertEquals(0, subclass.combined.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:grouped")
+                        .split(body(), new GroupedBodyAggregationStrategy()).parallelProcessing().executorService(pool)
+                            .to("mock:split")
+                        .end();
+
+                from("direct:streaming")
+                        .split(body(), new GroupedBodyAggregationStrategy()).streaming().parallelProcessing()
+                            .executorService(pool)
+                            .to("mock:split")
+                        .end();
+
+                from("direct:subclass")
+                        .split(body(), subclass).parallelProcessing().executorService(pool)
+                            .to("mock:split")
+                        .end();
+
+                from("direct:concat")
+                        .split(body(), concat).parallelProcessing().executorService(pool)
+                            .to("mock:split")
+                        .end();
+            }
+        };
+    }
+
+    private static class MyGroupedBodyAggregationStrategy extends GroupedBodyAggregationStrategy {
+
+        private final AtomicInteger combined = new AtomicInteger();
+
+        @Override
+        public Exchange combine(Exchange left, Exchange right) {
+            combined.incrementAndGet();
+            return super.combine(left, right);
+        }
+    }
+
+    private static class ConcatAggregationStrategy implements AssociativeAggregationStrategy {
+
+        private final AtomicInteger combined = new AtomicInteger();
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            if (oldExchange == null) {
+                return newExchange;
+            }
+            return concat(oldExchange, newExchange);
+        }
+
+        @Override
+        public Exchange combine(Exchange left, Exchange right) {
+            combined.incrementAndGet();
+            return concat(left, right);
+        }
+
+        private static Exchange concat(Exchange left, Exchange right) {
+            String body = left.getIn().getBody(String.class) + right.getIn().getBody(String.class);
+            left.getIn().setBody(body);
+            return left;
+        }
+    }
+}
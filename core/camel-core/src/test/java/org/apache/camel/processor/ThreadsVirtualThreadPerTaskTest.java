@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.BaseExecutorServiceManager;
+import org.apache.camel.util.concurrent.VirtualThreadPerTaskExecutorService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThreadsVirtualThreadPerTaskTest extends ContextTestSupport {
+
+    @Test
+    public void testVirtualThreadPerTask() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(20);
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("direct:start", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testVirtualThreadPerTaskExecutor() throws Exception {
+        ThreadsProcessor threads = context.getProcessor("myThreads", ThreadsProcessor.class);
+        ExecutorService executor = threads.getExecutorService();
+        VirtualThreadPerTaskExecutorService vt = assertInstanceOf(VirtualThreadPerTaskExecutorService.class, executor);
+        assertEquals(5, vt.getMaxConcurrentTasks());
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testTrackThreads() throws Exception {
+        ThreadsProcessor threads = context.getProcessor("myThreads", ThreadsProcessor.class);
+        VirtualThreadPerTaskExecutorService vt
+                = assertInstanceOf(VirtualThreadPerTaskExecutorService.class, threads.getExecutorService());
+        // pinned detection is opt-in, so the threads are not tracked by default
+        assertFalse(((BaseExecutorServiceManager) context.getExecutorServiceManager()).isVirtualThreadPinnedDetection());
+        assertFalse(vt.isTrackThreads());
+
+        vt.setTrackThreads(true);
+        AtomicLong id = new AtomicLong();
+        vt.submit(() -> id.set(Thread.currentThread().getId())).get();
+        // the thread is remembered after the task is done, as pinned events are reported afterwards
+        assertTrue(vt.hasRunTask(id.get()));
+        assertFalse(vt.hasRunTask(Thread.currentThread().getId()));
+    }
+
+    @Test
+    public void testVirtualThreadPerTaskWithExecutorService() {
+        RouteBuilder builder = new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:bad").threads().executorService("myPool").virtualThreadPerTask(true).to("mock:result");
+            }
+        };
+        assertThrows(Exception.class, () -> context.addRoutes(builder));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        // run each exchange in its own virtual thread, but at most 5 at the same time
+                        .threads().virtualThreadPerTask(true).maxConcurrentTasks(5).id("myThreads")
+                        .to("mock:result");
+            }
+        };
+    }
+}
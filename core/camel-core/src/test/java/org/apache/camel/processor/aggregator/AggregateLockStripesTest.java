@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.SendProcessor;
+import org.apache.camel.processor.aggregate.AggregateProcessor;
+import org.apache.camel.processor.aggregate.MemoryAggregationRepository;
+import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.util.concurrent.SynchronousExecutorService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Isolated("Creates lots of threads")
+public class AggregateLockStripesTest extends ContextTestSupport {
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    @Test
+    public void testAggregateLockStripes() throws Exception {
+        int keys = 20;
+        int size = 50;
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(keys);
+
+        // each key is sent from its own thread so the messages per key are ordered
+        ExecutorService service = Executors.newFixedThreadPool(keys);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < keys; i++) {
+            final int id = i;
+            tasks.add(() -> {
+                for (int j = 0; j < size; j++) {
+                    template.sendBodyAndHeader("direct:start", j, "id", id);
+                }
+                return null;
+            });
+        }
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        // the messages for each correlation key must be aggregated in the order they were sent
+        StringBuilder expected = new StringBuilder();
+        for (int j = 0; j < size; j++) {
+            if (j > 0) {
+                expected.append("+");
+            }
+            expected.append(j);
+        }
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            assertEquals(expected.toString(), exchange.getMessage().getBody(String.class));
+        }
+    }
+
+    @Test
+    public void testAggregateLockStripesCompletionTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedBodiesReceivedInAnyOrder("A+B", "C", "D+E+F");
+        mock.expectedPropertyReceived(Exchange.AGGREGATED_COMPLETED_BY, "timeout");
+
+        template.sendBodyAndHeader("direct:timeout", "A", "id", 1);
+        template.sendBodyAndHeader("direct:timeout", "B", "id", 1);
+        template.sendBodyAndHeader("direct:timeout", "C", "id", 2);
+        template.sendBodyAndHeader("direct:timeout", "D", "id", 3);
+        template.sendBodyAndHeader("direct:timeout", "E", "id", 3);
+        template.sendBodyAndHeader("direct:timeout", "F", "id", 3);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateLockStripesCompletionInterval() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:interval");
+        mock.expectedBodiesReceivedInAnyOrder("A+B", "C");
+        mock.expectedPropertyReceived(Exchange.AGGREGATED_COMPLETED_BY, "interval");
+
+        template.sendBodyAndHeader("direct:interval", "A", "id", 1);
+        template.sendBodyAndHeader("direct:interval", "B", "id", 1);
+        template.sendBodyAndHeader("direct:interval", "C", "id", 2);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateLockStripesRecovery() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:recover");
+        mock.expectedBodiesReceivedInAnyOrder("A+B", "C+D");
+        mock.expectedHeaderReceived(Exchange.REDELIVERED, true);
+
+        template.sendBodyAndHeader("direct:recover", "A", "id", 1);
+        template.sendBodyAndHeader("direct:recover", "B", "id", 1);
+        template.sendBodyAndHeader("direct:recover", "C", "id", 2);
+        template.sendBodyAndHeader("direct:recover", "D", "id", 2);
+
+        assertMockEndpointsSatisfied();
+        assertEquals(6, failures.get());
+    }
+
+    @Test
+    public void testAggregateLockStripesNotAllowedWithOptimisticLocking() {
+        AsyncProcessor done = new SendProcessor(context.getEndpoint("mock:result"));
+        AggregationStrategy as = new BodyInAggregatingStrategy();
+
+        AggregateProcessor ap
+                = new AggregateProcessor(context, done, header("id"), as, new SynchronousExecutorService(), true);
+        ap.setCompletionSize(10);
+        ap.setOptimisticLocking(true);
+        ap.setLockStripes(16);
+
+        assertThrows(IllegalArgumentException.class, ap::start);
+    }
+
+    @Test
+    public void testAggregateLockStripesNotAllowedWithCompletionFromBatchConsumer() {
+        AsyncProcessor done = new SendProcessor(context.getEndpoint("mock:result"));
+        AggregationStrategy as = new BodyInAggregatingStrategy();
+
+        AggregateProcessor ap
+                = new AggregateProcessor(context, done, header("id"), as, new SynchronousExecutorService(), true);
+        ap.setCompletionFromBatchConsumer(true);
+        ap.setLockStripes(16);
+
+        assertThrows(IllegalArgumentException.class, ap::start);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).completionSize(50).lockStripes(8)
+                        .to("mock:result");
+
+                from("direct:timeout")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).completionTimeout(200).lockStripes(8)
+                        .completionTimeoutCheckerInterval(50)
+                        .to("mock:timeout");
+
+                from("direct:interval")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).completionInterval(200).lockStripes(8)
+                        .to("mock:interval");
+
+                from("direct:recover")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).completionSize(2).lockStripes(8)
+                        .aggregationRepository(new MyRecoverableRepository())
+                        .process(e -> {
+                            // fail the first attempts so the aggregated exchanges are recovered
+                            if (failures.incrementAndGet() <= 4) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                        })
+                        .to("mock:recover");
+            }
+        };
+    }
+
+    /**
+     * A memory based repository which keeps the completed exchanges until they are confirmed, so they can be recovered.
+     */
+    private static final class MyRecoverableRepository extends MemoryAggregationRepository
+            implements RecoverableAggregationRepository {
+
+        private final Map<String, Exchange> completed = new ConcurrentHashMap<>();
+
+        @Override
+        public void remove(CamelContext camelContext, String key, Exchange exchange) {
+            super.remove(camelContext, key, exchange);
+            completed.put(exchange.getExchangeId(), ExchangeHelper.createCopy(exchange, true));
+        }
+
+        @Override
+        public void confirm(CamelContext camelContext, String exchangeId) {
+            completed.remove(exchangeId);
+        }
+
+        @Override
+        public Set<String> scan(CamelContext camelContext) {
+            return Set.copyOf(completed.keySet());
+        }
+
+        @Override
+        public Exchange recover(CamelContext camelContext, String exchangeId) {
+            Exchange exchange = completed.get(exchangeId);
+            return exchange != null ? ExchangeHelper.createCopy(exchange, true) : null;
+        }
+
+        @Override
+        public void setRecoveryInterval(long interval, TimeUnit timeUnit) {
+        }
+
+        @Override
+        public void setRecoveryInterval(long interval) {
+        }
+
+        @Override
+        public long getRecoveryInterval() {
+            return 100;
+        }
+
+        @Override
+        public void setUseRecovery(boolean useRecovery) {
+        }
+
+        @Override
+        public boolean isUseRecovery() {
+            return true;
+        }
+
+        @Override
+        public void setDeadLetterUri(String deadLetterUri) {
+        }
+
+        @Override
+        public String getDeadLetterUri() {
+            return null;
+        }
+
+        @Override
+        public void setMaximumRedeliveries(int maximumRedeliveries) {
+        }
+
+        @Override
+        public int getMaximumRedeliveries() {
+            return 0;
+        }
+    }
+}
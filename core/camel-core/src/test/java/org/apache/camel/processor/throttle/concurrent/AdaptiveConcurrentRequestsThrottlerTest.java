@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.throttle.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.AdaptiveConcurrentRequestsThrottler;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveConcurrentRequestsThrottlerTest extends ContextTestSupport {
+
+    private static final int MAX_CONCURRENT = 5;
+
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger highWater = new AtomicInteger();
+
+    @Test
+    public void testLimitIsBoundedByMaximum() throws Exception {
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedMessageCount(50);
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            for (int i = 0; i < 50; i++) {
+                executor.execute(() -> template.sendBody("direct:start", "Hello"));
+            }
+            assertMockEndpointsSatisfied();
+        } finally {
+            shutdownAndAwait(executor);
+        }
+
+        assertTrue(highWater.get() <= MAX_CONCURRENT, "Should not exceed max concurrent, was: " + highWater.get());
+
+        AdaptiveConcurrentRequestsThrottler throttler
+                = context.getProcessor("adaptive", AdaptiveConcurrentRequestsThrottler.class);
+        assertEquals("AdaptiveConcurrentRequests", throttler.getMode());
+        assertTrue(throttler.getCurrentMaximumRequests() >= 1);
+        assertTrue(throttler.getCurrentMaximumRequests() <= MAX_CONCURRENT);
+        assertEquals(0, throttler.getCurrentInflightRequests());
+        assertEquals(0, throttler.getQueuedRequests());
+    }
+
+    @Test
+    public void testLimitDecreasesOnFailures() {
+        AdaptiveConcurrentRequestsThrottler throttler
+                = context.getProcessor("adaptiveFail", AdaptiveConcurrentRequestsThrottler.class);
+
+        for (int i = 0; i < 20; i++) {
+            assertThrows(CamelExecutionException.class, () -> template.sendBody("direct:fail", "Hello"));
+        }
+
+        // started at 10 and backs off on every failure
+        int limit = throttler.getCurrentMaximumRequests();
+        assertTrue(limit < 10, "Limit should have decreased, was: " + limit);
+        assertTrue(limit >= 1, "Limit should be at least 1, was: " + limit);
+    }
+
+    private void shutdownAndAwait(final ExecutorService executorService) {
+        executorService.shutdown();
+        try {
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS),
+                    "Test ExecutorService shutdown is not expected to take longer than 10 seconds.");
+        } catch (InterruptedException e) {
+            throw new AssertionError("Test ExecutorService shutdown is not expected to be interrupted.", e);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .throttle(MAX_CONCURRENT).adaptiveConcurrentRequestsMode().id("adaptive")
+                        .process(e -> {
+                            int current = concurrent.incrementAndGet();
+                            highWater.accumulateAndGet(current, Math::max);
+                            try {
+                                Thread.sleep(5);
+                            } finally {
+                                concurrent.decrementAndGet();
+                            }
+                        })
+                        .to("mock:result");
+
+                from("direct:fail")
+                        .throttle(10).adaptiveConcurrentRequestsMode().id("adaptiveFail")
+                        .throwException(new IllegalArgumentException("Forced"));
+            }
+        };
+    }
+}
@@ -19,10 +19,14 @@ package org.apache.camel.support;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.TimeoutMap;
 import org.junit.jupiter.api.Test;
@@ -196,4 +200,110 @@ public class DefaultTimeoutMapTest {
         map.stop();
     }
 
+    @Test
+    public void testGetReschedulesExpireTime() {
+        final AtomicLong clock = new AtomicLong();
+        final List<String> keys = new ArrayList<>();
+
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100) {
+            @Override
+            protected long currentTime() {
+                return clock.get();
+            }
+        };
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                keys.add(key);
+            }
+        });
+
+        map.put("A", 1, 100);
+        map.put("B", 2, 100);
+        clock.set(80);
+        assertEquals(1, map.get("A"));
+
+        clock.set(150);
+        map.purge();
+        assertEquals(List.of("B"), keys);
+        assertEquals(1, map.size());
+
+        clock.set(200);
+        map.purge();
+        assertEquals(List.of("B", "A"), keys);
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testReplacedAndRemovedNotEvicted() {
+        final AtomicLong clock = new AtomicLong();
+        final List<String> keys = new ArrayList<>();
+
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100) {
+            @Override
+            protected long currentTime() {
+                return clock.get();
+            }
+        };
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                keys.add(key + "=" + value);
+            }
+        });
+
+        map.put("A", 1, 100);
+        assertEquals(1, map.put("A", 2, 500));
+        assertEquals(2, map.putIfAbsent("A", 3, 50));
+        map.put("B", 4, 100);
+        assertEquals(4, map.remove("B"));
+
+        clock.set(200);
+        map.purge();
+        assertTrue(keys.isEmpty());
+        assertEquals(2, map.get("A"));
+
+        clock.set(1000);
+        map.purge();
+        assertEquals(List.of("A=2"), keys);
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testConcurrentPutRemove() throws Exception {
+        final List<String> evicted = new CopyOnWriteArrayList<>();
+
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 10);
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                evicted.add(key);
+            }
+        });
+        map.start();
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int thread = t;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 5000; i++) {
+                        String key = thread + "-" + i;
+                        map.put(key, i, 60000);
+                        map.get(key);
+                        assertEquals(i, map.remove(key));
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(20, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(0, map.size());
+        assertTrue(evicted.isEmpty());
+
+        map.stop();
+    }
+
 }
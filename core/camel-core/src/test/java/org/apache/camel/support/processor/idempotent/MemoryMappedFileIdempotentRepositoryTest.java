@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.TestSupport;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MemoryMappedFileIdempotentRepositoryTest extends TestSupport {
+
+    private File fileStore;
+    private MemoryMappedFileIdempotentRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        fileStore = testDirectory().resolve("data.dat").toFile();
+        repository = new MemoryMappedFileIdempotentRepository(fileStore);
+    }
+
+    @Test
+    public void testAddContainsRemove() throws Exception {
+        repository.start();
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(repository.add("key-" + i));
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(repository.contains("key-" + i), "Repository should contain entry " + i);
+            assertFalse(repository.add("key-" + i));
+        }
+        assertFalse(repository.contains("key-10000"));
+        assertEquals(10_000, repository.getSize());
+
+        for (int i = 0; i < 10_000; i += 2) {
+            assertTrue(repository.remove("key-" + i));
+        }
+        assertFalse(repository.remove("key-0"));
+        assertEquals(5_000, repository.getSize());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i % 2 == 1, repository.contains("key-" + i), "Entry " + i);
+        }
+
+        repository.clear();
+        assertEquals(0, repository.getSize());
+        assertFalse(repository.contains("key-1"));
+        repository.stop();
+    }
+
+    @Test
+    public void testReload() throws Exception {
+        repository.start();
+        repository.add("foo");
+        repository.add("bar");
+        repository.add("baz");
+        repository.remove("bar");
+        repository.stop();
+
+        repository = new MemoryMappedFileIdempotentRepository(fileStore);
+        repository.start();
+        assertTrue(repository.contains("foo"));
+        assertFalse(repository.contains("bar"));
+        assertTrue(repository.contains("baz"));
+        assertEquals(2, repository.getSize());
+        repository.stop();
+    }
+
+    @Test
+    public void testRebuildIndex() throws Exception {
+        repository.start();
+        repository.add("foo");
+        repository.add("bar");
+        repository.remove("foo");
+        repository.stop();
+
+        // the index is rebuilt from the file store
+        Files.delete(new File(fileStore.getPath() + ".index").toPath());
+
+        repository = new MemoryMappedFileIdempotentRepository(fileStore);
+        repository.start();
+        assertFalse(repository.contains("foo"));
+        assertTrue(repository.contains("bar"));
+        assertEquals(1, repository.getSize());
+        repository.stop();
+    }
+
+    @Test
+    public void testCompact() throws Exception {
+        repository.setMaxFileStoreSize(1000);
+        repository.setDropOldestFileStore(10);
+        repository.start();
+        for (int i = 0; i < 100; i++) {
+            repository.add("key-" + i);
+        }
+        repository.remove("key-50");
+        assertTrue(repository.getFileStoreSize() <= 1000 + 16);
+        assertFalse(repository.contains("key-0"));
+        assertFalse(repository.contains("key-50"));
+        assertTrue(repository.contains("key-99"));
+        repository.stop();
+    }
+
+    @Test
+    public void testCompactToLowWaterMark() throws Exception {
+        repository.setMaxFileStoreSize(10_000);
+        repository.setDropOldestFileStore(10);
+        repository.start();
+        // add keys until the file store is compacted
+        int i = 0;
+        long size = 0;
+        while (repository.getFileStoreSize() >= size) {
+            size = repository.getFileStoreSize();
+            repository.add("key-" + i++);
+        }
+        // the file store is compacted below three quarters of the maximum size, and not only by the oldest 10 entries
+        assertTrue(repository.getFileStoreSize() <= 7_500 + 16);
+        assertFalse(repository.isCompacting());
+        assertTrue(repository.contains("key-" + (i - 1)));
+        repository.stop();
+    }
+
+    @Test
+    public void testConcurrentCompact() throws Exception {
+        repository.setMaxFileStoreSize(0);
+        repository.setDropOldestFileStore(0);
+        repository.start();
+        for (int i = 0; i < 10_000; i++) {
+            repository.add("key-" + i);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(repository::compact));
+            }
+            for (int i = 10_000; i < 20_000; i++) {
+                repository.add("key-" + i);
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertFalse(repository.isCompacting());
+        assertEquals(20_000, repository.getSize());
+        repository.stop();
+
+        // the file store is intact after being compacted concurrently
+        repository = new MemoryMappedFileIdempotentRepository(fileStore);
+        repository.start();
+        assertEquals(20_000, repository.getSize());
+        for (int i = 0; i < 20_000; i++) {
+            assertTrue(repository.contains("key-" + i), "Repository should contain entry " + i);
+        }
+        repository.stop();
+    }
+
+    @Test
+    public void testReloadGrownIndex() throws Exception {
+        repository.start();
+        for (int i = 0; i < 5_000; i++) {
+            repository.add("key-" + i);
+        }
+        repository.remove("key-42");
+        repository.stop();
+
+        repository = new MemoryMappedFileIdempotentRepository(fileStore);
+        repository.start();
+        assertEquals(4_999, repository.getSize());
+        for (int i = 0; i < 5_000; i++) {
+            assertEquals(i != 42, repository.contains("key-" + i), "Entry " + i);
+        }
+        assertTrue(repository.add("key-5000"));
+        assertTrue(repository.contains("key-5000"));
+        repository.stop();
+    }
+
+    @Test
+    public void testCompactInBackground() throws Exception {
+        CamelContext context = new DefaultCamelContext();
+        context.start();
+        try {
+            repository.setCamelContext(context);
+            repository.setMaxFileStoreSize(64 * 1024);
+            repository.setDropOldestFileStore(100);
+            repository.start();
+            // keep adding keys while the file store is compacted in the background
+            for (int i = 0; i < 50_000; i++) {
+                repository.add("key-" + i);
+            }
+            repository.stop();
+
+            repository = new MemoryMappedFileIdempotentRepository(fileStore);
+            repository.start();
+            assertFalse(repository.contains("key-0"));
+            for (int i = 49_000; i < 50_000; i++) {
+                assertTrue(repository.contains("key-" + i), "Repository should contain entry " + i);
+            }
+            repository.stop();
+        } finally {
+            context.stop();
+        }
+    }
+
+    @Test
+    public void testConvertFileIdempotentRepositoryStore() throws Exception {
+        Files.write(fileStore.toPath(), List.of("foo", "bar", "baz"));
+
+        repository.start();
+        assertTrue(repository.contains("foo"));
+        assertTrue(repository.contains("bar"));
+        assertTrue(repository.contains("baz"));
+        assertFalse(repository.contains("qux"));
+        assertEquals(3, repository.getSize());
+        repository.stop();
+    }
+}
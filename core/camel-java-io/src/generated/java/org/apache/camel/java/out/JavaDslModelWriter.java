@@ -1741,6 +1741,7 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute(sb, "optimisticLocking", def.getOptimisticLocking(), null);
         doWriteAttribute(sb, "optimisticLockingSyncRetry", def.getOptimisticLockingSyncRetry(), "false");
+        doWriteAttribute(sb, "lockStripes", def.getLockStripes(), null);
         doWriteAttribute(sb, "executorService", def.getExecutorService(), null);
         doWriteAttribute(sb, "timeoutCheckerExecutorService", def.getTimeoutCheckerExecutorService(), null);
         doWriteAttribute(sb, "aggregateController", def.getAggregateController(), null);
@@ -2108,6 +2109,7 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "parallelAggregate", def.getParallelAggregate(), null);
         doWriteAttribute(sb, "parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute(sb, "synchronous", def.getSynchronous(), null);
+        doWriteAttribute(sb, "maxInflight", def.getMaxInflight(), null);
         doWriteAttribute(sb, "streaming", def.getStreaming(), null);
         doWriteAttribute(sb, "stopOnException", def.getStopOnException(), null);
         doWriteAttribute(sb, "timeout", def.getTimeout(), "0");
@@ -2533,6 +2535,7 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "parallelAggregate", def.getParallelAggregate(), null);
         doWriteAttribute(sb, "parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute(sb, "synchronous", def.getSynchronous(), null);
+        doWriteAttribute(sb, "maxInflight", def.getMaxInflight(), null);
         doWriteAttribute(sb, "streaming", def.getStreaming(), null);
         doWriteAttribute(sb, "stopOnException", def.getStopOnException(), null);
         doWriteAttribute(sb, "timeout", def.getTimeout(), "0");
@@ -2593,6 +2596,8 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "threadName", def.getThreadName(), "Threads");
         doWriteAttribute(sb, "rejectedPolicy", def.getRejectedPolicy(), null);
         doWriteAttribute(sb, "callerRunsWhenRejected", def.getCallerRunsWhenRejected(), "true");
+        doWriteAttribute(sb, "virtualThreadPerTask", def.getVirtualThreadPerTask(), null);
+        doWriteAttribute(sb, "maxConcurrentTasks", def.getMaxConcurrentTasks(), null);
     }
     protected void doWriteThrottleDefinition(StringBuilder sb, ThrottleDefinition def) {
         doWriteProcessorDefinitionAttributes(sb, def);
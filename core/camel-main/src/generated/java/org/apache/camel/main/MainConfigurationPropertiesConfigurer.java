@@ -23,6 +23,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
     static {
         Map<String, Object> map = new CaseInsensitiveMap();
         map.put("AdditionalSensitiveKeywords", java.lang.String.class);
+        map.put("AllocationStatisticsEnabled", boolean.class);
         map.put("AllowUseOriginalMessage", boolean.class);
         map.put("AutoConfigurationEnabled", boolean.class);
         map.put("AutoConfigurationEnvironmentVariablesEnabled", boolean.class);
@@ -97,6 +98,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("Name", java.lang.String.class);
         map.put("ProducerTemplateCacheSize", int.class);
         map.put("Profile", java.lang.String.class);
+        map.put("ReactiveExecutor", java.lang.String.class);
+        map.put("ReactiveExecutorParallelism", int.class);
         map.put("RouteFilterExcludePattern", java.lang.String.class);
         map.put("RouteFilterIncludePattern", java.lang.String.class);
         map.put("RoutesBuilderClasses", java.lang.String.class);
@@ -111,6 +114,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("RoutesReloadPattern", java.lang.String.class);
         map.put("RoutesReloadRemoveAllRoutes", boolean.class);
         map.put("RoutesReloadRestartDuration", boolean.class);
+        map.put("SharedTimer", java.lang.String.class);
+        map.put("SharedTimerTickDuration", long.class);
         map.put("ShutdownLogInflightExchangesOnTimeout", boolean.class);
         map.put("ShutdownNowOnTimeout", boolean.class);
         map.put("ShutdownRoutesInReverseOrder", boolean.class);
@@ -132,8 +137,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("StreamCachingEnabled", boolean.class);
         map.put("StreamCachingRemoveSpoolDirectoryWhenStopping", boolean.class);
         map.put("StreamCachingSpoolCipher", java.lang.String.class);
+        map.put("StreamCachingSpoolDirectBufferPoolSize", int.class);
         map.put("StreamCachingSpoolDirectory", java.lang.String.class);
         map.put("StreamCachingSpoolEnabled", boolean.class);
+        map.put("StreamCachingSpoolMode", java.lang.String.class);
         map.put("StreamCachingSpoolRules", java.lang.String.class);
         map.put("StreamCachingSpoolThreshold", long.class);
         map.put("StreamCachingSpoolUsedHeapMemoryLimit", java.lang.String.class);
@@ -161,6 +168,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "additionalsensitivekeywords":
         case "additionalSensitiveKeywords": target.setAdditionalSensitiveKeywords(property(camelContext, java.lang.String.class, value)); return true;
+        case "allocationstatisticsenabled":
+        case "allocationStatisticsEnabled": target.setAllocationStatisticsEnabled(property(camelContext, boolean.class, value)); return true;
         case "allowuseoriginalmessage":
         case "allowUseOriginalMessage": target.setAllowUseOriginalMessage(property(camelContext, boolean.class, value)); return true;
         case "autoconfigurationenabled":
@@ -304,6 +313,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": target.setProducerTemplateCacheSize(property(camelContext, int.class, value)); return true;
         case "profile": target.setProfile(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutor":
+        case "reactiveExecutor": target.setReactiveExecutor(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutorparallelism":
+        case "reactiveExecutorParallelism": target.setReactiveExecutorParallelism(property(camelContext, int.class, value)); return true;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": target.setRouteFilterExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterincludepattern":
@@ -332,6 +345,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routesReloadRemoveAllRoutes": target.setRoutesReloadRemoveAllRoutes(property(camelContext, boolean.class, value)); return true;
         case "routesreloadrestartduration":
         case "routesReloadRestartDuration": target.setRoutesReloadRestartDuration(property(camelContext, boolean.class, value)); return true;
+        case "sharedtimer":
+        case "sharedTimer": target.setSharedTimer(property(camelContext, java.lang.String.class, value)); return true;
+        case "sharedtimertickduration":
+        case "sharedTimerTickDuration": target.setSharedTimerTickDuration(property(camelContext, long.class, value)); return true;
         case "shutdownloginflightexchangesontimeout":
         case "shutdownLogInflightExchangesOnTimeout": target.setShutdownLogInflightExchangesOnTimeout(property(camelContext, boolean.class, value)); return true;
         case "shutdownnowontimeout":
@@ -374,10 +391,14 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingRemoveSpoolDirectoryWhenStopping": target.setStreamCachingRemoveSpoolDirectoryWhenStopping(property(camelContext, boolean.class, value)); return true;
         case "streamcachingspoolcipher":
         case "streamCachingSpoolCipher": target.setStreamCachingSpoolCipher(property(camelContext, java.lang.String.class, value)); return true;
+        case "streamcachingspooldirectbufferpoolsize":
+        case "streamCachingSpoolDirectBufferPoolSize": target.setStreamCachingSpoolDirectBufferPoolSize(property(camelContext, int.class, value)); return true;
         case "streamcachingspooldirectory":
         case "streamCachingSpoolDirectory": target.setStreamCachingSpoolDirectory(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": target.setStreamCachingSpoolEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingspoolmode":
+        case "streamCachingSpoolMode": target.setStreamCachingSpoolMode(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspoolrules":
         case "streamCachingSpoolRules": target.setStreamCachingSpoolRules(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspoolthreshold":
@@ -427,6 +448,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "additionalsensitivekeywords":
         case "additionalSensitiveKeywords": return java.lang.String.class;
+        case "allocationstatisticsenabled":
+        case "allocationStatisticsEnabled": return boolean.class;
         case "allowuseoriginalmessage":
         case "allowUseOriginalMessage": return boolean.class;
         case "autoconfigurationenabled":
@@ -570,6 +593,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return int.class;
         case "profile": return java.lang.String.class;
+        case "reactiveexecutor":
+        case "reactiveExecutor": return java.lang.String.class;
+        case "reactiveexecutorparallelism":
+        case "reactiveExecutorParallelism": return int.class;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return java.lang.String.class;
         case "routefilterincludepattern":
@@ -598,6 +625,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routesReloadRemoveAllRoutes": return boolean.class;
         case "routesreloadrestartduration":
         case "routesReloadRestartDuration": return boolean.class;
+        case "sharedtimer":
+        case "sharedTimer": return java.lang.String.class;
+        case "sharedtimertickduration":
+        case "sharedTimerTickDuration": return long.class;
         case "shutdownloginflightexchangesontimeout":
         case "shutdownLogInflightExchangesOnTimeout": return boolean.class;
         case "shutdownnowontimeout":
@@ -640,10 +671,14 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingRemoveSpoolDirectoryWhenStopping": return boolean.class;
         case "streamcachingspoolcipher":
         case "streamCachingSpoolCipher": return java.lang.String.class;
+        case "streamcachingspooldirectbufferpoolsize":
+        case "streamCachingSpoolDirectBufferPoolSize": return int.class;
         case "streamcachingspooldirectory":
         case "streamCachingSpoolDirectory": return java.lang.String.class;
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": return boolean.class;
+        case "streamcachingspoolmode":
+        case "streamCachingSpoolMode": return java.lang.String.class;
         case "streamcachingspoolrules":
         case "streamCachingSpoolRules": return java.lang.String.class;
         case "streamcachingspoolthreshold":
@@ -689,6 +724,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "additionalsensitivekeywords":
         case "additionalSensitiveKeywords": return target.getAdditionalSensitiveKeywords();
+        case "allocationstatisticsenabled":
+        case "allocationStatisticsEnabled": return target.isAllocationStatisticsEnabled();
         case "allowuseoriginalmessage":
         case "allowUseOriginalMessage": return target.isAllowUseOriginalMessage();
         case "autoconfigurationenabled":
@@ -832,6 +869,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return target.getProducerTemplateCacheSize();
         case "profile": return target.getProfile();
+        case "reactiveexecutor":
+        case "reactiveExecutor": return target.getReactiveExecutor();
+        case "reactiveexecutorparallelism":
+        case "reactiveExecutorParallelism": return target.getReactiveExecutorParallelism();
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return target.getRouteFilterExcludePattern();
         case "routefilterincludepattern":
@@ -860,6 +901,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routesReloadRemoveAllRoutes": return target.isRoutesReloadRemoveAllRoutes();
         case "routesreloadrestartduration":
         case "routesReloadRestartDuration": return target.isRoutesReloadRestartDuration();
+        case "sharedtimer":
+        case "sharedTimer": return target.getSharedTimer();
+        case "sharedtimertickduration":
+        case "sharedTimerTickDuration": return target.getSharedTimerTickDuration();
         case "shutdownloginflightexchangesontimeout":
         case "shutdownLogInflightExchangesOnTimeout": return target.isShutdownLogInflightExchangesOnTimeout();
         case "shutdownnowontimeout":
@@ -902,10 +947,14 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingRemoveSpoolDirectoryWhenStopping": return target.isStreamCachingRemoveSpoolDirectoryWhenStopping();
         case "streamcachingspoolcipher":
         case "streamCachingSpoolCipher": return target.getStreamCachingSpoolCipher();
+        case "streamcachingspooldirectbufferpoolsize":
+        case "streamCachingSpoolDirectBufferPoolSize": return target.getStreamCachingSpoolDirectBufferPoolSize();
         case "streamcachingspooldirectory":
         case "streamCachingSpoolDirectory": return target.getStreamCachingSpoolDirectory();
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": return target.isStreamCachingSpoolEnabled();
+        case "streamcachingspoolmode":
+        case "streamCachingSpoolMode": return target.getStreamCachingSpoolMode();
         case "streamcachingspoolrules":
         case "streamCachingSpoolRules": return target.getStreamCachingSpoolRules();
         case "streamcachingspoolthreshold":
@@ -22,6 +22,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -42,6 +43,7 @@ import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeProcessorExchangeFactory;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
 import org.apache.camel.model.Model;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelLifecycleStrategy;
@@ -177,6 +179,12 @@ public final class DefaultConfigurationConfigurer {
         ecc.getExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
         ecc.getProcessorExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
 
+        if ("work-stealing".equals(config.getReactiveExecutor())) {
+            WorkStealingReactiveExecutor wsre = new WorkStealingReactiveExecutor();
+            wsre.setParallelism(config.getReactiveExecutorParallelism());
+            ecc.setReactiveExecutor(wsre);
+        }
+
         if (!config.isJmxEnabled()) {
             camelContext.disableJMX();
         }
@@ -219,6 +227,20 @@ public final class DefaultConfigurationConfigurer {
         camelContext.getStreamCachingStrategy()
                 .setRemoveSpoolDirectoryWhenStopping(config.isStreamCachingRemoveSpoolDirectoryWhenStopping());
         camelContext.getStreamCachingStrategy().setSpoolCipher(config.getStreamCachingSpoolCipher());
+        if (config.getStreamCachingSpoolMode() != null) {
+            StreamCachingStrategy.SpoolMode mode;
+            if ("Stream".equalsIgnoreCase(config.getStreamCachingSpoolMode())) {
+                mode = StreamCachingStrategy.SpoolMode.Stream;
+            } else if ("Direct".equalsIgnoreCase(config.getStreamCachingSpoolMode())) {
+                mode = StreamCachingStrategy.SpoolMode.Direct;
+            } else {
+                throw new IllegalArgumentException(
+                        "Invalid option " + config.getStreamCachingSpoolMode() + " must either be Stream or Direct");
+            }
+            camelContext.getStreamCachingStrategy().setSpoolMode(mode);
+        }
+        camelContext.getStreamCachingStrategy()
+                .setSpoolDirectBufferPoolSize(config.getStreamCachingSpoolDirectBufferPoolSize());
         if (config.getStreamCachingSpoolDirectory() != null) {
             camelContext.getStreamCachingStrategy().setSpoolDirectory(config.getStreamCachingSpoolDirectory());
         }
@@ -320,6 +342,8 @@ public final class DefaultConfigurationConfigurer {
                     .setEndpointRuntimeStatisticsEnabled(config.isEndpointRuntimeStatisticsEnabled());
             camelContext.getManagementStrategy().getManagementAgent()
                     .setLoadStatisticsEnabled(config.isLoadStatisticsEnabled());
+            camelContext.getManagementStrategy().getManagementAgent()
+                    .setAllocationStatisticsEnabled(config.isAllocationStatisticsEnabled());
             camelContext.getManagementStrategy().getManagementAgent()
                     .setStatisticsLevel(config.getJmxManagementStatisticsLevel());
             camelContext.getManagementStrategy().getManagementAgent()
@@ -364,6 +388,17 @@ public final class DefaultConfigurationConfigurer {
         if (config.getThreadNamePattern() != null) {
             camelContext.getExecutorServiceManager().setThreadNamePattern(config.getThreadNamePattern());
         }
+        if ("hashed-wheel".equals(config.getSharedTimer())) {
+            // the timer thread only keeps the wheel turning and the expired tasks are executed by the worker pool
+            HashedWheelTimerService timer
+                    = new HashedWheelTimerService(camelContext, config.getSharedTimerTickDuration());
+            camelContext.addService(timer, true);
+            ScheduledExecutorService old = PluginHelper.getErrorHandlerExecutorService(ecc);
+            ecc.addContextPlugin(ScheduledExecutorService.class, timer.getTimer());
+            if (old != null) {
+                camelContext.getExecutorServiceManager().shutdownNow(old);
+            }
+        }
 
         if (config.getCompileWorkDir() != null) {
             CompileStrategy cs = ecc.getContextPlugin(CompileStrategy.class);
@@ -69,6 +69,10 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean streamCachingSpoolEnabled;
     private String streamCachingSpoolDirectory;
     private String streamCachingSpoolCipher;
+    @Metadata(defaultValue = "Stream", enums = "Stream,Direct")
+    private String streamCachingSpoolMode;
+    @Metadata(defaultValue = "32")
+    private int streamCachingSpoolDirectBufferPoolSize = 32;
     private long streamCachingSpoolThreshold;
     private int streamCachingSpoolUsedHeapMemoryThreshold;
     @Metadata(defaultValue = "Max", enums = "Committed,Max")
@@ -101,6 +105,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean autowiredEnabled = true;
     private boolean endpointRuntimeStatisticsEnabled;
     private boolean loadStatisticsEnabled;
+    private boolean allocationStatisticsEnabled;
     private boolean endpointLazyStartProducer;
     private boolean endpointBridgeErrorHandler;
     private boolean useDataType;
@@ -148,6 +153,12 @@ public abstract class DefaultConfigurationProperties<T> {
     private String exchangeFactory = "default";
     private int exchangeFactoryCapacity = 100;
     private boolean exchangeFactoryStatisticsEnabled;
+    @Metadata(defaultValue = "default", enums = "default,work-stealing")
+    private String reactiveExecutor = "default";
+    private int reactiveExecutorParallelism;
+    @Metadata(defaultValue = "default", enums = "default,hashed-wheel")
+    private String sharedTimer = "default";
+    private long sharedTimerTickDuration = 10;
     @Metadata(enums = "xml,yaml,json,png")
     private String dumpRoutes;
     private String dumpRoutesInclude = "routes";
@@ -577,6 +588,31 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingSpoolCipher = streamCachingSpoolCipher;
     }
 
+    public String getStreamCachingSpoolMode() {
+        return streamCachingSpoolMode;
+    }
+
+    /**
+     * Sets how stream caches are spooled to disk. Stream uses ordinary stream I/O with heap buffers. Direct writes
+     * through pooled direct (off-heap) buffers, and reads the spooled files back as memory-mapped files, so large
+     * payloads do not inflate the heap. Direct is not in use when streamCachingSpoolCipher is configured.
+     */
+    public void setStreamCachingSpoolMode(String streamCachingSpoolMode) {
+        this.streamCachingSpoolMode = streamCachingSpoolMode;
+    }
+
+    public int getStreamCachingSpoolDirectBufferPoolSize() {
+        return streamCachingSpoolDirectBufferPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of direct buffers to keep in the pool, when streamCachingSpoolMode is Direct. When the
+     * pool is exhausted, then heap buffers are used instead.
+     */
+    public void setStreamCachingSpoolDirectBufferPoolSize(int streamCachingSpoolDirectBufferPoolSize) {
+        this.streamCachingSpoolDirectBufferPoolSize = streamCachingSpoolDirectBufferPoolSize;
+    }
+
     public long getStreamCachingSpoolThreshold() {
         return streamCachingSpoolThreshold;
     }
@@ -980,6 +1016,21 @@ public abstract class DefaultConfigurationProperties<T> {
         this.loadStatisticsEnabled = loadStatisticsEnabled;
     }
 
+    public boolean isAllocationStatisticsEnabled() {
+        return allocationStatisticsEnabled;
+    }
+
+    /**
+     * Sets whether allocation statistics is enabled, which records the number of bytes allocated and the cpu time spent
+     * by the current thread while each processor is processing a message. The statistics requires to have
+     * camel-management on the classpath as JMX is required.
+     *
+     * The default value is false.
+     */
+    public void setAllocationStatisticsEnabled(boolean allocationStatisticsEnabled) {
+        this.allocationStatisticsEnabled = allocationStatisticsEnabled;
+    }
+
     public boolean isEndpointLazyStartProducer() {
         return endpointLazyStartProducer;
     }
@@ -1554,6 +1605,60 @@ public abstract class DefaultConfigurationProperties<T> {
         this.exchangeFactoryStatisticsEnabled = exchangeFactoryStatisticsEnabled;
     }
 
+    public String getReactiveExecutor() {
+        return reactiveExecutor;
+    }
+
+    /**
+     * Controls which reactive executor to use for the internal routing engine. The default reactive executor
+     * queues tasks on the thread that scheduled them, where they can only be executed by that thread. The work-stealing
+     * reactive executor lets idle worker threads steal tasks from busy threads that have built up a backlog of queued
+     * tasks, which allows bursty asynchronous routes to use all the cores.
+     */
+    public void setReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+    }
+
+    public int getReactiveExecutorParallelism() {
+        return reactiveExecutorParallelism;
+    }
+
+    /**
+     * The number of worker threads used by the work-stealing reactive executor. The default is the number of
+     * available processors.
+     */
+    public void setReactiveExecutorParallelism(int reactiveExecutorParallelism) {
+        this.reactiveExecutorParallelism = reactiveExecutorParallelism;
+    }
+
+    public String getSharedTimer() {
+        return sharedTimer;
+    }
+
+    /**
+     * Controls which timer to use for scheduling delayed tasks such as error handler redeliveries. The default timer
+     * is a scheduled thread pool, which keeps the scheduled tasks in a priority queue. The hashed-wheel timer keeps the
+     * scheduled tasks in the buckets of a timer wheel, which allows scheduling and cancelling tasks in constant time, at
+     * the cost of firing tasks with a precision of the tick duration. When the hashed-wheel timer is in use then the
+     * delayer, throttler and aggregator completion timeout checker use the timer as well (unless a custom thread pool
+     * is configured).
+     */
+    public void setSharedTimer(String sharedTimer) {
+        this.sharedTimer = sharedTimer;
+    }
+
+    public long getSharedTimerTickDuration() {
+        return sharedTimerTickDuration;
+    }
+
+    /**
+     * The duration in millis of a tick of the hashed-wheel timer. Tasks are fired with a precision of the tick
+     * duration.
+     */
+    public void setSharedTimerTickDuration(long sharedTimerTickDuration) {
+        this.sharedTimerTickDuration = sharedTimerTickDuration;
+    }
+
     public String getDumpRoutes() {
         return dumpRoutes;
     }
@@ -2083,6 +2188,25 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets how stream caches are spooled to disk. Stream uses ordinary stream I/O with heap buffers. Direct writes
+     * through pooled direct (off-heap) buffers, and reads the spooled files back as memory-mapped files, so large
+     * payloads do not inflate the heap. Direct is not in use when streamCachingSpoolCipher is configured.
+     */
+    public T withStreamCachingSpoolMode(String streamCachingSpoolMode) {
+        this.streamCachingSpoolMode = streamCachingSpoolMode;
+        return (T) this;
+    }
+
+    /**
+     * Sets the maximum number of direct buffers to keep in the pool, when streamCachingSpoolMode is Direct. When the
+     * pool is exhausted, then heap buffers are used instead.
+     */
+    public T withStreamCachingSpoolDirectBufferPoolSize(int streamCachingSpoolDirectBufferPoolSize) {
+        this.streamCachingSpoolDirectBufferPoolSize = streamCachingSpoolDirectBufferPoolSize;
+        return (T) this;
+    }
+
     /**
      * Stream caching threshold in bytes when overflow to disk is activated. The default threshold is 128kb. Use -1 to
      * disable overflow to disk.
@@ -2368,6 +2492,16 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets whether allocation statistics is enabled (bytes allocated and cpu time spent per processor).
+     *
+     * The default value is false.
+     */
+    public T withAllocationStatisticsEnabled(boolean allocationStatisticsEnabled) {
+        this.allocationStatisticsEnabled = allocationStatisticsEnabled;
+        return (T) this;
+    }
+
     /**
      * Whether the producer should be started lazy (on the first message). By starting lazy you can use this to allow
      * CamelContext and routes to startup in situations where a producer may otherwise fail during starting and cause
@@ -2803,6 +2937,48 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Controls which reactive executor to use for the internal routing engine. The default reactive executor
+     * queues tasks on the thread that scheduled them, where they can only be executed by that thread. The work-stealing
+     * reactive executor lets idle worker threads steal tasks from busy threads that have built up a backlog of queued
+     * tasks, which allows bursty asynchronous routes to use all the cores.
+     */
+    public T withReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+        return (T) this;
+    }
+
+    /**
+     * The number of worker threads used by the work-stealing reactive executor. The default is the number of
+     * available processors.
+     */
+    public T withReactiveExecutorParallelism(int reactiveExecutorParallelism) {
+        this.reactiveExecutorParallelism = reactiveExecutorParallelism;
+        return (T) this;
+    }
+
+    /**
+     * Controls which timer to use for scheduling delayed tasks such as error handler redeliveries. The default timer
+     * is a scheduled thread pool, which keeps the scheduled tasks in a priority queue. The hashed-wheel timer keeps the
+     * scheduled tasks in the buckets of a timer wheel, which allows scheduling and cancelling tasks in constant time, at
+     * the cost of firing tasks with a precision of the tick duration. When the hashed-wheel timer is in use then the
+     * delayer, throttler and aggregator completion timeout checker use the timer as well (unless a custom thread pool
+     * is configured).
+     */
+    public T withSharedTimer(String sharedTimer) {
+        this.sharedTimer = sharedTimer;
+        return (T) this;
+    }
+
+    /**
+     * The duration in millis of a tick of the hashed-wheel timer. Tasks are fired with a precision of the tick
+     * duration.
+     */
+    public T withSharedTimerTickDuration(long sharedTimerTickDuration) {
+        this.sharedTimerTickDuration = sharedTimerTickDuration;
+        return (T) this;
+    }
+
     /**
      * If dumping is enabled then Camel will during startup dump all loaded routes (incl rests and route templates)
      * represented as XML, YAML, or Java DSL into the log. This is intended for trouble shooting or to assist during
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.NonManagedService;
+import org.apache.camel.StaticService;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.HashedWheelScheduledExecutorService;
+import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+
+/**
+ * Service which owns the shared hashed wheel timer (camel.main.sharedTimer=hashed-wheel) and its worker thread pool,
+ * so both are shutdown together with {@link CamelContext}.
+ */
+final class HashedWheelTimerService extends ServiceSupport implements StaticService, NonManagedService {
+
+    private final CamelContext camelContext;
+    private final long tickDuration;
+    private ExecutorService workers;
+    private HashedWheelScheduledExecutorService timer;
+
+    HashedWheelTimerService(CamelContext camelContext, long tickDuration) {
+        this.camelContext = camelContext;
+        this.tickDuration = tickDuration;
+    }
+
+    public HashedWheelScheduledExecutorService getTimer() {
+        return timer;
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        ExecutorServiceManager esm = camelContext.getExecutorServiceManager();
+        // the workers must not run the expired tasks on the timer thread when they are busy (as CallerRuns would),
+        // instead the timer keeps the rejected tasks until the next tick
+        ThreadPoolProfile profile = esm.getDefaultThreadPoolProfile().clone();
+        profile.setId("HashedWheelTimerTask");
+        profile.setDefaultProfile(false);
+        profile.setRejectedPolicy(ThreadPoolRejectedPolicy.Abort);
+        workers = esm.newThreadPool(this, "HashedWheelTimerTask", profile);
+        timer = new HashedWheelScheduledExecutorService(
+                r -> esm.newThread("HashedWheelTimer", r), workers, tickDuration, TimeUnit.MILLISECONDS, 512);
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        ExecutorServiceManager esm = camelContext.getExecutorServiceManager();
+        if (timer != null) {
+            esm.shutdownNow(timer);
+            timer = null;
+        }
+        if (workers != null) {
+            esm.shutdownNow(workers);
+            workers = null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.util.concurrent.HashedWheelScheduledExecutorService;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MainSharedTimerTest {
+
+    @Test
+    public void testSharedTimer() throws Exception {
+        Main main = new Main();
+        main.configure().addRoutesBuilder(new MyRouteBuilder());
+        main.addProperty("camel.main.sharedTimer", "hashed-wheel");
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        ScheduledExecutorService timer = PluginHelper.getErrorHandlerExecutorService(camelContext);
+        assertInstanceOf(HashedWheelScheduledExecutorService.class, timer);
+
+        MockEndpoint mock = camelContext.getEndpoint("mock:result", MockEndpoint.class);
+        mock.expectedMessageCount(1);
+        camelContext.createProducerTemplate().sendBody("direct:start", "Hello World");
+        mock.assertIsSatisfied();
+        assertFalse(timer.isShutdown());
+
+        main.stop();
+
+        // the timer is shutdown together with the context
+        assertTrue(timer.isShutdown());
+        assertTrue(timer.isTerminated());
+    }
+
+    public static class MyRouteBuilder extends RouteBuilder {
+        @Override
+        public void configure() {
+            from("direct:start").delay(50).asyncDelayed().to("mock:result");
+        }
+    }
+
+}
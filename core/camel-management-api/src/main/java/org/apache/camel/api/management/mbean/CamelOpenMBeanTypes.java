@@ -402,4 +402,21 @@ public final class CamelOpenMBeanTypes {
                         SimpleType.BOOLEAN, SimpleType.STRING, SimpleType.STRING });
     }
 
+    public static TabularType listConversionStatisticsTabularType() throws OpenDataException {
+        CompositeType ct = listConversionStatisticsCompositeType();
+        return new TabularType(
+                "listConversionStatistics", "Lists the statistics per pair of types which has been converted", ct,
+                new String[] { "from", "to" });
+    }
+
+    public static CompositeType listConversionStatisticsCompositeType() throws OpenDataException {
+        return new CompositeType(
+                "statistics", "Statistics",
+                new String[] { "from", "to", "hits", "misses", "fallbacks", "fallbackTime" },
+                new String[] { "From", "To", "Hits", "Misses", "Fallbacks", "Fallback Time" },
+                new OpenType[] {
+                        SimpleType.STRING, SimpleType.STRING, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG,
+                        SimpleType.LONG });
+    }
+
 }
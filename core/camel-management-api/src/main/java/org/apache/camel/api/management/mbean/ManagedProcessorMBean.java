@@ -75,6 +75,60 @@ public interface ManagedProcessorMBean extends ManagedPerformanceCounterMBean {
     @ManagedAttribute(description = "Whether this processor is disabled")
     Boolean getDisabled();
 
+    /**
+     * @since 4.23
+     */
+    @ManagedAttribute(description = "Whether allocation statistics is enabled")
+    boolean isAllocationStatisticsEnabled();
+
+    /**
+     * @since 4.23
+     */
+    @ManagedAttribute(description = "Mean bytes allocated by the processing thread [bytes]. Requires allocation statistics enabled, returns -1 otherwise.")
+    long getMeanAllocatedBytes();
+
+    /**
+     * @since 4.23
+     */
+    @ManagedAttribute(description = "Max bytes allocated by the processing thread [bytes]. Requires allocation statistics enabled, returns -1 otherwise.")
+    long getMaxAllocatedBytes();
+
+    /**
+     * @since 4.23
+     */
+    @ManagedAttribute(description = "Last bytes allocated by the processing thread [bytes]. Requires allocation statistics enabled, returns -1 otherwise.")
+    long getLastAllocatedBytes();
+
+    /**
+     * @since 4.23
+     */
+    @ManagedAttribute(description = "Total bytes allocated by the processing thread [bytes]. Requires allocation statistics enabled, returns -1 otherwise.")
+    long getTotalAllocatedBytes();
+
+    /**
+     * @since 4.23
+     */
+    @ManagedAttribute(description = "Mean cpu time of the processing thread [nanoseconds]. Requires allocation statistics enabled, returns -1 otherwise.")
+    long getMeanCpuTime();
+
+    /**
+     * @since 4.23
+     */
+    @ManagedAttribute(description = "Max cpu time of the processing thread [nanoseconds]. Requires allocation statistics enabled, returns -1 otherwise.")
+    long getMaxCpuTime();
+
+    /**
+     * @since 4.23
+     */
+    @ManagedAttribute(description = "Last cpu time of the processing thread [nanoseconds]. Requires allocation statistics enabled, returns -1 otherwise.")
+    long getLastCpuTime();
+
+    /**
+     * @since 4.23
+     */
+    @ManagedAttribute(description = "Total cpu time of the processing thread [nanoseconds]. Requires allocation statistics enabled, returns -1 otherwise.")
+    long getTotalCpuTime();
+
     @ManagedOperation(description = "To enable this processor")
     void enable();
 
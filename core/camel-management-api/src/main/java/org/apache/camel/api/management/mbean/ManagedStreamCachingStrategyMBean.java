@@ -47,6 +47,12 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Cipher used if writing with encryption")
     String getSpoolCipher();
 
+    @ManagedAttribute(description = "How stream caches are spooled to disk (Stream or Direct)")
+    String getSpoolMode();
+
+    @ManagedAttribute(description = "Maximum number of direct buffers to keep in the pool when spool mode is Direct")
+    int getSpoolDirectBufferPoolSize();
+
     @ManagedAttribute(description = "Threshold in bytes when overflow and spooling to disk instead of keeping in memory")
     void setSpoolThreshold(long threshold);
 
@@ -101,6 +107,18 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Average number of bytes per cached stream for spooled (not in-memory) stream caches.")
     long getCacheSpoolAverageSize();
 
+    @ManagedAttribute(description = "Number of spool buffers reused from the direct buffer pool")
+    long getSpoolBufferPoolHitCounter();
+
+    @ManagedAttribute(description = "Number of spool buffers allocated as new direct buffers")
+    long getSpoolBufferPoolMissCounter();
+
+    @ManagedAttribute(description = "Number of spool buffers allocated on the heap because the direct buffer pool was exhausted")
+    long getSpoolBufferPoolExhaustedCounter();
+
+    @ManagedAttribute(description = "Number of spool buffers currently in use")
+    long getSpoolBufferPoolInUse();
+
     @ManagedAttribute(description = "Whether utilization statistics is enabled")
     boolean isStatisticsEnabled();
 
@@ -35,6 +35,18 @@ public interface ManagedThrottlerMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "The throttler mode in use")
     String getMode();
 
+    @ManagedAttribute(description = "Current number of requests being processed (only in use with AdaptiveConcurrentRequests mode)")
+    int getCurrentInflightRequests();
+
+    @ManagedAttribute(description = "Current number of requests waiting for a permit (only in use with AdaptiveConcurrentRequests mode)")
+    int getQueuedRequests();
+
+    @ManagedAttribute(description = "Last measured round trip time in millis (only in use with AdaptiveConcurrentRequests mode)")
+    long getLastRoundTripTime();
+
+    @ManagedAttribute(description = "Average round trip time in millis the limit is estimated from (only in use with AdaptiveConcurrentRequests mode)")
+    long getAverageRoundTripTime();
+
     @ManagedAttribute(description = "Enables asynchronous delay which means the thread will not block while delaying")
     Boolean isAsyncDelayed();
 
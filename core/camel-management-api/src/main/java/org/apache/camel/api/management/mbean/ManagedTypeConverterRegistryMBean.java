@@ -16,6 +16,8 @@
  */
 package org.apache.camel.api.management.mbean;
 
+import javax.management.openmbean.TabularData;
+
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedOperation;
 
@@ -51,4 +53,10 @@ public interface ManagedTypeConverterRegistryMBean extends ManagedServiceMBean {
     @ManagedOperation(description = "Checks whether a type converter exists for converting (from -> to)")
     boolean hasTypeConverter(String fromType, String toType);
 
+    @ManagedAttribute(description = "Number of (from -> to) pairs in the negative cache of type conversions known to miss")
+    int getNegativeCacheSize();
+
+    @ManagedOperation(description = "Lists the statistics per pair of types which has been converted (requires statistics enabled)")
+    TabularData listConversionStatistics();
+
 }
@@ -43,4 +43,31 @@ public interface ManagedVirtualThreadExecutorMBean {
 
     @ManagedAttribute(description = "Is shutdown")
     boolean isShutdown();
+
+    @ManagedAttribute(description = "Maximum number of tasks running concurrently (0 is unlimited, -1 if not limited by this executor)")
+    int getMaxConcurrentTasks();
+
+    @ManagedAttribute(description = "Number of tasks currently running (-1 if not known)")
+    int getActiveCount();
+
+    @ManagedAttribute(description = "Number of callers currently waiting for a running task to complete (-1 if not known)")
+    int getWaitingCount();
+
+    @ManagedAttribute(description = "Number of tasks completed (-1 if not known)")
+    long getCompletedTaskCount();
+
+    @ManagedAttribute(description = "Number of tasks run by the caller thread because the limit was reached (-1 if not known)")
+    long getCallerRunsCount();
+
+    @ManagedAttribute(description = "Number of tasks rejected because the limit was reached (-1 if not known)")
+    long getRejectedCount();
+
+    @ManagedAttribute(description = "Number of times a virtual thread running a task was pinned to its carrier thread (-1 if not known)")
+    long getPinnedCount();
+
+    @ManagedAttribute(description = "Total time (millis) virtual threads running tasks were pinned to their carrier thread (-1 if not known)")
+    long getPinnedTotalTime();
+
+    @ManagedAttribute(description = "Longest time (millis) a virtual thread running a task was pinned to its carrier thread (-1 if not known)")
+    long getPinnedMaxTime();
 }
@@ -16,6 +16,9 @@
  */
 package org.apache.camel.management;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Ordered;
@@ -23,7 +26,6 @@ import org.apache.camel.Processor;
 import org.apache.camel.management.mbean.ManagedPerformanceCounter;
 import org.apache.camel.spi.ManagementInterceptStrategy.InstrumentationProcessor;
 import org.apache.camel.support.processor.DelegateAsyncProcessor;
-import org.apache.camel.util.StopWatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,11 +35,16 @@ import org.slf4j.LoggerFactory;
  * <p/>
  * This implementation has been optimised to work in dual mode, either as an advice or as a processor. The former is
  * faster and the latter is required when the error handler has been configured with redelivery enabled.
+ * <p/>
+ * When allocation statistics is enabled then the bytes allocated and cpu time spent by the current thread is also
+ * recorded. These numbers are only recorded when the exchange is completed by the same thread that started processing
+ * it, as otherwise the thread counters cannot be compared.
  */
 public class DefaultInstrumentationProcessor extends DelegateAsyncProcessor
-        implements InstrumentationProcessor<StopWatch> {
+        implements InstrumentationProcessor<DefaultInstrumentationProcessor.Watch> {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultInstrumentationProcessor.class);
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
 
     private PerformanceCounter counter;
     private String type;
@@ -70,7 +77,7 @@ public class DefaultInstrumentationProcessor extends DelegateAsyncProcessor
 
     @Override
     public boolean process(final Exchange exchange, final AsyncCallback callback) {
-        final StopWatch watch = before(exchange);
+        final Watch watch = before(exchange);
 
         // optimize to only create a new callback if needed
         AsyncCallback ac = callback;
@@ -114,22 +121,52 @@ public class DefaultInstrumentationProcessor extends DelegateAsyncProcessor
         this.type = type;
     }
 
+    protected void recordResourceUsage(Exchange exchange, long allocatedBytes, long cpuTime) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("{}Recording allocated: {} bytes and cpu time: {} nanos for exchange: {}", type != null ? type + ": " : "",
+                    allocatedBytes, cpuTime, exchange);
+        }
+
+        counter.recordResourceUsage(exchange, allocatedBytes, cpuTime);
+    }
+
     @Override
-    public StopWatch before(Exchange exchange) {
+    public Watch before(Exchange exchange) {
         // only record time if stats is enabled
-        StopWatch answer = counter != null && counter.isStatisticsEnabled() ? new StopWatch() : null;
-        if (answer != null) {
+        Watch answer = null;
+        if (counter != null && counter.isStatisticsEnabled()) {
+            answer = new Watch(counter.isAllocationStatisticsEnabled());
             beginTime(exchange);
         }
         return answer;
     }
 
     @Override
-    public void after(Exchange exchange, StopWatch watch) {
+    public void after(Exchange exchange, Watch watch) {
         // record end time
         if (watch != null) {
             recordTime(exchange, watch.taken());
+            // thread counters can only be compared when we are still on the same thread
+            if (watch.thread == Thread.currentThread()) {
+                long bytes = watch.allocatedBytes >= 0 ? currentThreadAllocatedBytes() - watch.allocatedBytes : -1;
+                long cpu = watch.cpuTime >= 0 ? currentThreadCpuTime() - watch.cpuTime : -1;
+                recordResourceUsage(exchange, bytes, cpu);
+            }
+        }
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean sun && sun.isThreadAllocatedMemoryEnabled()) {
+            return sun.getCurrentThreadAllocatedBytes();
         }
+        return -1;
+    }
+
+    private static long currentThreadCpuTime() {
+        if (THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled()) {
+            return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+        }
+        return -1;
     }
 
     @Override
@@ -142,4 +179,37 @@ public class DefaultInstrumentationProcessor extends DelegateAsyncProcessor
         // we want instrumentation before calling the processor (but before tracer/debugger)
         return Ordered.LOWEST - 2;
     }
+
+    /**
+     * The state captured before processing, which holds the start time, and optionally the thread counters when
+     * allocation statistics is enabled.
+     */
+    public static final class Watch {
+
+        private final long start;
+        private final Thread thread;
+        private final long allocatedBytes;
+        private final long cpuTime;
+
+        Watch(boolean resources) {
+            if (resources) {
+                this.thread = Thread.currentThread();
+                this.allocatedBytes = currentThreadAllocatedBytes();
+                this.cpuTime = currentThreadCpuTime();
+            } else {
+                this.thread = null;
+                this.allocatedBytes = -1;
+                this.cpuTime = -1;
+            }
+            this.start = System.nanoTime();
+        }
+
+        /**
+         * Time taken in millis since the watch was created.
+         */
+        public long taken() {
+            long delta = System.nanoTime() - start;
+            return delta / 1000000;
+        }
+    }
 }
@@ -78,6 +78,18 @@ public class DelegatePerformanceCounter implements PerformanceCounter {
         }
     }
 
+    @Override
+    public boolean isAllocationStatisticsEnabled() {
+        return counter != null && counter.isAllocationStatisticsEnabled();
+    }
+
+    @Override
+    public void recordResourceUsage(Exchange exchange, long allocatedBytes, long cpuTime) {
+        if (counter != null) {
+            counter.recordResourceUsage(exchange, allocatedBytes, cpuTime);
+        }
+    }
+
     @Override
     public String toString() {
         return counter != null ? counter.toString() : super.toString();
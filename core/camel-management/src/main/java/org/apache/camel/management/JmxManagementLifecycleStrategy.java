@@ -57,6 +57,7 @@ import org.apache.camel.management.mbean.ManagedAsyncProcessorAwaitManager;
 import org.apache.camel.management.mbean.ManagedBacklogDebugger;
 import org.apache.camel.management.mbean.ManagedBacklogTracer;
 import org.apache.camel.management.mbean.ManagedBeanIntrospection;
+import org.apache.camel.management.mbean.ManagedCompiledExpressionCache;
 import org.apache.camel.management.mbean.ManagedCamelContext;
 import org.apache.camel.management.mbean.ManagedConsumerCache;
 import org.apache.camel.management.mbean.ManagedDumpRouteStrategy;
@@ -93,6 +94,7 @@ import org.apache.camel.model.RouteDefinition;
 import org.apache.camel.spi.AsyncProcessorAwaitManager;
 import org.apache.camel.spi.BeanIntrospection;
 import org.apache.camel.spi.BrowsableVariableRepository;
+import org.apache.camel.spi.CompiledExpressionCache;
 import org.apache.camel.spi.ConsumerCache;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DumpRoutesStrategy;
@@ -577,6 +579,8 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
             answer = new ManagedEndpointRegistry(context, endpointRegistry);
         } else if (service instanceof BeanIntrospection beanIntrospection) {
             answer = new ManagedBeanIntrospection(context, beanIntrospection);
+        } else if (service instanceof CompiledExpressionCache compiledExpressionCache) {
+            answer = new ManagedCompiledExpressionCache(context, compiledExpressionCache);
         } else if (service instanceof TypeConverterRegistry typeConverterRegistry) {
             answer = new ManagedTypeConverterRegistry(context, typeConverterRegistry);
         } else if (service instanceof RestRegistry restRegistry) {
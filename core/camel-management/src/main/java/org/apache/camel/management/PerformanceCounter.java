@@ -64,4 +64,24 @@ public interface PerformanceCounter {
      */
     void setStatisticsEnabled(boolean statisticsEnabled);
 
+    /**
+     * Are allocation statistics enabled?
+     *
+     * @return whether the bytes allocated and cpu time spent while processing should be recorded
+     */
+    default boolean isAllocationStatisticsEnabled() {
+        return false;
+    }
+
+    /**
+     * Executed when an {@link org.apache.camel.Exchange} is complete and allocation statistics are enabled.
+     *
+     * @param exchange       the exchange
+     * @param allocatedBytes the number of bytes allocated by the current thread while processing
+     * @param cpuTime        the cpu time in nanos spent by the current thread while processing
+     */
+    default void recordResourceUsage(Exchange exchange, long allocatedBytes, long cpuTime) {
+        // noop
+    }
+
 }
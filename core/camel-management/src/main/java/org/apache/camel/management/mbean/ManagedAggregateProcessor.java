@@ -145,6 +145,11 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         return getProcessor().isOptimisticLocking();
     }
 
+    @Override
+    public int getLockStripes() {
+        return getProcessor().getLockStripes();
+    }
+
     @Override
     public boolean isEagerCheckCompletion() {
         return getProcessor().isEagerCheckCompletion();
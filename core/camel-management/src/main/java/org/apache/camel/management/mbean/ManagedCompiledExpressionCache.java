@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.ManagedCompiledExpressionCacheMBean;
+import org.apache.camel.spi.CompiledExpressionCache;
+
+@ManagedResource(description = "Managed CompiledExpressionCache")
+public class ManagedCompiledExpressionCache extends ManagedService implements ManagedCompiledExpressionCacheMBean {
+
+    private final CompiledExpressionCache cache;
+
+    public ManagedCompiledExpressionCache(CamelContext context, CompiledExpressionCache cache) {
+        super(context, cache);
+        this.cache = cache;
+    }
+
+    public CompiledExpressionCache getCompiledExpressionCache() {
+        return cache;
+    }
+
+    @Override
+    public Boolean isEnabled() {
+        return cache.isEnabled();
+    }
+
+    @Override
+    public Integer getSize() {
+        return cache.size();
+    }
+
+    @Override
+    public Integer getMaximumCacheSize() {
+        return cache.getMaximumCacheSize();
+    }
+
+    @Override
+    public Long getHits() {
+        return cache.getHits();
+    }
+
+    @Override
+    public Long getMisses() {
+        return cache.getMisses();
+    }
+
+    @Override
+    public Long getEvicted() {
+        return cache.getEvicted();
+    }
+
+    @Override
+    public void resetStatistics() {
+        cache.resetStatistics();
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+}
@@ -18,6 +18,7 @@ package org.apache.camel.management.mbean;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.DisabledAware;
+import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.apache.camel.Route;
 import org.apache.camel.ServiceStatus;
@@ -50,6 +51,15 @@ public class ManagedProcessor extends ManagedPerformanceCounter
     private Route route;
     private String sourceLocation;
     private String sourceLocationShort;
+    // allocation statistics (only created if enabled)
+    private Statistic allocationSamples;
+    private Statistic totalAllocatedBytes;
+    private Statistic maxAllocatedBytes;
+    private Statistic lastAllocatedBytes;
+    private Statistic cpuTimeSamples;
+    private Statistic totalCpuTime;
+    private Statistic maxCpuTime;
+    private Statistic lastCpuTime;
 
     public ManagedProcessor(CamelContext context, Processor processor, ProcessorDefinition<?> definition) {
         this.context = context;
@@ -81,6 +91,111 @@ public class ManagedProcessor extends ManagedPerformanceCounter
         if (context.getManagementStrategy().getManagementAgent().getStatisticsLevel().isExtended()) {
             initExtendedStatistics();
         }
+        if (Boolean.TRUE.equals(context.getManagementStrategy().getManagementAgent().getAllocationStatisticsEnabled())) {
+            initAllocationStatistics();
+        }
+    }
+
+    public void initAllocationStatistics() {
+        this.allocationSamples = new StatisticCounter();
+        this.totalAllocatedBytes = new StatisticCounter();
+        this.maxAllocatedBytes = new StatisticMaximum();
+        this.lastAllocatedBytes = new StatisticValue();
+        this.cpuTimeSamples = new StatisticCounter();
+        this.totalCpuTime = new StatisticCounter();
+        this.maxCpuTime = new StatisticMaximum();
+        this.lastCpuTime = new StatisticValue();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        if (allocationSamples != null) {
+            allocationSamples.reset();
+            totalAllocatedBytes.reset();
+            maxAllocatedBytes.reset();
+            lastAllocatedBytes.reset();
+            cpuTimeSamples.reset();
+            totalCpuTime.reset();
+            maxCpuTime.reset();
+            lastCpuTime.reset();
+        }
+    }
+
+    @Override
+    public boolean isAllocationStatisticsEnabled() {
+        return allocationSamples != null;
+    }
+
+    @Override
+    public void recordResourceUsage(Exchange exchange, long allocatedBytes, long cpuTime) {
+        if (allocationSamples == null) {
+            return;
+        }
+        if (allocatedBytes >= 0) {
+            allocationSamples.increment();
+            totalAllocatedBytes.updateValue(allocatedBytes);
+            maxAllocatedBytes.updateValue(allocatedBytes);
+            lastAllocatedBytes.updateValue(allocatedBytes);
+        }
+        if (cpuTime >= 0) {
+            cpuTimeSamples.increment();
+            totalCpuTime.updateValue(cpuTime);
+            maxCpuTime.updateValue(cpuTime);
+            lastCpuTime.updateValue(cpuTime);
+        }
+    }
+
+    @Override
+    public long getMeanAllocatedBytes() {
+        return mean(totalAllocatedBytes, allocationSamples);
+    }
+
+    @Override
+    public long getMaxAllocatedBytes() {
+        return value(maxAllocatedBytes);
+    }
+
+    @Override
+    public long getLastAllocatedBytes() {
+        return value(lastAllocatedBytes);
+    }
+
+    @Override
+    public long getTotalAllocatedBytes() {
+        return value(totalAllocatedBytes);
+    }
+
+    @Override
+    public long getMeanCpuTime() {
+        return mean(totalCpuTime, cpuTimeSamples);
+    }
+
+    @Override
+    public long getMaxCpuTime() {
+        return value(maxCpuTime);
+    }
+
+    @Override
+    public long getLastCpuTime() {
+        return value(lastCpuTime);
+    }
+
+    @Override
+    public long getTotalCpuTime() {
+        return value(totalCpuTime);
+    }
+
+    private static long value(Statistic statistic) {
+        return statistic != null ? statistic.getValue() : -1;
+    }
+
+    private static long mean(Statistic total, Statistic samples) {
+        if (total == null) {
+            return -1;
+        }
+        long count = samples.getValue();
+        return count > 0 ? total.getValue() / count : 0;
     }
 
     public CamelContext getContext() {
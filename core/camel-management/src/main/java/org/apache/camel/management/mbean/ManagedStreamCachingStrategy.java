@@ -91,6 +91,17 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getSpoolCipher();
     }
 
+    @Override
+    public String getSpoolMode() {
+        StreamCachingStrategy.SpoolMode mode = streamCachingStrategy.getSpoolMode();
+        return mode != null ? mode.name() : null;
+    }
+
+    @Override
+    public int getSpoolDirectBufferPoolSize() {
+        return streamCachingStrategy.getSpoolDirectBufferPoolSize();
+    }
+
     @Override
     public void setSpoolThreshold(long threshold) {
         streamCachingStrategy.setSpoolThreshold(threshold);
@@ -198,6 +209,26 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    @Override
+    public long getSpoolBufferPoolHitCounter() {
+        return streamCachingStrategy.getStatistics().getSpoolBufferPoolHitCounter();
+    }
+
+    @Override
+    public long getSpoolBufferPoolMissCounter() {
+        return streamCachingStrategy.getStatistics().getSpoolBufferPoolMissCounter();
+    }
+
+    @Override
+    public long getSpoolBufferPoolExhaustedCounter() {
+        return streamCachingStrategy.getStatistics().getSpoolBufferPoolExhaustedCounter();
+    }
+
+    @Override
+    public long getSpoolBufferPoolInUse() {
+        return streamCachingStrategy.getStatistics().getSpoolBufferPoolInUse();
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
@@ -20,6 +20,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedThrottlerMBean;
 import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.processor.AdaptiveConcurrentRequestsThrottler;
 import org.apache.camel.processor.Throttler;
 import org.apache.camel.processor.TotalRequestsThrottler;
 
@@ -69,6 +70,42 @@ public class ManagedThrottler extends ManagedProcessor implements ManagedThrottl
         return getProcessor().getMode();
     }
 
+    @Override
+    public int getCurrentInflightRequests() {
+        if (getProcessor() instanceof AdaptiveConcurrentRequestsThrottler t) {
+            return t.getCurrentInflightRequests();
+        }
+
+        return 0;
+    }
+
+    @Override
+    public int getQueuedRequests() {
+        if (getProcessor() instanceof AdaptiveConcurrentRequestsThrottler t) {
+            return t.getQueuedRequests();
+        }
+
+        return 0;
+    }
+
+    @Override
+    public long getLastRoundTripTime() {
+        if (getProcessor() instanceof AdaptiveConcurrentRequestsThrottler t) {
+            return t.getLastRoundTripTime();
+        }
+
+        return 0;
+    }
+
+    @Override
+    public long getAverageRoundTripTime() {
+        if (getProcessor() instanceof AdaptiveConcurrentRequestsThrottler t) {
+            return t.getAverageRoundTripTime();
+        }
+
+        return 0;
+    }
+
     @Override
     public Boolean isAsyncDelayed() {
         return getProcessor().isAsyncDelayed();
@@ -16,10 +16,18 @@
  */
 package org.apache.camel.management.mbean;
 
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.CamelOpenMBeanTypes;
 import org.apache.camel.api.management.mbean.ManagedTypeConverterRegistryMBean;
+import org.apache.camel.impl.converter.CoreTypeConverterRegistry;
 import org.apache.camel.spi.TypeConverterRegistry;
 
 /**
@@ -95,4 +103,32 @@ public class ManagedTypeConverterRegistry extends ManagedService implements Mana
         }
     }
 
+    @Override
+    public int getNegativeCacheSize() {
+        if (registry instanceof CoreTypeConverterRegistry core) {
+            return core.getNegativeCacheSize();
+        }
+        return 0;
+    }
+
+    @Override
+    public TabularData listConversionStatistics() {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.listConversionStatisticsTabularType());
+            for (TypeConverterRegistry.ConversionStatistic stat : registry.getStatistics().getConversionStatistics()) {
+                CompositeType ct = CamelOpenMBeanTypes.listConversionStatisticsCompositeType();
+                CompositeData data = new CompositeDataSupport(
+                        ct,
+                        new String[] { "from", "to", "hits", "misses", "fallbacks", "fallbackTime" },
+                        new Object[] {
+                                stat.getFrom().getName(), stat.getTo().getName(), stat.getHitCounter(),
+                                stat.getMissCounter(), stat.getFallbackCounter(), stat.getFallbackTime() });
+                answer.put(data);
+            }
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
 }
@@ -22,6 +22,8 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedVirtualThreadExecutorMBean;
 import org.apache.camel.spi.ManagementStrategy;
+import org.apache.camel.util.concurrent.BoundedExecutorService;
+import org.apache.camel.util.concurrent.VirtualThreadPerTaskExecutorService;
 
 @ManagedResource(description = "Managed VirtualThread Executor")
 public class ManagedVirtualThreadExecutor implements ManagedVirtualThreadExecutorMBean {
@@ -95,4 +97,78 @@ public class ManagedVirtualThreadExecutor implements ManagedVirtualThreadExecuto
         return executorService.isShutdown();
     }
 
+    @Override
+    public int getMaxConcurrentTasks() {
+        if (executorService instanceof VirtualThreadPerTaskExecutorService vte) {
+            return vte.getMaxConcurrentTasks();
+        } else if (executorService instanceof BoundedExecutorService bes) {
+            return bes.getMaxConcurrent();
+        }
+        return -1;
+    }
+
+    @Override
+    public int getActiveCount() {
+        if (executorService instanceof BoundedExecutorService bes) {
+            return bes.getActiveCount();
+        }
+        return -1;
+    }
+
+    @Override
+    public int getWaitingCount() {
+        if (executorService instanceof BoundedExecutorService bes) {
+            return bes.getWaitingCount();
+        }
+        return -1;
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        if (executorService instanceof BoundedExecutorService bes) {
+            return bes.getDelegatedTaskCount();
+        }
+        return -1;
+    }
+
+    @Override
+    public long getCallerRunsCount() {
+        if (executorService instanceof BoundedExecutorService bes) {
+            return bes.getCallerRunsCount();
+        }
+        return -1;
+    }
+
+    @Override
+    public long getRejectedCount() {
+        if (executorService instanceof BoundedExecutorService bes) {
+            return bes.getRejectedCount();
+        }
+        return -1;
+    }
+
+    @Override
+    public long getPinnedCount() {
+        if (executorService instanceof VirtualThreadPerTaskExecutorService vte) {
+            return vte.getPinnedCount();
+        }
+        return -1;
+    }
+
+    @Override
+    public long getPinnedTotalTime() {
+        if (executorService instanceof VirtualThreadPerTaskExecutorService vte) {
+            return vte.getPinnedTotalTime();
+        }
+        return -1;
+    }
+
+    @Override
+    public long getPinnedMaxTime() {
+        if (executorService instanceof VirtualThreadPerTaskExecutorService vte) {
+            return vte.getPinnedMaxTime();
+        }
+        return -1;
+    }
+
 }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.spi.Language;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_SERVICE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedCompiledExpressionCacheTest extends ManagementTestSupport {
+
+    @Test
+    public void testManageCompiledExpressionCache() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_SERVICE, "DefaultCompiledExpressionCache");
+        assertTrue(mbeanServer.isRegistered(on), "Should be registered");
+
+        assertEquals(Boolean.TRUE, mbeanServer.getAttribute(on, "Enabled"));
+        assertTrue((Integer) mbeanServer.getAttribute(on, "MaximumCacheSize") > 0);
+
+        mbeanServer.invoke(on, "resetStatistics", null, null);
+        assertEquals(0L, mbeanServer.getAttribute(on, "Hits"));
+        assertEquals(0L, mbeanServer.getAttribute(on, "Misses"));
+
+        Language simple = context.resolveLanguage("simple");
+        String text = "Hello ${body} from " + getClass().getSimpleName();
+        simple.createExpression(text);
+        Long misses = (Long) mbeanServer.getAttribute(on, "Misses");
+        assertTrue(misses > 0, "Should have cache misses");
+
+        // the same expression is then found in the cache
+        simple.createExpression(text);
+        simple.createExpression(text);
+        assertEquals(2L, mbeanServer.getAttribute(on, "Hits"));
+        assertEquals(misses, mbeanServer.getAttribute(on, "Misses"));
+        assertTrue((Integer) mbeanServer.getAttribute(on, "Size") > 0);
+
+        mbeanServer.invoke(on, "clear", null, null);
+        assertEquals(0, mbeanServer.getAttribute(on, "Size"));
+
+        mbeanServer.invoke(on, "resetStatistics", null, null);
+        assertEquals(0L, mbeanServer.getAttribute(on, "Hits"));
+        assertEquals(0L, mbeanServer.getAttribute(on, "Misses"));
+    }
+
+}
@@ -61,6 +61,9 @@ public class ManagedMulticastTest extends ManagementTestSupport {
 
         Boolean parallel = (Boolean) mbeanServer.getAttribute(name, "ParallelProcessing");
         assertFalse(parallel.booleanValue());
+
+        Integer maxInflight = (Integer) mbeanServer.getAttribute(name, "MaxInflight");
+        assertEquals(0, maxInflight.intValue());
     }
 
     @Override
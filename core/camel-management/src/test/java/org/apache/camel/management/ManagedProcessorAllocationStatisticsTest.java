@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_PROCESSOR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedProcessorAllocationStatisticsTest extends ManagementTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testAllocationStatisticsAreDisabledByDefault() throws Exception {
+        context.addRoutes(createRouteBuilder());
+        context.start();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_PROCESSOR, "upper");
+
+        getMockEndpoint("mock:result").expectedBodiesReceived("HELLO WORLD");
+        template.sendBody("direct:start", "Hello World");
+        assertMockEndpointsSatisfied();
+
+        assertFalse((Boolean) mbeanServer.getAttribute(on, "AllocationStatisticsEnabled"));
+        assertEquals(-1L, mbeanServer.getAttribute(on, "MeanAllocatedBytes"));
+        assertEquals(-1L, mbeanServer.getAttribute(on, "TotalAllocatedBytes"));
+        assertEquals(-1L, mbeanServer.getAttribute(on, "MeanCpuTime"));
+        assertEquals(-1L, mbeanServer.getAttribute(on, "TotalCpuTime"));
+    }
+
+    @Test
+    public void testEnableAllocationStatistics() throws Exception {
+        context.getManagementStrategy().getManagementAgent().setAllocationStatisticsEnabled(true);
+        context.addRoutes(createRouteBuilder());
+        context.start();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_PROCESSOR, "upper");
+
+        getMockEndpoint("mock:result").expectedMessageCount(5);
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:start", "Hello World");
+        }
+        assertMockEndpointsSatisfied();
+
+        assertTrue((Boolean) mbeanServer.getAttribute(on, "AllocationStatisticsEnabled"));
+        long mean = (Long) mbeanServer.getAttribute(on, "MeanAllocatedBytes");
+        long max = (Long) mbeanServer.getAttribute(on, "MaxAllocatedBytes");
+        long last = (Long) mbeanServer.getAttribute(on, "LastAllocatedBytes");
+        long total = (Long) mbeanServer.getAttribute(on, "TotalAllocatedBytes");
+        assertTrue(mean >= 0);
+        assertTrue(max >= mean);
+        assertTrue(last >= 0);
+        assertTrue(total >= max);
+
+        long meanCpu = (Long) mbeanServer.getAttribute(on, "MeanCpuTime");
+        long totalCpu = (Long) mbeanServer.getAttribute(on, "TotalCpuTime");
+        assertTrue(meanCpu >= 0);
+        assertTrue(totalCpu >= meanCpu);
+
+        // reset should clear the allocation statistics as well
+        mbeanServer.invoke(on, "reset", null, null);
+        assertEquals(0L, mbeanServer.getAttribute(on, "TotalAllocatedBytes"));
+        assertEquals(0L, mbeanServer.getAttribute(on, "MeanAllocatedBytes"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .transform(simple("${body.toUpperCase()}")).id("upper")
+                        .to("mock:result");
+            }
+        };
+    }
+}
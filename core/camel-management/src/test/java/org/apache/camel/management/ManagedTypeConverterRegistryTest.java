@@ -20,6 +20,8 @@ import java.util.Set;
 
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.builder.RouteBuilder;
@@ -82,9 +84,19 @@ public class ManagedTypeConverterRegistryTest extends ManagementTestSupport {
         Long miss = (Long) mbeanServer.getAttribute(name, "MissCounter");
         assertEquals(0, miss.intValue());
 
+        // should have statistics for the pair of types converted
+        TabularData data = (TabularData) mbeanServer.invoke(name, "listConversionStatistics", null, null);
+        CompositeData row = data.get(new Object[] { "java.lang.String", "int" });
+        assertNotNull(row, "Should have statistics for String -> int");
+        assertEquals(1L, row.get("hits"));
+        assertEquals(0L, row.get("misses"));
+
         // reset
         mbeanServer.invoke(name, "resetTypeConversionCounters", null, null);
 
+        data = (TabularData) mbeanServer.invoke(name, "listConversionStatistics", null, null);
+        assertEquals(0, data.size());
+
         assertThrows(Exception.class, () -> template.sendBody("direct:start", "foo"));
 
         // should now have a failed
@@ -162,7 +162,8 @@ public class CachedOutputStream extends OutputStream {
         try {
             // creates a tmp file and a file output stream
             currentStream = tempFileManager.createOutputStream(strategy, exchange);
-            IOHelper.copy(bout.newInputStreamCache(), currentStream, strategy.getBufferSize());
+            // write the buffer directly to the file, so we do not need a copy buffer
+            bout.writeTo(currentStream);
         } finally {
             // ensure flag is flipped to file based
             inMemory = false;
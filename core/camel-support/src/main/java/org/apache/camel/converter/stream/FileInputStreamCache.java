@@ -22,6 +22,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
@@ -62,6 +63,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
     private final FileInputStreamCache.TempFileManager tempFileManager;
     private final File file;
     private final CipherPair ciphers;
+    private final boolean mapped;
 
     /** Only for testing purposes. */
     public FileInputStreamCache(File file) {
@@ -72,6 +74,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         this.file = closer.getTempFile();
         this.stream = null;
         this.ciphers = closer.getCiphers();
+        this.mapped = closer.isMapped();
         this.length = file.length();
         this.tempFileManager = closer;
         this.tempFileManager.add(this);
@@ -184,6 +187,9 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
     }
 
     private InputStream createInputStream(File file) throws IOException {
+        if (mapped && ciphers == null && MappedFileInputStream.canMap(file)) {
+            return new MappedFileInputStream(file);
+        }
         InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath(), StandardOpenOption.READ));
         if (ciphers != null) {
             in = new CipherInputStream(in, ciphers.createDecryptor()) {
@@ -221,6 +227,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private boolean mapped;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -323,6 +330,16 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             File spoolDir = strategy.resolveSpoolDirectory(exchange);
             tempFile = FileUtil.createTempFile("cos", ".tmp", spoolDir);
 
+            if (strategy.getSpoolMode() == StreamCachingStrategy.SpoolMode.Direct
+                    && ObjectHelper.isEmpty(strategy.getSpoolCipher())) {
+                LOG.trace("Creating temporary stream cache file using direct buffers: {}", tempFile);
+                FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE);
+                outputStream = new DirectSpoolOutputStream(channel, strategy);
+                mapped = true;
+                return outputStream;
+            }
+
             LOG.trace("Creating temporary stream cache file: {}", tempFile);
             OutputStream out = new BufferedOutputStream(
                     Files.newOutputStream(tempFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE));
@@ -384,6 +401,10 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return ciphers;
         }
 
+        boolean isMapped() {
+            return mapped;
+        }
+
     }
 
 }
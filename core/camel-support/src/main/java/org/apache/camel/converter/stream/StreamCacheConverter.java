@@ -26,6 +26,7 @@ import java.nio.ByteBuffer;
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
+import org.apache.camel.support.PluginHelper;
 import org.apache.camel.util.IOHelper;
 
 /**
@@ -51,7 +52,12 @@ public final class StreamCacheConverter {
         // transfer the input stream to a cached output stream, and then creates a new stream cache view
         // of the data, which ensures the input stream is cached and re-readable.
         CachedOutputStream cos = new CachedOutputStream(exchange);
-        IOHelper.copyAndCloseInput(stream, cos);
+        try {
+            // use a recycled buffer for copying
+            PluginHelper.getBufferPool(exchange.getContext()).copy(stream, cos, cos.getStrategyBufferSize());
+        } finally {
+            IOHelper.close(stream);
+        }
         return cos.newStreamCache();
     }
 
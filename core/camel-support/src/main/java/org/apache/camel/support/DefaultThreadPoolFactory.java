@@ -35,12 +35,14 @@ import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.concurrent.BoundedExecutorService;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 import org.apache.camel.util.concurrent.ThreadFactoryTypeAware;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
 import org.apache.camel.util.concurrent.ThreadType;
+import org.apache.camel.util.concurrent.VirtualThreadPerTaskExecutorService;
 
 /**
  * Factory for thread pools that uses the JDK {@link Executors} for creating the thread pools.
@@ -66,6 +68,20 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
 
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        // Virtual thread per task: limit the number of concurrent tasks instead of using a pool of threads
+        if (profile.getVirtualThreadPerTask() != null && profile.getVirtualThreadPerTask()
+                && factory instanceof ThreadFactoryTypeAware factoryTypeAware && factoryTypeAware.isVirtual()) {
+            ThreadPoolRejectedPolicy policy = profile.getRejectedPolicy();
+            if (policy == null) {
+                policy = ThreadPoolRejectedPolicy.CallerRuns;
+            }
+            int max = profile.getMaxConcurrentTasks() != null ? profile.getMaxConcurrentTasks() : 0;
+            long timeout = profile.getKeepAliveTime() != null ? profile.getKeepAliveTime() : 60;
+            TimeUnit unit = profile.getTimeUnit() != null ? profile.getTimeUnit() : TimeUnit.SECONDS;
+            String name = factory instanceof CamelThreadFactory ctf ? ctf.getName() : profile.getId();
+            return new VirtualThreadPerTaskExecutorService(
+                    name, ThreadPoolFactoryType.newThreadPerTaskExecutor(factory), max, timeout, unit, policy);
+        }
         // Virtual threads: use the policy enum directly from the profile to avoid reverse-mapping
         if (profile.getMaxQueueSize() > 0
                 && ThreadPoolFactoryType.from(factory, profile) == ThreadPoolFactoryType.VIRTUAL) {
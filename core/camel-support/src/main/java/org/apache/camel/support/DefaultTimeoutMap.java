@@ -17,15 +17,18 @@
 package org.apache.camel.support;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.NavigableSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.camel.TimeoutMap;
 import org.apache.camel.support.service.ServiceSupport;
@@ -33,7 +36,6 @@ import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static java.util.Comparator.comparing;
 import static org.apache.camel.TimeoutMap.Listener.Type.Evict;
 import static org.apache.camel.TimeoutMap.Listener.Type.Put;
 import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
@@ -41,8 +43,9 @@ import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
 /**
  * Default implementation of the {@link TimeoutMap}.
  * <p/>
- * This implementation supports thread safe and non thread safe, in the manner you can enable locking or not. By default
- * locking is enabled and thus we are thread safe.
+ * This implementation is thread safe and lock-free. The entries are kept in a {@link ConcurrentHashMap}, and their
+ * expire times are ordered in a skip list, so the purge task only visits the entries that have expired, instead of
+ * scanning the entire map.
  * <p/>
  * You must provide a {@link java.util.concurrent.ScheduledExecutorService} in the constructor which is used to schedule
  * a background task which check for old entries to purge. This implementation will shutdown the scheduler if its being
@@ -53,11 +56,12 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
-    private final ConcurrentMap<K, TimeoutMapEntry<K, V>> map = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, IndexedEntry<K, V>> map = new ConcurrentHashMap<>();
+    private final NavigableSet<Expiry<K, V>> expiries = new ConcurrentSkipListSet<>();
+    private final AtomicLong sequence = new AtomicLong();
     private final ScheduledExecutorService executor;
     private volatile ScheduledFuture<?> future;
     private final long purgePollTime;
-    private final Lock lock;
 
     private final List<Listener<K, V>> listeners = new ArrayList<>(2);
 
@@ -66,67 +70,63 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
     }
 
     public DefaultTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
-        this(executor, requestMapPollTimeMillis, true);
+        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        this.executor = executor;
+        this.purgePollTime = requestMapPollTimeMillis;
     }
 
+    /**
+     * @deprecated this implementation is lock-free, use {@link #DefaultTimeoutMap(ScheduledExecutorService, long)}
+     */
+    @Deprecated(since = "4.23")
     public DefaultTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, boolean useLock) {
-        this(executor, requestMapPollTimeMillis, useLock ? new ReentrantLock() : NoLock.INSTANCE);
+        this(executor, requestMapPollTimeMillis);
     }
 
+    /**
+     * @deprecated this implementation is lock-free, use {@link #DefaultTimeoutMap(ScheduledExecutorService, long)}
+     */
+    @Deprecated(since = "4.23")
     public DefaultTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, Lock lock) {
-        ObjectHelper.notNull(executor, "ScheduledExecutorService");
-        this.executor = executor;
-        this.purgePollTime = requestMapPollTimeMillis;
-        this.lock = lock;
+        this(executor, requestMapPollTimeMillis);
     }
 
     @Override
     public V get(K key) {
-        TimeoutMapEntry<K, V> entry;
-        // if no contains, the lock is not necessary
-        if (!map.containsKey(key)) {
+        IndexedEntry<K, V> entry = map.get(key);
+        if (entry == null) {
             return null;
         }
-        lock.lock();
-        try {
-            entry = map.get(key);
-            if (entry == null) {
-                return null;
-            }
-            updateExpireTime(entry);
-        } finally {
-            lock.unlock();
-        }
-        return entry.getValue();
+        // the entry may have been evicted or removed concurrently
+        return reschedule(entry) ? entry.getValue() : null;
     }
 
     @Override
     public V put(K key, V value, long timeoutMillis) {
-        TimeoutMapEntry<K, V> entry = new TimeoutMapEntry<>(key, value, timeoutMillis);
-        lock.lock();
+        IndexedEntry<K, V> entry = newEntry(key, value, timeoutMillis);
         try {
-            updateExpireTime(entry);
-            TimeoutMapEntry<K, V> result = map.put(key, entry);
+            IndexedEntry<K, V> result = map.put(key, entry);
+            schedule(entry);
+            unschedule(result);
             return unwrap(result);
         } finally {
-            lock.unlock();
             emitEvent(Put, key, value);
         }
     }
 
     @Override
     public V putIfAbsent(K key, V value, long timeoutMillis) {
-        TimeoutMapEntry<K, V> entry = new TimeoutMapEntry<>(key, value, timeoutMillis);
-        TimeoutMapEntry<K, V> result = null;
-        lock.lock();
+        IndexedEntry<K, V> entry = newEntry(key, value, timeoutMillis);
+        IndexedEntry<K, V> result = null;
         try {
-            updateExpireTime(entry);
             //Just make sure we don't override the old entry
             result = map.putIfAbsent(key, entry);
+            if (result == null) {
+                schedule(entry);
+            }
             return unwrap(result);
         } finally {
-            lock.unlock();
-            if (result != entry) {
+            if (result == null) {
                 emitEvent(Put, key, value); // conditional on map being changed
             }
         }
@@ -134,22 +134,17 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
     @Override
     public V remove(K key) {
-        // if no contains, the lock is not necessary
-        if (!map.containsKey(key)) {
+        IndexedEntry<K, V> entry = map.remove(key);
+        if (entry == null) {
             return null;
         }
 
-        V value = null;
-        lock.lock();
-        try {
-            value = unwrap(map.remove(key));
-            return value;
-        } finally {
-            lock.unlock();
-            if (value != null) {
-                emitEvent(Remove, key, value); // conditional on map being changed
-            }
+        unschedule(entry);
+        V value = entry.getValue();
+        if (value != null) {
+            emitEvent(Remove, key, value); // conditional on map being changed
         }
+        return value;
     }
 
     @Override
@@ -157,6 +152,14 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         return map.size();
     }
 
+    /**
+     * Whether there is an entry for the given key. Unlike {@link #get(Object)} this does not update the expire time of
+     * the entry.
+     */
+    public boolean containsKey(K key) {
+        return map.containsKey(key);
+    }
+
     /**
      * The timer task which purges old requests and schedules another poll
      */
@@ -184,34 +187,29 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
         long now = currentTime();
 
-        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>(map.size());
-        lock.lock();
-        try {
-            // need to find the expired entries and add to the expired list
-            for (Map.Entry<K, TimeoutMapEntry<K, V>> entry : map.entrySet()) {
-                if (entry.getValue().getExpireTime() < now) {
-                    if (isValidForEviction(entry.getValue())) {
-                        log.debug("Evicting inactive entry ID: {}", entry.getValue());
-                        expired.add(entry.getValue());
-                    }
-                }
+        // the expire times are in order, so we only need to visit the entries that have expired (the first expired first)
+        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>();
+        Iterator<Expiry<K, V>> it = expiries.iterator();
+        while (it.hasNext()) {
+            Expiry<K, V> expiry = it.next();
+            if (expiry.expireTime >= now) {
+                break;
             }
-
-            // if we found any expired then we need to sort, onEviction and remove
-            if (!expired.isEmpty()) {
-                // sort according to the expired time so we got the first expired first
-                expired.sort(comparing(TimeoutMapEntry::getExpireTime));
-
-                // and must remove from list after we have fired the notifications
-                for (TimeoutMapEntry<K, V> entry : expired) {
-                    map.remove(entry.getKey());
+            IndexedEntry<K, V> entry = expiry.entry;
+            if (entry.expiry.get() != expiry || map.get(entry.getKey()) != entry) {
+                // the entry has been rescheduled, replaced or removed in the meantime
+                it.remove();
+            } else if (isValidForEviction(entry) && entry.expiry.compareAndSet(expiry, null)) {
+                it.remove();
+                if (map.remove(entry.getKey(), entry)) {
+                    log.debug("Evicting inactive entry ID: {}", entry);
+                    expired.add(entry);
                 }
             }
-        } finally {
-            lock.unlock();
-            for (TimeoutMapEntry<K, V> entry : expired) {
-                emitEvent(Evict, entry.getKey(), entry.getValue());
-            }
+        }
+
+        for (TimeoutMapEntry<K, V> entry : expired) {
+            emitEvent(Evict, entry.getKey(), entry.getValue());
         }
     }
 
@@ -233,6 +231,45 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         return entry == null ? null : entry.getValue();
     }
 
+    private IndexedEntry<K, V> newEntry(K key, V value, long timeoutMillis) {
+        IndexedEntry<K, V> entry = new IndexedEntry<>(key, value, timeoutMillis);
+        updateExpireTime(entry);
+        entry.expiry.set(new Expiry<>(entry.getExpireTime(), sequence.incrementAndGet(), entry));
+        return entry;
+    }
+
+    private void schedule(IndexedEntry<K, V> entry) {
+        Expiry<K, V> expiry = entry.expiry.get();
+        if (expiry != null) {
+            expiries.add(expiry);
+        }
+    }
+
+    private boolean reschedule(IndexedEntry<K, V> entry) {
+        updateExpireTime(entry);
+        Expiry<K, V> expiry = new Expiry<>(entry.getExpireTime(), sequence.incrementAndGet(), entry);
+        while (true) {
+            Expiry<K, V> current = entry.expiry.get();
+            if (current == null) {
+                return false;
+            }
+            if (entry.expiry.compareAndSet(current, expiry)) {
+                expiries.add(expiry);
+                expiries.remove(current);
+                return true;
+            }
+        }
+    }
+
+    private void unschedule(IndexedEntry<K, V> entry) {
+        if (entry != null) {
+            Expiry<K, V> expiry = entry.expiry.getAndSet(null);
+            if (expiry != null) {
+                expiries.remove(expiry);
+            }
+        }
+    }
+
     @Override
     public void addListener(Listener<K, V> listener) {
         this.listeners.add(listener);
@@ -288,13 +325,12 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         if (map.isEmpty()) {
             return;
         }
-        List<TimeoutMapEntry<K, V>> remaining;
-        lock.lock();
-        try {
-            remaining = new ArrayList<>(map.values());
-            map.clear();
-        } finally {
-            lock.unlock();
+        List<TimeoutMapEntry<K, V>> remaining = new ArrayList<>(map.size());
+        for (IndexedEntry<K, V> entry : map.values()) {
+            if (map.remove(entry.getKey(), entry)) {
+                unschedule(entry);
+                remaining.add(entry);
+            }
         }
         for (TimeoutMapEntry<K, V> entry : remaining) {
             emitEvent(Evict, entry.getKey(), entry.getValue());
@@ -309,6 +345,42 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         }
         // clear map if we stop
         map.clear();
+        expiries.clear();
+    }
+
+    /**
+     * An entry which refers to its current position in the ordered expire times.
+     */
+    private static final class IndexedEntry<K, V> extends TimeoutMapEntry<K, V> {
+
+        private final AtomicReference<Expiry<K, V>> expiry = new AtomicReference<>();
+
+        private IndexedEntry(K key, V value, long timeout) {
+            super(key, value, timeout);
+        }
+    }
+
+    /**
+     * The expire time of an entry, which is immutable, so the entry is rescheduled by adding a new expire time (and
+     * removing the old).
+     */
+    private static final class Expiry<K, V> implements Comparable<Expiry<K, V>> {
+
+        private final long expireTime;
+        private final long sequence;
+        private final IndexedEntry<K, V> entry;
+
+        private Expiry(long expireTime, long sequence, IndexedEntry<K, V> entry) {
+            this.expireTime = expireTime;
+            this.sequence = sequence;
+            this.entry = entry;
+        }
+
+        @Override
+        public int compareTo(Expiry<K, V> o) {
+            int answer = Long.compare(expireTime, o.expireTime);
+            return answer != 0 ? answer : Long.compare(sequence, o.sequence);
+        }
     }
 
 }
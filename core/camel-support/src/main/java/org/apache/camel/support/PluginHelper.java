@@ -29,8 +29,10 @@ import org.apache.camel.spi.BackOffTimerFactory;
 import org.apache.camel.spi.BeanIntrospection;
 import org.apache.camel.spi.BeanProcessorFactory;
 import org.apache.camel.spi.BeanProxyFactory;
+import org.apache.camel.spi.BufferPool;
 import org.apache.camel.spi.CamelBeanPostProcessor;
 import org.apache.camel.spi.CamelDependencyInjectionAnnotationFactory;
+import org.apache.camel.spi.CompiledExpressionCache;
 import org.apache.camel.spi.ComponentNameResolver;
 import org.apache.camel.spi.ComponentResolver;
 import org.apache.camel.spi.ConfigurerResolver;
@@ -313,6 +315,34 @@ public final class PluginHelper {
         return extendedCamelContext.getContextPlugin(PeriodTaskScheduler.class);
     }
 
+    /**
+     * Gets the compiled expression cache
+     */
+    public static CompiledExpressionCache getCompiledExpressionCache(CamelContext camelContext) {
+        return getCompiledExpressionCache(camelContext.getCamelContextExtension());
+    }
+
+    /**
+     * Gets the compiled expression cache
+     */
+    public static CompiledExpressionCache getCompiledExpressionCache(ExtendedCamelContext extendedCamelContext) {
+        return extendedCamelContext.getContextPlugin(CompiledExpressionCache.class);
+    }
+
+    /**
+     * Gets the buffer pool
+     */
+    public static BufferPool getBufferPool(CamelContext camelContext) {
+        return getBufferPool(camelContext.getCamelContextExtension());
+    }
+
+    /**
+     * Gets the buffer pool
+     */
+    public static BufferPool getBufferPool(ExtendedCamelContext extendedCamelContext) {
+        return extendedCamelContext.getContextPlugin(BufferPool.class);
+    }
+
     /**
      * Gets the current health check resolver
      */
@@ -0,0 +1,881 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.Scanner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which uses a memory-mapped append
+ * log and an on-disk hash index, so lookups take constant time regardless of the number of keys in the file store.
+ * <p/>
+ * The keys are appended to the file store in the order they are added, and the index (stored in a file next to the
+ * file store with the <tt>.index</tt> extension) maps the fingerprint of each key to its position in the file store.
+ * Removed keys are marked as deleted in the file store. When the file store grows bigger than the maximum capacity,
+ * then the file store is compacted in the background (when a {@link CamelContext} is configured), where the removed
+ * entries and at least {@link #getDropOldestFileStore()} (is default 1000) number of oldest entries are dropped. More
+ * of the oldest entries are dropped until the file store is below three quarters of the maximum capacity.
+ * <p/>
+ * The compaction writes new files which replace the file store and the index. On Windows a file cannot be replaced
+ * while it is memory-mapped, and a mapping is only released when it is garbage collected, so the compaction can fail
+ * there, in which case the existing file store is kept (and keeps growing).
+ * <p/>
+ * A file store written by {@link FileIdempotentRepository} (one key per line) is converted on startup.
+ */
+@Metadata(label = "bean",
+          description = "A file based idempotent repository that uses a memory-mapped append log and an on-disk hash index"
+                        + " for constant time lookups.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Memory-mapped file based idempotent repository")
+public class MemoryMappedFileIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MemoryMappedFileIdempotentRepository.class);
+
+    private static final long LOG_MAGIC = 0x43414d454c4c4f47L; // CAMELLOG
+    private static final long INDEX_MAGIC = 0x43414d454c494458L; // CAMELIDX
+    private static final int LOG_HEADER = 16;
+    private static final int INDEX_HEADER = 48;
+    private static final int SLOT_SIZE = 16;
+    private static final int CHUNK_SIZE = 16 * 1024 * 1024;
+    private static final int INITIAL_INDEX_CAPACITY = 1024;
+    private static final byte LIVE = 1;
+    private static final byte DELETED = 2;
+
+    private final Lock lock = new ReentrantLock();
+    private CamelContext camelContext;
+    private ExecutorService compactionExecutor;
+    private MappedLog log;
+    private MappedIndex index;
+    private volatile boolean compacting;
+    private Set<String> removedDuringCompaction;
+
+    @Metadata(description = "File name of the repository (incl directory)", required = true)
+    private File fileStore;
+    @Metadata(description = "The maximum file size for the file store in bytes, before the file store is compacted."
+                            + " The default value is 32mb",
+              defaultValue = "" + 32 * 1024 * 1000L)
+    private long maxFileStoreSize = 32 * 1024 * 1000L; // 32mb store file
+    @Metadata(description = "Sets the number of oldest entries to drop from the file store when the file store is compacted,"
+                            + " to allow room for new entries.",
+              defaultValue = "1000")
+    private long dropOldestFileStore = 1000;
+
+    public MemoryMappedFileIdempotentRepository() {
+    }
+
+    public MemoryMappedFileIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new memory-mapped file based repository.
+     *
+     * @param fileStore the file store
+     */
+    public static IdempotentRepository memoryMappedFileIdempotentRepository(File fileStore) {
+        return new MemoryMappedFileIdempotentRepository(fileStore);
+    }
+
+    /**
+     * Creates a new memory-mapped file based repository.
+     *
+     * @param fileStore        the file store
+     * @param maxFileStoreSize the max size in bytes for the filestore file, before it is compacted
+     */
+    public static IdempotentRepository memoryMappedFileIdempotentRepository(File fileStore, long maxFileStoreSize) {
+        MemoryMappedFileIdempotentRepository repository = new MemoryMappedFileIdempotentRepository(fileStore);
+        repository.setMaxFileStoreSize(maxFileStoreSize);
+        return repository;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        long fp = SegmentedMemoryIdempotentRepository.fingerprint(key);
+        boolean compact = false;
+        lock.lock();
+        try {
+            if (index.find(fp, data, log) >= 0) {
+                return false;
+            }
+            long pos = log.append(data);
+            index.insert(fp, pos);
+            if (maxFileStoreSize > 0 && log.position() > maxFileStoreSize) {
+                compact = startCompaction();
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+
+        if (compact) {
+            LOG.debug("Maximum capacity of file store: {} hit at {} bytes. Compacting the file store", fileStore,
+                    maxFileStoreSize);
+            if (compactionExecutor != null) {
+                compactionExecutor.execute(this::doCompact);
+            } else {
+                doCompact();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        long fp = SegmentedMemoryIdempotentRepository.fingerprint(key);
+        lock.lock();
+        try {
+            return index.find(fp, data, log) >= 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        long fp = SegmentedMemoryIdempotentRepository.fingerprint(key);
+        lock.lock();
+        try {
+            long slot = index.find(fp, data, log);
+            if (slot < 0) {
+                return false;
+            }
+            log.markDeleted(index.position(slot));
+            index.delete(slot);
+            if (compacting) {
+                removedDuringCompaction.add(key);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        lock.lock();
+        try {
+            log.close();
+            index.close(true);
+            FileUtil.deleteFile(fileStore);
+            FileUtil.deleteFile(indexFile(fileStore));
+            log = MappedLog.open(fileStore.toPath());
+            index = MappedIndex.create(indexFile(fileStore).toPath(), INITIAL_INDEX_CAPACITY);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Compacts the file store, by dropping the oldest and the removed entries. Does nothing if the file store is
+     * already being compacted.
+     */
+    @ManagedOperation(description = "Compacts the file store, by dropping the oldest and the removed entries")
+    public void compact() {
+        boolean compact;
+        lock.lock();
+        try {
+            compact = startCompaction();
+        } finally {
+            lock.unlock();
+        }
+        if (compact) {
+            doCompact();
+        } else {
+            LOG.debug("Idempotent filestore: {} is already being compacted", fileStore);
+        }
+    }
+
+    /**
+     * Marks the file store as being compacted, which must be done while holding the lock.
+     *
+     * @return <tt>true</tt> if the caller must compact the file store, <tt>false</tt> if it is already being compacted
+     */
+    private boolean startCompaction() {
+        if (compacting) {
+            return false;
+        }
+        compacting = true;
+        removedDuringCompaction = new HashSet<>();
+        return true;
+    }
+
+    private void doCompact() {
+        Path tmpLog = tmpFile(fileStore).toPath();
+        Path tmpIndex = tmpFile(indexFile(fileStore)).toPath();
+        MappedLog target = null;
+        MappedIndex targetIndex = null;
+        try {
+            long end;
+            MappedLog source;
+            List<MappedByteBuffer> chunks;
+            lock.lock();
+            try {
+                source = log;
+                end = log.position();
+                // the chunks are mapped as keys are added, so take a snapshot to copy from without holding the lock
+                chunks = log.snapshot(end);
+            } finally {
+                lock.unlock();
+            }
+
+            Files.deleteIfExists(tmpLog);
+            Files.deleteIfExists(tmpIndex);
+            target = MappedLog.open(tmpLog);
+            targetIndex = MappedIndex.create(tmpIndex, INITIAL_INDEX_CAPACITY);
+            MappedLog copyLog = target;
+            MappedIndex copyIndex = targetIndex;
+            // drop the oldest entries, and keep dropping until the file store is below the low-water mark,
+            // so the file store is not compacted again after only a few more keys are added
+            long[] remaining = new long[1];
+            source.forEach(chunks, LOG_HEADER, end, data -> remaining[0] += 5 + data.length);
+            long lowWaterMark = maxFileStoreSize > 0 ? maxFileStoreSize / 4 * 3 : Long.MAX_VALUE;
+            // copy the entries while keys can still be added, except for the dropped entries
+            long[] dropped = new long[1];
+            source.forEach(chunks, LOG_HEADER, end, data -> {
+                if (dropped[0] < dropOldestFileStore || remaining[0] > lowWaterMark) {
+                    dropped[0]++;
+                    remaining[0] -= 5 + data.length;
+                } else {
+                    copy(data, copyLog, copyIndex);
+                }
+            });
+
+            lock.lock();
+            try {
+                if (source != log) {
+                    // the store was cleared or stopped in the meantime
+                    target.close();
+                    targetIndex.close(true);
+                    return;
+                }
+                // copy the entries added in the meantime, and apply the keys removed in the meantime
+                source.forEach(end, source.position(), data -> copy(data, copyLog, copyIndex));
+                for (String key : removedDuringCompaction) {
+                    byte[] data = key.getBytes(StandardCharsets.UTF_8);
+                    long slot = targetIndex.find(SegmentedMemoryIdempotentRepository.fingerprint(key), data, target);
+                    if (slot >= 0) {
+                        target.markDeleted(targetIndex.position(slot));
+                        targetIndex.delete(slot);
+                    }
+                }
+                // replace the file store first, so it is kept as-is if it cannot be replaced (such as on Windows)
+                Files.move(tmpLog, fileStore.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                log.close();
+                log = target;
+                target = null;
+                try {
+                    Files.move(tmpIndex, indexFile(fileStore).toPath(), StandardCopyOption.REPLACE_EXISTING);
+                    index.close(true);
+                } catch (IOException e) {
+                    // the old index is not marked as closed cleanly, so it is rebuilt from the file store on startup
+                    LOG.warn("Cannot replace the index of idempotent filestore: {} due to {}."
+                             + " The index is rebuilt on startup.",
+                            fileStore, e.getMessage());
+                    index.close(false);
+                }
+                index = targetIndex;
+                targetIndex = null;
+                LOG.debug("Compacted idempotent filestore: {} dropping {} oldest entries to {} bytes", fileStore,
+                        dropped[0], log.position());
+            } finally {
+                lock.unlock();
+            }
+        } catch (Exception e) {
+            if (target != null) {
+                target.close();
+            }
+            if (targetIndex != null) {
+                targetIndex.close(true);
+            }
+            LOG.warn("Error compacting idempotent filestore: {} due to {}. This exception is ignored.", fileStore,
+                    e.getMessage(), e);
+        } finally {
+            lock.lock();
+            try {
+                removedDuringCompaction = null;
+                compacting = false;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static void copy(byte[] data, MappedLog target, MappedIndex targetIndex) {
+        try {
+            long fp = SegmentedMemoryIdempotentRepository.fingerprint(new String(data, StandardCharsets.UTF_8));
+            targetIndex.insert(fp, target.append(data));
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The file path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    @ManagedAttribute(description = "The maximum file size for the file store in bytes")
+    public long getMaxFileStoreSize() {
+        return maxFileStoreSize;
+    }
+
+    /**
+     * Sets the maximum file size for the file store in bytes, before the file store is compacted. You can set the value
+     * to 0 or negative to turn this off, and have unlimited file store size.
+     * <p/>
+     * The default is 32mb.
+     */
+    public void setMaxFileStoreSize(long maxFileStoreSize) {
+        this.maxFileStoreSize = maxFileStoreSize;
+    }
+
+    @ManagedAttribute(description = "Number of oldest elements to drop from file store when compacting")
+    public long getDropOldestFileStore() {
+        return dropOldestFileStore;
+    }
+
+    /**
+     * Sets the number of oldest entries to drop from the file store when the file store is compacted, to allow room for
+     * new entries. More entries are dropped if needed to shrink the file store below three quarters of the maximum
+     * file size.
+     * <p/>
+     * The default is 1000.
+     */
+    public void setDropOldestFileStore(long dropOldestFileStore) {
+        this.dropOldestFileStore = dropOldestFileStore;
+    }
+
+    @ManagedAttribute(description = "The number of keys in the file store")
+    public long getSize() {
+        lock.lock();
+        try {
+            return index != null ? index.count : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The current size of the file store in bytes")
+    public long getFileStoreSize() {
+        lock.lock();
+        try {
+            return log != null ? log.position() : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "Whether the file store is being compacted")
+    public boolean isCompacting() {
+        return compacting;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+
+        File parent = fileStore.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            LOG.warn("Cannot create the filestore directory at: {}", parent);
+        }
+
+        List<String> legacy = readLegacyStore(fileStore);
+        if (legacy != null) {
+            LOG.info("Converting idempotent filestore: {} with {} entries", fileStore, legacy.size());
+            FileUtil.deleteFile(fileStore);
+        }
+        log = MappedLog.open(fileStore.toPath());
+        File idx = indexFile(fileStore);
+        index = legacy == null ? MappedIndex.open(idx.toPath()) : null;
+        if (index == null) {
+            // the index is missing or was not closed cleanly, so rebuild it from the file store
+            FileUtil.deleteFile(idx);
+            index = MappedIndex.create(idx.toPath(), INITIAL_INDEX_CAPACITY);
+            log.forEach(LOG_HEADER, log.position(), data -> {
+                long fp = SegmentedMemoryIdempotentRepository.fingerprint(new String(data, StandardCharsets.UTF_8));
+                try {
+                    index.insert(fp, log.lastPosition);
+                } catch (IOException e) {
+                    throw RuntimeCamelException.wrapRuntimeCamelException(e);
+                }
+            });
+        }
+        if (legacy != null) {
+            for (String key : legacy) {
+                add(key);
+            }
+        }
+        LOG.debug("Loaded {} entries from idempotent filestore: {}", index.count, fileStore);
+
+        if (camelContext != null && compactionExecutor == null) {
+            compactionExecutor = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this,
+                    "MemoryMappedFileIdempotentRepositoryCompaction");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (compactionExecutor != null) {
+            camelContext.getExecutorServiceManager().shutdownGraceful(compactionExecutor);
+            compactionExecutor = null;
+        }
+        lock.lock();
+        try {
+            if (log != null) {
+                log.close();
+                log = null;
+            }
+            if (index != null) {
+                index.close(true);
+                index = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static File indexFile(File fileStore) {
+        return new File(fileStore.getPath() + ".index");
+    }
+
+    private static File tmpFile(File file) {
+        return new File(file.getPath() + ".compact");
+    }
+
+    /**
+     * Reads the keys of a file store written by {@link FileIdempotentRepository}, or returns null if the file store
+     * does not exist or is not in that format.
+     */
+    private static List<String> readLegacyStore(File file) throws IOException {
+        if (!file.exists() || file.length() == 0) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer bb = ByteBuffer.allocate(8);
+            channel.read(bb, 0);
+            if (bb.position() == 8 && bb.getLong(0) == LOG_MAGIC) {
+                return null;
+            }
+        }
+        List<String> answer = new ArrayList<>();
+        try (Scanner scanner = new Scanner(file, null, "\n")) {
+            while (scanner.hasNext()) {
+                answer.add(scanner.next());
+            }
+        }
+        return answer;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long position) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, position, CHUNK_SIZE);
+    }
+
+    /**
+     * The append log, which is memory-mapped in chunks. Each entry is stored as the length of the key, the state (live
+     * or deleted) and the key. An entry does not span chunks, and a length of -1 means the remainder of the chunk is
+     * unused.
+     */
+    private static final class MappedLog {
+
+        private final FileChannel channel;
+        private final List<MappedByteBuffer> chunks = new ArrayList<>();
+        private long position;
+        // the position of the last entry visited by forEach
+        private long lastPosition;
+
+        private MappedLog(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        static MappedLog open(Path path) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            MappedLog answer = new MappedLog(channel);
+            MappedByteBuffer header = answer.chunk(0);
+            if (header.getLong(0) != LOG_MAGIC) {
+                header.putLong(0, LOG_MAGIC);
+                header.putLong(8, LOG_HEADER);
+            }
+            answer.position = header.getLong(8);
+            return answer;
+        }
+
+        long position() {
+            return position;
+        }
+
+        long append(byte[] data) throws IOException {
+            int need = 5 + data.length;
+            if (need > CHUNK_SIZE) {
+                throw new IllegalArgumentException("Key is too long: " + data.length + " bytes");
+            }
+            int offset = (int) (position % CHUNK_SIZE);
+            if (offset + need > CHUNK_SIZE) {
+                if (CHUNK_SIZE - offset >= 4) {
+                    chunk(position / CHUNK_SIZE).putInt(offset, -1);
+                }
+                position = (position / CHUNK_SIZE + 1) * CHUNK_SIZE;
+                offset = 0;
+            }
+            long pos = position;
+            MappedByteBuffer chunk = chunk(pos / CHUNK_SIZE);
+            chunk.put(offset + 4, LIVE);
+            chunk.put(offset + 5, data);
+            // write the length last, as it marks the entry as complete
+            chunk.putInt(offset, data.length);
+            position += need;
+            chunks.get(0).putLong(8, position);
+            return pos;
+        }
+
+        boolean matches(long pos, byte[] data) {
+            MappedByteBuffer chunk = chunks.get((int) (pos / CHUNK_SIZE));
+            int offset = (int) (pos % CHUNK_SIZE);
+            if (chunk.getInt(offset) != data.length) {
+                return false;
+            }
+            for (int i = 0; i < data.length; i++) {
+                if (chunk.get(offset + 5 + i) != data[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void markDeleted(long pos) {
+            chunks.get((int) (pos / CHUNK_SIZE)).put((int) (pos % CHUNK_SIZE) + 4, DELETED);
+        }
+
+        /**
+         * Visits the live entries between the given positions
+         */
+        void forEach(long from, long to, Consumer<byte[]> consumer) throws IOException {
+            forEach(snapshot(to), from, to, consumer);
+        }
+
+        /**
+         * Visits the live entries between the given positions, using a snapshot of the mapped chunks which can be used
+         * while other threads append to the log.
+         */
+        void forEach(List<MappedByteBuffer> chunks, long from, long to, Consumer<byte[]> consumer) {
+            long pos = from;
+            while (pos < to) {
+                MappedByteBuffer chunk = chunks.get((int) (pos / CHUNK_SIZE));
+                int offset = (int) (pos % CHUNK_SIZE);
+                int len = CHUNK_SIZE - offset >= 4 ? chunk.getInt(offset) : -1;
+                if (len < 0) {
+                    pos = (pos / CHUNK_SIZE + 1) * CHUNK_SIZE;
+                    continue;
+                }
+                if (chunk.get(offset + 4) == LIVE) {
+                    byte[] data = new byte[len];
+                    chunk.get(offset + 5, data);
+                    lastPosition = pos;
+                    consumer.accept(data);
+                }
+                pos += 5 + len;
+            }
+        }
+
+        /**
+         * Returns a copy of the chunks, which are mapped up to the given position.
+         */
+        List<MappedByteBuffer> snapshot(long to) throws IOException {
+            if (to > 0) {
+                chunk((to - 1) / CHUNK_SIZE);
+            }
+            return List.copyOf(chunks);
+        }
+
+        private MappedByteBuffer chunk(long number) throws IOException {
+            while (chunks.size() <= number) {
+                chunks.add(map(channel, (long) chunks.size() * CHUNK_SIZE));
+            }
+            return chunks.get((int) number);
+        }
+
+        void close() {
+            if (!chunks.isEmpty()) {
+                chunks.get(0).force();
+            }
+            chunks.clear();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
+    /**
+     * The hash index, which is memory-mapped in chunks. The index uses open addressing (linear probing) with slots
+     * which holds the fingerprint of the key and the position of the key in the append log. When the index grows, the
+     * slots are rehashed into a table twice the size after the current table in the file, so the index never has to be
+     * held in memory. The space of the previous tables is reclaimed when the file store is compacted.
+     */
+    private static final class MappedIndex {
+
+        private final FileChannel channel;
+        private final List<MappedByteBuffer> chunks = new ArrayList<>();
+        private long capacity;
+        private long mask;
+        private long count;
+        // the offset of the table in the file
+        private long table;
+
+        private MappedIndex(FileChannel channel, long table, long capacity) throws IOException {
+            this.channel = channel;
+            this.table = table;
+            this.capacity = capacity;
+            this.mask = capacity - 1;
+            ensureMapped();
+        }
+
+        /**
+         * Opens an existing index, or returns null if the index does not exist or was not closed cleanly.
+         */
+        static MappedIndex open(Path path) throws IOException {
+            if (!Files.exists(path) || Files.size(path) < INDEX_HEADER) {
+                return null;
+            }
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer header = map(channel, 0);
+            if (header.getLong(0) != INDEX_MAGIC || header.getLong(24) != 1) {
+                channel.close();
+                return null;
+            }
+            MappedIndex answer = new MappedIndex(channel, header.getLong(32), header.getLong(8));
+            header = answer.chunks.get(0);
+            answer.count = header.getLong(16);
+            // mark as in use, so the index is rebuilt if not closed cleanly
+            header.putLong(24, 0);
+            return answer;
+        }
+
+        static MappedIndex create(Path path, long capacity) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            MappedIndex answer = new MappedIndex(channel, INDEX_HEADER, capacity);
+            MappedByteBuffer header = answer.chunks.get(0);
+            header.putLong(0, INDEX_MAGIC);
+            header.putLong(8, capacity);
+            header.putLong(16, 0);
+            header.putLong(24, 0);
+            header.putLong(32, INDEX_HEADER);
+            return answer;
+        }
+
+        long find(long fp, byte[] data, MappedLog log) {
+            long i = fp & mask;
+            for (;;) {
+                long pos = position(i);
+                if (pos == 0) {
+                    return -1;
+                } else if (fingerprint(i) == fp && log.matches(pos, data)) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+
+        void insert(long fp, long pos) throws IOException {
+            if ((count + 1) * 2 > capacity) {
+                grow();
+            }
+            put(fp, pos);
+            count++;
+            chunks.get(0).putLong(16, count);
+        }
+
+        void delete(long slot) {
+            // backward shift deletion, so there are no tombstones in the index
+            long i = slot;
+            long j = slot;
+            for (;;) {
+                set(i, 0, 0);
+                for (;;) {
+                    j = (j + 1) & mask;
+                    long pos = position(j);
+                    if (pos == 0) {
+                        count--;
+                        chunks.get(0).putLong(16, count);
+                        return;
+                    }
+                    long fp = fingerprint(j);
+                    long ideal = fp & mask;
+                    boolean between = i <= j ? i < ideal && ideal <= j : i < ideal || ideal <= j;
+                    if (!between) {
+                        set(i, fp, pos);
+                        i = j;
+                        break;
+                    }
+                }
+            }
+        }
+
+        long position(long slot) {
+            return getLong(table + slot * SLOT_SIZE + 8);
+        }
+
+        private long fingerprint(long slot) {
+            return getLong(table + slot * SLOT_SIZE);
+        }
+
+        private void put(long fp, long pos) {
+            long i = fp & mask;
+            while (position(i) != 0) {
+                i = (i + 1) & mask;
+            }
+            set(i, fp, pos);
+        }
+
+        private void set(long slot, long fp, long pos) {
+            long offset = table + slot * SLOT_SIZE;
+            MappedByteBuffer chunk = chunks.get((int) (offset / CHUNK_SIZE));
+            chunk.putLong((int) (offset % CHUNK_SIZE), fp);
+            chunk.putLong((int) (offset % CHUNK_SIZE) + 8, pos);
+        }
+
+        private long getLong(long offset) {
+            return chunks.get((int) (offset / CHUNK_SIZE)).getLong((int) (offset % CHUNK_SIZE));
+        }
+
+        private void ensureMapped() throws IOException {
+            long bytes = table + capacity * SLOT_SIZE;
+            while ((long) chunks.size() * CHUNK_SIZE < bytes) {
+                long start = (long) chunks.size() * CHUNK_SIZE;
+                // only the header and the current table are mapped
+                chunks.add(start == 0 || start + CHUNK_SIZE > table ? map(channel, start) : null);
+            }
+        }
+
+        /**
+         * Doubles the capacity of the index, by rehashing the slots into a new table after the current table.
+         */
+        private void grow() throws IOException {
+            long oldTable = table;
+            long oldCapacity = capacity;
+            table = oldTable + oldCapacity * SLOT_SIZE;
+            capacity = oldCapacity * 2;
+            mask = capacity - 1;
+            ensureMapped();
+            for (long offset = oldTable; offset < table; offset += SLOT_SIZE) {
+                long pos = getLong(offset + 8);
+                if (pos != 0) {
+                    put(getLong(offset), pos);
+                }
+            }
+            MappedByteBuffer header = chunks.get(0);
+            header.putLong(8, capacity);
+            header.putLong(32, table);
+            // release the chunks only holding previous tables, so they can be unmapped
+            for (int i = 1; i < table / CHUNK_SIZE; i++) {
+                chunks.set(i, null);
+            }
+        }
+
+        /**
+         * Closes the index, and marks the index as closed cleanly so it can be opened again, or otherwise the index is
+         * rebuilt from the file store on startup.
+         */
+        void close(boolean clean) {
+            if (!chunks.isEmpty()) {
+                if (clean) {
+                    chunks.get(0).putLong(24, 1);
+                }
+                for (MappedByteBuffer chunk : chunks) {
+                    if (chunk != null) {
+                        chunk.force();
+                    }
+                }
+            }
+            chunks.clear();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+}
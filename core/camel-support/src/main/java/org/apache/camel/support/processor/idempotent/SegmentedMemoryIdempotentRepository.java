@@ -0,0 +1,475 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * A memory based implementation of {@link org.apache.camel.spi.IdempotentRepository} which scales to tens of millions of
+ * keys.
+ * <p/>
+ * The keys are not stored as {@link String} objects, but as 64-bit fingerprints in primitive arrays, which are split
+ * into segments that are each guarded by their own lock, so concurrent threads rarely contend with each other. When the
+ * repository is full then the oldest keys of the segment a new key is added to are evicted first (FIFO), and keys can
+ * optionally expire a given time after they were added.
+ * <p/>
+ * As the keys are hashed then there is a tiny probability that two different keys have the same fingerprint, in which
+ * case a new key is regarded as a duplicate. For a repository holding 10 million keys this probability is about 1 in
+ * 370.000. Use {@link MemoryIdempotentRepository} if that is not acceptable.
+ */
+@Metadata(label = "bean",
+          description = "A memory based IdempotentRepository that stores hashed keys in segments, with optional expiry,"
+                        + " which scales to a large number of keys.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Segmented memory based idempotent repository")
+public class SegmentedMemoryIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    private static final int MAX_CACHE_SIZE = 1000;
+    private static final int SEGMENTS = 16;
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private volatile Segment[] segments;
+    private int segmentShift;
+    private int limit;
+
+    @Metadata(description = "Maximum number of keys that can be stored", defaultValue = "" + MAX_CACHE_SIZE)
+    private int cacheSize = MAX_CACHE_SIZE;
+    @Metadata(description = "Number of segments the keys are split into, where each segment has its own lock."
+                            + " The number is rounded up to a power of two.",
+              defaultValue = "" + SEGMENTS)
+    private int segmentCount = SEGMENTS;
+    @Metadata(description = "Time in millis after which a key expires, since it was added to the repository."
+                            + " The default value of 0 means that keys never expire.")
+    private long expireAfterWrite;
+
+    public SegmentedMemoryIdempotentRepository() {
+    }
+
+    /**
+     * Creates a new segmented memory based repository with a default of 1000 entries.
+     */
+    public static IdempotentRepository segmentedMemoryIdempotentRepository() {
+        return segmentedMemoryIdempotentRepository(MAX_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a new segmented memory based repository.
+     *
+     * @param cacheSize the maximum number of keys
+     */
+    public static IdempotentRepository segmentedMemoryIdempotentRepository(int cacheSize) {
+        return segmentedMemoryIdempotentRepository(cacheSize, 0);
+    }
+
+    /**
+     * Creates a new segmented memory based repository, where the keys expire after the given time.
+     *
+     * @param cacheSize        the maximum number of keys
+     * @param expireAfterWrite time in millis after which a key expires, or 0 to never expire
+     */
+    public static IdempotentRepository segmentedMemoryIdempotentRepository(int cacheSize, long expireAfterWrite) {
+        SegmentedMemoryIdempotentRepository answer = new SegmentedMemoryIdempotentRepository();
+        answer.setCacheSize(cacheSize);
+        answer.setExpireAfterWrite(expireAfterWrite);
+        ServiceHelper.startService(answer);
+        return answer;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        long fp = fingerprint(key);
+        return segmentFor(fp).add(fp, currentTime());
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        long fp = fingerprint(key);
+        return segmentFor(fp).contains(fp, currentTime());
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        long fp = fingerprint(key);
+        return segmentFor(fp).remove(fp);
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        Segment[] arr = segments;
+        if (arr != null) {
+            for (Segment segment : arr) {
+                segment.clear();
+            }
+        }
+    }
+
+    @ManagedAttribute(description = "The current cache size")
+    public int getCacheSize() {
+        return size.get();
+    }
+
+    @ManagedAttribute(description = "The maximum cache size")
+    public int getMaxCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Maximum number of keys that can be stored
+     */
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    @ManagedAttribute(description = "Number of segments")
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    /**
+     * Number of segments the keys are split into, where each segment has its own lock. The number is rounded up to a
+     * power of two.
+     */
+    public void setSegmentCount(int segmentCount) {
+        this.segmentCount = segmentCount;
+    }
+
+    @ManagedAttribute(description = "Time in millis after which a key expires")
+    public long getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    /**
+     * Time in millis after which a key expires, since it was added to the repository. The default value of 0 means that
+     * keys never expire.
+     */
+    public void setExpireAfterWrite(long expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    @ManagedAttribute(description = "Number of keys evicted because the repository was full")
+    public long getEvictedCount() {
+        return evicted.longValue();
+    }
+
+    @ManagedAttribute(description = "Number of keys that expired")
+    public long getExpiredCount() {
+        return expired.longValue();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        int max = cacheSize <= 0 ? MAX_CACHE_SIZE : cacheSize;
+        int count = Integer.highestOneBit(Math.max(1, segmentCount));
+        if (count < segmentCount) {
+            count = Math.min(count << 1, 1 << 16);
+        }
+        // do not use more segments than keys
+        while (count > 1 && count > max) {
+            count >>>= 1;
+        }
+        // the keys are not evenly spread over the segments, so allow a segment to grow larger than its share
+        int perSegment = (int) Math.min((long) (max + count - 1) / count * 2, Integer.MAX_VALUE - 8);
+        Segment[] arr = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            arr[i] = new Segment(perSegment, expireAfterWrite);
+        }
+        limit = max;
+        segmentShift = 64 - Integer.numberOfTrailingZeros(count);
+        segments = arr;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        clear();
+    }
+
+    private Segment segmentFor(long fp) {
+        Segment[] arr = segments;
+        // use the high bits to select the segment, and the low bits for the index within the segment
+        return arr.length == 1 ? arr[0] : arr[(int) (fp >>> segmentShift)];
+    }
+
+    private long currentTime() {
+        return expireAfterWrite > 0 ? System.currentTimeMillis() : 0;
+    }
+
+    /**
+     * Computes the 64-bit fingerprint of the key (never 0 as that is used as marker for removed keys).
+     */
+    static long fingerprint(String key) {
+        // FNV-1a over the chars followed by the murmur3 finalizer to spread the bits
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= key.length();
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+
+    /**
+     * A segment which stores the fingerprints in a ring buffer in the order they were added, and an open addressing
+     * index (linear probing) of the positions in the ring buffer.
+     */
+    private final class Segment {
+
+        private final Lock lock = new ReentrantLock();
+        private final int maxCapacity;
+        private final long ttl;
+        private long[] keys;
+        private long[] expires;
+        private int[] index;
+        private int mask;
+        private int head;
+        // number of used slots in the ring buffer (incl removed keys)
+        private int count;
+        private int size;
+
+        Segment(int maxCapacity, long ttl) {
+            this.maxCapacity = maxCapacity;
+            this.ttl = ttl;
+            allocate(Math.min(INITIAL_SEGMENT_CAPACITY, maxCapacity));
+        }
+
+        boolean add(long fp, long now) {
+            lock.lock();
+            try {
+                purgeExpired(now);
+                if (find(fp) >= 0) {
+                    return false;
+                }
+                if (size > 0 && SegmentedMemoryIdempotentRepository.this.size.get() >= limit) {
+                    evictOldest();
+                }
+                if (count == keys.length) {
+                    if (keys.length < maxCapacity) {
+                        rebuild((int) Math.min((long) keys.length * 2, maxCapacity));
+                    } else if (size <= count - (count >> 2)) {
+                        // too many removed keys so reclaim their slots
+                        rebuild(keys.length);
+                    } else {
+                        evictOldest();
+                    }
+                }
+                int pos = (head + count) % keys.length;
+                keys[pos] = fp;
+                if (expires != null) {
+                    expires[pos] = now + ttl;
+                }
+                count++;
+                incrementSize();
+                insertIndex(pos);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean contains(long fp, long now) {
+            lock.lock();
+            try {
+                purgeExpired(now);
+                return find(fp) >= 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean remove(long fp) {
+            lock.lock();
+            try {
+                int slot = find(fp);
+                if (slot < 0) {
+                    return false;
+                }
+                int pos = index[slot] - 1;
+                deleteIndex(slot);
+                // mark as removed, the slot is reclaimed when it becomes the oldest
+                keys[pos] = 0;
+                decrementSize();
+                while (count > 0 && keys[head] == 0) {
+                    evictHead();
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                SegmentedMemoryIdempotentRepository.this.size.addAndGet(-size);
+                allocate(Math.min(INITIAL_SEGMENT_CAPACITY, maxCapacity));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            expires = ttl > 0 ? new long[capacity] : null;
+            // keep the index at most half full
+            int len = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;
+            index = new int[len];
+            mask = len - 1;
+            head = 0;
+            count = 0;
+            size = 0;
+        }
+
+        private void rebuild(int capacity) {
+            long[] oldKeys = keys;
+            long[] oldExpires = expires;
+            int oldHead = head;
+            int oldCount = count;
+            allocate(capacity);
+            for (int i = 0; i < oldCount; i++) {
+                int pos = (oldHead + i) % oldKeys.length;
+                long fp = oldKeys[pos];
+                if (fp != 0) {
+                    keys[count] = fp;
+                    if (expires != null) {
+                        expires[count] = oldExpires[pos];
+                    }
+                    insertIndex(count);
+                    count++;
+                }
+            }
+            size = count;
+        }
+
+        private void purgeExpired(long now) {
+            if (expires == null) {
+                return;
+            }
+            // the keys are in the order they were added, so the oldest keys expire first
+            while (count > 0 && (keys[head] == 0 || expires[head] <= now)) {
+                if (keys[head] != 0) {
+                    expired.increment();
+                }
+                evictHead();
+            }
+        }
+
+        private void evictOldest() {
+            while (count > 0 && keys[head] == 0) {
+                evictHead();
+            }
+            if (count > 0) {
+                evictHead();
+                evicted.increment();
+            }
+        }
+
+        private void evictHead() {
+            long fp = keys[head];
+            if (fp != 0) {
+                deleteIndex(find(fp));
+                decrementSize();
+                keys[head] = 0;
+            }
+            head = (head + 1) % keys.length;
+            count--;
+        }
+
+        private void incrementSize() {
+            size++;
+            SegmentedMemoryIdempotentRepository.this.size.incrementAndGet();
+        }
+
+        private void decrementSize() {
+            size--;
+            SegmentedMemoryIdempotentRepository.this.size.decrementAndGet();
+        }
+
+        private int find(long fp) {
+            int i = (int) fp & mask;
+            for (;;) {
+                int p = index[i];
+                if (p == 0) {
+                    return -1;
+                } else if (keys[p - 1] == fp) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+
+        private void insertIndex(int pos) {
+            int i = (int) keys[pos] & mask;
+            while (index[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            index[i] = pos + 1;
+        }
+
+        private void deleteIndex(int slot) {
+            // backward shift deletion, so there are no tombstones in the index
+            int i = slot;
+            int j = slot;
+            for (;;) {
+                index[i] = 0;
+                for (;;) {
+                    j = (j + 1) & mask;
+                    int p = index[j];
+                    if (p == 0) {
+                        return;
+                    }
+                    int ideal = (int) keys[p - 1] & mask;
+                    boolean between = i <= j ? i < ideal && ideal <= j : i < ideal || ideal <= j;
+                    if (!between) {
+                        index[i] = p;
+                        i = j;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.support.processor.idempotent.SegmentedMemoryIdempotentRepository;
+import org.apache.camel.support.service.ServiceHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentedMemoryIdempotentRepositoryTest {
+
+    @Test
+    void addContainsRemove() throws Exception {
+        try (SegmentedMemoryIdempotentRepository repository = newRepository(100_000, 16, 0)) {
+            for (int i = 0; i < 100_000; i++) {
+                assertTrue(repository.add("key-" + i));
+            }
+            assertEquals(100_000, repository.getCacheSize());
+            for (int i = 0; i < 100_000; i++) {
+                assertTrue(repository.contains("key-" + i), "Repository should contain entry " + i);
+                assertFalse(repository.add("key-" + i));
+            }
+            assertFalse(repository.contains("key-100000"));
+
+            for (int i = 0; i < 100_000; i += 2) {
+                assertTrue(repository.remove("key-" + i));
+            }
+            assertFalse(repository.remove("key-0"));
+            assertEquals(50_000, repository.getCacheSize());
+            for (int i = 0; i < 100_000; i++) {
+                assertEquals(i % 2 == 1, repository.contains("key-" + i), "Entry " + i);
+            }
+
+            repository.clear();
+            assertEquals(0, repository.getCacheSize());
+            assertFalse(repository.contains("key-1"));
+        }
+    }
+
+    @Test
+    void repositoryEvictsOldestEntryWhenRepositoryIsFull() throws Exception {
+        try (SegmentedMemoryIdempotentRepository repository = newRepository(5, 1, 0)) {
+            for (int i = 0; i < 9; i++) {
+                repository.add(String.valueOf(i));
+            }
+            for (int i = 4; i < 9; i++) {
+                assertTrue(repository.contains(String.valueOf(i)), "Repository should contain entry " + i);
+            }
+            for (int i = 0; i < 4; i++) {
+                assertFalse(repository.contains(String.valueOf(i)), "Repository should not contain entry " + i);
+            }
+            assertEquals(4, repository.getEvictedCount());
+        }
+    }
+
+    @Test
+    void removedEntriesAreReclaimed() throws Exception {
+        try (SegmentedMemoryIdempotentRepository repository = newRepository(4, 1, 0)) {
+            repository.add("a");
+            repository.add("b");
+            repository.add("c");
+            repository.add("d");
+            repository.remove("b");
+            repository.add("e");
+
+            assertTrue(repository.contains("a"));
+            assertFalse(repository.contains("b"));
+            assertTrue(repository.contains("e"));
+            assertEquals(0, repository.getEvictedCount());
+        }
+    }
+
+    @Test
+    void entriesExpire() throws Exception {
+        try (SegmentedMemoryIdempotentRepository repository = newRepository(100, 4, 50)) {
+            assertTrue(repository.add("a"));
+            assertTrue(repository.contains("a"));
+
+            Thread.sleep(200);
+
+            assertFalse(repository.contains("a"));
+            assertTrue(repository.add("a"));
+            assertEquals(1, repository.getCacheSize());
+            assertEquals(1, repository.getExpiredCount());
+        }
+    }
+
+    @Test
+    void concurrentAdd() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (SegmentedMemoryIdempotentRepository repository = newRepository(100_000, 16, 0)) {
+            AtomicInteger added = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    // all threads add the same keys, so only one thread should succeed for each key
+                    for (int i = 0; i < 10_000; i++) {
+                        if (repository.add("key-" + i)) {
+                            added.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            assertEquals(10_000, added.get());
+            assertEquals(10_000, repository.getCacheSize());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static SegmentedMemoryIdempotentRepository newRepository(int cacheSize, int segments, long expireAfterWrite) {
+        SegmentedMemoryIdempotentRepository repository = new SegmentedMemoryIdempotentRepository();
+        repository.setCacheSize(cacheSize);
+        repository.setSegmentCount(segments);
+        repository.setExpireAfterWrite(expireAfterWrite);
+        ServiceHelper.startService(repository);
+        return repository;
+    }
+}
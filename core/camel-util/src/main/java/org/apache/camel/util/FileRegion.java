@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A region of a file, which can be used as message body to transfer the content of a file (or part of a file) without
+ * copying the content through user-space buffers.
+ * <p/>
+ * Components that write to a channel can use {@link #transferTo(WritableByteChannel)}, which uses
+ * {@link FileChannel#transferTo(long, long, WritableByteChannel)}, and components with native support for sending files
+ * (<tt>sendfile</tt>) can use the file, position and count of the region directly.
+ */
+public final class FileRegion {
+
+    private final Path file;
+    private final long position;
+    private final long count;
+
+    private FileRegion(Path file, long position, long count) {
+        this.file = Objects.requireNonNull(file, "file");
+        if (position < 0) {
+            throw new IllegalArgumentException("Position must not be negative: " + position);
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative: " + count);
+        }
+        this.position = position;
+        this.count = count;
+    }
+
+    /**
+     * Creates a region of the entire file.
+     */
+    public static FileRegion of(File file) throws IOException {
+        return of(file.toPath());
+    }
+
+    /**
+     * Creates a region of the entire file.
+     */
+    public static FileRegion of(Path file) throws IOException {
+        return new FileRegion(file, 0, Files.size(file));
+    }
+
+    /**
+     * Creates a region of the file.
+     *
+     * @param file     the file
+     * @param position the position in the file where the region starts
+     * @param count    the number of bytes in the region
+     */
+    public static FileRegion of(Path file, long position, long count) {
+        return new FileRegion(file, position, count);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Transfers the region to the given channel.
+     *
+     * @param  target      the channel to write to
+     * @return             the number of bytes transferred
+     * @throws IOException is thrown if the file could not be read, or the channel could not be written to
+     */
+    public long transferTo(WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return transferTo(channel, position, count, target);
+        }
+    }
+
+    /**
+     * Opens an input stream to read the content of the region, for components that can only read from a stream.
+     */
+    public InputStream newInputStream() throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            channel.position(position);
+            return new RegionInputStream(Channels.newInputStream(channel), count);
+        } catch (IOException e) {
+            IOHelper.close(channel);
+            throw e;
+        }
+    }
+
+    /**
+     * Transfers the given bytes from the file channel to the target channel, using
+     * {@link FileChannel#transferTo(long, long, WritableByteChannel)} which can let the operating system copy the bytes
+     * directly from the file, without copying them through user-space buffers.
+     *
+     * @param  source      the file channel to read from (its position is not changed)
+     * @param  position    the position in the file to start from
+     * @param  count       the number of bytes to transfer
+     * @param  target      the channel to write to
+     * @return             the number of bytes transferred, which is less than count if the end of the file is reached
+     * @throws IOException is thrown if the file could not be read, or the channel could not be written to
+     */
+    public static long transferTo(FileChannel source, long position, long count, WritableByteChannel target)
+            throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            long n = source.transferTo(position + transferred, count - transferred, target);
+            if (n <= 0) {
+                if (position + transferred >= source.size()) {
+                    // end of file
+                    break;
+                }
+                // the target did not accept any bytes (such as a non-blocking channel) so try again
+                Thread.yield();
+                continue;
+            }
+            transferred += n;
+        }
+        return transferred;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FileRegion that = (FileRegion) o;
+        return position == that.position && count == that.count && file.equals(that.file);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(file, position, count);
+    }
+
+    @Override
+    public String toString() {
+        return "FileRegion[" + file + ", position=" + position + ", count=" + count + "]";
+    }
+
+    /**
+     * Input stream which reads up to the end of the region.
+     */
+    private static final class RegionInputStream extends InputStream {
+
+        private final InputStream delegate;
+        private long remaining;
+
+        private RegionInputStream(InputStream delegate, long remaining) {
+            this.delegate = delegate;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = delegate.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = delegate.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(delegate.available(), remaining);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -214,6 +214,26 @@ public final class IOHelper {
             long maxSize)
             throws IOException {
 
+        bufferSize = getCopyBufferSize(input, bufferSize);
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Copying InputStream: {} -> OutputStream: {} with buffer: {} and flush on each write {}", input, output,
+                    bufferSize, flushOnEachWrite);
+        }
+
+        return copy(input, output, new byte[bufferSize], flushOnEachWrite, maxSize);
+    }
+
+    /**
+     * Calculates the size of the buffer to use for copying the data from the input stream, which is the number of bytes
+     * available in the input stream (if greater than the given buffer size), but capped to 256kb to avoid buffers too
+     * big.
+     *
+     * @param  input       the input stream
+     * @param  bufferSize  the preferred size of the buffer
+     * @return             the size of the buffer to use
+     * @throws IOException for I/O errors
+     */
+    public static int getCopyBufferSize(final InputStream input, int bufferSize) throws IOException {
         if (input instanceof ByteArrayInputStream) {
             // optimized for byte arrays as we only need the max size it can be
             input.mark(0);
@@ -230,14 +250,26 @@ public final class IOHelper {
             // upper cap to avoid buffers too big
             bufferSize = 262144;
         }
+        return bufferSize;
+    }
 
-        if (LOG.isTraceEnabled()) {
-            LOG.trace("Copying InputStream: {} -> OutputStream: {} with buffer: {} and flush on each write {}", input, output,
-                    bufferSize, flushOnEachWrite);
-        }
+    /**
+     * Copies the data from the input stream to the output stream using the given buffer, which allows to reuse buffers
+     * such as from a buffer pool. The entire buffer is used for reading.
+     *
+     * @param  input            the input stream buffer
+     * @param  output           the output stream buffer
+     * @param  buffer           the buffer used for the copies
+     * @param  flushOnEachWrite whether to flush the data everytime that data is written to the buffer
+     * @param  maxSize          the maximum number of bytes to copy, or 0 or negative for no limit
+     * @return                  the number of bytes copied
+     * @throws IOException      for I/O errors
+     */
+    public static int copy(
+            final InputStream input, final OutputStream output, final byte[] buffer, boolean flushOnEachWrite, long maxSize)
+            throws IOException {
 
         int total = 0;
-        final byte[] buffer = new byte[bufferSize];
         int n = input.read(buffer);
 
         boolean hasData;
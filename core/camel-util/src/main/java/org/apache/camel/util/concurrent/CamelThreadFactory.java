@@ -37,6 +37,19 @@ public final class CamelThreadFactory implements ThreadFactoryTypeAware {
         this.daemon = daemon;
     }
 
+    /**
+     * Creates a thread factory
+     *
+     * @param pattern the thread name pattern
+     * @param name    the name
+     * @param daemon  whether to create daemon threads
+     * @param virtual whether to always create virtual threads (not supported on JDK 17 where platform threads are
+     *                created)
+     */
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
+        this(pattern, name, daemon);
+    }
+
     @Override
     public boolean isVirtual() {
         return false;
@@ -0,0 +1,513 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ScheduledExecutorService} which uses a hashed wheel timer to keep track of the scheduled tasks.
+ * <p/>
+ * The {@link java.util.concurrent.ScheduledThreadPoolExecutor} keeps the scheduled tasks in a binary heap, which has
+ * logarithmic cost to schedule and cancel a task, and where all threads contend on the same lock. This implementation
+ * has constant cost to schedule and cancel a task, which makes it better suited when a large number of delayed tasks
+ * (such as redeliveries) are pending. The price to pay is precision, as the tasks are checked for expiry once per tick,
+ * so a task may be executed up to a tick duration later than requested.
+ * <p/>
+ * A single timer thread advances the wheel, and the expired tasks are executed by the given {@link Executor}, or by the
+ * timer thread if no executor is given. A task rejected by the executor is retried on the next tick, so the executor
+ * should not use a caller runs policy. The timer thread is started when the first task is scheduled.
+ * <p/>
+ * When shutdown, then the already scheduled one-shot tasks are still executed, but periodic tasks are not.
+ */
+public class HashedWheelScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HashedWheelScheduledExecutorService.class);
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_SHUTDOWN = 2;
+    private static final int STATE_STOPPED = 3;
+
+    private final ThreadFactory threadFactory;
+    private final Executor executor;
+    private final long tickDuration;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Task<?>> pendingTasks = new ConcurrentLinkedQueue<>();
+    private final Queue<Task<?>> cancelledTasks = new ConcurrentLinkedQueue<>();
+    private final LongAdder size = new LongAdder();
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final long startTime = System.nanoTime();
+    private volatile Thread timerThread;
+    private long tick;
+
+    /**
+     * Creates a new hashed wheel {@link ScheduledExecutorService} which executes the tasks on the timer thread, using
+     * a tick duration of 10 millis and 512 ticks per wheel.
+     *
+     * @param threadFactory factory for the timer thread
+     */
+    public HashedWheelScheduledExecutorService(ThreadFactory threadFactory) {
+        this(threadFactory, null, 10, TimeUnit.MILLISECONDS, 512);
+    }
+
+    /**
+     * Creates a new hashed wheel {@link ScheduledExecutorService}.
+     *
+     * @param threadFactory factory for the timer thread
+     * @param executor      the executor to execute the expired tasks, or <tt>null</tt> to execute on the timer thread
+     * @param tickDuration  the duration between ticks, which is the precision of the timer
+     * @param unit          the time unit of the tick duration
+     * @param ticksPerWheel the number of ticks per wheel (rounded up to a power of two)
+     */
+    public HashedWheelScheduledExecutorService(ThreadFactory threadFactory, Executor executor, long tickDuration,
+                                               TimeUnit unit, int ticksPerWheel) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("ticksPerWheel must be between 1 and 2^30: " + ticksPerWheel);
+        }
+        this.threadFactory = threadFactory != null ? threadFactory : Executors.defaultThreadFactory();
+        this.executor = executor;
+        this.tickDuration = Math.max(unit.toNanos(tickDuration), TimeUnit.MILLISECONDS.toNanos(1));
+        int length = 1;
+        while (length < ticksPerWheel) {
+            length <<= 1;
+        }
+        this.wheel = new Bucket[length];
+        for (int i = 0; i < length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = length - 1;
+    }
+
+    /**
+     * The tick duration in millis
+     */
+    public long getTickDuration() {
+        return TimeUnit.NANOSECONDS.toMillis(tickDuration);
+    }
+
+    /**
+     * The number of ticks per wheel
+     */
+    public int getTicksPerWheel() {
+        return wheel.length;
+    }
+
+    /**
+     * The number of tasks which are scheduled and not yet executed
+     */
+    public long size() {
+        return size.sum();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        Task<Void> task = new Task<>(command, null, triggerTime(delay, unit), 0);
+        return schedule(task);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        Task<V> task = new Task<>(callable, triggerTime(delay, unit), 0);
+        return schedule(task);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        Task<Void> task = new Task<>(command, null, triggerTime(initialDelay, unit), unit.toNanos(period));
+        return schedule(task);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay must be positive: " + delay);
+        }
+        Task<Void> task = new Task<>(command, null, triggerTime(initialDelay, unit), -unit.toNanos(delay));
+        return schedule(task);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        if (executor != null) {
+            if (state.get() >= STATE_SHUTDOWN) {
+                throw new RejectedExecutionException("Task " + command + " rejected as " + this + " is shutdown");
+            }
+            executor.execute(command);
+        } else {
+            schedule(command, 0, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (state.compareAndSet(STATE_INIT, STATE_STOPPED)) {
+            terminated.countDown();
+        } else {
+            state.compareAndSet(STATE_STARTED, STATE_SHUTDOWN);
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        if (state.compareAndSet(STATE_INIT, STATE_STOPPED)) {
+            terminated.countDown();
+            return new ArrayList<>();
+        }
+        state.set(STATE_STOPPED);
+        Thread thread = timerThread;
+        if (thread != null && thread != Thread.currentThread()) {
+            thread.interrupt();
+            boolean interrupted = false;
+            while (terminated.getCount() > 0) {
+                try {
+                    terminated.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return unprocessedTasks();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return state.get() >= STATE_SHUTDOWN;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return "HashedWheelScheduledExecutorService[tickDuration=" + getTickDuration() + "ms, ticksPerWheel="
+               + wheel.length + ", size=" + size() + "]";
+    }
+
+    private long triggerTime(long delay, TimeUnit unit) {
+        long nanos = unit.toNanos(Math.max(delay, 0));
+        // avoid overflow of the deadline for very large delays
+        return now() + Math.min(nanos, Long.MAX_VALUE / 2);
+    }
+
+    private long now() {
+        return System.nanoTime() - startTime;
+    }
+
+    private <V> Task<V> schedule(Task<V> task) {
+        if (state.get() >= STATE_SHUTDOWN) {
+            throw new RejectedExecutionException("Task " + task + " rejected as " + this + " is shutdown");
+        }
+        start();
+        size.increment();
+        pendingTasks.add(task);
+        return task;
+    }
+
+    private void start() {
+        if (state.get() == STATE_INIT && state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+            Thread thread = threadFactory.newThread(this::run);
+            timerThread = thread;
+            thread.start();
+        }
+    }
+
+    private void run() {
+        try {
+            while (state.get() < STATE_STOPPED) {
+                long deadline = waitForNextTick();
+                if (deadline < 0) {
+                    break;
+                }
+                transferPendingTasks();
+                processCancelledTasks();
+                wheel[(int) (tick & mask)].expire(deadline);
+                tick++;
+                if (state.get() == STATE_SHUTDOWN && size.sum() == 0) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            LOG.warn("Error in timer thread of {}. This exception is ignored.", this, e);
+        } finally {
+            state.set(STATE_STOPPED);
+            terminated.countDown();
+        }
+    }
+
+    private long waitForNextTick() {
+        long deadline = tickDuration * (tick + 1);
+        while (true) {
+            long current = now();
+            long sleep = deadline - current;
+            if (sleep <= 0) {
+                return current;
+            }
+            try {
+                Thread.sleep(TimeUnit.NANOSECONDS.toMillis(sleep + 999999));
+            } catch (InterruptedException e) {
+                if (state.get() == STATE_STOPPED) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferPendingTasks() {
+        // limit the number of tasks to transfer per tick, so a burst of scheduling does not starve the wheel
+        for (int i = 0; i < 100000; i++) {
+            Task<?> task = pendingTasks.poll();
+            if (task == null) {
+                return;
+            }
+            if (task.isCancelled()) {
+                size.decrement();
+                continue;
+            }
+            long calculated = task.deadline / tickDuration;
+            task.remainingRounds = (calculated - tick) / wheel.length;
+            // ensure we do not schedule into the past
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(task);
+        }
+    }
+
+    private void processCancelledTasks() {
+        Task<?> task;
+        while ((task = cancelledTasks.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+                size.decrement();
+            }
+        }
+    }
+
+    private void dispatch(Task<?> task) {
+        size.decrement();
+        if (executor != null) {
+            try {
+                executor.execute(task);
+                return;
+            } catch (RejectedExecutionException e) {
+                if (!(executor instanceof ExecutorService es && es.isShutdown())) {
+                    // the executor is busy, so keep the task and hand it over again on the next tick
+                    LOG.trace("Task {} rejected by {}. The task is retried on the next tick.", task, executor);
+                    size.increment();
+                    pendingTasks.add(task);
+                    return;
+                }
+                LOG.debug("Task {} rejected by {}. The task is executed by the timer thread instead.", task, executor);
+            }
+        }
+        task.run();
+    }
+
+    private List<Runnable> unprocessedTasks() {
+        List<Runnable> answer = new ArrayList<>();
+        for (Bucket bucket : wheel) {
+            bucket.drainTo(answer);
+        }
+        Task<?> task;
+        while ((task = pendingTasks.poll()) != null) {
+            if (!task.isCancelled()) {
+                answer.add(task);
+            }
+        }
+        size.reset();
+        return answer;
+    }
+
+    /**
+     * A bucket in the wheel, which is a doubly linked list of the tasks which expire in the same tick. A bucket is only
+     * accessed by the timer thread.
+     */
+    private final class Bucket {
+        private Task<?> head;
+        private Task<?> tail;
+
+        void add(Task<?> task) {
+            task.bucket = this;
+            if (head == null) {
+                head = tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+        }
+
+        void remove(Task<?> task) {
+            Task<?> next = task.next;
+            if (task.prev != null) {
+                task.prev.next = next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            }
+            if (task == head) {
+                head = next;
+            }
+            if (task == tail) {
+                tail = task.prev;
+            }
+            task.prev = null;
+            task.next = null;
+            task.bucket = null;
+        }
+
+        void expire(long deadline) {
+            Task<?> task = head;
+            while (task != null) {
+                Task<?> next = task.next;
+                if (task.isCancelled()) {
+                    remove(task);
+                    size.decrement();
+                } else if (task.remainingRounds <= 0 && task.deadline <= deadline) {
+                    remove(task);
+                    dispatch(task);
+                } else {
+                    task.remainingRounds--;
+                }
+                task = next;
+            }
+        }
+
+        void drainTo(List<Runnable> tasks) {
+            Task<?> task = head;
+            while (task != null) {
+                Task<?> next = task.next;
+                remove(task);
+                if (!task.isCancelled()) {
+                    tasks.add(task);
+                }
+                task = next;
+            }
+        }
+    }
+
+    /**
+     * A scheduled task
+     */
+    private final class Task<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+        // positive is fixed rate, negative is fixed delay and 0 is a one-shot task
+        private final long period;
+        private volatile long deadline;
+        // the following fields are only accessed by the timer thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private Task<?> next;
+        private Task<?> prev;
+
+        Task(Runnable runnable, V result, long deadline, long period) {
+            super(runnable, result);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        Task(Callable<V> callable, long deadline, long period) {
+            super(callable);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - now(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                // remove the task from the wheel on the next tick
+                cancelledTasks.add(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (runAndReset()) {
+                if (state.get() >= STATE_SHUTDOWN) {
+                    // periodic tasks are not executed after shutdown
+                    super.cancel(false);
+                    return;
+                }
+                deadline = period > 0 ? deadline + period : now() - period;
+                size.increment();
+                pendingTasks.add(this);
+            }
+        }
+    }
+}
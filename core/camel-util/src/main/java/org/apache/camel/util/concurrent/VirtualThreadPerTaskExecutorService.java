@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link ExecutorService} that runs each task in its own (virtual) thread, where the number of concurrent tasks is
+ * limited by a {@link java.util.concurrent.Semaphore} instead of the size of a thread pool and its task queue.
+ * <p>
+ * The executor can also keep track of the threads that recently ran its tasks, so virtual threads that are pinned to
+ * their carrier thread (such as blocking inside a {@code synchronized} block, or calling native code) can be attributed
+ * to this executor, via {@link #onPinned(long, long)}. The threads are remembered after the task is done, as the
+ * pinned events are reported afterwards, but only for the last {@link #TRACKED_THREADS} tasks to bound the memory
+ * used.
+ *
+ * @see BoundedExecutorService
+ */
+public class VirtualThreadPerTaskExecutorService extends BoundedExecutorService {
+
+    /**
+     * The number of threads that ran the most recent tasks which are tracked.
+     */
+    public static final int TRACKED_THREADS = 16 * 1024;
+
+    private final String name;
+    private final int maxConcurrentTasks;
+    private final LongAdder pinnedCount = new LongAdder();
+    private final LongAdder pinnedTime = new LongAdder();
+    private final AtomicLong maxPinnedTime = new AtomicLong();
+    // only created when the threads are tracked
+    private volatile ThreadTracker tracker;
+
+    /**
+     * @param name               the name of the executor
+     * @param delegate           the underlying executor (typically {@code newThreadPerTaskExecutor})
+     * @param maxConcurrentTasks the maximum number of concurrent tasks, or 0 or negative for unlimited
+     * @param acquireTimeout     the maximum time to wait for a permit (ignored when policy is {@code Block})
+     * @param timeUnit           the time unit for {@code acquireTimeout}
+     * @param rejectedPolicy     the policy to apply when no permit is available
+     */
+    public VirtualThreadPerTaskExecutorService(String name, ExecutorService delegate, int maxConcurrentTasks,
+                                               long acquireTimeout, TimeUnit timeUnit,
+                                               ThreadPoolRejectedPolicy rejectedPolicy) {
+        super(delegate, maxConcurrentTasks > 0 ? maxConcurrentTasks : Integer.MAX_VALUE, acquireTimeout, timeUnit,
+              false, rejectedPolicy);
+        this.name = name;
+        this.maxConcurrentTasks = Math.max(0, maxConcurrentTasks);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        ThreadTracker threadTracker = tracker;
+        if (threadTracker != null) {
+            super.execute(() -> {
+                threadTracker.track(Thread.currentThread().getId());
+                command.run();
+            });
+        } else {
+            super.execute(command);
+        }
+    }
+
+    /**
+     * The name of the executor
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The maximum number of concurrent tasks (0 means unlimited)
+     */
+    public int getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    /**
+     * Whether to keep track of the threads running the tasks, which is needed to detect pinned virtual threads.
+     */
+    public boolean isTrackThreads() {
+        return tracker != null;
+    }
+
+    /**
+     * Whether to keep track of the threads running the tasks, which is needed to detect pinned virtual threads.
+     */
+    public synchronized void setTrackThreads(boolean trackThreads) {
+        if (!trackThreads) {
+            tracker = null;
+        } else if (tracker == null) {
+            tracker = new ThreadTracker();
+        }
+    }
+
+    /**
+     * Whether the thread with the given id has run one of the recent tasks from this executor. As thread ids are not
+     * reused, this cannot match a thread from another executor.
+     */
+    public boolean hasRunTask(long threadId) {
+        ThreadTracker threadTracker = tracker;
+        return threadTracker != null && threadTracker.threads.contains(threadId);
+    }
+
+    /**
+     * Callback when a virtual thread was pinned to its carrier thread, while running a task from this executor.
+     *
+     * @param threadId the id of the pinned thread
+     * @param nanos    the duration the thread was pinned
+     */
+    public void onPinned(long threadId, long nanos) {
+        pinnedCount.increment();
+        pinnedTime.add(nanos);
+        maxPinnedTime.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * The number of times a virtual thread was pinned to its carrier thread
+     */
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    /**
+     * The total time (in millis) virtual threads were pinned to their carrier thread
+     */
+    public long getPinnedTotalTime() {
+        return TimeUnit.NANOSECONDS.toMillis(pinnedTime.sum());
+    }
+
+    /**
+     * The longest time (in millis) a virtual thread was pinned to its carrier thread
+     */
+    public long getPinnedMaxTime() {
+        return TimeUnit.NANOSECONDS.toMillis(maxPinnedTime.get());
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualThreadPerTaskExecutorService[name=" + name
+               + ", active=" + getActiveCount()
+               + ", max=" + (maxConcurrentTasks > 0 ? maxConcurrentTasks : "unlimited")
+               + ", waiting=" + getWaitingCount()
+               + ", callerRuns=" + getCallerRunsCount()
+               + ", rejected=" + getRejectedCount()
+               + ", delegated=" + getDelegatedTaskCount()
+               + ", pinned=" + getPinnedCount() + "]";
+    }
+
+    /**
+     * Remembers the threads of the most recent tasks in a ring, which forgets the thread of the oldest task.
+     */
+    private static final class ThreadTracker {
+
+        private final Set<Long> threads = ConcurrentHashMap.newKeySet();
+        private final AtomicLongArray ring = new AtomicLongArray(TRACKED_THREADS);
+        private final AtomicLong counter = new AtomicLong();
+
+        void track(long threadId) {
+            int slot = (int) (counter.getAndIncrement() % TRACKED_THREADS);
+            long oldest = ring.getAndSet(slot, threadId);
+            if (oldest != 0) {
+                threads.remove(oldest);
+            }
+            threads.add(threadId);
+        }
+    }
+}
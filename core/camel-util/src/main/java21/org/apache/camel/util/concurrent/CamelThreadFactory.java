@@ -32,10 +32,27 @@ public final class CamelThreadFactory implements ThreadFactoryTypeAware {
     private final ThreadFactoryType threadType;
 
     public CamelThreadFactory(String pattern, String name, boolean daemon) {
+        this(pattern, name, daemon, false);
+    }
+
+    /**
+     * Creates a thread factory
+     *
+     * @param pattern the thread name pattern
+     * @param name    the name
+     * @param daemon  whether to create daemon threads
+     * @param virtual whether to always create virtual threads, regardless of the system property
+     *                {@code camel.threads.virtual.enabled}
+     */
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
         this.pattern = pattern;
         this.name = name;
         this.daemon = daemon;
-        this.threadType = daemon ? ThreadFactoryType.current() : ThreadFactoryType.PLATFORM;
+        if (virtual) {
+            this.threadType = ThreadFactoryType.VIRTUAL;
+        } else {
+            this.threadType = daemon ? ThreadFactoryType.current() : ThreadFactoryType.PLATFORM;
+        }
     }
 
     @Override
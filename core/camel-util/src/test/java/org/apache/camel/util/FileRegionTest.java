@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FileRegionTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testTransferTo() throws IOException {
+        Path file = Files.writeString(dir.resolve("hello.txt"), "Hello World");
+
+        FileRegion region = FileRegion.of(file);
+        assertEquals(0, region.getPosition());
+        assertEquals(11, region.getCount());
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        assertEquals(11, region.transferTo(Channels.newChannel(bos)));
+        assertEquals("Hello World", bos.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testTransferToPartOfFile() throws IOException {
+        Path file = Files.writeString(dir.resolve("hello.txt"), "Hello World");
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        assertEquals(3, FileRegion.of(file, 6, 3).transferTo(Channels.newChannel(bos)));
+        assertEquals("Wor", bos.toString(StandardCharsets.UTF_8));
+
+        // the region is beyond the end of the file
+        bos.reset();
+        assertEquals(5, FileRegion.of(file, 6, 100).transferTo(Channels.newChannel(bos)));
+        assertEquals("World", bos.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testNewInputStream() throws IOException {
+        Path file = Files.writeString(dir.resolve("hello.txt"), "Hello World");
+
+        try (InputStream is = FileRegion.of(file, 2, 7).newInputStream()) {
+            assertEquals('l', is.read());
+            assertEquals("lo Wor", new String(is.readAllBytes(), StandardCharsets.UTF_8));
+            assertEquals(-1, is.read());
+        }
+    }
+
+    @Test
+    public void testInvalidRegion() {
+        Path file = dir.resolve("hello.txt");
+
+        assertThrows(IllegalArgumentException.class, () -> FileRegion.of(file, -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> FileRegion.of(file, 0, -1));
+    }
+
+    @Test
+    public void testEquals() {
+        Path file = dir.resolve("hello.txt");
+
+        assertEquals(FileRegion.of(file, 1, 2), FileRegion.of(file, 1, 2));
+        assertEquals(FileRegion.of(file, 1, 2).hashCode(), FileRegion.of(file, 1, 2).hashCode());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HashedWheelScheduledExecutorServiceTest {
+
+    private ExecutorService workers;
+    private HashedWheelScheduledExecutorService timer;
+
+    @BeforeEach
+    public void setUp() {
+        workers = Executors.newFixedThreadPool(4);
+        timer = new HashedWheelScheduledExecutorService(
+                new CamelThreadFactory("#name#", "HashedWheelTimer", true), workers, 5, TimeUnit.MILLISECONDS, 16);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        timer.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    @Test
+    public void testSchedule() throws Exception {
+        int size = 1000;
+        CountDownLatch latch = new CountDownLatch(size);
+        long start = System.nanoTime();
+        for (int i = 0; i < size; i++) {
+            // spread the delays over several rounds of the wheel
+            timer.schedule(latch::countDown, i % 200, TimeUnit.MILLISECONDS);
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(199));
+        assertEquals(0, timer.size());
+    }
+
+    @Test
+    public void testNotExecutedBeforeDelay() throws Exception {
+        long start = System.nanoTime();
+        ScheduledFuture<Long> future = timer.schedule(System::nanoTime, 100, TimeUnit.MILLISECONDS);
+        long executed = future.get(5, TimeUnit.SECONDS);
+        assertTrue(executed - start >= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        ScheduledFuture<?> future = timer.schedule(counter::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        timer.schedule(counter::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        assertTrue(future.cancel(false));
+        assertTrue(future.isCancelled());
+
+        ScheduledFuture<?> last = timer.schedule(() -> {
+        }, 150, TimeUnit.MILLISECONDS);
+        last.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, counter.get());
+        assertEquals(0, timer.size());
+    }
+
+    @Test
+    public void testScheduleWithFixedDelay() throws Exception {
+        CountDownLatch latch = new CountDownLatch(5);
+        ScheduledFuture<?> future = timer.scheduleWithFixedDelay(latch::countDown, 0, 10, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        future.cancel(false);
+        assertTrue(future.isDone());
+    }
+
+    @Test
+    public void testRejectedByExecutor() throws Exception {
+        AtomicInteger rejected = new AtomicInteger();
+        Executor busy = command -> {
+            // reject the first hand-overs as if the workers are busy
+            if (rejected.incrementAndGet() <= 3) {
+                throw new RejectedExecutionException();
+            }
+            workers.execute(command);
+        };
+        HashedWheelScheduledExecutorService other = new HashedWheelScheduledExecutorService(
+                new CamelThreadFactory("#name#", "HashedWheelTimer", true), busy, 5, TimeUnit.MILLISECONDS, 16);
+        try {
+            ScheduledFuture<String> future
+                    = other.schedule(() -> Thread.currentThread().getName(), 10, TimeUnit.MILLISECONDS);
+            // the task is retried on the next ticks and not executed by the timer thread
+            assertNotEquals("HashedWheelTimer", future.get(5, TimeUnit.SECONDS));
+            assertEquals(4, rejected.get());
+            assertEquals(0, other.size());
+        } finally {
+            other.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testShutdown() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+        timer.shutdown();
+
+        assertTrue(timer.isShutdown());
+        assertThrows(RejectedExecutionException.class,
+                () -> timer.schedule(latch::countDown, 0, TimeUnit.MILLISECONDS));
+
+        // already scheduled tasks are still executed
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(timer.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testShutdownNow() {
+        AtomicInteger counter = new AtomicInteger();
+        timer.schedule(counter::incrementAndGet, 10, TimeUnit.SECONDS);
+        timer.schedule(counter::incrementAndGet, 20, TimeUnit.SECONDS);
+
+        List<Runnable> tasks = timer.shutdownNow();
+        assertEquals(2, tasks.size());
+        assertTrue(timer.isTerminated());
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void testNotStarted() throws Exception {
+        HashedWheelScheduledExecutorService other
+                = new HashedWheelScheduledExecutorService(new CamelThreadFactory("#name#", "HashedWheelTimer", true));
+        assertFalse(other.isShutdown());
+        other.shutdown();
+        assertTrue(other.awaitTermination(1, TimeUnit.SECONDS));
+    }
+}
@@ -134,6 +134,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); yield true;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); yield true;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); yield true;
+                case "lockStripes": def.setLockStripes(val); yield true;
                 case "optimisticLocking": def.setOptimisticLocking(val); yield true;
                 case "optimisticLockingSyncRetry": def.setOptimisticLockingSyncRetry(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
@@ -567,6 +568,7 @@ public class ModelParser extends BaseParser {
                 case "aggregationStrategyMethodAllowNull": def.setAggregationStrategyMethodAllowNull(val); yield true;
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
+                case "maxInflight": def.setMaxInflight(val); yield true;
                 case "onPrepare": def.setOnPrepare(val); yield true;
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
@@ -1152,6 +1154,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); yield true;
                 case "group": def.setGroup(val); yield true;
                 case "maxFailedRecords": def.setMaxFailedRecords(val); yield true;
+                case "maxInflight": def.setMaxInflight(val); yield true;
                 case "onPrepare": def.setOnPrepare(val); yield true;
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
@@ -1238,12 +1241,14 @@ public class ModelParser extends BaseParser {
                 case "callerRunsWhenRejected": def.setCallerRunsWhenRejected(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
                 case "keepAliveTime": def.setKeepAliveTime(val); yield true;
+                case "maxConcurrentTasks": def.setMaxConcurrentTasks(val); yield true;
                 case "maxPoolSize": def.setMaxPoolSize(val); yield true;
                 case "maxQueueSize": def.setMaxQueueSize(val); yield true;
                 case "poolSize": def.setPoolSize(val); yield true;
                 case "rejectedPolicy": def.setRejectedPolicy(val); yield true;
                 case "threadName": def.setThreadName(val); yield true;
                 case "timeUnit": def.setTimeUnit(val); yield true;
+                case "virtualThreadPerTask": def.setVirtualThreadPerTask(val); yield true;
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
             }, optionalIdentifiedDefinitionElementHandler(), noValueHandler());
     }
@@ -794,6 +794,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute("optimisticLocking", def.getOptimisticLocking(), null);
         doWriteAttribute("optimisticLockingSyncRetry", def.getOptimisticLockingSyncRetry(), "false");
+        doWriteAttribute("lockStripes", def.getLockStripes(), null);
         doWriteAttribute("executorService", def.getExecutorService(), null);
         doWriteAttribute("timeoutCheckerExecutorService", def.getTimeoutCheckerExecutorService(), null);
         doWriteAttribute("aggregateController", def.getAggregateController(), null);
@@ -1237,6 +1238,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("parallelAggregate", def.getParallelAggregate(), null);
         doWriteAttribute("parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute("synchronous", def.getSynchronous(), null);
+        doWriteAttribute("maxInflight", def.getMaxInflight(), null);
         doWriteAttribute("streaming", def.getStreaming(), null);
         doWriteAttribute("stopOnException", def.getStopOnException(), null);
         doWriteAttribute("timeout", def.getTimeout(), "0");
@@ -1778,6 +1780,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("parallelAggregate", def.getParallelAggregate(), null);
         doWriteAttribute("parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute("synchronous", def.getSynchronous(), null);
+        doWriteAttribute("maxInflight", def.getMaxInflight(), null);
         doWriteAttribute("streaming", def.getStreaming(), null);
         doWriteAttribute("stopOnException", def.getStopOnException(), null);
         doWriteAttribute("timeout", def.getTimeout(), "0");
@@ -1852,6 +1855,8 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("threadName", def.getThreadName(), "Threads");
         doWriteAttribute("rejectedPolicy", def.getRejectedPolicy(), null);
         doWriteAttribute("callerRunsWhenRejected", def.getCallerRunsWhenRejected(), "true");
+        doWriteAttribute("virtualThreadPerTask", def.getVirtualThreadPerTask(), null);
+        doWriteAttribute("maxConcurrentTasks", def.getMaxConcurrentTasks(), null);
         endElement(name);
     }
     protected void doWriteThrottleDefinition(String name, ThrottleDefinition def) throws IOException {
@@ -787,6 +787,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute(jo, "optimisticLocking", def.getOptimisticLocking(), null);
         doWriteAttribute(jo, "optimisticLockingSyncRetry", def.getOptimisticLockingSyncRetry(), "false");
+        doWriteAttribute(jo, "lockStripes", def.getLockStripes(), null);
         doWriteAttribute(jo, "executorService", def.getExecutorService(), null);
         doWriteAttribute(jo, "timeoutCheckerExecutorService", def.getTimeoutCheckerExecutorService(), null);
         doWriteAttribute(jo, "aggregateController", def.getAggregateController(), null);
@@ -1232,6 +1233,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "parallelAggregate", def.getParallelAggregate(), null);
         doWriteAttribute(jo, "parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute(jo, "synchronous", def.getSynchronous(), null);
+        doWriteAttribute(jo, "maxInflight", def.getMaxInflight(), null);
         doWriteAttribute(jo, "streaming", def.getStreaming(), null);
         doWriteAttribute(jo, "stopOnException", def.getStopOnException(), null);
         doWriteAttribute(jo, "timeout", def.getTimeout(), "0");
@@ -1774,6 +1776,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "parallelAggregate", def.getParallelAggregate(), null);
         doWriteAttribute(jo, "parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute(jo, "synchronous", def.getSynchronous(), null);
+        doWriteAttribute(jo, "maxInflight", def.getMaxInflight(), null);
         doWriteAttribute(jo, "streaming", def.getStreaming(), null);
         doWriteAttribute(jo, "stopOnException", def.getStopOnException(), null);
         doWriteAttribute(jo, "timeout", def.getTimeout(), "0");
@@ -1848,6 +1851,8 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "threadName", def.getThreadName(), "Threads");
         doWriteAttribute(jo, "rejectedPolicy", def.getRejectedPolicy(), null);
         doWriteAttribute(jo, "callerRunsWhenRejected", def.getCallerRunsWhenRejected(), "true");
+        doWriteAttribute(jo, "virtualThreadPerTask", def.getVirtualThreadPerTask(), null);
+        doWriteAttribute(jo, "maxConcurrentTasks", def.getMaxConcurrentTasks(), null);
         return jo;
     }
     protected JsonObject doWriteThrottleDefinition(ThrottleDefinition def) {
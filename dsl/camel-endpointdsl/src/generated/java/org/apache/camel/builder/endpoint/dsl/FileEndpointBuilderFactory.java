@@ -415,8 +415,8 @@ public interface FileEndpointBuilderFactory {
          * eager or not. If eager then the limit is during the scanning of
          * files. Where as false would scan all files, and then perform sorting.
          * Setting this option to false allows for sorting all files first, and
-         * then limit the poll. Mind that this requires a higher memory usage as
-         * all file details are in memory to perform the sorting.
+         * then limit the poll. Mind that all files are scanned, however only as
+         * many files as the limit are kept in memory to perform the sorting.
          * 
          * The option is a: <code>boolean</code> type.
          * 
@@ -435,8 +435,8 @@ public interface FileEndpointBuilderFactory {
          * eager or not. If eager then the limit is during the scanning of
          * files. Where as false would scan all files, and then perform sorting.
          * Setting this option to false allows for sorting all files first, and
-         * then limit the poll. Mind that this requires a higher memory usage as
-         * all file details are in memory to perform the sorting.
+         * then limit the poll. Mind that all files are scanned, however only as
+         * many files as the limit are kept in memory to perform the sorting.
          * 
          * The option will be converted to a <code>boolean</code> type.
          * 
@@ -2509,6 +2509,52 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("startingDirectoryMustHaveAccess", startingDirectoryMustHaveAccess);
             return this;
         }
+        /**
+         * Whether the consumer should use the file system watch service to
+         * detect new and changed files, instead of listing the directories on
+         * every poll. The directories are only scanned in full when the
+         * consumer starts, and again if file system events have been lost. This
+         * reduces the cost of polling large directory trees, such as when using
+         * recursive. Files that are not picked up, for example when a read lock
+         * could not be acquired, are checked again on the following polls. When
+         * using noop, then a file is only checked again when it has been
+         * changed.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param useWatchService the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder useWatchService(boolean useWatchService) {
+            doSetProperty("useWatchService", useWatchService);
+            return this;
+        }
+        /**
+         * Whether the consumer should use the file system watch service to
+         * detect new and changed files, instead of listing the directories on
+         * every poll. The directories are only scanned in full when the
+         * consumer starts, and again if file system events have been lost. This
+         * reduces the cost of polling large directory trees, such as when using
+         * recursive. Files that are not picked up, for example when a read lock
+         * could not be acquired, are checked again on the following polls. When
+         * using noop, then a file is only checked again when it has been
+         * changed.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param useWatchService the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder useWatchService(String useWatchService) {
+            doSetProperty("useWatchService", useWatchService);
+            return this;
+        }
         /**
          * Automatically create missing directories in the file's pathname. For
          * the file consumer, that means creating the starting directory. For
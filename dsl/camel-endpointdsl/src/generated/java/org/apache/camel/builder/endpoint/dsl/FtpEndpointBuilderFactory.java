@@ -726,8 +726,8 @@ public interface FtpEndpointBuilderFactory {
          * eager or not. If eager then the limit is during the scanning of
          * files. Where as false would scan all files, and then perform sorting.
          * Setting this option to false allows for sorting all files first, and
-         * then limit the poll. Mind that this requires a higher memory usage as
-         * all file details are in memory to perform the sorting.
+         * then limit the poll. Mind that all files are scanned, however only as
+         * many files as the limit are kept in memory to perform the sorting.
          * 
          * The option is a: <code>boolean</code> type.
          * 
@@ -746,8 +746,8 @@ public interface FtpEndpointBuilderFactory {
          * eager or not. If eager then the limit is during the scanning of
          * files. Where as false would scan all files, and then perform sorting.
          * Setting this option to false allows for sorting all files first, and
-         * then limit the poll. Mind that this requires a higher memory usage as
-         * all file details are in memory to perform the sorting.
+         * then limit the poll. Mind that all files are scanned, however only as
+         * many files as the limit are kept in memory to perform the sorting.
          * 
          * The option will be converted to a <code>boolean</code> type.
          * 
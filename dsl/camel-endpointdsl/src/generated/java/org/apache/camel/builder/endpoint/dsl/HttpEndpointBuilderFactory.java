@@ -1426,6 +1426,46 @@ public interface HttpEndpointBuilderFactory {
             doSetProperty("httpActivityListener", httpActivityListener);
             return this;
         }
+        /**
+         * The HTTP protocol version policy to use when useAsyncClient is
+         * enabled. NEGOTIATE (default) uses TLS ALPN to negotiate HTTP/2 with
+         * secure servers, and falls back to HTTP/1.1. FORCE_HTTP_1 always uses
+         * HTTP/1.1. FORCE_HTTP_2 always uses HTTP/2, where requests to the same
+         * host are multiplexed over a single connection.
+         * 
+         * The option is a:
+         * <code>org.apache.hc.core5.http2.HttpVersionPolicy</code> type.
+         * 
+         * Default: NEGOTIATE
+         * Group: producer (advanced)
+         * 
+         * @param httpVersionPolicy the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder httpVersionPolicy(org.apache.hc.core5.http2.HttpVersionPolicy httpVersionPolicy) {
+            doSetProperty("httpVersionPolicy", httpVersionPolicy);
+            return this;
+        }
+        /**
+         * The HTTP protocol version policy to use when useAsyncClient is
+         * enabled. NEGOTIATE (default) uses TLS ALPN to negotiate HTTP/2 with
+         * secure servers, and falls back to HTTP/1.1. FORCE_HTTP_1 always uses
+         * HTTP/1.1. FORCE_HTTP_2 always uses HTTP/2, where requests to the same
+         * host are multiplexed over a single connection.
+         * 
+         * The option will be converted to a
+         * <code>org.apache.hc.core5.http2.HttpVersionPolicy</code> type.
+         * 
+         * Default: NEGOTIATE
+         * Group: producer (advanced)
+         * 
+         * @param httpVersionPolicy the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder httpVersionPolicy(String httpVersionPolicy) {
+            doSetProperty("httpVersionPolicy", httpVersionPolicy);
+            return this;
+        }
         /**
          * If this option is true, The http producer won't read response body
          * and cache the input stream.
@@ -1562,6 +1602,44 @@ public interface HttpEndpointBuilderFactory {
             doSetProperty("preserveHostHeader", preserveHostHeader);
             return this;
         }
+        /**
+         * Whether the producer should use the asynchronous Apache HTTP Client
+         * 5.x instead of the classic blocking client. The asynchronous client
+         * does not block the calling thread while waiting for the response, and
+         * supports HTTP/2 (see httpVersionPolicy). OAuth2 authentication is not
+         * supported with the asynchronous client.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param useAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder useAsyncClient(boolean useAsyncClient) {
+            doSetProperty("useAsyncClient", useAsyncClient);
+            return this;
+        }
+        /**
+         * Whether the producer should use the asynchronous Apache HTTP Client
+         * 5.x instead of the classic blocking client. The asynchronous client
+         * does not block the calling thread while waiting for the response, and
+         * supports HTTP/2 (see httpVersionPolicy). OAuth2 authentication is not
+         * supported with the asynchronous client.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param useAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder useAsyncClient(String useAsyncClient) {
+            doSetProperty("useAsyncClient", useAsyncClient);
+            return this;
+        }
         /**
          * To set a custom HTTP User-Agent request header.
          * 
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.processor.aggregate.AggregateProcessor;
+import org.apache.camel.processor.aggregate.UseLatestAggregationStrategy;
+import org.apache.camel.support.AsyncProcessorConverterHelper;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.builder.ExpressionBuilder;
+import org.apache.camel.util.concurrent.SynchronousExecutorService;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the aggregator with a single lock versus lock stripes, with a varying number of correlation keys.
+ */
+public class AggregateLockStripesBenchmark {
+
+    private static final int THREADS = 8;
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkLauncher.launch(AggregateLockStripesBenchmark.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({ "1", "16", "256", "2048" })
+        int keys;
+
+        @Param({ "0", "64" })
+        int lockStripes;
+
+        CamelContext camel;
+        AggregateProcessor aggregator;
+        final LongAdder completed = new LongAdder();
+        final AtomicInteger threads = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.start();
+            aggregator = new AggregateProcessor(
+                    camel, AsyncProcessorConverterHelper.convert(exchange -> completed.increment()),
+                    ExpressionBuilder.headerExpression("id"), new UseLatestAggregationStrategy(),
+                    new SynchronousExecutorService(), true);
+            aggregator.setCompletionSize(10);
+            aggregator.setLockStripes(lockStripes);
+            aggregator.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            aggregator.stop();
+            camel.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        int offset;
+        int counter;
+
+        @Setup(Level.Trial)
+        public void initialize(BenchmarkState state) {
+            offset = state.threads.getAndIncrement();
+        }
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public void aggregate(BenchmarkState state, ThreadState thread, Blackhole bh) throws Exception {
+        // each thread owns its own correlation keys
+        int key = (thread.offset + thread.counter++ * THREADS) % (state.keys * THREADS);
+        Exchange exchange = new DefaultExchange(state.camel);
+        exchange.getIn().setHeader("id", key);
+        exchange.getIn().setBody("Hello World");
+        state.aggregator.process(exchange);
+        bh.consume(state.completed.sum());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the content based router and message filter EIPs with simple language predicates.
+ */
+public class ChoiceFilterBenchmark {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkLauncher.launch(ChoiceFilterBenchmark.class);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        private static final String[] TYPES = { "gold", "silver", "bronze" };
+
+        CamelContext camel;
+        ProducerTemplate producer;
+        int counter;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:choice")
+                            .choice()
+                                .when(simple("${header.type} == 'gold'"))
+                                    .setBody(constant("Gold"))
+                                .when(simple("${header.type} == 'silver'"))
+                                    .setBody(constant("Silver"))
+                                .otherwise()
+                                    .setBody(constant("Other"))
+                            .end();
+
+                    from("direct:filter")
+                            .filter(simple("${body} contains 'Camel'"))
+                                .setHeader("matched", constant(true))
+                            .end();
+                }
+            });
+            camel.start();
+            producer = camel.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+
+        String nextType() {
+            return TYPES[counter++ % TYPES.length];
+        }
+
+        String nextBody() {
+            return counter++ % 2 == 0 ? "Hello Camel" : "Hello World";
+        }
+    }
+
+    @Benchmark
+    public void choice(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBodyAndHeader("direct:choice", "Hello World", "type", state.nextType()));
+    }
+
+    @Benchmark
+    public void filter(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBody("direct:filter", state.nextBody()));
+    }
+}
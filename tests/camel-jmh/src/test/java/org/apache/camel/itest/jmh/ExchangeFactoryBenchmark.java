@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
+import org.apache.camel.impl.engine.PrototypeExchangeFactory;
+import org.apache.camel.impl.engine.PrototypeProcessorExchangeFactory;
+import org.apache.camel.support.DefaultConsumer;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks creating and releasing exchanges from a consumer with the {@link PooledExchangeFactory} and the
+ * {@link PrototypeExchangeFactory}.
+ */
+public class ExchangeFactoryBenchmark {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkLauncher.launch(ExchangeFactoryBenchmark.class);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({ "prototype", "pooled" })
+        String factory;
+
+        CamelContext camel;
+        DefaultConsumer consumer;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            ExtendedCamelContext ecc = camel.getCamelContextExtension();
+            if ("pooled".equals(factory)) {
+                ecc.setExchangeFactory(new PooledExchangeFactory());
+                ecc.setProcessorExchangeFactory(new PooledProcessorExchangeFactory());
+            } else {
+                ecc.setExchangeFactory(new PrototypeExchangeFactory());
+                ecc.setProcessorExchangeFactory(new PrototypeProcessorExchangeFactory());
+            }
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:start").routeId("bench")
+                            .setHeader("foo", constant("bar"))
+                            .transform(constant("Bye World"));
+                }
+            });
+            camel.start();
+            consumer = (DefaultConsumer) camel.getRoute("bench").getConsumer();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void createAndRelease(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = state.consumer.createExchange(false);
+        bh.consume(exchange);
+        state.consumer.releaseExchange(exchange, false);
+    }
+
+    @Benchmark
+    public void createProcessAndRelease(BenchmarkState state, Blackhole bh) throws Exception {
+        Exchange exchange = state.consumer.createExchange(false);
+        exchange.getMessage().setBody("Hello World");
+        state.consumer.getProcessor().process(exchange);
+        bh.consume(exchange.getMessage().getBody());
+        state.consumer.releaseExchange(exchange, false);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.IndexedHeadersMapFactory;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks reading, writing and copying message headers.
+ */
+public class HeaderAccessBenchmark {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkLauncher.launch(HeaderAccessBenchmark.class);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({ "5", "25" })
+        int headers;
+
+        @Param({ "default", "indexed" })
+        String headersMap;
+
+        CamelContext camel;
+        Exchange exchange;
+        Message message;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            camel = new DefaultCamelContext();
+            if ("indexed".equals(headersMap)) {
+                camel.getCamelContextExtension().setHeadersMapFactory(new IndexedHeadersMapFactory());
+            }
+            camel.start();
+            exchange = new DefaultExchange(camel);
+            message = exchange.getMessage();
+            message.setBody("Hello World");
+            for (int i = 0; i < headers; i++) {
+                message.setHeader("myHeader" + i, i);
+            }
+            message.setHeader(Exchange.CONTENT_TYPE, "text/plain");
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void getHeader(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.message.getHeader(Exchange.CONTENT_TYPE));
+    }
+
+    @Benchmark
+    public void getHeaderCaseInsensitive(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.message.getHeader("content-type"));
+    }
+
+    @Benchmark
+    public void getHeaderTyped(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.message.getHeader("myHeader0", String.class));
+    }
+
+    @Benchmark
+    public void getHeaderMissing(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.message.getHeader("unknown"));
+    }
+
+    @Benchmark
+    public void setAndRemoveHeader(BenchmarkState state, Blackhole bh) {
+        state.message.setHeader("foo", "bar");
+        bh.consume(state.message.removeHeader("foo"));
+    }
+
+    @Benchmark
+    public void copyExchange(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.exchange.copy());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the splitter (with an aggregation strategy) and the aggregator EIPs.
+ */
+public class SplitAggregateBenchmark {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkLauncher.launch(SplitAggregateBenchmark.class);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({ "10", "100" })
+        int size;
+
+        CamelContext camel;
+        ProducerTemplate producer;
+        List<String> body;
+        final LongAdder completed = new LongAdder();
+        int counter;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            body = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                body.add("Line " + i);
+            }
+
+            camel = new DefaultCamelContext();
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:split")
+                            .split(body(), AggregationStrategies.groupedBody())
+                                .transform().body(String.class, b -> b.toUpperCase())
+                            .end();
+
+                    from("direct:aggregate")
+                            .aggregate(header("id"), AggregationStrategies.groupedBody()).completionSize(size)
+                                .process(e -> completed.increment())
+                            .end();
+                }
+            });
+            camel.start();
+            producer = camel.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void split(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBody("direct:split", state.body));
+    }
+
+    @Benchmark
+    public void aggregate(BenchmarkState state, Blackhole bh) {
+        // spread the messages over a couple of correlation keys
+        int id = state.counter++ % 4;
+        state.producer.sendBodyAndHeader("direct:aggregate", "Hello World", "id", id);
+        bh.consume(state.completed.sum());
+    }
+}